@@ -0,0 +1,54 @@
+package com.sydney.uni.backend;
+
+import com.sydney.uni.backend.datasource.ReadYourWritesGuard;
+import com.sydney.uni.backend.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Adds a read replica when app.datasource.replica.url is set. @Transactional(readOnly = true) work is
+ * routed to the replica pool; writes, and reads by a user who has just written, stay on the primary.
+ * Without the property the application keeps Spring Boot's single auto-configured DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties primaryProperties,
+                                 ReadYourWritesGuard readYourWritesGuard,
+                                 @Value("${app.datasource.replica.url}") String replicaUrl,
+                                 @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+                                 @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+                                 @Value("${app.datasource.replica.maximum-pool-size:10}") int replicaPoolSize) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(replicaUsername);
+        replica.setPassword(replicaPassword);
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setReadOnly(true);
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(readYourWritesGuard);
+        routing.setTargetDataSources(Map.of(
+            ReplicaRoutingDataSource.Route.PRIMARY, primary,
+            ReplicaRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -6,11 +6,15 @@ import com.sydney.uni.backend.dto.BudgetDto;
 import com.sydney.uni.backend.dto.ErrorResponse;
 import com.sydney.uni.backend.entity.Budget;
 import com.sydney.uni.backend.services.BudgetService;
+import com.sydney.uni.backend.services.UserDataVersions;
+import com.sydney.uni.backend.utils.ETags;
 import com.sydney.uni.backend.utils.JwtUtil;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -25,10 +29,12 @@ public class BudgetController {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final BudgetService budgetService;
+    private final UserDataVersions userDataVersions;
     private final JwtUtil jwtUtil;
 
-    public BudgetController(BudgetService budgetService, JwtUtil jwtUtil) {
+    public BudgetController(BudgetService budgetService, UserDataVersions userDataVersions, JwtUtil jwtUtil) {
         this.budgetService = budgetService;
+        this.userDataVersions = userDataVersions;
         this.jwtUtil = jwtUtil;
     }
 
@@ -61,7 +67,8 @@ public class BudgetController {
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<BudgetDto>>> getUserBudgets(
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         if (token == null || !token.startsWith(BEARER_PREFIX)) {
             ErrorResponse error = new ErrorResponse(UNAUTHORIZED_MESSAGE, UNAUTHORIZED_CODE, null);
@@ -73,8 +80,13 @@ public class BudgetController {
             Long userId = jwtUtil.extractUserId(tokenValue);
             
             if (userId != null) {
+                // Spending is the current month's, so the tag changes when the month rolls over
+                String etag = userDataVersions.etag(userId, "budgets-" + YearMonth.now());
+                if (ETags.matches(ifNoneMatch, etag)) {
+                    return ETags.notModified(etag);
+                }
                 List<BudgetDto> budgets = budgetService.getUserBudgetsWithSpending(userId);
-                return ResponseEntity.ok(ApiResponse.ok(budgets));
+                return ETags.ok(etag, ApiResponse.ok(budgets));
             }
         } catch (Exception e) {
             ErrorResponse error = new ErrorResponse("Failed to get budgets: " + e.getMessage(), "GET_BUDGETS_FAILED", null);
@@ -1,15 +1,26 @@
 package com.sydney.uni.backend.controller;
 
 import com.sydney.uni.backend.dto.ApiResponse;
+import com.sydney.uni.backend.dto.DashboardBootstrapDto;
 import com.sydney.uni.backend.dto.DashboardStatsDto;
 import com.sydney.uni.backend.dto.ErrorResponse;
 import com.sydney.uni.backend.dto.TransactionDto;
+import com.sydney.uni.backend.services.DashboardBootstrapService;
+import com.sydney.uni.backend.services.DashboardEventStream;
 import com.sydney.uni.backend.services.DashboardService;
+import com.sydney.uni.backend.services.DashboardStatsCache;
+import com.sydney.uni.backend.services.UserDataVersions;
+import com.sydney.uni.backend.utils.CurrentUserHolder;
+import com.sydney.uni.backend.utils.ETags;
 import com.sydney.uni.backend.utils.JwtUtil;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -22,16 +33,27 @@ public class DashboardController {
     private static final String INVALID_TOKEN_CODE = "INVALID_TOKEN";
 
     private final DashboardService dashboardService;
+    private final DashboardBootstrapService dashboardBootstrapService;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final DashboardEventStream dashboardEventStream;
+    private final UserDataVersions userDataVersions;
     private final JwtUtil jwtUtil;
 
-    public DashboardController(DashboardService dashboardService, JwtUtil jwtUtil) {
+    public DashboardController(DashboardService dashboardService, DashboardBootstrapService dashboardBootstrapService,
+                               DashboardStatsCache dashboardStatsCache, DashboardEventStream dashboardEventStream,
+                               UserDataVersions userDataVersions, JwtUtil jwtUtil) {
         this.dashboardService = dashboardService;
+        this.dashboardBootstrapService = dashboardBootstrapService;
+        this.dashboardStatsCache = dashboardStatsCache;
+        this.dashboardEventStream = dashboardEventStream;
+        this.userDataVersions = userDataVersions;
         this.jwtUtil = jwtUtil;
     }
 
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<DashboardStatsDto>> getDashboardStats(
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         if (token == null || !token.startsWith("Bearer ")) {
             ErrorResponse error = new ErrorResponse(UNAUTHORIZED_MESSAGE, UNAUTHORIZED_CODE, null);
@@ -43,8 +65,13 @@ public class DashboardController {
             Long userId = jwtUtil.extractUserId(tokenValue);
             
             if (userId != null) {
-                DashboardStatsDto stats = dashboardService.getDashboardStats(userId);
-                return ResponseEntity.ok(ApiResponse.ok(stats));
+                // Stats compare against the current month, so the tag changes when the month rolls over
+                String etag = userDataVersions.etag(userId, "stats-" + YearMonth.now());
+                if (ETags.matches(ifNoneMatch, etag)) {
+                    return ETags.notModified(etag);
+                }
+                DashboardStatsDto stats = dashboardStatsCache.getDashboardStats(userId);
+                return ETags.ok(etag, ApiResponse.ok(stats));
             }
         } catch (Exception e) {
             // Token parsing failed
@@ -57,6 +84,7 @@ public class DashboardController {
     @GetMapping("/transactions")
     public ResponseEntity<ApiResponse<List<TransactionDto>>> getRecentTransactions(
             @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @RequestParam(defaultValue = "10") int limit) {
         
         if (token == null || !token.startsWith("Bearer ")) {
@@ -69,8 +97,12 @@ public class DashboardController {
             Long userId = jwtUtil.extractUserId(tokenValue);
             
             if (userId != null) {
+                String etag = userDataVersions.etag(userId, "transactions-" + limit);
+                if (ETags.matches(ifNoneMatch, etag)) {
+                    return ETags.notModified(etag);
+                }
                 List<TransactionDto> transactions = dashboardService.getRecentTransactions(userId, limit);
-                return ResponseEntity.ok(ApiResponse.ok(transactions));
+                return ETags.ok(etag, ApiResponse.ok(transactions));
             }
         } catch (Exception e) {
             // Token parsing failed
@@ -79,4 +111,56 @@ public class DashboardController {
         ErrorResponse error = new ErrorResponse(INVALID_TOKEN_MESSAGE, INVALID_TOKEN_CODE, null);
         return new ResponseEntity<>(ApiResponse.fail(INVALID_TOKEN_MESSAGE, error), HttpStatus.UNAUTHORIZED);
     }
+
+    /**
+     * Stats, recent transactions, budgets and the save goal in one response, for the first dashboard load.
+     */
+    @GetMapping("/bootstrap")
+    public ResponseEntity<ApiResponse<DashboardBootstrapDto>> getDashboardBootstrap(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (token == null || !token.startsWith("Bearer ")) {
+            ErrorResponse error = new ErrorResponse(UNAUTHORIZED_MESSAGE, UNAUTHORIZED_CODE, null);
+            return new ResponseEntity<>(ApiResponse.fail("Unauthorized", error), HttpStatus.UNAUTHORIZED);
+        }
+
+        try {
+            // The authentication filter has already validated this token; only parse it again without one
+            Long userId = CurrentUserHolder.get();
+            if (userId == null) {
+                userId = jwtUtil.extractUserId(token.substring(7));
+            }
+
+            if (userId != null) {
+                // Covers budget spending and stats, so it changes with the month like theirs
+                String etag = userDataVersions.etag(userId, "bootstrap-" + YearMonth.now() + "-" + limit);
+                if (ETags.matches(ifNoneMatch, etag)) {
+                    return ETags.notModified(etag);
+                }
+                DashboardBootstrapDto bootstrap = dashboardBootstrapService.getBootstrap(userId, limit);
+                return ETags.ok(etag, ApiResponse.ok(bootstrap));
+            }
+        } catch (Exception e) {
+            // Token parsing failed
+        }
+
+        ErrorResponse error = new ErrorResponse(INVALID_TOKEN_MESSAGE, INVALID_TOKEN_CODE, null);
+        return new ResponseEntity<>(ApiResponse.fail(INVALID_TOKEN_MESSAGE, error), HttpStatus.UNAUTHORIZED);
+    }
+
+    /**
+     * Server-Sent Events stream of dashboard deltas for the current user. Authenticated like every other
+     * endpoint, by the Authorization header; the client reads it with fetch rather than EventSource.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamDashboardDeltas() {
+        // Set by JwtAuthenticationFilter once the token is validated
+        Long userId = CurrentUserHolder.get();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(dashboardEventStream.subscribe(userId));
+    }
 }
@@ -2,17 +2,34 @@ package com.sydney.uni.backend.controller;
 
 import com.sydney.uni.backend.dto.ApiResponse;
 import com.sydney.uni.backend.dto.ErrorResponse;
+import com.sydney.uni.backend.dto.ExpenseFilterRequest;
+import com.sydney.uni.backend.dto.ExpensePageDto;
 import com.sydney.uni.backend.dto.ExpenseRequest;
+import com.sydney.uni.backend.dto.ImportResultDto;
 import com.sydney.uni.backend.dto.TransactionDto;
 import com.sydney.uni.backend.entity.Transaction;
 import com.sydney.uni.backend.services.DashboardService;
 import com.sydney.uni.backend.services.ExpenseService;
+import com.sydney.uni.backend.services.ImportInterruptedException;
+import com.sydney.uni.backend.services.TransactionExportService;
+import com.sydney.uni.backend.services.TransactionImportService;
 import com.sydney.uni.backend.utils.JwtUtil;
+import com.sydney.uni.backend.utils.TransactionCursor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/expenses")
@@ -23,14 +40,21 @@ public class ExpenseController {
     private static final String UNAUTHORIZED_CODE = "UNAUTHORIZED";
     private static final String INVALID_TOKEN_MESSAGE = "Invalid token";
     private static final String INVALID_TOKEN_CODE = "INVALID_TOKEN";
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
 
     private final ExpenseService expenseService;
     private final DashboardService dashboardService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionImportService transactionImportService;
     private final JwtUtil jwtUtil;
 
-    public ExpenseController(ExpenseService expenseService, DashboardService dashboardService, JwtUtil jwtUtil) {
+    public ExpenseController(ExpenseService expenseService, DashboardService dashboardService,
+                             TransactionExportService transactionExportService,
+                             TransactionImportService transactionImportService, JwtUtil jwtUtil) {
         this.expenseService = expenseService;
         this.dashboardService = dashboardService;
+        this.transactionExportService = transactionExportService;
+        this.transactionImportService = transactionImportService;
         this.jwtUtil = jwtUtil;
     }
 
@@ -63,8 +87,10 @@ public class ExpenseController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<TransactionDto>>> getUserExpenses(
-            @RequestHeader(value = "Authorization", required = false) String token) {
+    public ResponseEntity<ApiResponse<ExpensePageDto>> getUserExpenses(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         
         if (token == null || !token.startsWith(BEARER_PREFIX)) {
             ErrorResponse error = new ErrorResponse(UNAUTHORIZED_MESSAGE, UNAUTHORIZED_CODE, null);
@@ -76,11 +102,8 @@ public class ExpenseController {
             Long userId = jwtUtil.extractUserId(tokenValue);
             
             if (userId != null) {
-                List<Transaction> transactions = expenseService.getUserExpenses(userId);
-                List<TransactionDto> transactionDtos = transactions.stream()
-                    .map(dashboardService::convertToTransactionDto)
-                    .toList();
-                return ResponseEntity.ok(ApiResponse.ok(transactionDtos));
+                Slice<Transaction> page = expenseService.getUserExpensesPage(userId, cursor, limit);
+                return ResponseEntity.ok(ApiResponse.ok(toExpensePage(page)));
             }
         } catch (Exception e) {
             ErrorResponse error = new ErrorResponse("Failed to get expenses: " + e.getMessage(), "GET_EXPENSES_FAILED", null);
@@ -91,6 +114,125 @@ public class ExpenseController {
         return new ResponseEntity<>(ApiResponse.fail(INVALID_TOKEN_MESSAGE, error), HttpStatus.UNAUTHORIZED);
     }
 
+    // Every filter is optional and applied in SQL; pages follow the same keyset cursor as GET /api/expenses
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponse<ExpensePageDto>> filterExpenses(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            ExpenseFilterRequest filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        if (token == null || !token.startsWith(BEARER_PREFIX)) {
+            ErrorResponse error = new ErrorResponse(UNAUTHORIZED_MESSAGE, UNAUTHORIZED_CODE, null);
+            return new ResponseEntity<>(ApiResponse.fail(UNAUTHORIZED_MESSAGE, error), HttpStatus.UNAUTHORIZED);
+        }
+
+        try {
+            String tokenValue = token.substring(BEARER_PREFIX.length()); // Remove "Bearer " prefix
+            Long userId = jwtUtil.extractUserId(tokenValue);
+
+            if (userId != null) {
+                Slice<Transaction> page = expenseService.filterExpenses(userId, filter, cursor, limit);
+                return ResponseEntity.ok(ApiResponse.ok(toExpensePage(page)));
+            }
+        } catch (Exception e) {
+            ErrorResponse error = new ErrorResponse("Failed to filter expenses: " + e.getMessage(), "FILTER_EXPENSES_FAILED", null);
+            return new ResponseEntity<>(ApiResponse.fail("Filter Expenses Failed", error), HttpStatus.BAD_REQUEST);
+        }
+
+        ErrorResponse error = new ErrorResponse(INVALID_TOKEN_MESSAGE, INVALID_TOKEN_CODE, null);
+        return new ResponseEntity<>(ApiResponse.fail(INVALID_TOKEN_MESSAGE, error), HttpStatus.UNAUTHORIZED);
+    }
+
+    private ExpensePageDto toExpensePage(Slice<Transaction> page) {
+        List<TransactionDto> transactionDtos = page.getContent().stream()
+            .map(dashboardService::convertToTransactionDto)
+            .toList();
+        String nextCursor = null;
+        if (page.hasNext() && !page.getContent().isEmpty()) {
+            Transaction last = page.getContent().get(page.getContent().size() - 1);
+            nextCursor = TransactionCursor.encode(last.getDate(), last.getId());
+        }
+        return new ExpensePageDto(transactionDtos, nextCursor);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportResultDto>> importTransactions(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "resumeFrom", defaultValue = "0") long resumeFrom) {
+
+        if (token == null || !token.startsWith(BEARER_PREFIX)) {
+            ErrorResponse error = new ErrorResponse(UNAUTHORIZED_MESSAGE, UNAUTHORIZED_CODE, null);
+            return new ResponseEntity<>(ApiResponse.fail(UNAUTHORIZED_MESSAGE, error), HttpStatus.UNAUTHORIZED);
+        }
+
+        try {
+            String tokenValue = token.substring(BEARER_PREFIX.length()); // Remove "Bearer " prefix
+            Long userId = jwtUtil.extractUserId(tokenValue);
+
+            if (userId != null) {
+                try (InputStream inputStream = file.getInputStream()) {
+                    ImportResultDto result = transactionImportService.importTransactions(
+                        userId, file.getOriginalFilename(), inputStream, resumeFrom);
+                    return ResponseEntity.ok(ApiResponse.ok(result));
+                }
+            }
+        } catch (ImportInterruptedException e) {
+            // Earlier batches are committed; the client re-sends the file with resumeFrom to finish it
+            ErrorResponse error = new ErrorResponse("Failed to import transactions: " + e.getMessage(), "IMPORT_INTERRUPTED",
+                Map.of("imported", e.getImported(), "resumeFrom", e.getResumeFrom()));
+            return new ResponseEntity<>(ApiResponse.fail("Import Transactions Failed", error), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            ErrorResponse error = new ErrorResponse("Failed to import transactions: " + e.getMessage(), "IMPORT_FAILED", null);
+            return new ResponseEntity<>(ApiResponse.fail("Import Transactions Failed", error), HttpStatus.BAD_REQUEST);
+        }
+
+        ErrorResponse error = new ErrorResponse(INVALID_TOKEN_MESSAGE, INVALID_TOKEN_CODE, null);
+        return new ResponseEntity<>(ApiResponse.fail(INVALID_TOKEN_MESSAGE, error), HttpStatus.UNAUTHORIZED);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportExpenses(
+            @RequestHeader(value = "Authorization", required = false) String token) {
+        return exportCsv(token, "expenses.csv", transactionExportService::writeExpensesCsv);
+    }
+
+    @GetMapping("/export/ledger")
+    public ResponseEntity<StreamingResponseBody> exportLedger(
+            @RequestHeader(value = "Authorization", required = false) String token) {
+        return exportCsv(token, "ledger.csv", transactionExportService::writeLedgerCsv);
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportCsv(String token, String filename, CsvWriter csvWriter) {
+        if (token == null || !token.startsWith(BEARER_PREFIX)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            String tokenValue = token.substring(BEARER_PREFIX.length()); // Remove "Bearer " prefix
+            Long userId = jwtUtil.extractUserId(tokenValue);
+
+            if (userId != null) {
+                // Rows are written on an async thread as they are read, so memory use is independent of history size
+                StreamingResponseBody body = outputStream -> csvWriter.write(userId, outputStream);
+                return ResponseEntity.ok()
+                    .contentType(TEXT_CSV)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                    .body(body);
+            }
+        } catch (Exception e) {
+            // Token parsing failed
+        }
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    @FunctionalInterface
+    private interface CsvWriter {
+        void write(Long userId, OutputStream outputStream) throws IOException;
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<TransactionDto>> getExpense(
             @PathVariable Long id,
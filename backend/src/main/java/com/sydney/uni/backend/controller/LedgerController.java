@@ -0,0 +1,63 @@
+package com.sydney.uni.backend.controller;
+
+import com.sydney.uni.backend.dto.ApiResponse;
+import com.sydney.uni.backend.dto.ErrorResponse;
+import com.sydney.uni.backend.dto.LedgerBalanceDto;
+import com.sydney.uni.backend.services.LedgerService;
+import com.sydney.uni.backend.utils.JwtUtil;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/ledger")
+public class LedgerController {
+
+    private static final String INVALID_TOKEN_MESSAGE = "Invalid token";
+    private static final String UNAUTHORIZED_MESSAGE = "Authorization token required";
+    private static final String UNAUTHORIZED_CODE = "UNAUTHORIZED";
+    private static final String INVALID_TOKEN_CODE = "INVALID_TOKEN";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String UNAUTHORIZED_TITLE = "Unauthorized";
+
+    private final LedgerService ledgerService;
+    private final JwtUtil jwtUtil;
+
+    public LedgerController(LedgerService ledgerService, JwtUtil jwtUtil) {
+        this.ledgerService = ledgerService;
+        this.jwtUtil = jwtUtil;
+    }
+
+    // Current balance when "at" is omitted, otherwise the balance as it stood at that time
+    @GetMapping("/balance")
+    public ResponseEntity<ApiResponse<LedgerBalanceDto>> getBalance(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+
+        if (token == null || !token.startsWith(BEARER_PREFIX)) {
+            ErrorResponse error = new ErrorResponse(UNAUTHORIZED_MESSAGE, UNAUTHORIZED_CODE, null);
+            return new ResponseEntity<>(ApiResponse.fail(UNAUTHORIZED_TITLE, error), HttpStatus.UNAUTHORIZED);
+        }
+
+        try {
+            String tokenValue = token.substring(BEARER_PREFIX.length()); // Remove "Bearer " prefix
+            Long userId = jwtUtil.extractUserId(tokenValue);
+
+            if (userId != null) {
+                LedgerBalanceDto balance = ledgerService.getUserBalance(userId, at);
+                return ResponseEntity.ok(ApiResponse.ok(balance));
+            }
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(e.getMessage(), "LEDGER_BALANCE_FAILED", null);
+            return new ResponseEntity<>(ApiResponse.fail("Ledger Balance Failed", error), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            // Token parsing failed or other unexpected error
+        }
+
+        ErrorResponse error = new ErrorResponse(INVALID_TOKEN_MESSAGE, INVALID_TOKEN_CODE, null);
+        return new ResponseEntity<>(ApiResponse.fail(INVALID_TOKEN_MESSAGE, error), HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -1,30 +1,39 @@
 package com.sydney.uni.backend.controller;
 
 import com.sydney.uni.backend.dto.ReportsDto;
+import com.sydney.uni.backend.services.ReportsResultCache;
 import com.sydney.uni.backend.services.ReportsService;
+import com.sydney.uni.backend.services.UserDataVersions;
+import com.sydney.uni.backend.utils.ETags;
 import com.sydney.uni.backend.utils.JwtUtil;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/reports")
 @CrossOrigin(origins = "*")
 public class ReportsController {
     
-    private final ReportsService reportsService;
+    private final ReportsResultCache reportsResultCache;
+    private final UserDataVersions userDataVersions;
     private final JwtUtil jwtUtil;
     
     private static final String BEARER_PREFIX = "Bearer ";
     
-    public ReportsController(ReportsService reportsService, JwtUtil jwtUtil) {
-        this.reportsService = reportsService;
+    public ReportsController(ReportsResultCache reportsResultCache, UserDataVersions userDataVersions, JwtUtil jwtUtil) {
+        this.reportsResultCache = reportsResultCache;
+        this.userDataVersions = userDataVersions;
         this.jwtUtil = jwtUtil;
     }
     
     @GetMapping
     public ResponseEntity<Object> getReports(
             @RequestParam(defaultValue = "6months") String period,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         if (token == null || !token.startsWith(BEARER_PREFIX)) {
             return ResponseEntity.status(401).body("Unauthorized: Missing or invalid token");
@@ -35,9 +44,14 @@ public class ReportsController {
             Long userId = jwtUtil.extractUserId(tokenValue);
             
             if (userId != null) {
-                // Get reports data
-                ReportsDto reportsData = reportsService.getReportsData(userId, period);
-                return ResponseEntity.ok(reportsData);
+                // Report windows end today, so the tag changes with the date as well as the data
+                String etag = userDataVersions.etag(userId,
+                    "reports-" + ReportsService.canonicalPeriod(period) + "-" + LocalDate.now());
+                if (ETags.matches(ifNoneMatch, etag)) {
+                    return ETags.notModified(etag);
+                }
+                ReportsDto reportsData = reportsResultCache.getReportsData(userId, period);
+                return ETags.ok(etag, reportsData);
             }
         } catch (Exception e) {
             // Token parsing failed
@@ -5,7 +5,10 @@ import com.sydney.uni.backend.dto.ErrorResponse;
 import com.sydney.uni.backend.dto.SaveGoalRequest;
 import com.sydney.uni.backend.entity.SaveGoal;
 import com.sydney.uni.backend.services.SaveGoalService;
+import com.sydney.uni.backend.services.UserDataVersions;
+import com.sydney.uni.backend.utils.ETags;
 import com.sydney.uni.backend.utils.JwtUtil;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,10 +25,12 @@ public class SaveGoalController {
     private static final String UNAUTHORIZED_TITLE = "Unauthorized";
 
     private final SaveGoalService saveGoalService;
+    private final UserDataVersions userDataVersions;
     private final JwtUtil jwtUtil;
 
-    public SaveGoalController(SaveGoalService saveGoalService, JwtUtil jwtUtil) {
+    public SaveGoalController(SaveGoalService saveGoalService, UserDataVersions userDataVersions, JwtUtil jwtUtil) {
         this.saveGoalService = saveGoalService;
+        this.userDataVersions = userDataVersions;
         this.jwtUtil = jwtUtil;
     }
 
@@ -60,7 +65,8 @@ public class SaveGoalController {
 
     @GetMapping
     public ResponseEntity<ApiResponse<SaveGoal>> getSaveGoal(
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         if (token == null || !token.startsWith(BEARER_PREFIX)) {
             ErrorResponse error = new ErrorResponse(UNAUTHORIZED_MESSAGE, UNAUTHORIZED_CODE, null);
@@ -72,9 +78,13 @@ public class SaveGoalController {
             Long userId = jwtUtil.extractUserId(tokenValue);
 
             if (userId != null) {
+                String etag = userDataVersions.etag(userId, "save-goal");
+                if (ETags.matches(ifNoneMatch, etag)) {
+                    return ETags.notModified(etag);
+                }
                 SaveGoal saveGoal = saveGoalService.getSaveGoal(userId);
                 if (saveGoal != null) {
-                    return ResponseEntity.ok(ApiResponse.ok(saveGoal));
+                    return ETags.ok(etag, ApiResponse.ok(saveGoal));
                 } else {
                     ErrorResponse error = new ErrorResponse("No save goal found", "NO_SAVE_GOAL", null);
                     return new ResponseEntity<>(ApiResponse.fail("No Save Goal Found", error), HttpStatus.NOT_FOUND);
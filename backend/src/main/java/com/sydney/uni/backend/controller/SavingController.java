@@ -126,7 +126,7 @@ public class SavingController {
         SavingLogDto dto = new SavingLogDto();
         dto.setId(savingLog.getId());
         dto.setAction(savingLog.getAction());
-        dto.setAmount(savingLog.getAmount());
+        dto.setAmountCents(savingLog.getAmountCents());
         dto.setDescription(savingLog.getDescription());
         dto.setTimestamp(savingLog.getTimestamp());
         
@@ -0,0 +1,72 @@
+package com.sydney.uni.backend.controller;
+
+import com.sydney.uni.backend.dto.ApiResponse;
+import com.sydney.uni.backend.dto.ErrorResponse;
+import com.sydney.uni.backend.dto.TransactionDto;
+import com.sydney.uni.backend.dto.TransactionSearchPageDto;
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.services.DashboardService;
+import com.sydney.uni.backend.services.TransactionSearchService;
+import com.sydney.uni.backend.utils.JwtUtil;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/transactions")
+public class TransactionController {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String UNAUTHORIZED_MESSAGE = "Unauthorized";
+    private static final String UNAUTHORIZED_CODE = "UNAUTHORIZED";
+    private static final String INVALID_TOKEN_MESSAGE = "Invalid token";
+    private static final String INVALID_TOKEN_CODE = "INVALID_TOKEN";
+
+    private final TransactionSearchService transactionSearchService;
+    private final DashboardService dashboardService;
+    private final JwtUtil jwtUtil;
+
+    public TransactionController(TransactionSearchService transactionSearchService,
+                                 DashboardService dashboardService, JwtUtil jwtUtil) {
+        this.transactionSearchService = transactionSearchService;
+        this.dashboardService = dashboardService;
+        this.jwtUtil = jwtUtil;
+    }
+
+    // Searches detail and note of both incoming and outgoing transactions, best matches first
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<TransactionSearchPageDto>> search(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + TransactionSearchService.DEFAULT_PAGE_SIZE) int size) {
+
+        if (token == null || !token.startsWith(BEARER_PREFIX)) {
+            ErrorResponse error = new ErrorResponse(UNAUTHORIZED_MESSAGE, UNAUTHORIZED_CODE, null);
+            return new ResponseEntity<>(ApiResponse.fail(UNAUTHORIZED_MESSAGE, error), HttpStatus.UNAUTHORIZED);
+        }
+
+        try {
+            String tokenValue = token.substring(BEARER_PREFIX.length()); // Remove "Bearer " prefix
+            Long userId = jwtUtil.extractUserId(tokenValue);
+
+            if (userId != null) {
+                Slice<Transaction> results = transactionSearchService.search(userId, query, page, size);
+                List<TransactionDto> items = results.getContent().stream()
+                    .map(dashboardService::convertToTransactionDto)
+                    .toList();
+                return ResponseEntity.ok(ApiResponse.ok(
+                    new TransactionSearchPageDto(items, results.getNumber(), results.hasNext())));
+            }
+        } catch (Exception e) {
+            ErrorResponse error = new ErrorResponse("Failed to search transactions: " + e.getMessage(), "SEARCH_FAILED", null);
+            return new ResponseEntity<>(ApiResponse.fail("Search Transactions Failed", error), HttpStatus.BAD_REQUEST);
+        }
+
+        ErrorResponse error = new ErrorResponse(INVALID_TOKEN_MESSAGE, INVALID_TOKEN_CODE, null);
+        return new ResponseEntity<>(ApiResponse.fail(INVALID_TOKEN_MESSAGE, error), HttpStatus.UNAUTHORIZED);
+    }
+}
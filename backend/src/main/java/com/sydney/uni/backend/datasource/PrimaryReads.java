@@ -0,0 +1,70 @@
+package com.sydney.uni.backend.datasource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs reads that seed a long-lived cache against the primary. A replica that lags would otherwise
+ * hand out a state from before a commit the cache has already been told about, and the cache would
+ * keep serving it until it expires.
+ * <p>
+ * A caller that is already on the primary, or that runs without a replica configured, reads within its
+ * own transaction and connection. Only a caller whose transaction holds a replica connection gets a
+ * separate read-only transaction, which takes one primary connection for the duration of the read.
+ */
+@Component
+public class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private final TransactionOperations current;
+    private final TransactionOperations separate;
+
+    @Autowired
+    public PrimaryReads(PlatformTransactionManager transactionManager) {
+        this(readOnlyTransaction(transactionManager, TransactionDefinition.PROPAGATION_REQUIRED),
+            readOnlyTransaction(transactionManager, TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    /**
+     * @param current  joins the caller's transaction, or starts one when there is none
+     * @param separate always starts a new transaction, for callers holding a replica connection
+     */
+    public PrimaryReads(TransactionOperations current, TransactionOperations separate) {
+        this.current = current;
+        this.separate = separate;
+    }
+
+    private static TransactionOperations readOnlyTransaction(PlatformTransactionManager transactionManager,
+                                                             int propagation) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(propagation);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    public <T> T read(Supplier<T> read) {
+        TransactionOperations transaction = ReplicaRoutingDataSource.isOnReplica() ? separate : current;
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return transaction.execute(status -> read.get());
+        } finally {
+            if (previous != null) {
+                FORCED.set(previous);
+            } else {
+                FORCED.remove();
+            }
+        }
+    }
+
+    static boolean isForced() {
+        return FORCED.get() != null;
+    }
+}
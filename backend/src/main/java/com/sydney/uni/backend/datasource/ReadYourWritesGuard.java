@@ -0,0 +1,61 @@
+package com.sydney.uni.backend.datasource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers which users committed a write recently. Their reads stay on the primary until the
+ * replica has had time to catch up, so a user never sees a list that is missing what they just saved.
+ */
+@Component
+public class ReadYourWritesGuard {
+
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final Map<Long, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReadYourWritesGuard(@Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesGuard(Duration window, LongSupplier clock) {
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+    }
+
+    public void recordWrite(Long userId) {
+        if (userId != null) {
+            lastWriteNanos.put(userId, clock.getAsLong());
+        }
+    }
+
+    public boolean requiresPrimary(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteNanos.get(userId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (clock.getAsLong() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(userId, writtenAt);
+        return false;
+    }
+
+    // Drops users who wrote once and have not read since, so the map only holds recent writers
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+}
@@ -0,0 +1,70 @@
+package com.sydney.uni.backend.datasource;
+
+import com.sydney.uni.backend.utils.CurrentUserHolder;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the primary.
+ * Reads made through {@link PrimaryReads}, and a user's reads shortly after their own write, stay on the primary.
+ * A transaction that did get a replica connection is marked for its lifetime, so PrimaryReads knows when it
+ * needs a connection of its own.
+ * Must sit behind a LazyConnectionDataSourceProxy: the JPA transaction manager asks for its connection
+ * before the read-only flag is published, and the proxy defers the real lookup until the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    // Bound as a transaction resource while the current transaction holds a replica connection
+    private static final Object ON_REPLICA = new Object();
+
+    private final ReadYourWritesGuard readYourWritesGuard;
+
+    public ReplicaRoutingDataSource(ReadYourWritesGuard readYourWritesGuard) {
+        this.readYourWritesGuard = readYourWritesGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = CurrentUserHolder.get();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Start this user's read-your-writes window once the write is actually visible on the primary
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesGuard.recordWrite(userId);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+
+        if (PrimaryReads.isForced() || readYourWritesGuard.requiresPrimary(userId)) {
+            return Route.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(ON_REPLICA)) {
+            TransactionSynchronizationManager.bindResource(ON_REPLICA, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ON_REPLICA);
+                }
+            });
+        }
+        return Route.REPLICA;
+    }
+
+    // True while the current read-only transaction reads from the replica
+    static boolean isOnReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && TransactionSynchronizationManager.hasResource(ON_REPLICA);
+    }
+}
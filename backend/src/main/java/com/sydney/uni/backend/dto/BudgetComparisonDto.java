@@ -1,18 +1,29 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
+
 public class BudgetComparisonDto {
     private String category;
-    private Double budgeted;
-    private Double spent;
-    private Double remaining;
+    @Cents
+    @JsonProperty("budgeted")
+    private long budgetedCents;
+
+    @Cents
+    @JsonProperty("spent")
+    private long spentCents;
+
+    @Cents
+    @JsonProperty("remaining")
+    private long remainingCents;
 
     public BudgetComparisonDto() {}
 
-    public BudgetComparisonDto(String category, Double budgeted, Double spent, Double remaining) {
+    public BudgetComparisonDto(String category, long budgetedCents, long spentCents, long remainingCents) {
         this.category = category;
-        this.budgeted = budgeted;
-        this.spent = spent;
-        this.remaining = remaining;
+        this.budgetedCents = budgetedCents;
+        this.spentCents = spentCents;
+        this.remainingCents = remainingCents;
     }
 
     // Getters and Setters
@@ -24,28 +35,28 @@ public class BudgetComparisonDto {
         this.category = category;
     }
 
-    public Double getBudgeted() {
-        return budgeted;
+    public long getBudgetedCents() {
+        return budgetedCents;
     }
 
-    public void setBudgeted(Double budgeted) {
-        this.budgeted = budgeted;
+    public void setBudgetedCents(long budgetedCents) {
+        this.budgetedCents = budgetedCents;
     }
 
-    public Double getSpent() {
-        return spent;
+    public long getSpentCents() {
+        return spentCents;
     }
 
-    public void setSpent(Double spent) {
-        this.spent = spent;
+    public void setSpentCents(long spentCents) {
+        this.spentCents = spentCents;
     }
 
-    public Double getRemaining() {
-        return remaining;
+    public long getRemainingCents() {
+        return remainingCents;
     }
 
-    public void setRemaining(Double remaining) {
-        this.remaining = remaining;
+    public void setRemainingCents(long remainingCents) {
+        this.remainingCents = remainingCents;
     }
 }
 
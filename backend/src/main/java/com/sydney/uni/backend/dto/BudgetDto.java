@@ -1,5 +1,7 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import lombok.Data;
 
 @Data
@@ -7,8 +9,17 @@ public class BudgetDto {
     private Long id;
     private String category;
     private String period;
-    private Double amount;
-    private Double spent;
-    private Double remaining;
+    @Cents
+    @JsonProperty("amount")
+    private long amountCents;
+
+    @Cents
+    @JsonProperty("spent")
+    private long spentCents;
+
+    @Cents
+    @JsonProperty("remaining")
+    private long remainingCents;
+
     private Double utilizationPercentage;
 }
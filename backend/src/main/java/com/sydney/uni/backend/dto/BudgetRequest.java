@@ -1,10 +1,14 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import lombok.Data;
 
 @Data
 public class BudgetRequest {
     private String category;
-    private Double amount;
+    @Cents
+    @JsonProperty("amount")
+    private Long amountCents;
     private String period;
 }
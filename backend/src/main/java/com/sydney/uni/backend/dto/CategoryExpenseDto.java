@@ -1,5 +1,7 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -8,13 +10,15 @@ import lombok.Setter;
 public class CategoryExpenseDto {
     // Getters and Setters
     private String category;
-    private Double amount;
+    @Cents
+    @JsonProperty("amount")
+    private long amountCents;
     private String color;
     private String percentage;
 
-    public CategoryExpenseDto(String category, Double amount, String color, String percentage) {
+    public CategoryExpenseDto(String category, long amountCents, String color, String percentage) {
         this.category = category;
-        this.amount = amount;
+        this.amountCents = amountCents;
         this.color = color;
         this.percentage = percentage;
     }
@@ -0,0 +1,9 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.ExpenseCategory;
+
+/**
+ * Aggregate row: sum of transaction cents for one expense category.
+ */
+public record CategoryTotal(ExpenseCategory category, Long totalCents) {
+}
@@ -0,0 +1,21 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.SaveGoal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything the dashboard needs after login, in the shapes of the individual endpoints.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardBootstrapDto {
+    private DashboardStatsDto stats;
+    private List<TransactionDto> transactions;
+    private List<BudgetDto> budgets;
+    private SaveGoal saveGoal; // null when the user has no save goal
+}
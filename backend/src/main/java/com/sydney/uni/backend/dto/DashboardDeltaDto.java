@@ -0,0 +1,31 @@
+package com.sydney.uni.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One streamed dashboard change. Amounts are deltas to apply to the figures the client already shows.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDeltaDto {
+    private String change; // TRANSACTION_CREATED, TRANSACTION_UPDATED, TRANSACTION_DELETED or SAVINGS_CHANGED
+
+    @Cents
+    @JsonProperty("balanceDelta")
+    private long balanceDeltaCents;
+
+    @Cents
+    @JsonProperty("savedDelta")
+    private long savedDeltaCents;
+
+    @Cents
+    @JsonProperty("monthlySpendingDelta")
+    private long monthlySpendingDeltaCents;
+
+    private TransactionDto transaction; // null for savings changes
+}
@@ -1,17 +1,38 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import lombok.Data;
 
 @Data
 public class DashboardStatsDto {
-    private Double totalBalance;
-    private Double saved;
-    private Double monthlySpending;
-    private Double budgetLeft;
-    private Double savingsGoal;
+    @Cents
+    @JsonProperty("totalBalance")
+    private long totalBalanceCents;
+
+    @Cents
+    @JsonProperty("saved")
+    private long savedCents;
+
+    @Cents
+    @JsonProperty("monthlySpending")
+    private long monthlySpendingCents;
+
+    @Cents
+    @JsonProperty("budgetLeft")
+    private long budgetLeftCents;
+
+    @Cents
+    @JsonProperty("savingsGoal")
+    private long savingsGoalCents;
+
     private Double savingsProgress;
     private Double budgetUsedPercentage;
     private Double monthlySpendingChange;
-    private Double lastMonthSpending; // Last month's spending amount
+
+    @Cents
+    @JsonProperty("lastMonthSpending")
+    private long lastMonthSpendingCents; // Last month's spending amount
+
     private Boolean hasSavingsGoal; // Whether user has set a savings goal
 }
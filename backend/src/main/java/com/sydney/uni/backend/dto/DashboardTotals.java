@@ -0,0 +1,24 @@
+package com.sydney.uni.backend.dto;
+
+/**
+ * Flat row behind the dashboard: account sums, this and last month's spending, the monthly budget total and
+ * the save goal target. Counts tell "no budgets" / "no goal" apart from zero amounts.
+ */
+public interface DashboardTotals {
+
+    Long getBalanceCents();
+
+    Long getSavedCents();
+
+    Long getMonthSpendingCents();
+
+    Long getLastMonthSpendingCents();
+
+    Long getMonthlyBudgetCount();
+
+    Long getMonthlyBudgetCents();
+
+    Long getSaveGoalCount();
+
+    Long getSaveGoalTargetCents();
+}
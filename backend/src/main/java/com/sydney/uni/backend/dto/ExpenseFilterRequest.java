@@ -0,0 +1,21 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.TransactionType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Query parameters for GET /api/expenses/filter; every field is optional
+@Data
+public class ExpenseFilterRequest {
+    private TransactionType type; // both directions when null
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from; // inclusive
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to; // inclusive
+    private String category; // display label ("Food & Dining") or enum name ("FOOD_DINING")
+    private BigDecimal minAmount; // inclusive
+    private BigDecimal maxAmount; // inclusive
+}
@@ -0,0 +1,15 @@
+package com.sydney.uni.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpensePageDto {
+    private List<TransactionDto> items;
+    private String nextCursor; // null when there are no more pages
+}
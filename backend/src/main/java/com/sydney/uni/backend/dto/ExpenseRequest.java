@@ -1,5 +1,7 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import lombok.Data;
 
 import java.time.LocalDate;
@@ -8,7 +10,9 @@ import java.time.LocalDate;
 public class ExpenseRequest {
     private String description;
     private String category; // Changed from ExpenseCategory to String
-    private Double amount;
+    @Cents
+    @JsonProperty("amount")
+    private Long amountCents;
     private LocalDate date;
     private String notes;
 }
@@ -0,0 +1,15 @@
+package com.sydney.uni.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDto {
+    private long imported;
+    private long skipped; // malformed rows that were ignored
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,12 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.TransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * One parsed row from an uploaded bank statement. Amount is always positive cents; direction is carried by type.
+ */
+public record ImportedTransaction(LocalDate date, TransactionType type, long amountCents,
+                                  String category, String description, String notes) {
+}
@@ -0,0 +1,33 @@
+package com.sydney.uni.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerBalanceDto {
+    @Cents
+    @JsonProperty("balance")
+    private long balanceCents;
+
+    @Cents
+    @JsonProperty("saved")
+    private long savedCents;
+
+    private LocalDateTime asOf;
+    private Long replayedEntries;     // Ledger entries applied on top of the snapshots
+
+    @Cents
+    @JsonProperty("storedBalance")
+    private Long storedBalanceCents; // Account.balance, only for current balances; differs from balance on drift
+
+    @Cents
+    @JsonProperty("storedSaved")
+    private Long storedSavedCents;
+}
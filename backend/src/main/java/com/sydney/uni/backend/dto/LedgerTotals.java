@@ -0,0 +1,8 @@
+package com.sydney.uni.backend.dto;
+
+/**
+ * Aggregate row: balance and saved cents over a run of ledger entries (summed deltas, or absolute values once
+ * a snapshot is added), with the number of entries read and the last entrySeq included.
+ */
+public record LedgerTotals(Long balanceCents, Long savedCents, Long entries, Long lastEntrySeq) {
+}
@@ -1,18 +1,29 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
+
 public class MonthlyDataDto {
     private String month;
-    private Double income;
-    private Double expenses;
-    private Double savings;
+    @Cents
+    @JsonProperty("income")
+    private long incomeCents;
+
+    @Cents
+    @JsonProperty("expenses")
+    private long expensesCents;
+
+    @Cents
+    @JsonProperty("savings")
+    private long savingsCents;
 
     public MonthlyDataDto() {}
 
-    public MonthlyDataDto(String month, Double income, Double expenses, Double savings) {
+    public MonthlyDataDto(String month, long incomeCents, long expensesCents, long savingsCents) {
         this.month = month;
-        this.income = income;
-        this.expenses = expenses;
-        this.savings = savings;
+        this.incomeCents = incomeCents;
+        this.expensesCents = expensesCents;
+        this.savingsCents = savingsCents;
     }
 
     // Getters and Setters
@@ -24,28 +35,28 @@ public class MonthlyDataDto {
         this.month = month;
     }
 
-    public Double getIncome() {
-        return income;
+    public long getIncomeCents() {
+        return incomeCents;
     }
 
-    public void setIncome(Double income) {
-        this.income = income;
+    public void setIncomeCents(long incomeCents) {
+        this.incomeCents = incomeCents;
     }
 
-    public Double getExpenses() {
-        return expenses;
+    public long getExpensesCents() {
+        return expensesCents;
     }
 
-    public void setExpenses(Double expenses) {
-        this.expenses = expenses;
+    public void setExpensesCents(long expensesCents) {
+        this.expensesCents = expensesCents;
     }
 
-    public Double getSavings() {
-        return savings;
+    public long getSavingsCents() {
+        return savingsCents;
     }
 
-    public void setSavings(Double savings) {
-        this.savings = savings;
+    public void setSavingsCents(long savingsCents) {
+        this.savingsCents = savingsCents;
     }
 }
 
@@ -0,0 +1,9 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.SavingAction;
+
+/**
+ * Aggregate row: sum of saving log cents for one (year, month, action) bucket.
+ */
+public record MonthlySavingTotal(Integer year, Integer month, SavingAction action, Long totalCents) {
+}
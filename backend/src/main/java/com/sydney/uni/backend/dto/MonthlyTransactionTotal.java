@@ -0,0 +1,9 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.TransactionType;
+
+/**
+ * Aggregate row: sum of transaction cents for one (year, month, type) bucket.
+ */
+public record MonthlyTransactionTotal(Integer year, Integer month, TransactionType type, Long totalCents) {
+}
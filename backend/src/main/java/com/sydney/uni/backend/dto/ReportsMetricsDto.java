@@ -1,54 +1,69 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
+
 public class ReportsMetricsDto {
-    private Double totalIncome;
-    private Double totalExpenses;
-    private Double totalSavings;
-    private Double avgMonthlyExpenses;
+    @Cents
+    @JsonProperty("totalIncome")
+    private long totalIncomeCents;
+
+    @Cents
+    @JsonProperty("totalExpenses")
+    private long totalExpensesCents;
+
+    @Cents
+    @JsonProperty("totalSavings")
+    private long totalSavingsCents;
+
+    @Cents
+    @JsonProperty("avgMonthlyExpenses")
+    private long avgMonthlyExpensesCents;
+
     private Double savingsRate;
 
     public ReportsMetricsDto() {}
 
-    public ReportsMetricsDto(Double totalIncome, Double totalExpenses, Double totalSavings, 
-                           Double avgMonthlyExpenses, Double savingsRate) {
-        this.totalIncome = totalIncome;
-        this.totalExpenses = totalExpenses;
-        this.totalSavings = totalSavings;
-        this.avgMonthlyExpenses = avgMonthlyExpenses;
+    public ReportsMetricsDto(long totalIncomeCents, long totalExpensesCents, long totalSavingsCents, 
+                           long avgMonthlyExpensesCents, Double savingsRate) {
+        this.totalIncomeCents = totalIncomeCents;
+        this.totalExpensesCents = totalExpensesCents;
+        this.totalSavingsCents = totalSavingsCents;
+        this.avgMonthlyExpensesCents = avgMonthlyExpensesCents;
         this.savingsRate = savingsRate;
     }
 
     // Getters and Setters
-    public Double getTotalIncome() {
-        return totalIncome;
+    public long getTotalIncomeCents() {
+        return totalIncomeCents;
     }
 
-    public void setTotalIncome(Double totalIncome) {
-        this.totalIncome = totalIncome;
+    public void setTotalIncomeCents(long totalIncomeCents) {
+        this.totalIncomeCents = totalIncomeCents;
     }
 
-    public Double getTotalExpenses() {
-        return totalExpenses;
+    public long getTotalExpensesCents() {
+        return totalExpensesCents;
     }
 
-    public void setTotalExpenses(Double totalExpenses) {
-        this.totalExpenses = totalExpenses;
+    public void setTotalExpensesCents(long totalExpensesCents) {
+        this.totalExpensesCents = totalExpensesCents;
     }
 
-    public Double getTotalSavings() {
-        return totalSavings;
+    public long getTotalSavingsCents() {
+        return totalSavingsCents;
     }
 
-    public void setTotalSavings(Double totalSavings) {
-        this.totalSavings = totalSavings;
+    public void setTotalSavingsCents(long totalSavingsCents) {
+        this.totalSavingsCents = totalSavingsCents;
     }
 
-    public Double getAvgMonthlyExpenses() {
-        return avgMonthlyExpenses;
+    public long getAvgMonthlyExpensesCents() {
+        return avgMonthlyExpensesCents;
     }
 
-    public void setAvgMonthlyExpenses(Double avgMonthlyExpenses) {
-        this.avgMonthlyExpenses = avgMonthlyExpenses;
+    public void setAvgMonthlyExpensesCents(long avgMonthlyExpensesCents) {
+        this.avgMonthlyExpensesCents = avgMonthlyExpensesCents;
     }
 
     public Double getSavingsRate() {
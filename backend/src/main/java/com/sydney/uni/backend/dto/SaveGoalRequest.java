@@ -1,9 +1,13 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import lombok.Data;
 
 @Data
 public class SaveGoalRequest {
-    private Double targetAmount;
+    @Cents
+    @JsonProperty("targetAmount")
+    private Long targetAmountCents;
     private String description;
 }
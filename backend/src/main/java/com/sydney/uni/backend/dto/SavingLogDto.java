@@ -1,5 +1,7 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import com.sydney.uni.backend.entity.SavingAction;
 import lombok.Data;
 
@@ -9,7 +11,9 @@ import java.time.LocalDateTime;
 public class SavingLogDto {
     private Long id;
     private SavingAction action;
-    private Double amount;
+    @Cents
+    @JsonProperty("amount")
+    private long amountCents;
     private String description;
     private LocalDateTime timestamp;
     private String actionDisplayName; // For frontend display
@@ -0,0 +1,9 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.SavingAction;
+
+/**
+ * Aggregate row used to rebuild monthly_rollup: sum and count of saving logs per (year, month, action).
+ */
+public record SavingRollupRow(Integer year, Integer month, SavingAction action, Long totalCents, Long count) {
+}
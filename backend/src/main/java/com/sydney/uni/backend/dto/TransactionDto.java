@@ -1,20 +1,38 @@
 package com.sydney.uni.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sydney.uni.backend.entity.ExpenseCategory;
 import com.sydney.uni.backend.entity.TransactionType;
+import com.sydney.uni.backend.utils.Cents;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
 @Data
+@NoArgsConstructor
 public class TransactionDto {
     private Long id;
     private TransactionType type;
     private LocalDate date;
     private ExpenseCategory expenseCategory;
     private String detail;
-    private Double amount;
+    @Cents
+    @JsonProperty("amount")
+    private long amountCents;
     private String note;
     private String categoryDisplayName;
     private String icon;
+
+    // Used by JPQL constructor expressions; display name and icon are filled in afterwards
+    public TransactionDto(Long id, TransactionType type, LocalDate date, ExpenseCategory expenseCategory,
+                          String detail, Long amountCents, String note) {
+        this.id = id;
+        this.type = type;
+        this.date = date;
+        this.expenseCategory = expenseCategory;
+        this.detail = detail;
+        this.amountCents = amountCents;
+        this.note = note;
+    }
 }
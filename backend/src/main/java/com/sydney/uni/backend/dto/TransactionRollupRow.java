@@ -0,0 +1,11 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.TransactionType;
+
+/**
+ * Aggregate row used to rebuild monthly_rollup: sum and count of transactions per (year, month, type, category).
+ */
+public record TransactionRollupRow(Integer year, Integer month, TransactionType type, ExpenseCategory category,
+                                   Long totalCents, Long count) {
+}
@@ -0,0 +1,16 @@
+package com.sydney.uni.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSearchPageDto {
+    private List<TransactionDto> items;
+    private int page;
+    private boolean hasNext;
+}
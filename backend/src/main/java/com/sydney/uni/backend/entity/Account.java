@@ -1,20 +1,37 @@
 package com.sydney.uni.backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Data
+@Table(indexes = @Index(name = "idx_account_user", columnList = "user_id"))
 public class Account {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
+    @SequenceGenerator(name = "account_seq", sequenceName = "account_seq", allocationSize = 50)
     private Long id;
 
-    private Double balance;
-    private Double saved;
+    // Money columns hold whole cents; the default lets schema update add them to tables that already have rows
+    @Cents
+    @JsonProperty("balance")
+    @ColumnDefault("0")
+    @Column(name = "balance_cents", nullable = false)
+    private long balanceCents;
 
+    @Cents
+    @JsonProperty("saved")
+    @ColumnDefault("0")
+    @Column(name = "saved_cents", nullable = false)
+    private long savedCents;
 
-    @ManyToOne
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 }
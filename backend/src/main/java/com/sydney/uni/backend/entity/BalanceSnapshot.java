@@ -0,0 +1,40 @@
+package com.sydney.uni.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * Account balance and saved amount after applying every ledger entry up to and including entrySeq.
+ * Balances are computed as the latest snapshot plus the entries after it.
+ */
+@Entity
+@Data
+@Table(name = "balance_snapshot",
+       uniqueConstraints = @UniqueConstraint(name = "uk_balance_snapshot_account_seq", columnNames = {"account_id", "entry_seq"}),
+       indexes = @Index(name = "idx_balance_snapshot_account_as_of", columnList = "account_id, as_of"))
+public class BalanceSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_snapshot_seq")
+    @SequenceGenerator(name = "balance_snapshot_seq", sequenceName = "balance_snapshot_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "entry_seq", nullable = false)
+    private Long entrySeq;
+
+    @ColumnDefault("0")
+    @Column(name = "balance_cents", nullable = false)
+    private long balanceCents;
+
+    @ColumnDefault("0")
+    @Column(name = "saved_cents", nullable = false)
+    private long savedCents;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDateTime asOf; // occurredAt of the last entry included
+}
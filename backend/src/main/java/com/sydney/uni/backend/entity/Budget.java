@@ -1,20 +1,35 @@
 package com.sydney.uni.backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "budget")
+@Table(indexes = @Index(name = "idx_budget_user_period", columnList = "user_id, period"))
 public class Budget {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "budget_seq")
+    @SequenceGenerator(name = "budget_seq", sequenceName = "budget_seq", allocationSize = 50)
     private Long id;
 
     private String category;
     private String period; // day / week / month
-    private Double amount;
+    @Cents
+    @JsonProperty("amount")
+    @ColumnDefault("0")
+    @Column(name = "amount_cents", nullable = false)
+    private long amountCents;
 
-    @ManyToOne
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 }
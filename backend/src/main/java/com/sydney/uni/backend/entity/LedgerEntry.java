@@ -0,0 +1,48 @@
+package com.sydney.uni.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of one change to an account's balance or saved amount. Rows are never updated
+ * or deleted; entrySeq numbers an account's entries in the order they were committed.
+ */
+@Entity
+@Data
+@Table(name = "ledger_entry",
+       uniqueConstraints = @UniqueConstraint(name = "uk_ledger_entry_account_seq", columnNames = {"account_id", "entry_seq"}),
+       indexes = @Index(name = "idx_ledger_entry_account_time", columnList = "account_id, occurred_at"))
+public class LedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_entry_seq")
+    @SequenceGenerator(name = "ledger_entry_seq", sequenceName = "ledger_entry_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+
+    @Column(name = "entry_seq", nullable = false, updatable = false)
+    private Long entrySeq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private LedgerEventType eventType;
+
+    @ColumnDefault("0")
+    @Column(name = "balance_delta_cents", nullable = false, updatable = false)
+    private long balanceDeltaCents;
+
+    @ColumnDefault("0")
+    @Column(name = "saved_delta_cents", nullable = false, updatable = false)
+    private long savedDeltaCents;
+
+    // Plain id rather than a foreign key: the entry outlives a deleted transaction
+    @Column(name = "transaction_id", updatable = false)
+    private Long transactionId;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+}
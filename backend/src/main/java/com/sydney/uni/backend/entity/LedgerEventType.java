@@ -0,0 +1,12 @@
+package com.sydney.uni.backend.entity;
+
+public enum LedgerEventType {
+    OPENING,         // Balance carried over from before the ledger existed
+    DEPOSIT,
+    EXPENSE,
+    EXPENSE_EDIT,
+    EXPENSE_DELETE,
+    IMPORT,          // One entry per imported batch
+    SAVE,
+    UNSAVE
+}
@@ -0,0 +1,51 @@
+package com.sydney.uni.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.YearMonth;
+
+/**
+ * Running total and row count of a user's transactions (or saving actions) for one month, type and
+ * expense category. Kept up to date by the writing services in the same transaction as the change.
+ */
+@Entity
+@Data
+@Table(name = "monthly_rollup",
+       indexes = @Index(name = "idx_monthly_rollup_user_month", columnList = "user_id, year_month, type, category"))
+public class MonthlyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "monthly_rollup_seq")
+    @SequenceGenerator(name = "monthly_rollup_seq", sequenceName = "monthly_rollup_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "year_month", nullable = false)
+    private Integer yearMonth; // yyyymm, e.g. 202403
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RollupType type;
+
+    @Enumerated(EnumType.STRING)
+    private ExpenseCategory category; // null for uncategorised rows and saving actions
+
+    @ColumnDefault("0")
+    @Column(name = "total_cents", nullable = false)
+    private long totalCents;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long count;
+
+    public static int key(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public YearMonth toYearMonth() {
+        return YearMonth.of(yearMonth / 100, yearMonth % 100);
+    }
+}
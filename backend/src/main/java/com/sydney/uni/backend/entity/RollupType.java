@@ -0,0 +1,16 @@
+package com.sydney.uni.backend.entity;
+
+public enum RollupType {
+    IN,      // Deposits (TransactionType.IN)
+    OUT,     // Expenses (TransactionType.OUT)
+    SAVE,    // SavingAction.SAVE
+    UNSAVE;  // SavingAction.UNSAVE
+
+    public static RollupType of(TransactionType type) {
+        return valueOf(type.name());
+    }
+
+    public static RollupType of(SavingAction action) {
+        return valueOf(action.name());
+    }
+}
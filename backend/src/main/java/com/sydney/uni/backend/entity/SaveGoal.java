@@ -1,22 +1,37 @@
 package com.sydney.uni.backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
 @Entity
 @Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "save-goal")
+@Table(indexes = @Index(name = "idx_save_goal_user", columnList = "user_id"))
 public class SaveGoal {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "save_goal_seq")
+    @SequenceGenerator(name = "save_goal_seq", sequenceName = "save_goal_seq", allocationSize = 50)
     private Long id;
 
-    private Double targetAmount;
+    @Cents
+    @JsonProperty("targetAmount")
+    @ColumnDefault("0")
+    @Column(name = "target_amount_cents", nullable = false)
+    private long targetAmountCents;
     private String description;
     private LocalDate dueDate;
 
-    @ManyToOne
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 }
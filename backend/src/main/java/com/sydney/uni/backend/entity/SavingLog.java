@@ -1,29 +1,41 @@
 package com.sydney.uni.backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Data
+@Table(indexes = @Index(name = "idx_saving_log_user_timestamp", columnList = "user_id, timestamp"))
 public class SavingLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saving_log_seq")
+    @SequenceGenerator(name = "saving_log_seq", sequenceName = "saving_log_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
     private SavingAction action; // SAVE or UNSAVE
 
-    private Double amount;
+    @Cents
+    @JsonProperty("amount")
+    @ColumnDefault("0")
+    @Column(name = "amount_cents", nullable = false)
+    private long amountCents;
     private String description;
     private LocalDateTime timestamp;
 
-    @ManyToOne
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id")
     private Account account;
 }
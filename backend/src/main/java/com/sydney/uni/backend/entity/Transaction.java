@@ -1,27 +1,58 @@
 package com.sydney.uni.backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sydney.uni.backend.utils.Cents;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
 @Entity
 @Data
+// Fetch plan for the paths that move money on the owning account (edit/delete)
+@NamedEntityGraph(name = Transaction.WITH_ACCOUNT, attributeNodes = @NamedAttributeNode("account"))
+@Table(indexes = {
+    // Owner-first composite indexes: every query filters on user_id, then narrows by type and/or date.
+    // Trailing id keeps keyset pagination (date DESC, id DESC) inside the index, and trailing amount_cents
+    // lets the monthly spend sums run as index-only scans.
+    @Index(name = "idx_transaction_user_type_date_amount", columnList = "user_id, type, date, id, amount_cents"),
+    @Index(name = "idx_transaction_user_date", columnList = "user_id, date, id"),
+    // Category filters (GET /api/expenses/filter)
+    @Index(name = "idx_transaction_user_category_date", columnList = "user_id, expense_category, date, id")
+})
 public class Transaction {
+    public static final String WITH_ACCOUNT = "Transaction.withAccount";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence: one nextval per 50 ids, and unlike IDENTITY it lets Hibernate batch inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
     private Long id;
 
     private TransactionType type; // in/out
     private LocalDate date;
     private ExpenseCategory expenseCategory;
     private String detail;
-    private Double amount;
+    @Cents
+    @JsonProperty("amount")
+    @ColumnDefault("0")
+    @Column(name = "amount_cents", nullable = false)
+    private long amountCents;
     private String note;
 
-    @ManyToOne
+    // Associations are lazy and left out of JSON: listings never touch them, and ownership checks
+    // only need the foreign key, which Hibernate reads from the proxy without a query
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id")
     private Account account;
 
+    // Denormalized owner (always account.user) so queries can filter without joining account
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
 
 }
@@ -1,5 +1,6 @@
 package com.sydney.uni.backend.filter;
 
+import com.sydney.uni.backend.utils.CurrentUserHolder;
 import com.sydney.uni.backend.utils.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -46,8 +47,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 new UsernamePasswordAuthenticationToken(username, null, new ArrayList<>());
             authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authToken);
+            // Lets the replica routing keep this user's reads on the primary right after they write
+            CurrentUserHolder.set(jwtUtil.extractUserId(jwt));
         }
         
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CurrentUserHolder.clear();
+        }
     }
 }
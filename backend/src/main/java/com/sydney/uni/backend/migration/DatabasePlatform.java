@@ -0,0 +1,35 @@
+package com.sydney.uni.backend.migration;
+
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Identifies the database behind the application's DataSource so that Postgres-specific
+ * maintenance can be skipped on H2.
+ */
+@Component
+public class DatabasePlatform {
+
+    private final DataSource dataSource;
+    private volatile Boolean postgres;
+
+    public DatabasePlatform(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public boolean isPostgres() {
+        if (postgres == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                String product = connection.getMetaData().getDatabaseProductName();
+                postgres = product != null && product.toLowerCase(Locale.ROOT).contains("postgresql");
+            } catch (SQLException e) {
+                throw new IllegalStateException("Unable to determine database platform", e);
+            }
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sydney.uni.backend.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Moves each entity's id sequence past the ids already in its table. Rows written while the
+ * tables used IDENTITY columns would otherwise collide with the first ids the new sequences hand out.
+ * Idempotent: a sequence that is already ahead of its table is left alone.
+ * <p>
+ * Runs while the context starts, after Hibernate's schema update has created the sequences, so no
+ * request can insert with a colliding id before the sequences are moved.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceAlignment implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceAlignment.class);
+
+    // table -> sequence, matching the @SequenceGenerator on each entity
+    static final Map<String, String> SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put("\"user\"", "user_seq");
+        SEQUENCES.put("account", "account_seq");
+        SEQUENCES.put("transaction", "transaction_seq");
+        SEQUENCES.put("saving_log", "saving_log_seq");
+        SEQUENCES.put("budget", "budget_seq");
+        SEQUENCES.put("save_goal", "save_goal_seq");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    public IdSequenceAlignment(JdbcTemplate jdbcTemplate, DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databasePlatform = databasePlatform;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // H2 schemas are created fresh with the sequences, so there is nothing to realign
+        if (!databasePlatform.isPostgres()) {
+            return;
+        }
+
+        SEQUENCES.forEach((table, sequence) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+            if (maxId != null && lastValue != null && lastValue < maxId) {
+                // Pooled generators treat nextval as the top of the next block, so the block after this starts at maxId + 1
+                jdbcTemplate.queryForObject("SELECT setval(?, ?)", Long.class, sequence, maxId);
+                log.info("Advanced {} from {} to {}", sequence, lastValue, maxId);
+            }
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.sydney.uni.backend.migration;
+
+import com.sydney.uni.backend.entity.Account;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.services.LedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens the ledger of accounts created before it existed with an OPENING entry for their stored balance.
+ * Idempotent: accounts that already have entries are skipped, and writers open a ledger themselves on
+ * the first change, so this only matters for accounts that have been idle since.
+ */
+@Component
+public class LedgerOpeningBalances implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerOpeningBalances.class);
+
+    private final AccountRepository accountRepository;
+    private final LedgerService ledgerService;
+
+    public LedgerOpeningBalances(AccountRepository accountRepository, LedgerService ledgerService) {
+        this.accountRepository = accountRepository;
+        this.ledgerService = ledgerService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int opened = 0;
+        for (Account account : accountRepository.findWithoutLedger()) {
+            if (ledgerService.open(account.getId())) {
+                opened++;
+            }
+        }
+        if (opened > 0) {
+            log.info("Opened the ledger of {} accounts", opened);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.sydney.uni.backend.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Moves money out of the old floating-point columns into the *_cents columns that replaced them.
+ * <p>
+ * Runs while the context starts rather than as an ApplicationRunner: it needs Hibernate's schema update
+ * to have added the cents columns, and it must finish before the web server takes requests, otherwise
+ * balances would read as 0 until the copy is done. Each old column is dropped in the same transaction
+ * as its copy, so a column that is gone has been migrated and later starts do nothing.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class MoneyToCents implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MoneyToCents.class);
+
+    static final List<MoneyColumn> COLUMNS = List.of(
+        new MoneyColumn("account", "balance", "balance_cents"),
+        new MoneyColumn("account", "saved", "saved_cents"),
+        new MoneyColumn("transaction", "amount", "amount_cents"),
+        new MoneyColumn("saving_log", "amount", "amount_cents"),
+        new MoneyColumn("budget", "amount", "amount_cents"),
+        new MoneyColumn("save_goal", "target_amount", "target_amount_cents"),
+        new MoneyColumn("monthly_rollup", "total", "total_cents"),
+        new MoneyColumn("ledger_entry", "balance_delta", "balance_delta_cents"),
+        new MoneyColumn("ledger_entry", "saved_delta", "saved_delta_cents"),
+        new MoneyColumn("balance_snapshot", "balance", "balance_cents"),
+        new MoneyColumn("balance_snapshot", "saved", "saved_cents")
+    );
+
+    // Indexes over an old column; dropped up front because H2 refuses to drop a column a composite index still uses
+    static final List<String> LEGACY_INDEXES = List.of("idx_transaction_user_type_date");
+
+    static final String COLUMN_EXISTS_SQL = "SELECT COUNT(*) FROM information_schema.columns"
+        + " WHERE LOWER(table_schema) = LOWER(CURRENT_SCHEMA) AND LOWER(table_name) = ? AND LOWER(column_name) = ?";
+
+    record MoneyColumn(String table, String column, String centsColumn) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public MoneyToCents(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        List<MoneyColumn> pending = COLUMNS.stream().filter(this::exists).toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        LEGACY_INDEXES.forEach(index -> jdbcTemplate.execute("DROP INDEX IF EXISTS " + index));
+        for (MoneyColumn column : pending) {
+            Integer copied = transactionTemplate.execute(status -> migrate(column));
+            log.info("Moved {}.{} to {} ({} rows)", column.table(), column.column(), column.centsColumn(), copied);
+        }
+    }
+
+    private boolean exists(MoneyColumn column) {
+        Long count = jdbcTemplate.queryForObject(COLUMN_EXISTS_SQL, Long.class, column.table(), column.column());
+        return count != null && count > 0;
+    }
+
+    private int migrate(MoneyColumn column) {
+        // Rows without a value keep the column default of 0
+        int copied = jdbcTemplate.update("UPDATE " + column.table() + " SET " + column.centsColumn()
+            + " = ROUND(" + column.column() + " * 100) WHERE " + column.column() + " IS NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE " + column.table() + " DROP COLUMN " + column.column());
+        return copied;
+    }
+}
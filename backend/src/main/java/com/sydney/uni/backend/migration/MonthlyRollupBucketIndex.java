@@ -0,0 +1,74 @@
+package com.sydney.uni.backend.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Makes each monthly_rollup bucket (user, month, type, category) unique on Postgres. The category is
+ * null for saving actions and uncategorised spend, and a plain unique index treats nulls as distinct,
+ * so the index is over COALESCE(category, '').
+ * <p>
+ * Buckets duplicated before the index existed are merged into their oldest row first, in the same
+ * transaction and with writers locked out, so no total is lost or counted twice. Runs while the context
+ * starts, after the cents migration; once the index exists later starts do nothing. H2 has no
+ * expression indexes and relies on the account row lock MonthlyRollupService takes.
+ */
+@Component
+@DependsOn({"entityManagerFactory", "moneyToCents"})
+public class MonthlyRollupBucketIndex implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyRollupBucketIndex.class);
+
+    static final String INDEX_NAME = "uq_monthly_rollup_bucket";
+
+    static final String DUPLICATES_SQL = "SELECT user_id, year_month, type, category, MIN(id) AS keep_id,"
+        + " SUM(total_cents) AS total_cents, SUM(count) AS count"
+        + " FROM monthly_rollup GROUP BY user_id, year_month, type, category HAVING COUNT(*) > 1";
+
+    static final String MERGE_SQL = "WITH duplicates AS (" + DUPLICATES_SQL + "),"
+        + " merged AS (UPDATE monthly_rollup r SET total_cents = d.total_cents, count = d.count"
+        + " FROM duplicates d WHERE r.id = d.keep_id)"
+        + " DELETE FROM monthly_rollup r USING duplicates d"
+        + " WHERE r.user_id = d.user_id AND r.year_month = d.year_month AND r.type = d.type"
+        + " AND r.category IS NOT DISTINCT FROM d.category AND r.id <> d.keep_id";
+
+    static final String CREATE_INDEX_SQL = "CREATE UNIQUE INDEX IF NOT EXISTS " + INDEX_NAME
+        + " ON monthly_rollup (user_id, year_month, type, COALESCE(category, ''))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    public MonthlyRollupBucketIndex(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.databasePlatform = databasePlatform;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!databasePlatform.isPostgres() || exists()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Blocks writers (and other instances starting) until the index is in place
+            jdbcTemplate.execute("LOCK TABLE monthly_rollup IN SHARE ROW EXCLUSIVE MODE");
+            int removed = jdbcTemplate.update(MERGE_SQL);
+            jdbcTemplate.execute(CREATE_INDEX_SQL);
+            log.info("Created {} ({} duplicate rows merged away)", INDEX_NAME, removed);
+        });
+    }
+
+    private boolean exists() {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM pg_class WHERE oid = to_regclass(?)", Integer.class, INDEX_NAME)
+            .isEmpty();
+    }
+}
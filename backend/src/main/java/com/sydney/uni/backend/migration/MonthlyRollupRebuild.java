@@ -0,0 +1,85 @@
+package com.sydney.uni.backend.migration;
+
+import com.sydney.uni.backend.repository.MonthlyRollupRepository;
+import com.sydney.uni.backend.repository.SavingLogRepository;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import com.sydney.uni.backend.repository.UserRepository;
+import com.sydney.uni.backend.services.MonthlyRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Rebuilds monthly_rollup from transactions and saving logs.
+ * Start the application with {@code --rebuild-rollups} to repair every user, or
+ * {@code --rebuild-rollups=12,42} for specific users. Without the option it only backfills
+ * once, when the rollup table is still empty but there is history to aggregate.
+ */
+@Component
+public class MonthlyRollupRebuild implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyRollupRebuild.class);
+
+    static final String OPTION = "rebuild-rollups";
+
+    private final MonthlyRollupService monthlyRollupService;
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final TransactionRepository transactionRepository;
+    private final SavingLogRepository savingLogRepository;
+    private final UserRepository userRepository;
+
+    public MonthlyRollupRebuild(MonthlyRollupService monthlyRollupService,
+                                MonthlyRollupRepository monthlyRollupRepository,
+                                TransactionRepository transactionRepository,
+                                SavingLogRepository savingLogRepository,
+                                UserRepository userRepository) {
+        this.monthlyRollupService = monthlyRollupService;
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.transactionRepository = transactionRepository;
+        this.savingLogRepository = savingLogRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            List<Long> userIds = requestedUserIds(args.getOptionValues(OPTION));
+            rebuild(userIds.isEmpty() ? userRepository.findAllIds() : userIds);
+        } else if (monthlyRollupRepository.count() == 0
+                && (transactionRepository.count() > 0 || savingLogRepository.count() > 0)) {
+            log.info("monthly_rollup is empty, backfilling from existing history");
+            rebuild(userRepository.findAllIds());
+        }
+    }
+
+    private void rebuild(List<Long> userIds) {
+        long started = System.nanoTime();
+        int rows = 0;
+        int failed = 0;
+        for (Long userId : userIds) {
+            // One transaction per user keeps locks short and lets the rest continue if one user fails
+            try {
+                rows += monthlyRollupService.rebuild(userId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("Failed to rebuild monthly rollups for user {}", userId, e);
+            }
+        }
+        log.info("Rebuilt {} monthly rollup rows for {} users in {} ms ({} failed)",
+            rows, userIds.size() - failed, (System.nanoTime() - started) / 1_000_000, failed);
+    }
+
+    private List<Long> requestedUserIds(List<String> values) {
+        // A bare --rebuild-rollups (or =all) means every user
+        return values.stream()
+            .flatMap(value -> List.of(value.split(",")).stream())
+            .map(String::trim)
+            .filter(value -> !value.isEmpty() && !"all".equalsIgnoreCase(value))
+            .map(Long::valueOf)
+            .toList();
+    }
+}
@@ -0,0 +1,176 @@
+package com.sydney.uni.backend.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps transaction (by date) and saving_log (by timestamp) range-partitioned by month on Postgres,
+ * so date-bounded dashboard and report queries only touch the partitions they need.
+ * <p>
+ * On the first run an existing plain table is converted in place. After that, every run makes sure
+ * partitions exist for the current month and the next few, and moves any rows that landed in the
+ * default partition (null dates, imported history) into their own month. On H2 the entities stay
+ * ordinary tables and this component does nothing.
+ * <p>
+ * The conversion holds an ACCESS EXCLUSIVE lock on the table while it copies, so it runs while the
+ * context starts (after Hibernate's schema update and the cents migration) rather than once the web
+ * server is already taking requests.
+ */
+@Component
+@DependsOn({"entityManagerFactory", "moneyToCents"})
+public class PartitionMaintenance implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenance.class);
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'_p'yyyy_MM");
+
+    // Ids of rows without a partition value listed in the conversion warning; the count is always logged
+    static final int MAX_LOGGED_IDS = 100;
+
+    // Arbitrary key so that several instances starting together do not convert the same table twice
+    private static final long ADVISORY_LOCK_KEY = 7_310_452L;
+
+    // Unique keys on a partitioned table must include the partition column, so the primary key is
+    // (id, partition column); ids still come from the entity sequences and remain unique on their own.
+    // Rows without a partition value get a fixed early one, which keeps them outside every queried range;
+    // the conversion logs which rows those were, since their original value is gone afterwards.
+    static final List<PartitionedTable> TABLES = List.of(
+        new PartitionedTable("transaction", "date", "DATE '1970-01-01'", List.of(
+            "ALTER TABLE transaction ADD PRIMARY KEY (id, date)",
+            "CREATE INDEX idx_transaction_user_type_date_amount ON transaction (user_id, type, date, id, amount_cents)",
+            "CREATE INDEX idx_transaction_user_date ON transaction (user_id, date, id)",
+            "CREATE INDEX idx_transaction_user_category_date ON transaction (user_id, expense_category, date, id)",
+            TransactionSearchIndex.CREATE_INDEX_SQL,
+            "ALTER TABLE transaction ADD CONSTRAINT fk_transaction_account FOREIGN KEY (account_id) REFERENCES account (id)",
+            "ALTER TABLE transaction ADD CONSTRAINT fk_transaction_user FOREIGN KEY (user_id) REFERENCES \"user\" (id)")),
+        new PartitionedTable("saving_log", "\"timestamp\"", "TIMESTAMP '1970-01-01 00:00:00'", List.of(
+            "ALTER TABLE saving_log ADD PRIMARY KEY (id, \"timestamp\")",
+            "CREATE INDEX idx_saving_log_user_timestamp ON saving_log (user_id, \"timestamp\")",
+            "ALTER TABLE saving_log ADD CONSTRAINT fk_saving_log_account FOREIGN KEY (account_id) REFERENCES account (id)",
+            "ALTER TABLE saving_log ADD CONSTRAINT fk_saving_log_user FOREIGN KEY (user_id) REFERENCES \"user\" (id)"))
+    );
+
+    record PartitionedTable(String name, String column, String missingValue, List<String> parentDdl) {
+        String defaultPartition() {
+            return name + "_default";
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabasePlatform databasePlatform;
+    private final int monthsAhead;
+
+    public PartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                DatabasePlatform databasePlatform,
+                                @Value("${app.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.databasePlatform = databasePlatform;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.partitions.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!databasePlatform.isPostgres()) {
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        for (PartitionedTable table : TABLES) {
+            transactionTemplate.executeWithoutResult(status -> maintainTable(table, current));
+        }
+    }
+
+    private void maintainTable(PartitionedTable table, YearMonth current) {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + ADVISORY_LOCK_KEY + ")");
+
+        List<String> relkind = jdbcTemplate.queryForList(
+            "SELECT CAST(relkind AS varchar) FROM pg_class WHERE oid = to_regclass(?)", String.class, table.name());
+        if (relkind.isEmpty()) {
+            return; // not created yet
+        }
+        if (!"p".equals(relkind.get(0))) {
+            convert(table);
+        }
+
+        Set<YearMonth> months = new TreeSet<>(monthsIn(table.defaultPartition(), table.column()));
+        for (int i = 0; i <= monthsAhead; i++) {
+            months.add(current.plusMonths(i));
+        }
+        months.forEach(month -> ensurePartition(table, month));
+    }
+
+    private void convert(PartitionedTable table) {
+        String legacy = table.name() + "_unpartitioned";
+        jdbcTemplate.execute("ALTER TABLE " + table.name() + " RENAME TO " + legacy);
+        // The primary key makes the partition column NOT NULL
+        List<Long> missing = jdbcTemplate.queryForList("SELECT id FROM " + legacy + " WHERE " + table.column()
+            + " IS NULL ORDER BY id LIMIT " + MAX_LOGGED_IDS, Long.class);
+        if (!missing.isEmpty()) {
+            int rewritten = jdbcTemplate.update("UPDATE " + legacy + " SET " + table.column() + " = " + table.missingValue()
+                + " WHERE " + table.column() + " IS NULL");
+            log.warn("{} rows of {} had no {}; set it to {} (ids{}: {})", rewritten, table.name(), table.column(),
+                table.missingValue(), rewritten > missing.size() ? ", first " + missing.size() : "", missing);
+        }
+        jdbcTemplate.execute("CREATE TABLE " + table.name() + " (LIKE " + legacy + " INCLUDING DEFAULTS)"
+            + " PARTITION BY RANGE (" + table.column() + ")");
+        jdbcTemplate.execute("CREATE TABLE " + table.defaultPartition() + " PARTITION OF " + table.name() + " DEFAULT");
+
+        // Create every month up front so the copy routes straight into its final partition
+        monthsIn(legacy, table.column()).forEach(month -> ensurePartition(table, month));
+        int copied = jdbcTemplate.update("INSERT INTO " + table.name() + " SELECT * FROM " + legacy);
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+
+        // Indexes and keys go on last: building them once after the copy is cheaper than maintaining them row by row
+        table.parentDdl().forEach(jdbcTemplate::execute);
+        log.info("Partitioned {} by month ({} rows copied)", table.name(), copied);
+    }
+
+    private void ensurePartition(PartitionedTable table, YearMonth month) {
+        String partition = table.name() + month.format(PARTITION_SUFFIX);
+        if (!jdbcTemplate.queryForList("SELECT 1 FROM pg_class WHERE oid = to_regclass(?)", Integer.class, partition).isEmpty()) {
+            return;
+        }
+
+        String from = month.atDay(1).toString();
+        String to = month.plusMonths(1).atDay(1).toString();
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + table.name() + " INCLUDING DEFAULTS)");
+        // Attaching fails while the default partition still holds rows for this range, so move them over first
+        jdbcTemplate.update("WITH moved AS (DELETE FROM " + table.defaultPartition()
+            + " WHERE " + table.column() + " >= '" + from + "' AND " + table.column() + " < '" + to + "' RETURNING *)"
+            + " INSERT INTO " + partition + " SELECT * FROM moved");
+        jdbcTemplate.execute("ALTER TABLE " + table.name() + " ATTACH PARTITION " + partition
+            + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        log.info("Created partition {}", partition);
+    }
+
+    private List<YearMonth> monthsIn(String table, String column) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT CAST(date_trunc('month', " + column + ") AS date) FROM " + table
+                    + " WHERE " + column + " IS NOT NULL", LocalDate.class)
+            .stream()
+            .map(YearMonth::from)
+            .toList();
+    }
+}
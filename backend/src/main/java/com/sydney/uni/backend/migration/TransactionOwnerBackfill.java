@@ -0,0 +1,36 @@
+package com.sydney.uni.backend.migration;
+
+import com.sydney.uni.backend.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+/**
+ * Populates transaction.user_id for rows created before the column existed.
+ * Idempotent: only rows with a null owner are touched, so it is a no-op after the first run.
+ * <p>
+ * Runs while the context starts, so it is done before the web server takes requests (queries filter on
+ * user_id and would miss older rows until then) and before MonthlyRollupRebuild aggregates by user_id.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class TransactionOwnerBackfill implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionOwnerBackfill.class);
+
+    private final TransactionRepository transactionRepository;
+
+    public TransactionOwnerBackfill(TransactionRepository transactionRepository) {
+        this.transactionRepository = transactionRepository;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        int updated = transactionRepository.backfillUserIds();
+        if (updated > 0) {
+            log.info("Backfilled user_id on {} transaction rows", updated);
+        }
+    }
+}
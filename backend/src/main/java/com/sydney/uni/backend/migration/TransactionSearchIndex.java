@@ -0,0 +1,37 @@
+package com.sydney.uni.backend.migration;
+
+import com.sydney.uni.backend.repository.TransactionRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the GIN index behind transaction search on Postgres. It is an expression index over
+ * detail and note rather than a stored tsvector column: partition maintenance copies rows with
+ * INSERT ... SELECT *, which a generated column would reject. The same statement is part of the
+ * partitioned table's DDL, so whichever of the two runs first creates it and the other is a no-op.
+ * H2 searches with LIKE and needs no index.
+ */
+@Component
+public class TransactionSearchIndex implements ApplicationRunner {
+
+    static final String CREATE_INDEX_SQL = "CREATE INDEX IF NOT EXISTS idx_transaction_search ON transaction USING GIN ("
+        + TransactionRepository.SEARCH_DOCUMENT + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    public TransactionSearchIndex(JdbcTemplate jdbcTemplate, DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databasePlatform = databasePlatform;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!databasePlatform.isPostgres()) {
+            return;
+        }
+        jdbcTemplate.execute(CREATE_INDEX_SQL);
+    }
+}
@@ -1,10 +1,72 @@
 package com.sydney.uni.backend.repository;
 
+import com.sydney.uni.backend.dto.DashboardTotals;
+import com.sydney.uni.backend.dto.LedgerTotals;
 import com.sydney.uni.backend.entity.Account;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    // Each CTE aggregates to exactly one row, so the cross join always yields one row even for a brand-new user
+    String DASHBOARD_TOTALS_SQL =
+        "WITH accounts AS (" +
+        "  SELECT COALESCE(SUM(balance_cents), 0) AS balance_cents, COALESCE(SUM(saved_cents), 0) AS saved_cents " +
+        "  FROM account WHERE user_id = :userId), " +
+        "spending AS (" +
+        "  SELECT COALESCE(SUM(CASE WHEN year_month = :currentMonth THEN total_cents ELSE 0 END), 0) AS current_cents, " +
+        "         COALESCE(SUM(CASE WHEN year_month = :previousMonth THEN total_cents ELSE 0 END), 0) AS previous_cents " +
+        "  FROM monthly_rollup WHERE user_id = :userId AND type = 'OUT' AND year_month IN (:currentMonth, :previousMonth)), " +
+        "budgets AS (" +
+        "  SELECT COUNT(*) AS budget_count, COALESCE(SUM(amount_cents), 0) AS budget_cents " +
+        "  FROM budget WHERE user_id = :userId AND period = 'monthly'), " +
+        "goal AS (" +
+        "  SELECT COUNT(*) AS goal_count, COALESCE(MAX(target_amount_cents), 0) AS goal_cents " +
+        "  FROM save_goal WHERE user_id = :userId) " +
+        "SELECT CAST(a.balance_cents AS BIGINT) AS \"balanceCents\", " +
+        "       CAST(a.saved_cents AS BIGINT) AS \"savedCents\", " +
+        "       CAST(s.current_cents AS BIGINT) AS \"monthSpendingCents\", " +
+        "       CAST(s.previous_cents AS BIGINT) AS \"lastMonthSpendingCents\", " +
+        "       CAST(b.budget_count AS BIGINT) AS \"monthlyBudgetCount\", " +
+        "       CAST(b.budget_cents AS BIGINT) AS \"monthlyBudgetCents\", " +
+        "       CAST(g.goal_count AS BIGINT) AS \"saveGoalCount\", " +
+        "       CAST(g.goal_cents AS BIGINT) AS \"saveGoalTargetCents\" " +
+        "FROM accounts a CROSS JOIN spending s CROSS JOIN budgets b CROSS JOIN goal g";
+
     List<Account> findByUserId(Long userId);
+
+    // Every writer updates the user's account row, so holding its lock keeps a rebuild from racing them
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.user.id = :userId")
+    List<Account> lockByUserId(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :accountId")
+    Optional<Account> lockById(@Param("accountId") Long accountId);
+
+    // Reads the committed-to-this-transaction values, not a possibly stale managed Account
+    @Query("SELECT new com.sydney.uni.backend.dto.LedgerTotals(a.balanceCents, a.savedCents, 0L, 0L) " +
+           "FROM Account a WHERE a.id = :accountId")
+    LedgerTotals findStoredBalance(@Param("accountId") Long accountId);
+
+    // Everything the dashboard shows, in one round trip; months are MonthlyRollup keys (yyyymm)
+    @Query(value = DASHBOARD_TOTALS_SQL, nativeQuery = true)
+    DashboardTotals findDashboardTotals(@Param("userId") Long userId,
+                                        @Param("currentMonth") Integer currentMonth,
+                                        @Param("previousMonth") Integer previousMonth);
+
+    @Query("SELECT a FROM Account a WHERE NOT EXISTS (SELECT 1 FROM LedgerEntry e WHERE e.accountId = a.id)")
+    List<Account> findWithoutLedger();
+
+    // Applied in the database so bulk writers can settle a whole batch with one UPDATE
+    @Modifying
+    @Query("UPDATE Account a SET a.balanceCents = a.balanceCents + :delta WHERE a.id = :accountId")
+    int adjustBalance(@Param("accountId") Long accountId, @Param("delta") long delta);
 }
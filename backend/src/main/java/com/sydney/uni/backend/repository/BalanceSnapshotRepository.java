@@ -0,0 +1,14 @@
+package com.sydney.uni.backend.repository;
+
+import com.sydney.uni.backend.entity.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    Optional<BalanceSnapshot> findFirstByAccountIdOrderByEntrySeqDesc(Long accountId);
+
+    Optional<BalanceSnapshot> findFirstByAccountIdAndAsOfLessThanEqualOrderByEntrySeqDesc(Long accountId, LocalDateTime at);
+}
@@ -1,7 +1,10 @@
 package com.sydney.uni.backend.repository;
 
 import com.sydney.uni.backend.entity.Budget;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,5 +12,11 @@ import java.util.Optional;
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
     Optional<Budget> findByUserIdAndPeriod(Long userId, String period);
     Optional<Budget> findByUserIdAndCategoryAndPeriod(Long userId, String category, String period);
+
+    // Read by the dashboard, budget and report pages; cached until the budget table changes
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "budget-by-user")
+    })
     List<Budget> findByUserId(Long userId);
 }
@@ -0,0 +1,32 @@
+package com.sydney.uni.backend.repository;
+
+import com.sydney.uni.backend.dto.LedgerTotals;
+import com.sydney.uni.backend.entity.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    @Query("SELECT COALESCE(MAX(e.entrySeq), 0) FROM LedgerEntry e WHERE e.accountId = :accountId")
+    Long findLastEntrySeq(@Param("accountId") Long accountId);
+
+    boolean existsByAccountId(Long accountId);
+
+    // Tail after a snapshot: reads only the entries past afterSeq, found through the unique (account_id, entry_seq) index
+    @Query("SELECT new com.sydney.uni.backend.dto.LedgerTotals(COALESCE(SUM(e.balanceDeltaCents), 0L), COALESCE(SUM(e.savedDeltaCents), 0L), " +
+           "COUNT(e), COALESCE(MAX(e.entrySeq), :afterSeq)) " +
+           "FROM LedgerEntry e WHERE e.accountId = :accountId AND e.entrySeq > :afterSeq AND e.entrySeq <= :upToSeq")
+    LedgerTotals sumRange(@Param("accountId") Long accountId,
+                          @Param("afterSeq") Long afterSeq,
+                          @Param("upToSeq") Long upToSeq);
+
+    @Query("SELECT new com.sydney.uni.backend.dto.LedgerTotals(COALESCE(SUM(e.balanceDeltaCents), 0L), COALESCE(SUM(e.savedDeltaCents), 0L), " +
+           "COUNT(e), COALESCE(MAX(e.entrySeq), :afterSeq)) " +
+           "FROM LedgerEntry e WHERE e.accountId = :accountId AND e.entrySeq > :afterSeq AND e.occurredAt <= :at")
+    LedgerTotals sumAfterUntil(@Param("accountId") Long accountId,
+                               @Param("afterSeq") Long afterSeq,
+                               @Param("at") LocalDateTime at);
+}
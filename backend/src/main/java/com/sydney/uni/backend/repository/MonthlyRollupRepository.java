@@ -0,0 +1,60 @@
+package com.sydney.uni.backend.repository;
+
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.MonthlyRollup;
+import com.sydney.uni.backend.entity.RollupType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+
+    List<MonthlyRollup> findByUserIdAndYearMonthBetween(Long userId, Integer fromYearMonth, Integer toYearMonth);
+
+    @Query("SELECT COALESCE(SUM(r.totalCents), 0L) FROM MonthlyRollup r " +
+           "WHERE r.userId = :userId AND r.yearMonth = :yearMonth AND r.type = :type")
+    Long sumTotal(@Param("userId") Long userId,
+                  @Param("yearMonth") Integer yearMonth,
+                  @Param("type") RollupType type);
+
+    @Query("SELECT COALESCE(SUM(r.totalCents), 0L) FROM MonthlyRollup r " +
+           "WHERE r.userId = :userId AND r.yearMonth = :yearMonth AND r.type = :type AND r.category = :category")
+    Long sumCategoryTotal(@Param("userId") Long userId,
+                          @Param("yearMonth") Integer yearMonth,
+                          @Param("type") RollupType type,
+                          @Param("category") ExpenseCategory category);
+
+    // Applied in place so concurrent writers never lose an increment; returns 0 when the bucket does not exist yet
+    @Modifying
+    @Query("UPDATE MonthlyRollup r SET r.totalCents = r.totalCents + :amountCents, r.count = r.count + :count " +
+           "WHERE r.userId = :userId AND r.yearMonth = :yearMonth AND r.type = :type " +
+           "AND (r.category = :category OR (r.category IS NULL AND :category IS NULL))")
+    int increment(@Param("userId") Long userId,
+                  @Param("yearMonth") Integer yearMonth,
+                  @Param("type") RollupType type,
+                  @Param("category") ExpenseCategory category,
+                  @Param("amountCents") long amountCents,
+                  @Param("count") long count);
+
+    // Postgres only: creates the bucket, or adds to it when a concurrent writer created it first. The conflict
+    // target is uq_monthly_rollup_bucket; ids come from the entity sequence like any other insert.
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollup (id, user_id, year_month, type, category, total_cents, count) " +
+                   "VALUES (nextval('monthly_rollup_seq'), :userId, :yearMonth, :type, CAST(:category AS varchar), :amountCents, :count) " +
+                   "ON CONFLICT (user_id, year_month, type, COALESCE(category, '')) DO UPDATE SET " +
+                   "total_cents = monthly_rollup.total_cents + EXCLUDED.total_cents, count = monthly_rollup.count + EXCLUDED.count",
+           nativeQuery = true)
+    void upsert(@Param("userId") Long userId,
+                @Param("yearMonth") Integer yearMonth,
+                @Param("type") String type,
+                @Param("category") String category,
+                @Param("amountCents") long amountCents,
+                @Param("count") long count);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyRollup r WHERE r.userId = :userId")
+    int deleteAllForUser(@Param("userId") Long userId);
+}
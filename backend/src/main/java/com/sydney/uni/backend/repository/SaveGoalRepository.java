@@ -1,10 +1,18 @@
 package com.sydney.uni.backend.repository;
 
 import com.sydney.uni.backend.entity.SaveGoal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface SaveGoalRepository extends JpaRepository<SaveGoal, Long> {
+    // Read by the dashboard and save-goal pages; cached until the save_goal table changes
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "save-goal-by-user")
+    })
     Optional<SaveGoal> findByUserId(Long userId);
 }
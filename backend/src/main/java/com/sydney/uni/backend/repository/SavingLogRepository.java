@@ -1,11 +1,30 @@
 package com.sydney.uni.backend.repository;
 
+import com.sydney.uni.backend.dto.MonthlySavingTotal;
+import com.sydney.uni.backend.dto.SavingRollupRow;
 import com.sydney.uni.backend.entity.SavingLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SavingLogRepository extends JpaRepository<SavingLog, Long> {
     List<SavingLog> findByUserIdOrderByTimestampDesc(Long userId);
     List<SavingLog> findByAccountIdOrderByTimestampDesc(Long accountId);
+
+    // Half-open range [start, end) so callers can pass midnight of the day after the last included day
+    @Query("SELECT new com.sydney.uni.backend.dto.MonthlySavingTotal(YEAR(s.timestamp), MONTH(s.timestamp), s.action, SUM(s.amountCents)) " +
+           "FROM SavingLog s WHERE s.user.id = :userId AND s.timestamp >= :start AND s.timestamp < :end " +
+           "GROUP BY YEAR(s.timestamp), MONTH(s.timestamp), s.action")
+    List<MonthlySavingTotal> sumByMonthAndAction(@Param("userId") Long userId,
+                                                 @Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end);
+
+    // Source data for rebuilding monthly_rollup
+    @Query("SELECT new com.sydney.uni.backend.dto.SavingRollupRow(YEAR(s.timestamp), MONTH(s.timestamp), s.action, SUM(s.amountCents), COUNT(s)) " +
+           "FROM SavingLog s WHERE s.user.id = :userId AND s.timestamp IS NOT NULL " +
+           "GROUP BY YEAR(s.timestamp), MONTH(s.timestamp), s.action")
+    List<SavingRollupRow> rollupByUserId(@Param("userId") Long userId);
 }
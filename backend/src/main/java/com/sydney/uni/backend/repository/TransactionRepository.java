@@ -1,30 +1,110 @@
 package com.sydney.uni.backend.repository;
 
+import com.sydney.uni.backend.dto.CategoryTotal;
+import com.sydney.uni.backend.dto.MonthlyTransactionTotal;
+import com.sydney.uni.backend.dto.TransactionDto;
+import com.sydney.uni.backend.dto.TransactionRollupRow;
 import com.sydney.uni.backend.entity.Transaction;
 import com.sydney.uni.backend.entity.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
     
-    @Query("SELECT t FROM Transaction t WHERE t.account.user.id = :userId AND t.date BETWEEN :startDate AND :endDate AND t.type = :type")
-    List<Transaction> findByAccountUserIdAndDateBetweenAndType(@Param("userId") Long userId, 
-                                                              @Param("startDate") LocalDate startDate, 
-                                                              @Param("endDate") LocalDate endDate, 
-                                                              @Param("type") TransactionType type);
+    // Transaction and its account in one select, for the edit/delete paths that adjust the balance
+    @EntityGraph(Transaction.WITH_ACCOUNT)
+    Optional<Transaction> findWithAccountById(Long id);
     
-    @Query("SELECT t FROM Transaction t WHERE t.account.user.id = :userId ORDER BY t.date DESC")
-    List<Transaction> findTop10ByAccountUserIdOrderByDateDesc(@Param("userId") Long userId);
+    // Top-N projection: the limit comes from the Pageable, so only N rows leave the database
+    @Query("SELECT new com.sydney.uni.backend.dto.TransactionDto(t.id, t.type, t.date, t.expenseCategory, t.detail, t.amountCents, t.note) " +
+           "FROM Transaction t WHERE t.user.id = :userId ORDER BY t.date DESC, t.id DESC")
+    List<TransactionDto> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
     
-    @Query("SELECT t FROM Transaction t WHERE t.account.user.id = :userId AND t.type = :type ORDER BY t.date DESC")
-    List<Transaction> findByAccountUserIdAndTypeOrderByDateDesc(@Param("userId") Long userId, @Param("type") TransactionType type);
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.type = :type ORDER BY t.date DESC, t.id DESC")
+    Slice<Transaction> findFirstPageByUserIdAndType(@Param("userId") Long userId,
+                                                    @Param("type") TransactionType type,
+                                                    Pageable pageable);
+
+    // Keyset continuation: rows strictly after (cursorDate, cursorId) in (date DESC, id DESC) order
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.type = :type " +
+           "AND (t.date < :cursorDate OR (t.date = :cursorDate AND t.id < :cursorId)) ORDER BY t.date DESC, t.id DESC")
+    Slice<Transaction> findPageByUserIdAndTypeAfter(@Param("userId") Long userId,
+                                                    @Param("type") TransactionType type,
+                                                    @Param("cursorDate") LocalDate cursorDate,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
     
-    @Query("SELECT t FROM Transaction t WHERE t.account.user.id = :userId AND t.date BETWEEN :startDate AND :endDate ORDER BY t.date DESC")
-    List<Transaction> findByUserIdAndDateBetween(@Param("userId") Long userId, 
-                                                @Param("startDate") LocalDate startDate, 
-                                                @Param("endDate") LocalDate endDate);
+    // Full-text document over detail and note. Must stay identical to the expression behind the
+    // idx_transaction_search GIN index, otherwise Postgres cannot answer the match from the index.
+    String SEARCH_DOCUMENT = "to_tsvector('simple', coalesce(detail, '') || ' ' || coalesce(note, ''))";
+
+    // Ranked search on Postgres: every term of :query must match, best matches first
+    @Query(value = "SELECT * FROM transaction WHERE user_id = :userId AND " + SEARCH_DOCUMENT + " @@ to_tsquery('simple', :query) " +
+                   "ORDER BY ts_rank(" + SEARCH_DOCUMENT + ", to_tsquery('simple', :query)) DESC, date DESC, id DESC",
+           nativeQuery = true)
+    Slice<Transaction> searchRanked(@Param("userId") Long userId, @Param("query") String query, Pageable pageable);
+
+    // Portable fallback for H2: unranked substring match, newest first
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
+           "AND LOWER(CONCAT(COALESCE(t.detail, ''), ' ', COALESCE(t.note, ''))) LIKE :pattern ORDER BY t.date DESC, t.id DESC")
+    Slice<Transaction> searchByPattern(@Param("userId") Long userId, @Param("pattern") String pattern, Pageable pageable);
+
+    // Streaming reads for export: rows are pulled from a server-side cursor in fetch-size chunks.
+    // The caller must consume the stream inside a (read-only) transaction and close it.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.type = :type ORDER BY t.date DESC, t.id DESC")
+    Stream<Transaction> streamByUserIdAndType(@Param("userId") Long userId, @Param("type") TransactionType type);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId ORDER BY t.date DESC, t.id DESC")
+    Stream<Transaction> streamByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.sydney.uni.backend.dto.MonthlyTransactionTotal(YEAR(t.date), MONTH(t.date), t.type, SUM(t.amountCents)) " +
+           "FROM Transaction t WHERE t.user.id = :userId AND t.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY YEAR(t.date), MONTH(t.date), t.type")
+    List<MonthlyTransactionTotal> sumByMonthAndType(@Param("userId") Long userId,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.sydney.uni.backend.dto.CategoryTotal(t.expenseCategory, SUM(t.amountCents)) " +
+           "FROM Transaction t WHERE t.user.id = :userId AND t.type = :type AND t.expenseCategory IS NOT NULL " +
+           "AND t.date BETWEEN :startDate AND :endDate GROUP BY t.expenseCategory")
+    List<CategoryTotal> sumByCategory(@Param("userId") Long userId,
+                                      @Param("type") TransactionType type,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+
+    // Source data for rebuilding monthly_rollup
+    @Query("SELECT new com.sydney.uni.backend.dto.TransactionRollupRow(YEAR(t.date), MONTH(t.date), t.type, t.expenseCategory, SUM(t.amountCents), COUNT(t)) " +
+           "FROM Transaction t WHERE t.user.id = :userId AND t.date IS NOT NULL " +
+           "GROUP BY YEAR(t.date), MONTH(t.date), t.type, t.expenseCategory")
+    List<TransactionRollupRow> rollupByUserId(@Param("userId") Long userId);
+
+    // Fills the denormalized owner on rows written before user_id existed
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE transaction SET user_id = (SELECT a.user_id FROM account a WHERE a.id = transaction.account_id) " +
+                   "WHERE user_id IS NULL AND account_id IS NOT NULL", nativeQuery = true)
+    int backfillUserIds();
 }
@@ -0,0 +1,58 @@
+package com.sydney.uni.backend.repository;
+
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.entity.TransactionType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Building blocks for filtered transaction queries. Each factory returns null for a missing value,
+ * which {@link Specification#and} skips, so callers can chain every filter unconditionally and only
+ * the ones actually set end up in the WHERE clause.
+ */
+public final class TransactionSpecifications {
+
+    // Same order as the keyset listings; (date, id) is the tail of every transaction index
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Transaction> hasType(TransactionType type) {
+        return type == null ? null : (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Transaction> inCategory(ExpenseCategory category) {
+        return category == null ? null : (root, query, cb) -> cb.equal(root.get("expenseCategory"), category);
+    }
+
+    public static Specification<Transaction> onOrAfter(LocalDate from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), from);
+    }
+
+    public static Specification<Transaction> onOrBefore(LocalDate to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), to);
+    }
+
+    public static Specification<Transaction> amountAtLeast(Long minCents) {
+        return minCents == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amountCents"), minCents);
+    }
+
+    public static Specification<Transaction> amountAtMost(Long maxCents) {
+        return maxCents == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amountCents"), maxCents);
+    }
+
+    // Keyset continuation: rows strictly after (cursorDate, cursorId) in NEWEST_FIRST order
+    public static Specification<Transaction> after(LocalDate cursorDate, Long cursorId) {
+        return (root, query, cb) -> cb.or(
+            cb.lessThan(root.get("date"), cursorDate),
+            cb.and(cb.equal(root.get("date"), cursorDate), cb.lessThan(root.get("id"), cursorId)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.sydney.uni.backend.services;
+
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.entity.TransactionType;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * What a single write did to a user's dashboard, as deltas: balance, saved amount and this month's
+ * spending, plus the transaction that was created, updated or deleted (null for savings changes).
+ * Bulk writes such as imports publish {@link Change#RELOAD} with no deltas instead; subscribers reload.
+ * Published alongside {@link UserDataChangedEvent} and streamed to subscribers after commit.
+ */
+public record AccountDeltaEvent(Long userId, Change change, long balanceDeltaCents, long savedDeltaCents,
+                                long monthSpendingDeltaCents, Transaction transaction) {
+
+    public enum Change {
+        TRANSACTION_CREATED,
+        TRANSACTION_UPDATED,
+        TRANSACTION_DELETED,
+        SAVINGS_CHANGED,
+        RELOAD
+    }
+
+    public static AccountDeltaEvent transactionCreated(Long userId, Transaction transaction) {
+        long balanceDelta = transaction.getType() == TransactionType.IN
+            ? transaction.getAmountCents() : -transaction.getAmountCents();
+        return new AccountDeltaEvent(userId, Change.TRANSACTION_CREATED, balanceDelta, 0,
+            monthSpendingCents(transaction.getType(), transaction.getAmountCents(), transaction.getDate()), transaction);
+    }
+
+    public static AccountDeltaEvent savingsChanged(Long userId, long savedDeltaCents) {
+        return new AccountDeltaEvent(userId, Change.SAVINGS_CHANGED, 0, savedDeltaCents, 0, null);
+    }
+
+    public static AccountDeltaEvent reload(Long userId) {
+        return new AccountDeltaEvent(userId, Change.RELOAD, 0, 0, 0, null);
+    }
+
+    // Spending counted towards the current month; expenses dated in other months don't move it
+    static long monthSpendingCents(TransactionType type, long amountCents, LocalDate date) {
+        return type == TransactionType.OUT && date != null && YearMonth.from(date).equals(YearMonth.now())
+            ? amountCents : 0L;
+    }
+}
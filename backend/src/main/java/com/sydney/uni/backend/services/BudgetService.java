@@ -4,12 +4,14 @@ import com.sydney.uni.backend.dto.BudgetRequest;
 import com.sydney.uni.backend.dto.BudgetDto;
 import com.sydney.uni.backend.entity.*;
 import com.sydney.uni.backend.repository.BudgetRepository;
-import com.sydney.uni.backend.repository.TransactionRepository;
 import com.sydney.uni.backend.repository.UserRepository;
+import com.sydney.uni.backend.utils.Money;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,12 +22,15 @@ public class BudgetService {
 
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
-    private final TransactionRepository transactionRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BudgetService(BudgetRepository budgetRepository, UserRepository userRepository, TransactionRepository transactionRepository) {
+    public BudgetService(BudgetRepository budgetRepository, UserRepository userRepository,
+                         MonthlyRollupService monthlyRollupService, ApplicationEventPublisher eventPublisher) {
         this.budgetRepository = budgetRepository;
         this.userRepository = userRepository;
-        this.transactionRepository = transactionRepository;
+        this.monthlyRollupService = monthlyRollupService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -39,8 +44,10 @@ public class BudgetService {
         if (existingBudget.isPresent()) {
             // Update existing budget
             Budget budget = existingBudget.get();
-            budget.setAmount(budgetRequest.getAmount());
-            return budgetRepository.save(budget);
+            budget.setAmountCents(budgetRequest.getAmountCents());
+            Budget saved = budgetRepository.save(budget);
+            eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+            return saved;
         }
         
         // Create new budget
@@ -48,15 +55,19 @@ public class BudgetService {
         budget.setUser(user);
         budget.setCategory(budgetRequest.getCategory());
         budget.setPeriod(budgetRequest.getPeriod());
-        budget.setAmount(budgetRequest.getAmount());
+        budget.setAmountCents(budgetRequest.getAmountCents());
         
-        return budgetRepository.save(budget);
+        Budget saved = budgetRepository.save(budget);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        return saved;
     }
 
+    @Transactional(readOnly = true)
     public List<Budget> getUserBudgets(Long userId) {
         return budgetRepository.findByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<BudgetDto> getUserBudgetsWithSpending(Long userId) {
         List<Budget> budgets = budgetRepository.findByUserId(userId);
         return budgets.stream()
@@ -65,43 +76,42 @@ public class BudgetService {
     }
 
     private BudgetDto convertToBudgetDto(Budget budget, Long userId) {
+        // Calculate spent amount for this category
+        return toBudgetDto(budget, calculateSpentCents(userId, budget.getCategory()));
+    }
+
+    static BudgetDto toBudgetDto(Budget budget, long spentCents) {
         BudgetDto dto = new BudgetDto();
         dto.setId(budget.getId());
         dto.setCategory(budget.getCategory());
         dto.setPeriod(budget.getPeriod());
-        dto.setAmount(budget.getAmount());
-        
-        // Calculate spent amount for this category
-        Double spent = calculateSpentAmount(userId, budget.getCategory());
-        dto.setSpent(spent);
-        dto.setRemaining(budget.getAmount() - spent);
-        dto.setUtilizationPercentage((spent / budget.getAmount()) * 100);
+        dto.setAmountCents(budget.getAmountCents());
+        dto.setSpentCents(spentCents);
+        dto.setRemainingCents(budget.getAmountCents() - spentCents);
+        dto.setUtilizationPercentage(Money.percent(spentCents, budget.getAmountCents()));
         
         return dto;
     }
 
-    private Double calculateSpentAmount(Long userId, String category) {
-        // Get current month's start and end dates
-        LocalDate now = LocalDate.now();
-        LocalDate monthStart = now.withDayOfMonth(1);
-        LocalDate monthEnd = now.withDayOfMonth(now.lengthOfMonth());
-        
-        // Get current month's expense transactions for this user
-        List<Transaction> expenses = transactionRepository.findByAccountUserIdAndDateBetweenAndType(
-            userId, monthStart, monthEnd, TransactionType.OUT);
+    // Budget categories are stored as enum names; anything else can't have matching expenses
+    static Optional<ExpenseCategory> expenseCategory(String category) {
+        return Arrays.stream(ExpenseCategory.values())
+            .filter(value -> value.name().equals(category))
+            .findFirst();
+    }
+
+    private long calculateSpentCents(Long userId, String category) {
+        Optional<ExpenseCategory> expenseCategory = expenseCategory(category);
+        if (expenseCategory.isEmpty()) {
+            return 0L;
+        }
         
-        // Filter by category - compare enum values directly
-        return expenses.stream()
-            .filter(transaction -> {
-                if (transaction.getExpenseCategory() == null) return false;
-                // Compare enum name with budget category string
-                return transaction.getExpenseCategory().name().equals(category);
-            })
-            .mapToDouble(Transaction::getAmount)
-            .sum();
+        // Current month's spending in this category, from the in-memory counters over the monthly rollup
+        return monthlyRollupService.getCategoryTotal(userId, YearMonth.now(), expenseCategory.get());
     }
 
 
+    @Transactional(readOnly = true)
     public Optional<Budget> getUserBudgetByPeriod(Long userId, String period) {
         return budgetRepository.findByUserIdAndPeriod(userId, period);
     }
@@ -117,8 +127,10 @@ public class BudgetService {
         }
         
         budgetRepository.delete(budget);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
     }
 
+    @Transactional(readOnly = true)
     public BudgetDto getBudgetById(Long budgetId, Long userId) {
         Budget budget = budgetRepository.findById(budgetId)
             .orElseThrow(() -> new RuntimeException(BUDGET_NOT_FOUND_MESSAGE));
@@ -144,8 +156,10 @@ public class BudgetService {
         // Update budget fields
         budget.setCategory(budgetRequest.getCategory());
         budget.setPeriod(budgetRequest.getPeriod());
-        budget.setAmount(budgetRequest.getAmount());
+        budget.setAmountCents(budgetRequest.getAmountCents());
         
-        return budgetRepository.save(budget);
+        Budget saved = budgetRepository.save(budget);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        return saved;
     }
 }
@@ -0,0 +1,172 @@
+package com.sydney.uni.backend.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sydney.uni.backend.datasource.PrimaryReads;
+import com.sydney.uni.backend.entity.MonthlyRollup;
+import com.sydney.uni.backend.repository.MonthlyRollupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Finalized rollup rows of months that have ended, per user and month, so a report reads only the
+ * current month from the database however many months it covers. Past months change only when a write
+ * is dated in them; MonthlyRollupService then invalidates just that month after commit. Entries also
+ * expire after a TTL because writes made on another instance never invalidate this one.
+ * Published as cache.* metrics tagged cache=closed-months.
+ */
+@Component
+public class ClosedMonthReports {
+
+    public static final String CACHE_NAME = "closed-months";
+
+    private static final int STRIPES = 1024;
+
+    private record Key(Long userId, YearMonth month) {
+    }
+
+    private record Entry(long monthVersion, long userVersion, List<MonthlyRollup> rollups) {
+    }
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final PrimaryReads primaryReads;
+    private final Clock clock;
+    private final Cache<Key, Entry> cache;
+
+    // Bumped after a write commits, per stripe of (user, month) and per stripe of users for full rebuilds.
+    // An entry is used only while both versions it was read under are current, so a write that commits
+    // around the read can't leave a stale month behind. Collisions only cost a re-read.
+    private final AtomicLongArray monthVersions = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray userVersions = new AtomicLongArray(STRIPES);
+
+    @Autowired
+    public ClosedMonthReports(MonthlyRollupRepository monthlyRollupRepository,
+                              PrimaryReads primaryReads,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.cache.closed-months.max-entries:100000}") long maxEntries,
+                              @Value("${app.cache.closed-months.ttl:1h}") Duration ttl) {
+        this(monthlyRollupRepository, primaryReads, meterRegistry, maxEntries, ttl, Clock.systemDefaultZone());
+    }
+
+    public ClosedMonthReports(MonthlyRollupRepository monthlyRollupRepository, PrimaryReads primaryReads,
+                              MeterRegistry meterRegistry, long maxEntries, Duration ttl, Clock clock) {
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.primaryReads = primaryReads;
+        this.clock = clock;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .<Key, Entry>build(), CACHE_NAME);
+    }
+
+    /**
+     * Rollup rows of every month from {@code from} to {@code to}, which must all have ended. Months not
+     * cached are read together in one query. The returned rows are shared and must not be modified.
+     */
+    public List<MonthlyRollup> getRollups(Long userId, YearMonth from, YearMonth to) {
+        if (!to.isBefore(YearMonth.now(clock))) {
+            throw new IllegalArgumentException("Month " + to + " has not ended yet");
+        }
+
+        Map<YearMonth, List<MonthlyRollup>> months = new HashMap<>();
+        YearMonth firstMissing = null;
+        YearMonth lastMissing = null;
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            Entry entry = cache.getIfPresent(new Key(userId, month));
+            if (entry != null && current(userId, month, entry)) {
+                months.put(month, entry.rollups());
+            } else {
+                firstMissing = firstMissing == null ? month : firstMissing;
+                lastMissing = month;
+            }
+        }
+        if (firstMissing != null) {
+            months.putAll(load(userId, firstMissing, lastMissing));
+        }
+
+        List<MonthlyRollup> rollups = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            rollups.addAll(months.getOrDefault(month, List.of()));
+        }
+        return rollups;
+    }
+
+    // Called in the writer's transaction for each month its rollup increments touch
+    public void invalidateAfterCommit(Long userId, YearMonth month) {
+        afterCommit(() -> monthVersions.incrementAndGet(monthStripe(userId, month)));
+    }
+
+    // For bulk rewrites of a user's rollups, where any month may have changed
+    public void invalidateUserAfterCommit(Long userId) {
+        afterCommit(() -> userVersions.incrementAndGet(userStripe(userId)));
+    }
+
+    private Map<YearMonth, List<MonthlyRollup>> load(Long userId, YearMonth from, YearMonth to) {
+        // Versions first: a write that commits after this point makes the entries below stale on arrival
+        Map<YearMonth, Long> versionsBefore = new HashMap<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            versionsBefore.put(month, monthVersions.get(monthStripe(userId, month)));
+        }
+        long userVersion = userVersions.get(userStripe(userId));
+
+        // From the primary: rows from a lagging replica could predate the invalidation that already ran
+        List<MonthlyRollup> stored = primaryReads.read(() -> monthlyRollupRepository.findByUserIdAndYearMonthBetween(
+            userId, MonthlyRollup.key(from), MonthlyRollup.key(to)));
+        Map<YearMonth, List<MonthlyRollup>> months = new HashMap<>();
+        for (MonthlyRollup rollup : stored) {
+            months.computeIfAbsent(rollup.toYearMonth(), month -> new ArrayList<>()).add(rollup);
+        }
+
+        // Months without rows are cached too, so a quiet month is not read again
+        versionsBefore.forEach((month, monthVersion) -> {
+            List<MonthlyRollup> rollups = List.copyOf(months.getOrDefault(month, List.of()));
+            cache.put(new Key(userId, month), new Entry(monthVersion, userVersion, rollups));
+            months.put(month, rollups);
+        });
+        return months;
+    }
+
+    private boolean current(Long userId, YearMonth month, Entry entry) {
+        return entry.monthVersion() == monthVersions.get(monthStripe(userId, month))
+            && entry.userVersion() == userVersions.get(userStripe(userId));
+    }
+
+    private static void afterCommit(Runnable invalidate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate.run();
+            }
+        });
+    }
+
+    private static int monthStripe(Long userId, YearMonth month) {
+        // The yyyymm key, not YearMonth.hashCode: that shifts the month above the bits kept here, so every
+        // month of a year would share a stripe. Keys within any ten-year span differ by less than STRIPES,
+        // so a user's months in such a span never share one (the gap at a year end, 202412 -> 202501, is 89)
+        return Math.floorMod(31 * userId.hashCode() + MonthlyRollup.key(month), STRIPES);
+    }
+
+    private static int userStripe(Long userId) {
+        return Math.floorMod(userId.hashCode(), STRIPES);
+    }
+}
@@ -0,0 +1,89 @@
+package com.sydney.uni.backend.services;
+
+import com.sydney.uni.backend.dto.BudgetDto;
+import com.sydney.uni.backend.dto.DashboardBootstrapDto;
+import com.sydney.uni.backend.dto.DashboardStatsDto;
+import com.sydney.uni.backend.dto.TransactionDto;
+import com.sydney.uni.backend.entity.*;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.repository.BudgetRepository;
+import com.sydney.uni.backend.repository.SaveGoalRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Builds the post-login dashboard (stats, recent transactions, budgets with spending and the save goal)
+ * in one read-only transaction. Accounts, budgets, the save goal and the two months of rollups are each
+ * read once and shared between the sections, instead of every endpoint reloading them.
+ */
+@Service
+public class DashboardBootstrapService {
+
+    private final AccountRepository accountRepository;
+    private final BudgetRepository budgetRepository;
+    private final SaveGoalRepository saveGoalRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final DashboardService dashboardService;
+
+    public DashboardBootstrapService(AccountRepository accountRepository,
+                                     BudgetRepository budgetRepository,
+                                     SaveGoalRepository saveGoalRepository,
+                                     MonthlyRollupService monthlyRollupService,
+                                     DashboardService dashboardService) {
+        this.accountRepository = accountRepository;
+        this.budgetRepository = budgetRepository;
+        this.saveGoalRepository = saveGoalRepository;
+        this.monthlyRollupService = monthlyRollupService;
+        this.dashboardService = dashboardService;
+    }
+
+    @Transactional(readOnly = true)
+    public DashboardBootstrapDto getBootstrap(Long userId, int transactionLimit) {
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth lastMonth = currentMonth.minusMonths(1);
+
+        List<Account> accounts = accountRepository.findByUserId(userId);
+        List<Budget> budgets = budgetRepository.findByUserId(userId);
+        SaveGoal saveGoal = saveGoalRepository.findByUserId(userId).orElse(null);
+
+        // One rollup read covers both spending windows and every budget's spend this month
+        List<MonthlyRollup> rollups = monthlyRollupService.getRollups(userId, lastMonth, currentMonth);
+        int currentKey = MonthlyRollup.key(currentMonth);
+        long monthlySpendingCents = 0;
+        long lastMonthSpendingCents = 0;
+        long[] categorySpendingCents = new long[ExpenseCategory.values().length];
+        for (MonthlyRollup rollup : rollups) {
+            if (rollup.getType() != RollupType.OUT) {
+                continue;
+            }
+            if (rollup.getYearMonth() != currentKey) {
+                lastMonthSpendingCents += rollup.getTotalCents();
+                continue;
+            }
+            monthlySpendingCents += rollup.getTotalCents();
+            if (rollup.getCategory() != null) {
+                categorySpendingCents[rollup.getCategory().ordinal()] += rollup.getTotalCents();
+            }
+        }
+
+        DashboardStatsDto stats = DashboardService.buildStats(
+            DashboardService.balanceCents(accounts),
+            DashboardService.savedCents(accounts),
+            monthlySpendingCents,
+            lastMonthSpendingCents,
+            DashboardService.monthlyBudgetCents(budgets),
+            saveGoal != null ? saveGoal.getTargetAmountCents() : null);
+
+        List<BudgetDto> budgetDtos = budgets.stream()
+            .map(budget -> BudgetService.toBudgetDto(budget, BudgetService.expenseCategory(budget.getCategory())
+                .map(category -> categorySpendingCents[category.ordinal()])
+                .orElse(0L)))
+            .toList();
+
+        List<TransactionDto> transactions = dashboardService.getRecentTransactions(userId, transactionLimit);
+        return new DashboardBootstrapDto(stats, transactions, budgetDtos, saveGoal);
+    }
+}
@@ -0,0 +1,197 @@
+package com.sydney.uni.backend.services;
+
+import com.sydney.uni.backend.dto.DashboardDeltaDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user Server-Sent Events stream of dashboard deltas. Emitters are async requests, so an idle
+ * subscriber holds a socket and a few objects but no thread. Deltas are sent after commit on a small
+ * sender pool so a slow client never delays the writer. If the pool falls behind, the user's streams are
+ * closed instead of silently dropping a delta; clients reload the dashboard when they reconnect.
+ * Subscribers are local to this instance, so writes made on another instance are not streamed.
+ */
+@Component
+public class DashboardEventStream implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardEventStream.class);
+
+    public static final String DELTA_EVENT = "delta";
+
+    private static final int HEARTBEAT_BATCH_USERS = 100;
+
+    private final DashboardService dashboardService;
+    private final Duration timeout;
+    private final int maxStreamsPerUser;
+    private final ExecutorService sender;
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    @Autowired
+    public DashboardEventStream(DashboardService dashboardService,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.stream.timeout:30m}") Duration timeout,
+                                @Value("${app.stream.max-per-user:5}") int maxStreamsPerUser,
+                                @Value("${app.stream.send-queue-capacity:10000}") int sendQueueCapacity) {
+        this(dashboardService, meterRegistry, timeout, maxStreamsPerUser, senderPool(sendQueueCapacity));
+    }
+
+    public DashboardEventStream(DashboardService dashboardService, MeterRegistry meterRegistry, Duration timeout,
+                                int maxStreamsPerUser, ExecutorService sender) {
+        this.dashboardService = dashboardService;
+        this.timeout = timeout;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+        this.sender = sender;
+        Gauge.builder("dashboard.stream.subscribers", subscriberCount, AtomicInteger::get)
+            .description("Open dashboard event streams")
+            .register(meterRegistry);
+    }
+
+    private static ExecutorService senderPool(int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dashboard-stream-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity), threadFactory);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> unsubscribe(userId, emitter));
+        emitter.onTimeout(() -> unsubscribe(userId, emitter));
+        emitter.onError(e -> unsubscribe(userId, emitter));
+
+        // The oldest streams over the per-user cap are closed outside compute: completing re-enters unsubscribe
+        List<SseEmitter> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, emitters) -> {
+            List<SseEmitter> streams = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            streams.add(emitter);
+            subscriberCount.incrementAndGet();
+            while (streams.size() > maxStreamsPerUser) {
+                evicted.add(streams.remove(0));
+                subscriberCount.decrementAndGet();
+            }
+            return streams;
+        });
+        evicted.forEach(SseEmitter::complete);
+
+        // A comment commits the response so the client sees the stream open straight away
+        send(userId, emitter, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void unsubscribe(Long userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(userId, (id, streams) -> {
+            if (streams.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    // After commit, so subscribers never see a change that was rolled back
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountDelta(AccountDeltaEvent event) {
+        List<SseEmitter> streams = subscribers.get(event.userId());
+        if (streams == null) {
+            return;
+        }
+
+        DashboardDeltaDto delta = new DashboardDeltaDto(
+            event.change().name(),
+            event.balanceDeltaCents(),
+            event.savedDeltaCents(),
+            event.monthSpendingDeltaCents(),
+            event.transaction() != null ? dashboardService.convertToTransactionDto(event.transaction()) : null);
+        String id = Long.toString(eventIds.incrementAndGet());
+        try {
+            sender.execute(() -> {
+                for (SseEmitter emitter : streams) {
+                    send(event.userId(), emitter, SseEmitter.event().id(id).name(DELTA_EVENT)
+                        .data(delta, MediaType.APPLICATION_JSON));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Dashboard stream sender is saturated; closing {} stream(s) of user {}", streams.size(),
+                event.userId());
+            streams.forEach(SseEmitter::complete);
+        }
+    }
+
+    // Keeps idle streams alive through proxies and finds connections that went away without closing.
+    // Sent on the sender pool, in batches of users, so a client that stops reading stalls one sender
+    // thread rather than the scheduler shared by every @Scheduled job.
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-millis:30000}")
+    public void heartbeat() {
+        List<Map.Entry<Long, List<SseEmitter>>> batch = new ArrayList<>();
+        for (Map.Entry<Long, List<SseEmitter>> entry : subscribers.entrySet()) {
+            batch.add(entry);
+            if (batch.size() == HEARTBEAT_BATCH_USERS) {
+                sendHeartbeats(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            sendHeartbeats(batch);
+        }
+    }
+
+    private void sendHeartbeats(List<Map.Entry<Long, List<SseEmitter>>> batch) {
+        try {
+            sender.execute(() -> batch.forEach(entry -> {
+                for (SseEmitter emitter : entry.getValue()) {
+                    send(entry.getKey(), emitter, SseEmitter.event().comment("heartbeat"));
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            log.warn("Dashboard stream sender is saturated; closing the streams of {} user(s) awaiting a heartbeat",
+                batch.size());
+            batch.forEach(entry -> entry.getValue().forEach(SseEmitter::complete));
+        }
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the stream already completed; the container reports the error itself
+            unsubscribe(userId, emitter);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+        subscribers.values().forEach(streams -> streams.forEach(SseEmitter::complete));
+    }
+}
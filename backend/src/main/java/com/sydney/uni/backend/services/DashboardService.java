@@ -1,80 +1,168 @@
 package com.sydney.uni.backend.services;
 
 import com.sydney.uni.backend.dto.DashboardStatsDto;
+import com.sydney.uni.backend.dto.DashboardTotals;
 import com.sydney.uni.backend.dto.TransactionDto;
 import com.sydney.uni.backend.entity.*;
 import com.sydney.uni.backend.repository.*;
+import com.sydney.uni.backend.utils.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Future;
 
 @Service
 public class DashboardService {
 
+    private static final int MAX_RECENT_TRANSACTIONS = 50;
+
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final BudgetRepository budgetRepository;
     private final SaveGoalRepository saveGoalRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final QueryMode queryMode;
+    private final ParallelReads parallelReads;
+
+    /**
+     * How dashboard stats are read: one CTE statement over the aggregate tables, one repository call per
+     * figure (kept for comparison and as a fallback for databases without CTE support), or the same
+     * repository calls issued concurrently so latency is the slowest read rather than the sum of them.
+     */
+    public enum QueryMode {
+        CTE,
+        REPOSITORIES,
+        PARALLEL
+    }
 
     public DashboardService(AccountRepository accountRepository,
                            TransactionRepository transactionRepository,
                            BudgetRepository budgetRepository,
-                           SaveGoalRepository saveGoalRepository) {
+                           SaveGoalRepository saveGoalRepository,
+                           MonthlyRollupService monthlyRollupService,
+                           @Value("${app.dashboard.query-mode:CTE}") QueryMode queryMode,
+                           ParallelReads parallelReads) {
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
         this.budgetRepository = budgetRepository;
         this.saveGoalRepository = saveGoalRepository;
+        this.monthlyRollupService = monthlyRollupService;
+        this.queryMode = queryMode;
+        this.parallelReads = parallelReads;
     }
 
+    // Not @Transactional: in PARALLEL mode the request thread must not pin a connection while its reads
+    // run on others, so each mode opens its own read-only transactions
     public DashboardStatsDto getDashboardStats(Long userId) {
-        DashboardStatsDto stats = new DashboardStatsDto();
+        YearMonth currentMonth = YearMonth.now();
+        return switch (queryMode) {
+            case CTE -> parallelReads.inReadOnlyTransaction(() -> getDashboardStatsFromTotals(userId, currentMonth));
+            case REPOSITORIES -> parallelReads.inReadOnlyTransaction(
+                () -> getDashboardStatsFromRepositories(userId, currentMonth));
+            case PARALLEL -> getDashboardStatsInParallel(userId, currentMonth);
+        };
+    }
 
+    private DashboardStatsDto getDashboardStatsFromTotals(Long userId, YearMonth currentMonth) {
+        // One CTE statement instead of a round trip per repository
+        DashboardTotals totals = accountRepository.findDashboardTotals(
+            userId, MonthlyRollup.key(currentMonth), MonthlyRollup.key(currentMonth.minusMonths(1)));
+        return buildStats(
+            totals.getBalanceCents(),
+            totals.getSavedCents(),
+            totals.getMonthSpendingCents(),
+            totals.getLastMonthSpendingCents(),
+            totals.getMonthlyBudgetCount() > 0 ? totals.getMonthlyBudgetCents() : null,
+            totals.getSaveGoalCount() > 0 ? totals.getSaveGoalTargetCents() : null);
+    }
+
+    private DashboardStatsDto getDashboardStatsFromRepositories(Long userId, YearMonth currentMonth) {
         // Get total balance and saved amount from user's accounts
         List<Account> accounts = accountRepository.findByUserId(userId);
-        Double totalBalance = accounts.stream()
-                .mapToDouble(account -> account.getBalance() != null ? account.getBalance() : 0.0)
-                .sum();
-        stats.setTotalBalance(totalBalance);
-        
-        Double saved = accounts.stream()
-                .mapToDouble(account -> account.getSaved() != null ? account.getSaved() : 0.0)
-                .sum();
-        stats.setSaved(saved);
 
-        // Get current month's spending
-        YearMonth currentMonth = YearMonth.now();
-        LocalDate startOfMonth = currentMonth.atDay(1);
-        LocalDate endOfMonth = currentMonth.atEndOfMonth();
-
-        List<Transaction> monthlyTransactions = transactionRepository.findByAccountUserIdAndDateBetweenAndType(
-                userId, startOfMonth, endOfMonth, TransactionType.OUT);
-        Double monthlySpending = monthlyTransactions.stream()
-                .mapToDouble(transaction -> transaction.getAmount() != null ? transaction.getAmount() : 0.0)
-                .sum();
-        stats.setMonthlySpending(monthlySpending);
-
-        // Get last month's spending for comparison
-        YearMonth lastMonth = currentMonth.minusMonths(1);
-        LocalDate startOfLastMonth = lastMonth.atDay(1);
-        LocalDate endOfLastMonth = lastMonth.atEndOfMonth();
-
-        List<Transaction> lastMonthTransactions = transactionRepository.findByAccountUserIdAndDateBetweenAndType(
-                userId, startOfLastMonth, endOfLastMonth, TransactionType.OUT);
-        Double lastMonthSpending = lastMonthTransactions.stream()
-                .mapToDouble(transaction -> transaction.getAmount() != null ? transaction.getAmount() : 0.0)
-                .sum();
+        // Current and last month's spending from the in-memory counters over the monthly rollup
+        long monthlySpendingCents = monthlyRollupService.getTotal(userId, currentMonth, TransactionType.OUT);
+        long lastMonthSpendingCents = monthlyRollupService.getTotal(userId, currentMonth.minusMonths(1), TransactionType.OUT);
+
+        // Get budget information - sum all monthly budgets
+        Long totalBudgetCents = monthlyBudgetCents(budgetRepository.findByUserId(userId));
+
+        Long goalTargetCents = saveGoalRepository.findByUserId(userId)
+                .map(SaveGoal::getTargetAmountCents)
+                .orElse(null);
+
+        return buildStats(balanceCents(accounts), savedCents(accounts), monthlySpendingCents, lastMonthSpendingCents,
+                totalBudgetCents, goalTargetCents);
+    }
+
+    private DashboardStatsDto getDashboardStatsInParallel(Long userId, YearMonth currentMonth) {
+        // The same five reads as REPOSITORIES, each in its own transaction on the parallel-read pool
+        try (ParallelReads.Batch reads = parallelReads.begin()) {
+            Future<List<Account>> accounts = reads.submit(() -> accountRepository.findByUserId(userId));
+            Future<Long> monthlySpending = reads.submit(
+                () -> monthlyRollupService.getTotal(userId, currentMonth, TransactionType.OUT));
+            Future<Long> lastMonthSpending = reads.submit(
+                () -> monthlyRollupService.getTotal(userId, currentMonth.minusMonths(1), TransactionType.OUT));
+            Future<List<Budget>> budgets = reads.submit(() -> budgetRepository.findByUserId(userId));
+            Future<Optional<SaveGoal>> saveGoal = reads.submit(() -> saveGoalRepository.findByUserId(userId));
+
+            List<Account> userAccounts = reads.get(accounts);
+            return buildStats(balanceCents(userAccounts), savedCents(userAccounts),
+                    reads.get(monthlySpending), reads.get(lastMonthSpending),
+                    monthlyBudgetCents(reads.get(budgets)),
+                    reads.get(saveGoal).map(SaveGoal::getTargetAmountCents).orElse(null));
+        }
+    }
+
+    static long balanceCents(List<Account> accounts) {
+        long total = 0;
+        for (Account account : accounts) {
+            total += account.getBalanceCents();
+        }
+        return total;
+    }
+
+    static long savedCents(List<Account> accounts) {
+        long total = 0;
+        for (Account account : accounts) {
+            total += account.getSavedCents();
+        }
+        return total;
+    }
+
+    // Null when the user has no monthly budget
+    static Long monthlyBudgetCents(List<Budget> budgets) {
+        Long total = null;
+        for (Budget budget : budgets) {
+            if ("monthly".equals(budget.getPeriod())) {
+                total = (total == null ? 0L : total) + budget.getAmountCents();
+            }
+        }
+        return total;
+    }
+
+    // totalBudgetCents is null when the user has no monthly budget, goalTargetCents when there is no save goal
+    static DashboardStatsDto buildStats(long totalBalanceCents, long savedCents,
+                                        long monthlySpendingCents, long lastMonthSpendingCents,
+                                        Long totalBudgetCents, Long goalTargetCents) {
+        DashboardStatsDto stats = new DashboardStatsDto();
+        stats.setTotalBalanceCents(totalBalanceCents);
+        stats.setSavedCents(savedCents);
+        stats.setMonthlySpendingCents(monthlySpendingCents);
 
         // Set last month spending for frontend display
-        stats.setLastMonthSpending(lastMonthSpending);
+        stats.setLastMonthSpendingCents(lastMonthSpendingCents);
         
         // Calculate spending change percentage
-        if (lastMonthSpending > 0) {
-            Double spendingChange = ((monthlySpending - lastMonthSpending) / lastMonthSpending) * 100;
-            stats.setMonthlySpendingChange(spendingChange);
-        } else if (monthlySpending > 0) {
+        if (lastMonthSpendingCents > 0) {
+            stats.setMonthlySpendingChange(
+                Money.percent(monthlySpendingCents - lastMonthSpendingCents, lastMonthSpendingCents));
+        } else if (monthlySpendingCents > 0) {
             // If last month was 0 and this month has spending, it's a 100% increase
             stats.setMonthlySpendingChange(100.0);
         } else {
@@ -82,45 +170,27 @@ public class DashboardService {
             stats.setMonthlySpendingChange(0.0);
         }
 
-        // Get budget information - sum all monthly budgets
-        List<Budget> monthlyBudgets = budgetRepository.findByUserId(userId).stream()
-                .filter(budget -> "monthly".equals(budget.getPeriod()))
-                .toList();
-        
-        if (!monthlyBudgets.isEmpty()) {
-            Double totalBudgetAmount = monthlyBudgets.stream()
-                    .mapToDouble(Budget::getAmount)
-                    .sum();
-            Double budgetUsed = monthlySpending;
-            Double budgetLeft = totalBudgetAmount - budgetUsed;
-            Double budgetUsedPercentage = totalBudgetAmount > 0 ? (budgetUsed / totalBudgetAmount) * 100 : 0.0;
-
-            stats.setBudgetLeft(Math.max(0, budgetLeft));
-            stats.setBudgetUsedPercentage(budgetUsedPercentage);
+        if (totalBudgetCents != null) {
+            long budgetLeftCents = totalBudgetCents - monthlySpendingCents;
+
+            stats.setBudgetLeftCents(Math.max(0, budgetLeftCents));
+            stats.setBudgetUsedPercentage(Money.percent(monthlySpendingCents, totalBudgetCents));
         } else {
-            stats.setBudgetLeft(0.0);
+            stats.setBudgetLeftCents(0);
             stats.setBudgetUsedPercentage(null); // Set to null when no budget is set
         }
 
-        // Get savings goal
-        Optional<SaveGoal> saveGoal = saveGoalRepository.findByUserId(userId);
-        if (saveGoal.isPresent()) {
-            Double targetAmount = saveGoal.get().getTargetAmount();
-            Double savedAmount = accounts.stream()
-                    .mapToDouble(account -> account.getSaved() != null ? account.getSaved() : 0.0)
-                    .sum();
-            
-            stats.setSavingsGoal(targetAmount);
+        if (goalTargetCents != null) {
+            stats.setSavingsGoalCents(goalTargetCents);
             stats.setHasSavingsGoal(true);
             
-            if (targetAmount > 0) {
-                Double progress = (savedAmount / targetAmount) * 100;
-                stats.setSavingsProgress(progress);
+            if (goalTargetCents > 0) {
+                stats.setSavingsProgress(Money.percent(savedCents, goalTargetCents));
             } else {
                 stats.setSavingsProgress(0.0);
             }
         } else {
-            stats.setSavingsGoal(0.0);
+            stats.setSavingsGoalCents(0);
             stats.setSavingsProgress(0.0);
             stats.setHasSavingsGoal(false);
         }
@@ -128,13 +198,16 @@ public class DashboardService {
         return stats;
     }
 
+    @Transactional(readOnly = true)
     public List<TransactionDto> getRecentTransactions(Long userId, int limit) {
-        List<Transaction> transactions = transactionRepository.findTop10ByAccountUserIdOrderByDateDesc(userId);
-        
-        return transactions.stream()
-                .map(this::convertToTransactionDto)
-                .limit(limit)
-                .toList();
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<TransactionDto> transactions = transactionRepository.findRecentByUserId(
+                userId, PageRequest.of(0, Math.min(limit, MAX_RECENT_TRANSACTIONS)));
+        transactions.forEach(this::applyDisplayAttributes);
+        return transactions;
     }
 
     public TransactionDto convertToTransactionDto(Transaction transaction) {
@@ -144,14 +217,19 @@ public class DashboardService {
         dto.setDate(transaction.getDate());
         dto.setExpenseCategory(transaction.getExpenseCategory());
         dto.setDetail(transaction.getDetail());
-        dto.setAmount(transaction.getAmount());
+        dto.setAmountCents(transaction.getAmountCents());
         dto.setNote(transaction.getNote());
+        applyDisplayAttributes(dto);
         
+        return dto;
+    }
+
+    private void applyDisplayAttributes(TransactionDto dto) {
         // Set display name and icon based on category
-        if (transaction.getExpenseCategory() != null) {
-            dto.setCategoryDisplayName(getCategoryDisplayName(transaction.getExpenseCategory()));
-            dto.setIcon(getCategoryIcon(transaction.getExpenseCategory()));
-        } else if (transaction.getType() == TransactionType.IN) {
+        if (dto.getExpenseCategory() != null) {
+            dto.setCategoryDisplayName(getCategoryDisplayName(dto.getExpenseCategory()));
+            dto.setIcon(getCategoryIcon(dto.getExpenseCategory()));
+        } else if (dto.getType() == TransactionType.IN) {
             // For IN transactions (deposits), show "Deposit" instead of "Other"
             dto.setCategoryDisplayName("Deposit");
             dto.setIcon("💰");
@@ -159,8 +237,6 @@ public class DashboardService {
             dto.setCategoryDisplayName("Other");
             dto.setIcon("💰");
         }
-        
-        return dto;
     }
 
     private String getCategoryDisplayName(ExpenseCategory category) {
@@ -0,0 +1,76 @@
+package com.sydney.uni.backend.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sydney.uni.backend.dto.DashboardStatsDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+
+/**
+ * Keeps the last computed dashboard stats per user. An entry is reused only while the user's data version
+ * and the calendar month are unchanged, so any committed write or a month rollover forces a recompute.
+ * Lookups happen outside a transaction, so a hit never touches the connection pool.
+ * Published as cache.* metrics tagged cache=dashboard.
+ */
+@Component
+public class DashboardStatsCache {
+
+    public static final String CACHE_NAME = "dashboard";
+
+    private record Entry(YearMonth month, long version, DashboardStatsDto stats) {
+    }
+
+    private final DashboardService dashboardService;
+    private final UserDataVersions userDataVersions;
+    private final Clock clock;
+    private final Cache<Long, Entry> cache;
+
+    @Autowired
+    public DashboardStatsCache(DashboardService dashboardService,
+                               UserDataVersions userDataVersions,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.cache.dashboard.max-users:10000}") long maxUsers,
+                               @Value("${app.cache.dashboard.ttl:30m}") Duration ttl) {
+        this(dashboardService, userDataVersions, meterRegistry, maxUsers, ttl, Clock.systemDefaultZone());
+    }
+
+    public DashboardStatsCache(DashboardService dashboardService, UserDataVersions userDataVersions,
+                               MeterRegistry meterRegistry, long maxUsers, Duration ttl, Clock clock) {
+        this.dashboardService = dashboardService;
+        this.userDataVersions = userDataVersions;
+        this.clock = clock;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .<Long, Entry>build(), CACHE_NAME);
+    }
+
+    /**
+     * The returned DTO is shared between callers and must not be modified.
+     */
+    public DashboardStatsDto getDashboardStats(Long userId) {
+        // Read the version before computing: a write that commits meanwhile leaves this entry already stale
+        long version = userDataVersions.current(userId);
+        YearMonth month = YearMonth.now(clock);
+
+        Entry cached = cache.getIfPresent(userId);
+        if (cached != null && cached.version() == version && cached.month().equals(month)) {
+            return cached.stats();
+        }
+
+        DashboardStatsDto stats = dashboardService.getDashboardStats(userId);
+        Entry computed = new Entry(month, version, stats);
+        // A slower request must not replace an entry built from newer data
+        cache.asMap().merge(userId, computed,
+            (existing, candidate) -> existing.version() > candidate.version() ? existing : candidate);
+        return stats;
+    }
+}
@@ -2,12 +2,14 @@ package com.sydney.uni.backend.services;
 
 import com.sydney.uni.backend.dto.DepositRequest;
 import com.sydney.uni.backend.entity.Account;
+import com.sydney.uni.backend.entity.LedgerEventType;
 import com.sydney.uni.backend.entity.Transaction;
 import com.sydney.uni.backend.entity.TransactionType;
 import com.sydney.uni.backend.entity.User;
 import com.sydney.uni.backend.repository.AccountRepository;
 import com.sydney.uni.backend.repository.TransactionRepository;
 import com.sydney.uni.backend.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,13 +22,22 @@ public class DepositService {
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final UserRepository userRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final LedgerService ledgerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DepositService(AccountRepository accountRepository,
                          TransactionRepository transactionRepository,
-                         UserRepository userRepository) {
+                         UserRepository userRepository,
+                         MonthlyRollupService monthlyRollupService,
+                         LedgerService ledgerService,
+                         ApplicationEventPublisher eventPublisher) {
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
         this.userRepository = userRepository;
+        this.monthlyRollupService = monthlyRollupService;
+        this.ledgerService = ledgerService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -35,8 +46,8 @@ public class DepositService {
         Account account = findOrCreateAccount(userId);
         
         // Update account balance
-        Double currentBalance = account.getBalance() != null ? account.getBalance() : 0.0;
-        account.setBalance(currentBalance + depositRequest.getAmount());
+        long amountCents = depositRequest.getAmountCents();
+        account.setBalanceCents(account.getBalanceCents() + amountCents);
         
         // Save updated account
         Account savedAccount = accountRepository.save(account);
@@ -44,15 +55,20 @@ public class DepositService {
         // Create transaction record
         Transaction transaction = new Transaction();
         transaction.setType(TransactionType.IN);
-        transaction.setAmount(depositRequest.getAmount());
+        transaction.setAmountCents(amountCents);
         transaction.setDate(LocalDate.now());
         transaction.setDetail("Deposit");
         transaction.setNote(depositRequest.getDescription());
         transaction.setAccount(savedAccount);
+        transaction.setUser(savedAccount.getUser());
         // For IN transactions (deposits), expenseCategory should be null
         transaction.setExpenseCategory(null);
         
-        transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        monthlyRollupService.recordTransaction(savedTransaction);
+        ledgerService.record(savedAccount.getId(), LedgerEventType.DEPOSIT, amountCents, 0, savedTransaction.getId());
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        eventPublisher.publishEvent(AccountDeltaEvent.transactionCreated(userId, savedTransaction));
         
         return savedAccount;
     }
@@ -72,8 +88,8 @@ public class DepositService {
         
         Account newAccount = new Account();
         newAccount.setUser(user);
-        newAccount.setBalance(0.0);
-        newAccount.setSaved(0.0);
+        newAccount.setBalanceCents(0);
+        newAccount.setSavedCents(0);
         
         return accountRepository.save(newAccount);
     }
@@ -1,31 +1,58 @@
 package com.sydney.uni.backend.services;
 
+import com.sydney.uni.backend.dto.ExpenseFilterRequest;
 import com.sydney.uni.backend.dto.ExpenseRequest;
 import com.sydney.uni.backend.entity.Account;
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.LedgerEventType;
 import com.sydney.uni.backend.entity.Transaction;
 import com.sydney.uni.backend.entity.TransactionType;
 import com.sydney.uni.backend.entity.User;
 import com.sydney.uni.backend.repository.AccountRepository;
 import com.sydney.uni.backend.repository.TransactionRepository;
+import com.sydney.uni.backend.repository.TransactionSpecifications;
 import com.sydney.uni.backend.repository.UserRepository;
+import com.sydney.uni.backend.utils.Money;
+import com.sydney.uni.backend.utils.TransactionCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 public class ExpenseService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final UserRepository userRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final LedgerService ledgerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ExpenseService(AccountRepository accountRepository,
                          TransactionRepository transactionRepository,
-                         UserRepository userRepository) {
+                         UserRepository userRepository,
+                         MonthlyRollupService monthlyRollupService,
+                         LedgerService ledgerService,
+                         ApplicationEventPublisher eventPublisher) {
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
         this.userRepository = userRepository;
+        this.monthlyRollupService = monthlyRollupService;
+        this.ledgerService = ledgerService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -34,19 +61,20 @@ public class ExpenseService {
         Account account = findOrCreatePrimaryAccount(userId);
         
         // Check if account has sufficient balance
-        if (account.getBalance() < expenseRequest.getAmount()) {
+        long amountCents = expenseRequest.getAmountCents();
+        if (account.getBalanceCents() < amountCents) {
             throw new RuntimeException("Insufficient balance");
         }
         
         // Update account balance
-        account.setBalance(account.getBalance() - expenseRequest.getAmount());
+        account.setBalanceCents(account.getBalanceCents() - amountCents);
         accountRepository.save(account);
         
         // Create transaction record
         Transaction transaction = new Transaction();
         transaction.setType(TransactionType.OUT);
-        transaction.setAmount(expenseRequest.getAmount());
-        transaction.setDate(expenseRequest.getDate());
+        transaction.setAmountCents(amountCents);
+        transaction.setDate(dateOrToday(expenseRequest));
         
         // Convert string category to ExpenseCategory enum
         com.sydney.uni.backend.entity.ExpenseCategory expenseCategory = convertStringToExpenseCategory(expenseRequest.getCategory());
@@ -54,16 +82,77 @@ public class ExpenseService {
         transaction.setDetail(expenseRequest.getDescription());
         transaction.setNote(expenseRequest.getNotes());
         transaction.setAccount(account);
+        transaction.setUser(account.getUser());
         
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        monthlyRollupService.recordTransaction(savedTransaction);
+        ledgerService.record(account.getId(), LedgerEventType.EXPENSE, -amountCents, 0, savedTransaction.getId());
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        eventPublisher.publishEvent(AccountDeltaEvent.transactionCreated(userId, savedTransaction));
+        return savedTransaction;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Transaction> getUserExpensesPage(Long userId, String cursor, int limit) {
+        // Clamp the page size so a single request can never pull the whole history
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, pageSize);
+
+        if (cursor == null || cursor.isBlank()) {
+            return transactionRepository.findFirstPageByUserIdAndType(userId, TransactionType.OUT, pageable);
+        }
+
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        return transactionRepository.findPageByUserIdAndTypeAfter(
+            userId, TransactionType.OUT, position.getDate(), position.getId(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Transaction> filterExpenses(Long userId, ExpenseFilterRequest filter, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // Unset filters come back as null specifications and are left out of the SQL entirely
+        Specification<Transaction> spec = Specification.where(TransactionSpecifications.ownedBy(userId))
+            .and(TransactionSpecifications.hasType(filter.getType()))
+            .and(TransactionSpecifications.inCategory(resolveCategory(filter.getCategory())))
+            .and(TransactionSpecifications.onOrAfter(filter.getFrom()))
+            .and(TransactionSpecifications.onOrBefore(filter.getTo()))
+            .and(TransactionSpecifications.amountAtLeast(toCents(filter.getMinAmount())))
+            .and(TransactionSpecifications.amountAtMost(toCents(filter.getMaxAmount())));
+        if (cursor != null && !cursor.isBlank()) {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            spec = spec.and(TransactionSpecifications.after(position.getDate(), position.getId()));
+        }
+
+        // One extra row tells whether another page exists, without a COUNT query
+        List<Transaction> rows = transactionRepository.findBy(spec,
+            query -> query.sortBy(TransactionSpecifications.NEWEST_FIRST).limit(pageSize + 1).all());
+        boolean hasNext = rows.size() > pageSize;
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageSize) : rows, PageRequest.of(0, pageSize), hasNext);
+    }
+
+    private Long toCents(BigDecimal amount) {
+        return amount == null ? null : Money.toCents(amount);
     }
 
-    public List<Transaction> getUserExpenses(Long userId) {
-        return transactionRepository.findByAccountUserIdAndTypeOrderByDateDesc(userId, TransactionType.OUT);
+    private ExpenseCategory resolveCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        ExpenseCategory byLabel = convertStringToExpenseCategory(category);
+        if (byLabel != null) {
+            return byLabel;
+        }
+        try {
+            return ExpenseCategory.valueOf(category.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown category: " + category);
+        }
     }
 
+    @Transactional(readOnly = true)
     public Transaction getExpenseById(Long expenseId, Long userId) {
-        Transaction transaction = transactionRepository.findById(expenseId)
+        Transaction transaction = transactionRepository.findWithAccountById(expenseId)
             .orElseThrow(() -> new RuntimeException("Expense not found"));
         
         // Check if the transaction belongs to the user
@@ -79,27 +168,40 @@ public class ExpenseService {
         Transaction transaction = getExpenseById(expenseId, userId);
         
         // Calculate the difference in amount
-        double oldAmount = transaction.getAmount();
-        double newAmount = expenseRequest.getAmount();
-        double difference = newAmount - oldAmount;
+        long oldAmountCents = transaction.getAmountCents();
+        long newAmountCents = expenseRequest.getAmountCents();
+        long difference = newAmountCents - oldAmountCents;
         
         // Update account balance
         Account account = transaction.getAccount();
-        if (difference > 0 && account.getBalance() < difference) {
+        if (difference > 0 && account.getBalanceCents() < difference) {
             throw new RuntimeException("Insufficient balance for the increase");
         }
         
-        account.setBalance(account.getBalance() - difference);
+        account.setBalanceCents(account.getBalanceCents() - difference);
         accountRepository.save(account);
+        ledgerService.record(account.getId(), LedgerEventType.EXPENSE_EDIT, -difference, 0, transaction.getId());
+        
+        // Take the old amount, date and category out of the rollup before they change
+        monthlyRollupService.reverseTransaction(transaction);
+        long oldMonthSpendingCents = AccountDeltaEvent.monthSpendingCents(
+            transaction.getType(), oldAmountCents, transaction.getDate());
         
         // Update transaction
-        transaction.setAmount(expenseRequest.getAmount());
-        transaction.setDate(expenseRequest.getDate());
+        transaction.setAmountCents(newAmountCents);
+        transaction.setDate(dateOrToday(expenseRequest));
         transaction.setDetail(expenseRequest.getDescription());
         transaction.setNote(expenseRequest.getNotes());
         transaction.setExpenseCategory(convertStringToExpenseCategory(expenseRequest.getCategory()));
         
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        monthlyRollupService.recordTransaction(savedTransaction);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        long newMonthSpendingCents = AccountDeltaEvent.monthSpendingCents(
+            savedTransaction.getType(), newAmountCents, savedTransaction.getDate());
+        eventPublisher.publishEvent(new AccountDeltaEvent(userId, AccountDeltaEvent.Change.TRANSACTION_UPDATED,
+            -difference, 0, newMonthSpendingCents - oldMonthSpendingCents, savedTransaction));
+        return savedTransaction;
     }
 
     @Transactional
@@ -108,11 +210,18 @@ public class ExpenseService {
         
         // Refund the amount to account balance
         Account account = transaction.getAccount();
-        account.setBalance(account.getBalance() + transaction.getAmount());
+        account.setBalanceCents(account.getBalanceCents() + transaction.getAmountCents());
         accountRepository.save(account);
+        ledgerService.record(account.getId(), LedgerEventType.EXPENSE_DELETE, transaction.getAmountCents(), 0, transaction.getId());
+        monthlyRollupService.reverseTransaction(transaction);
         
         // Delete the transaction
         transactionRepository.delete(transaction);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        eventPublisher.publishEvent(new AccountDeltaEvent(userId, AccountDeltaEvent.Change.TRANSACTION_DELETED,
+            transaction.getAmountCents(), 0,
+            -AccountDeltaEvent.monthSpendingCents(transaction.getType(), transaction.getAmountCents(), transaction.getDate()),
+            transaction));
     }
 
     private Account findOrCreatePrimaryAccount(Long userId) {
@@ -128,8 +237,8 @@ public class ExpenseService {
         
         Account defaultAccount = new Account();
         defaultAccount.setUser(user);
-        defaultAccount.setBalance(0.0);
-        defaultAccount.setSaved(0.0);
+        defaultAccount.setBalanceCents(0);
+        defaultAccount.setSavedCents(0);
         
         return accountRepository.save(defaultAccount);
     }
@@ -161,4 +270,9 @@ public class ExpenseService {
                 return null; // Unknown category
         }
     }
+
+    // Transactions are partitioned by date on Postgres, so the column cannot be left empty
+    private static LocalDate dateOrToday(ExpenseRequest expenseRequest) {
+        return expenseRequest.getDate() != null ? expenseRequest.getDate() : LocalDate.now();
+    }
 }
@@ -0,0 +1,26 @@
+package com.sydney.uni.backend.services;
+
+/**
+ * An import stopped part-way: every batch before the failing one is committed. Sending the same file
+ * again with {@code resumeFrom} set to {@link #getResumeFrom()} skips the rows already imported.
+ */
+public class ImportInterruptedException extends RuntimeException {
+
+    private final long imported;
+    private final long resumeFrom;
+
+    public ImportInterruptedException(long imported, long resumeFrom, Throwable cause) {
+        super("Import stopped after " + imported + " rows: " + cause.getMessage(), cause);
+        this.imported = imported;
+        this.resumeFrom = resumeFrom;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    // Data rows of the file (malformed ones included) already handled by committed batches
+    public long getResumeFrom() {
+        return resumeFrom;
+    }
+}
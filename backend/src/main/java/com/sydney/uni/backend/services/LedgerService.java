@@ -0,0 +1,164 @@
+package com.sydney.uni.backend.services;
+
+import com.sydney.uni.backend.dto.LedgerBalanceDto;
+import com.sydney.uni.backend.dto.LedgerTotals;
+import com.sydney.uni.backend.entity.Account;
+import com.sydney.uni.backend.entity.BalanceSnapshot;
+import com.sydney.uni.backend.entity.LedgerEntry;
+import com.sydney.uni.backend.entity.LedgerEventType;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.repository.BalanceSnapshotRepository;
+import com.sydney.uni.backend.repository.LedgerEntryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Append-only ledger of balance-affecting events with a per-account snapshot every {@link #SNAPSHOT_INTERVAL}
+ * entries. A balance, current or historical, is the nearest snapshot plus the entries after it, so no query
+ * ever reads more than one interval of entries.
+ */
+@Service
+public class LedgerService {
+
+    public static final int SNAPSHOT_INTERVAL = 100;
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final AccountRepository accountRepository;
+
+    public LedgerService(LedgerEntryRepository ledgerEntryRepository,
+                         BalanceSnapshotRepository balanceSnapshotRepository,
+                         AccountRepository accountRepository) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.accountRepository = accountRepository;
+    }
+
+    /**
+     * Appends an entry for a change the caller has already applied to the account in this transaction.
+     */
+    @Transactional
+    public LedgerEntry record(Long accountId, LedgerEventType eventType, long balanceDeltaCents, long savedDeltaCents,
+                              Long transactionId) {
+        // The account row lock orders appends per account, so entry_seq follows commit order
+        accountRepository.lockById(accountId)
+            .orElseThrow(() -> new RuntimeException("Account not found"));
+        long lastSeq = ledgerEntryRepository.findLastEntrySeq(accountId);
+
+        if (lastSeq == 0 && eventType != LedgerEventType.OPENING) {
+            // First entry for an account that predates the ledger: carry over what it held before this change
+            LedgerTotals stored = accountRepository.findStoredBalance(accountId);
+            append(accountId, ++lastSeq, LedgerEventType.OPENING,
+                stored.balanceCents() - balanceDeltaCents, stored.savedCents() - savedDeltaCents, null);
+        }
+        return append(accountId, lastSeq + 1, eventType, balanceDeltaCents, savedDeltaCents, transactionId);
+    }
+
+    /**
+     * Starts the ledger of an account that has none yet with its stored balance. No-op once it has entries.
+     */
+    @Transactional
+    public boolean open(Long accountId) {
+        accountRepository.lockById(accountId)
+            .orElseThrow(() -> new RuntimeException("Account not found"));
+        if (ledgerEntryRepository.existsByAccountId(accountId)) {
+            return false;
+        }
+        LedgerTotals stored = accountRepository.findStoredBalance(accountId);
+        append(accountId, 1, LedgerEventType.OPENING, stored.balanceCents(), stored.savedCents(), null);
+        return true;
+    }
+
+    // Latest snapshot plus every entry after it
+    @Transactional(readOnly = true)
+    public LedgerTotals getCurrentBalance(Long accountId) {
+        Optional<BalanceSnapshot> snapshot = balanceSnapshotRepository.findFirstByAccountIdOrderByEntrySeqDesc(accountId);
+        LedgerTotals tail = ledgerEntryRepository.sumRange(accountId, afterSeq(snapshot), Long.MAX_VALUE);
+        return plus(snapshot, tail);
+    }
+
+    // Latest snapshot taken at or before the given time plus the entries after it up to that time
+    @Transactional(readOnly = true)
+    public LedgerTotals getBalanceAt(Long accountId, LocalDateTime at) {
+        Optional<BalanceSnapshot> snapshot =
+            balanceSnapshotRepository.findFirstByAccountIdAndAsOfLessThanEqualOrderByEntrySeqDesc(accountId, at);
+        LedgerTotals tail = ledgerEntryRepository.sumAfterUntil(accountId, afterSeq(snapshot), at);
+        return plus(snapshot, tail);
+    }
+
+    @Transactional(readOnly = true)
+    public LedgerBalanceDto getUserBalance(Long userId, LocalDateTime at) {
+        List<Account> accounts = accountRepository.findByUserId(userId);
+        if (accounts.isEmpty()) {
+            throw new RuntimeException("No account found for user");
+        }
+
+        long balanceCents = 0;
+        long savedCents = 0;
+        long replayed = 0;
+        for (Account account : accounts) {
+            LedgerTotals totals = at == null ? getCurrentBalance(account.getId()) : getBalanceAt(account.getId(), at);
+            balanceCents += totals.balanceCents();
+            savedCents += totals.savedCents();
+            replayed += totals.entries();
+        }
+
+        LedgerBalanceDto dto = new LedgerBalanceDto();
+        dto.setBalanceCents(balanceCents);
+        dto.setSavedCents(savedCents);
+        dto.setAsOf(at != null ? at : LocalDateTime.now());
+        dto.setReplayedEntries(replayed);
+        if (at == null) {
+            // Stored values alongside the ledger's, so drift shows up as a difference
+            dto.setStoredBalanceCents(accounts.stream().mapToLong(Account::getBalanceCents).sum());
+            dto.setStoredSavedCents(accounts.stream().mapToLong(Account::getSavedCents).sum());
+        }
+        return dto;
+    }
+
+    private LedgerEntry append(Long accountId, long entrySeq, LedgerEventType eventType, long balanceDeltaCents,
+                               long savedDeltaCents, Long transactionId) {
+        LedgerEntry entry = new LedgerEntry();
+        entry.setAccountId(accountId);
+        entry.setEntrySeq(entrySeq);
+        entry.setEventType(eventType);
+        entry.setBalanceDeltaCents(balanceDeltaCents);
+        entry.setSavedDeltaCents(savedDeltaCents);
+        entry.setTransactionId(transactionId);
+        entry.setOccurredAt(LocalDateTime.now());
+        LedgerEntry saved = ledgerEntryRepository.save(entry);
+
+        if (entrySeq % SNAPSHOT_INTERVAL == 0) {
+            takeSnapshot(saved);
+        }
+        return saved;
+    }
+
+    private void takeSnapshot(LedgerEntry last) {
+        Long accountId = last.getAccountId();
+        Optional<BalanceSnapshot> previous = balanceSnapshotRepository.findFirstByAccountIdOrderByEntrySeqDesc(accountId);
+        LedgerTotals totals = plus(previous, ledgerEntryRepository.sumRange(accountId, afterSeq(previous), last.getEntrySeq()));
+
+        BalanceSnapshot snapshot = new BalanceSnapshot();
+        snapshot.setAccountId(accountId);
+        snapshot.setEntrySeq(last.getEntrySeq());
+        snapshot.setBalanceCents(totals.balanceCents());
+        snapshot.setSavedCents(totals.savedCents());
+        snapshot.setAsOf(last.getOccurredAt());
+        balanceSnapshotRepository.save(snapshot);
+    }
+
+    private static long afterSeq(Optional<BalanceSnapshot> snapshot) {
+        return snapshot.map(BalanceSnapshot::getEntrySeq).orElse(0L);
+    }
+
+    private static LedgerTotals plus(Optional<BalanceSnapshot> snapshot, LedgerTotals tail) {
+        long balanceCents = snapshot.map(BalanceSnapshot::getBalanceCents).orElse(0L) + tail.balanceCents();
+        long savedCents = snapshot.map(BalanceSnapshot::getSavedCents).orElse(0L) + tail.savedCents();
+        return new LedgerTotals(balanceCents, savedCents, tail.entries(), tail.lastEntrySeq());
+    }
+}
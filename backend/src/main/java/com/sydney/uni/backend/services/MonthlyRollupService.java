@@ -0,0 +1,257 @@
+package com.sydney.uni.backend.services;
+
+import com.sydney.uni.backend.dto.CategoryTotal;
+import com.sydney.uni.backend.dto.MonthlySavingTotal;
+import com.sydney.uni.backend.dto.MonthlyTransactionTotal;
+import com.sydney.uni.backend.dto.SavingRollupRow;
+import com.sydney.uni.backend.dto.TransactionRollupRow;
+import com.sydney.uni.backend.entity.*;
+import com.sydney.uni.backend.migration.DatabasePlatform;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.repository.MonthlyRollupRepository;
+import com.sydney.uni.backend.repository.SavingLogRepository;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Maintains monthly_rollup: per user, month, type and category running totals that the dashboard,
+ * budgets and reports read instead of scanning transactions. Writers call the record/reverse methods
+ * inside their own transaction so the rollup commits (or rolls back) together with the change.
+ * Expense increments are mirrored into {@link SpendCounters} after commit, which answer spend lookups,
+ * and every increment invalidates its month in {@link ClosedMonthReports}.
+ */
+@Service
+public class MonthlyRollupService {
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final TransactionRepository transactionRepository;
+    private final SavingLogRepository savingLogRepository;
+    private final AccountRepository accountRepository;
+    private final SpendCounters spendCounters;
+    private final ClosedMonthReports closedMonthReports;
+    private final DatabasePlatform databasePlatform;
+
+    public MonthlyRollupService(MonthlyRollupRepository monthlyRollupRepository,
+                                TransactionRepository transactionRepository,
+                                SavingLogRepository savingLogRepository,
+                                AccountRepository accountRepository,
+                                SpendCounters spendCounters,
+                                ClosedMonthReports closedMonthReports,
+                                DatabasePlatform databasePlatform) {
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.transactionRepository = transactionRepository;
+        this.savingLogRepository = savingLogRepository;
+        this.accountRepository = accountRepository;
+        this.spendCounters = spendCounters;
+        this.closedMonthReports = closedMonthReports;
+        this.databasePlatform = databasePlatform;
+    }
+
+    @Transactional
+    public void recordTransaction(Transaction transaction) {
+        applyTransaction(transaction, 1);
+    }
+
+    // Called with the transaction's state before it is changed or deleted
+    @Transactional
+    public void reverseTransaction(Transaction transaction) {
+        applyTransaction(transaction, -1);
+    }
+
+    @Transactional
+    public void recordSaving(SavingLog savingLog) {
+        if (savingLog.getTimestamp() == null || savingLog.getUser() == null) {
+            return;
+        }
+        increment(savingLog.getUser().getId(), YearMonth.from(savingLog.getTimestamp()),
+            RollupType.of(savingLog.getAction()), null, savingLog.getAmountCents(), 1);
+    }
+
+    // Bulk variant for imports: one increment per touched bucket instead of one per row
+    @Transactional
+    public void recordTransactions(Collection<Transaction> transactions) {
+        // {cents, count} per bucket, accumulated in place
+        Map<BucketKey, long[]> buckets = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            Long userId = ownerId(transaction);
+            if (userId == null || transaction.getDate() == null) {
+                continue;
+            }
+            BucketKey key = new BucketKey(userId, YearMonth.from(transaction.getDate()),
+                RollupType.of(transaction.getType()), transaction.getExpenseCategory());
+            long[] sums = buckets.computeIfAbsent(key, k -> new long[2]);
+            sums[0] += transaction.getAmountCents();
+            sums[1]++;
+        }
+        buckets.forEach((key, sums) ->
+            increment(key.userId(), key.month(), key.type(), key.category(), sums[0], sums[1]));
+    }
+
+    // Not transactional: spending is answered from the in-memory counters, which only read on a miss
+    public long getTotal(Long userId, YearMonth month, TransactionType type) {
+        if (type == TransactionType.OUT) {
+            return spendCounters.monthTotal(userId, month);
+        }
+        Long total = monthlyRollupRepository.sumTotal(userId, MonthlyRollup.key(month), RollupType.of(type));
+        return total != null ? total : 0L;
+    }
+
+    public long getCategoryTotal(Long userId, YearMonth month, ExpenseCategory category) {
+        return spendCounters.categoryTotal(userId, month, category);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonthlyRollup> getRollups(Long userId, YearMonth from, YearMonth to) {
+        return monthlyRollupRepository.findByUserIdAndYearMonthBetween(
+            userId, MonthlyRollup.key(from), MonthlyRollup.key(to));
+    }
+
+    public static List<MonthlyTransactionTotal> toTransactionTotals(List<MonthlyRollup> rollups) {
+        Map<String, MonthlyTransactionTotal> totals = new LinkedHashMap<>();
+        for (MonthlyRollup rollup : rollups) {
+            TransactionType type = switch (rollup.getType()) {
+                case IN -> TransactionType.IN;
+                case OUT -> TransactionType.OUT;
+                default -> null;
+            };
+            if (type == null) {
+                continue;
+            }
+            YearMonth month = rollup.toYearMonth();
+            totals.merge(rollup.getYearMonth() + ":" + type,
+                new MonthlyTransactionTotal(month.getYear(), month.getMonthValue(), type, rollup.getTotalCents()),
+                (a, b) -> new MonthlyTransactionTotal(a.year(), a.month(), a.type(), a.totalCents() + b.totalCents()));
+        }
+        return new ArrayList<>(totals.values());
+    }
+
+    public static List<CategoryTotal> toCategoryTotals(List<MonthlyRollup> rollups) {
+        // Indexed by ordinal: a fixed array of primitive sums instead of boxed map merges
+        ExpenseCategory[] categories = ExpenseCategory.values();
+        long[] totals = new long[categories.length];
+        boolean[] seen = new boolean[categories.length];
+        for (MonthlyRollup rollup : rollups) {
+            if (rollup.getType() == RollupType.OUT && rollup.getCategory() != null) {
+                int index = rollup.getCategory().ordinal();
+                totals[index] += rollup.getTotalCents();
+                seen[index] = true;
+            }
+        }
+        List<CategoryTotal> result = new ArrayList<>();
+        for (int i = 0; i < categories.length; i++) {
+            if (seen[i]) {
+                result.add(new CategoryTotal(categories[i], totals[i]));
+            }
+        }
+        return result;
+    }
+
+    public static List<MonthlySavingTotal> toSavingTotals(List<MonthlyRollup> rollups) {
+        List<MonthlySavingTotal> totals = new ArrayList<>();
+        for (MonthlyRollup rollup : rollups) {
+            SavingAction action = switch (rollup.getType()) {
+                case SAVE -> SavingAction.SAVE;
+                case UNSAVE -> SavingAction.UNSAVE;
+                default -> null;
+            };
+            if (action != null) {
+                YearMonth month = rollup.toYearMonth();
+                totals.add(new MonthlySavingTotal(month.getYear(), month.getMonthValue(), action, rollup.getTotalCents()));
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Recomputes a user's rollups from transactions and saving logs. Used for backfill and to repair drift.
+     * Holds the user's account row lock, so a writer that changes the balance cannot interleave between the
+     * delete and the re-insert; any other write only touches rollup rows, whose own row locks order it.
+     */
+    @Transactional
+    public int rebuild(Long userId) {
+        accountRepository.lockByUserId(userId);
+        monthlyRollupRepository.deleteAllForUser(userId);
+        spendCounters.invalidateAfterCommit(userId);
+        closedMonthReports.invalidateUserAfterCommit(userId);
+
+        List<MonthlyRollup> rollups = new ArrayList<>();
+        for (TransactionRollupRow row : transactionRepository.rollupByUserId(userId)) {
+            rollups.add(newRollup(userId, YearMonth.of(row.year(), row.month()), RollupType.of(row.type()),
+                row.category(), row.totalCents(), row.count()));
+        }
+        for (SavingRollupRow row : savingLogRepository.rollupByUserId(userId)) {
+            rollups.add(newRollup(userId, YearMonth.of(row.year(), row.month()), RollupType.of(row.action()),
+                null, row.totalCents(), row.count()));
+        }
+        monthlyRollupRepository.saveAll(rollups);
+        return rollups.size();
+    }
+
+    private void applyTransaction(Transaction transaction, int sign) {
+        Long userId = ownerId(transaction);
+        if (userId == null || transaction.getDate() == null) {
+            return;
+        }
+        increment(userId, YearMonth.from(transaction.getDate()), RollupType.of(transaction.getType()),
+            transaction.getExpenseCategory(), sign * transaction.getAmountCents(), sign);
+    }
+
+    private void increment(Long userId, YearMonth month, RollupType type, ExpenseCategory category,
+                           long amountCents, long count) {
+        // The common case: the bucket exists and is updated in place, with no lock beyond its own row
+        if (monthlyRollupRepository.increment(userId, MonthlyRollup.key(month), type, category, amountCents, count) == 0) {
+            createBucket(userId, month, type, category, amountCents, count);
+        }
+        if (type == RollupType.OUT) {
+            spendCounters.recordAfterCommit(userId, month, category, amountCents);
+        }
+        closedMonthReports.invalidateAfterCommit(userId, month);
+    }
+
+    /**
+     * First write to a bucket. Two writers can both miss it: on Postgres the unique bucket index settles that in
+     * the insert itself. H2 has no such index, so writers creating a bucket queue on the account row lock and
+     * the second one finds the first's row.
+     */
+    private void createBucket(Long userId, YearMonth month, RollupType type, ExpenseCategory category,
+                              long amountCents, long count) {
+        if (databasePlatform.isPostgres()) {
+            monthlyRollupRepository.upsert(userId, MonthlyRollup.key(month), type.name(),
+                category != null ? category.name() : null, amountCents, count);
+            return;
+        }
+        accountRepository.lockByUserId(userId);
+        if (monthlyRollupRepository.increment(userId, MonthlyRollup.key(month), type, category, amountCents, count) == 0) {
+            monthlyRollupRepository.save(newRollup(userId, month, type, category, amountCents, count));
+        }
+    }
+
+    private static MonthlyRollup newRollup(Long userId, YearMonth month, RollupType type, ExpenseCategory category,
+                                           Long totalCents, Long count) {
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setUserId(userId);
+        rollup.setYearMonth(MonthlyRollup.key(month));
+        rollup.setType(type);
+        rollup.setCategory(category);
+        rollup.setTotalCents(totalCents != null ? totalCents : 0L);
+        rollup.setCount(count != null ? count : 0L);
+        return rollup;
+    }
+
+    private static Long ownerId(Transaction transaction) {
+        if (transaction.getUser() != null) {
+            return transaction.getUser().getId();
+        }
+        if (transaction.getAccount() != null && transaction.getAccount().getUser() != null) {
+            return transaction.getAccount().getUser().getId();
+        }
+        return null;
+    }
+
+    private record BucketKey(Long userId, YearMonth month, RollupType type, ExpenseCategory category) {
+    }
+}
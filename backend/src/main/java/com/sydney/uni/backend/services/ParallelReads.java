@@ -0,0 +1,143 @@
+package com.sydney.uni.backend.services;
+
+import com.sydney.uni.backend.utils.CurrentUserHolder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent read-only queries concurrently, each in its own short read-only transaction.
+ * The pool is the bulkhead: at most max-concurrency connections are ever held by fan-out work, which must
+ * stay well below the connection pool size so request threads are never starved. With a replica that is per
+ * pool: a worker on the replica that seeds a cache through PrimaryReads briefly holds a primary connection
+ * as well. When the queue is full the caller runs the read itself, falling back to sequential cost instead
+ * of failing.
+ * Every batch shares one deadline; reads still running when it passes are cancelled.
+ */
+@Component
+public class ParallelReads implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final TransactionOperations readOnlyTransaction;
+    private final Duration deadline;
+
+    @Autowired
+    public ParallelReads(PlatformTransactionManager transactionManager,
+                         @Value("${app.parallel-reads.max-concurrency:4}") int maxConcurrency,
+                         @Value("${app.parallel-reads.queue-capacity:100}") int queueCapacity,
+                         @Value("${app.parallel-reads.deadline:2s}") Duration deadline) {
+        this(boundedExecutor(maxConcurrency, queueCapacity), readOnly(transactionManager), deadline);
+    }
+
+    public ParallelReads(ExecutorService executor, TransactionOperations readOnlyTransaction, Duration deadline) {
+        this.executor = executor;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.deadline = deadline;
+    }
+
+    private static ExecutorService boundedExecutor(int maxConcurrency, int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("parallel-read-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * Runs the read in a read-only transaction on the calling thread.
+     */
+    public <T> T inReadOnlyTransaction(Supplier<T> read) {
+        return readOnlyTransaction.execute(status -> read.get());
+    }
+
+    /**
+     * Starts a batch whose deadline begins now. Close it to cancel whatever is still running.
+     */
+    public Batch begin() {
+        return new Batch(System.nanoTime() + deadline.toNanos());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    public final class Batch implements AutoCloseable {
+
+        private final long deadlineNanos;
+        private final List<Future<?>> submitted = new ArrayList<>();
+
+        private Batch(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public <T> Future<T> submit(Supplier<T> read) {
+            // The replica routing checks the current user for read-your-writes, so the worker reads as the caller
+            Long userId = CurrentUserHolder.get();
+            Future<T> future = executor.submit(() -> {
+                // Restored rather than cleared: a full queue runs the read on the caller's own thread
+                Long previous = CurrentUserHolder.get();
+                CurrentUserHolder.set(userId);
+                try {
+                    return inReadOnlyTransaction(read);
+                } finally {
+                    if (previous != null) {
+                        CurrentUserHolder.set(previous);
+                    } else {
+                        CurrentUserHolder.clear();
+                    }
+                }
+            });
+            submitted.add(future);
+            return future;
+        }
+
+        /**
+         * Waits for the read until the batch deadline and rethrows its failure unchecked.
+         */
+        public <T> T get(Future<T> future) {
+            try {
+                return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                throw new RuntimeException("Read did not finish within " + deadline.toMillis() + " ms", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for read", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        @Override
+        public void close() {
+            for (Future<?> future : submitted) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sydney.uni.backend.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sydney.uni.backend.dto.ReportsDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Computed reports keyed by user, period, reporting date and the user's data version. A write moves the
+ * version on and a new day moves the date on, so stale results are never looked up again; they simply
+ * age out of the size-bounded cache. Hit rate, size and evictions are published as cache.* metrics
+ * tagged cache=reports.
+ */
+@Component
+public class ReportsResultCache {
+
+    public static final String CACHE_NAME = "reports";
+
+    private record Key(Long userId, String period, LocalDate asOfDate, long version) {
+    }
+
+    private final ReportsService reportsService;
+    private final UserDataVersions userDataVersions;
+    private final Clock clock;
+    private final Cache<Key, ReportsDto> cache;
+
+    @Autowired
+    public ReportsResultCache(ReportsService reportsService,
+                              UserDataVersions userDataVersions,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.cache.reports.max-entries:5000}") long maxEntries,
+                              @Value("${app.cache.reports.ttl:30m}") Duration ttl) {
+        this(reportsService, userDataVersions, meterRegistry, maxEntries, ttl, Clock.systemDefaultZone());
+    }
+
+    public ReportsResultCache(ReportsService reportsService, UserDataVersions userDataVersions,
+                              MeterRegistry meterRegistry, long maxEntries, Duration ttl, Clock clock) {
+        this.reportsService = reportsService;
+        this.userDataVersions = userDataVersions;
+        this.clock = clock;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .<Key, ReportsDto>build(), CACHE_NAME);
+    }
+
+    /**
+     * The returned DTO is shared between callers and must not be modified.
+     */
+    public ReportsDto getReportsData(Long userId, String period) {
+        // The version is read before computing, so a write that commits meanwhile lands under a newer key
+        Key key = new Key(userId, ReportsService.canonicalPeriod(period), LocalDate.now(clock),
+            userDataVersions.current(userId));
+        return cache.get(key, k -> reportsService.getReportsData(k.userId(), k.period(), k.asOfDate()));
+    }
+}
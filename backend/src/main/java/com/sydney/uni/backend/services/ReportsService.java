@@ -1,26 +1,28 @@
 package com.sydney.uni.backend.services;
 
 import com.sydney.uni.backend.dto.*;
-import com.sydney.uni.backend.entity.Transaction;
 import com.sydney.uni.backend.entity.Budget;
+import com.sydney.uni.backend.entity.MonthlyRollup;
 import com.sydney.uni.backend.entity.TransactionType;
-import com.sydney.uni.backend.entity.SavingLog;
 import com.sydney.uni.backend.entity.SavingAction;
-import com.sydney.uni.backend.repository.TransactionRepository;
 import com.sydney.uni.backend.repository.BudgetRepository;
-import com.sydney.uni.backend.repository.SavingLogRepository;
+import com.sydney.uni.backend.utils.Money;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 @Service
 public class ReportsService {
 
-    private final TransactionRepository transactionRepository;
+    private static final DateTimeFormatter MONTH_KEY_FORMAT = DateTimeFormatter.ofPattern("MMM", Locale.ENGLISH);
+
     private final BudgetRepository budgetRepository;
-    private final SavingLogRepository savingLogRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final ClosedMonthReports closedMonthReports;
     
     // Category colors mapping
     private final Map<String, String> categoryColors = Map.of(
@@ -35,37 +37,51 @@ public class ReportsService {
         "OTHER", "#95a5a6"
     );
     
-    public ReportsService(TransactionRepository transactionRepository, 
-                         BudgetRepository budgetRepository,
-                         SavingLogRepository savingLogRepository) {
-        this.transactionRepository = transactionRepository;
+    public ReportsService(BudgetRepository budgetRepository,
+                         MonthlyRollupService monthlyRollupService,
+                         ClosedMonthReports closedMonthReports) {
         this.budgetRepository = budgetRepository;
-        this.savingLogRepository = savingLogRepository;
+        this.monthlyRollupService = monthlyRollupService;
+        this.closedMonthReports = closedMonthReports;
     }
     
+    public static final String PERIOD_SIX_MONTHS = "6months";
+    public static final String PERIOD_YEAR = "year";
+
+    /**
+     * Maps any requested period onto the ones actually reported; unknown values fall back to six months.
+     */
+    public static String canonicalPeriod(String period) {
+        return PERIOD_YEAR.equals(period) ? PERIOD_YEAR : PERIOD_SIX_MONTHS;
+    }
+
+    @Transactional(readOnly = true)
     public ReportsDto getReportsData(Long userId, String period) {
-        LocalDate endDate = LocalDate.now();
+        return getReportsData(userId, period, LocalDate.now());
+    }
+
+    @Transactional(readOnly = true)
+    public ReportsDto getReportsData(Long userId, String period, LocalDate asOfDate) {
+        LocalDate endDate = asOfDate;
         LocalDate startDate = calculateStartDate(endDate, period);
         
-        // Get transactions for the period
-        List<Transaction> transactions = transactionRepository.findByUserIdAndDateBetween(
-            userId, startDate, endDate
-        );
+        // Read the pre-aggregated monthly rollups: a handful of rows per month instead of scanning transactions
+        List<MonthlyRollup> rollups = getRollups(userId, YearMonth.from(startDate), YearMonth.from(endDate));
+        List<MonthlyTransactionTotal> monthlyTotals = MonthlyRollupService.toTransactionTotals(rollups);
+        List<CategoryTotal> categoryTotals = MonthlyRollupService.toCategoryTotals(rollups);
+        List<MonthlySavingTotal> savingTotals = MonthlyRollupService.toSavingTotals(rollups);
         
         // Get budgets
         List<Budget> budgets = budgetRepository.findByUserId(userId);
         
-        // Get saving logs for the period
-        List<SavingLog> savingLogs = savingLogRepository.findByUserIdOrderByTimestampDesc(userId);
-        
         // Generate monthly data
-        List<MonthlyDataDto> monthlyData = generateMonthlyData(transactions, savingLogs, startDate, endDate);
+        List<MonthlyDataDto> monthlyData = generateMonthlyData(monthlyTotals, savingTotals, startDate, endDate);
         
         // Generate category expenses
-        List<CategoryExpenseDto> categoryExpenses = generateCategoryExpenses(transactions);
+        List<CategoryExpenseDto> categoryExpenses = generateCategoryExpenses(categoryTotals);
         
         // Generate budget comparison (use selected period)
-        List<BudgetComparisonDto> budgetComparison = generateBudgetComparison(budgets, transactions, startDate, endDate);
+        List<BudgetComparisonDto> budgetComparison = generateBudgetComparison(budgets, categoryTotals, startDate, endDate);
         
         // Generate metrics
         ReportsMetricsDto metrics = generateMetrics(monthlyData);
@@ -73,18 +89,33 @@ public class ReportsService {
         return new ReportsDto(monthlyData, categoryExpenses, budgetComparison, metrics);
     }
     
+    // Months that have ended come from the closed-month cache; only the current month is read live
+    private List<MonthlyRollup> getRollups(Long userId, YearMonth from, YearMonth to) {
+        YearMonth currentMonth = YearMonth.now();
+        List<MonthlyRollup> rollups = new ArrayList<>();
+        if (from.isBefore(currentMonth)) {
+            YearMonth lastClosed = to.isBefore(currentMonth) ? to : currentMonth.minusMonths(1);
+            rollups.addAll(closedMonthReports.getRollups(userId, from, lastClosed));
+        }
+        if (!to.isBefore(currentMonth)) {
+            YearMonth liveFrom = from.isBefore(currentMonth) ? currentMonth : from;
+            rollups.addAll(monthlyRollupService.getRollups(userId, liveFrom, to));
+        }
+        return rollups;
+    }
+
     private LocalDate calculateStartDate(LocalDate endDate, String period) {
-        return switch (period) {
-            case "6months" -> endDate.minusMonths(6).withDayOfMonth(1);
-            case "year" -> endDate.withDayOfYear(1); // Start from January 1st of current year
+        return switch (canonicalPeriod(period)) {
+            case PERIOD_YEAR -> endDate.withDayOfYear(1); // Start from January 1st of current year
             default -> endDate.minusMonths(6).withDayOfMonth(1); // Default to 6 months
         };
     }
     
-    private List<MonthlyDataDto> generateMonthlyData(List<Transaction> transactions, 
-                                                   List<SavingLog> savingLogs,
+    private List<MonthlyDataDto> generateMonthlyData(List<MonthlyTransactionTotal> monthlyTotals, 
+                                                   List<MonthlySavingTotal> savingTotals,
                                                    LocalDate startDate, LocalDate endDate) {
-        Map<String, MonthlyDataDto> monthlyMap = new LinkedHashMap<>();
+        // Month key -> slot in the primitive accumulators below
+        Map<String, Integer> monthIndex = new LinkedHashMap<>();
         
         // Initialize all months in the range - from startDate to endDate
         LocalDate current = startDate.withDayOfMonth(1);
@@ -98,89 +129,82 @@ public class ReportsService {
         }
         
         while (current.isBefore(endMonth) || current.isEqual(endMonth)) {
-            String monthKey = current.format(DateTimeFormatter.ofPattern("MMM", Locale.ENGLISH));
-            monthlyMap.put(monthKey, new MonthlyDataDto(monthKey, 0.0, 0.0, 0.0));
+            monthIndex.putIfAbsent(current.format(MONTH_KEY_FORMAT), monthIndex.size());
             current = current.plusMonths(1);
         }
+        long[] income = new long[monthIndex.size()];
+        long[] expenses = new long[monthIndex.size()];
+        long[] savings = new long[monthIndex.size()];
         
-        // Process transactions
-        for (Transaction transaction : transactions) {
-            String monthKey = transaction.getDate().format(DateTimeFormatter.ofPattern("MMM", Locale.ENGLISH));
-            MonthlyDataDto monthlyData = monthlyMap.get(monthKey);
+        // Process transaction totals
+        for (MonthlyTransactionTotal total : monthlyTotals) {
+            Integer index = monthIndex.get(monthKey(total.year(), total.month()));
             
-            if (monthlyData != null) {
-                if (transaction.getType() == TransactionType.IN) {
-                    monthlyData.setIncome(monthlyData.getIncome() + transaction.getAmount());
+            if (index != null && total.totalCents() != null) {
+                if (total.type() == TransactionType.IN) {
+                    income[index] += total.totalCents();
                 } else {
-                    monthlyData.setExpenses(monthlyData.getExpenses() + transaction.getAmount());
+                    expenses[index] += total.totalCents();
                 }
             }
         }
         
-        // Process saving logs to calculate actual savings
-        for (SavingLog savingLog : savingLogs) {
-            LocalDate logDate = savingLog.getTimestamp().toLocalDate();
-            if (!logDate.isBefore(startDate) && !logDate.isAfter(endDate)) {
-                String monthKey = logDate.format(DateTimeFormatter.ofPattern("MMM", Locale.ENGLISH));
-                MonthlyDataDto monthlyData = monthlyMap.get(monthKey);
-                
-                if (monthlyData != null) {
-                    if (savingLog.getAction() == SavingAction.SAVE) {
-                        monthlyData.setSavings(monthlyData.getSavings() + savingLog.getAmount());
-                    } else if (savingLog.getAction() == SavingAction.UNSAVE) {
-                        monthlyData.setSavings(monthlyData.getSavings() - savingLog.getAmount());
-                    }
+        // Process saving totals to calculate actual savings
+        for (MonthlySavingTotal total : savingTotals) {
+            Integer index = monthIndex.get(monthKey(total.year(), total.month()));
+            
+            if (index != null && total.totalCents() != null) {
+                if (total.action() == SavingAction.SAVE) {
+                    savings[index] += total.totalCents();
+                } else if (total.action() == SavingAction.UNSAVE) {
+                    savings[index] -= total.totalCents();
                 }
             }
         }
         
-        return new ArrayList<>(monthlyMap.values());
+        List<MonthlyDataDto> monthlyData = new ArrayList<>(monthIndex.size());
+        for (Map.Entry<String, Integer> month : monthIndex.entrySet()) {
+            int index = month.getValue();
+            monthlyData.add(new MonthlyDataDto(month.getKey(), income[index], expenses[index], savings[index]));
+        }
+        return monthlyData;
     }
     
-    private List<CategoryExpenseDto> generateCategoryExpenses(List<Transaction> transactions) {
-        Map<String, Double> categoryTotals = new HashMap<>();
-        final double[] totalExpenses = {0.0};
-        
-        // Calculate totals by category
-        for (Transaction transaction : transactions) {
-            if (transaction.getType() == TransactionType.OUT && 
-                transaction.getExpenseCategory() != null) {
-                String category = transaction.getExpenseCategory().name();
-                categoryTotals.merge(category, transaction.getAmount(), Double::sum);
-                totalExpenses[0] += transaction.getAmount();
-            }
+    private String monthKey(int year, int month) {
+        return YearMonth.of(year, month).format(MONTH_KEY_FORMAT);
+    }
+    
+    private List<CategoryExpenseDto> generateCategoryExpenses(List<CategoryTotal> categoryTotals) {
+        long totalExpensesCents = 0;
+        for (CategoryTotal total : categoryTotals) {
+            totalExpensesCents += total.totalCents() != null ? total.totalCents() : 0L;
         }
-        
-        final double finalTotalExpenses = totalExpenses[0];
+        long grandTotalCents = totalExpensesCents;
         
         // Convert to DTOs
-        return categoryTotals.entrySet().stream()
-            .map(entry -> {
-                String category = convertCategoryName(entry.getKey());
-                Double amount = entry.getValue();
-                String color = categoryColors.getOrDefault(entry.getKey(), "#95a5a6");
-                String percentage = finalTotalExpenses > 0 ? 
-                    String.format("%.1f", (amount / finalTotalExpenses) * 100) : "0.0";
+        return categoryTotals.stream()
+            .map(total -> {
+                String categoryKey = total.category().name();
+                String category = convertCategoryName(categoryKey);
+                long amountCents = total.totalCents() != null ? total.totalCents() : 0L;
+                String color = categoryColors.getOrDefault(categoryKey, "#95a5a6");
+                String percentage = grandTotalCents > 0 ? 
+                    String.format("%.1f", Money.percent(amountCents, grandTotalCents)) : "0.0";
                 
-                return new CategoryExpenseDto(category, amount, color, percentage);
+                return new CategoryExpenseDto(category, amountCents, color, percentage);
             })
-            .sorted((a, b) -> Double.compare(b.getAmount(), a.getAmount()))
+            .sorted((a, b) -> Long.compare(b.getAmountCents(), a.getAmountCents()))
             .toList();
     }
     
     private List<BudgetComparisonDto> generateBudgetComparison(List<Budget> budgets, 
-                                                             List<Transaction> transactions,
+                                                             List<CategoryTotal> categoryTotals,
                                                              LocalDate startDate, LocalDate endDate) {
-        Map<String, Double> spentByCategory = new HashMap<>();
-        
-        // Calculate spent amounts by category using enum names for the selected period
-        for (Transaction transaction : transactions) {
-            if (transaction.getType() == TransactionType.OUT && 
-                transaction.getExpenseCategory() != null) {
-                // Use enum name directly to match Budget.category format
-                String category = transaction.getExpenseCategory().name();
-                Double amount = transaction.getAmount();
-                spentByCategory.merge(category, amount, Double::sum);
+        // Spent amounts keyed by enum name to match Budget.category format
+        Map<String, Long> spentByCategory = new HashMap<>();
+        for (CategoryTotal total : categoryTotals) {
+            if (total.totalCents() != null) {
+                spentByCategory.put(total.category().name(), total.totalCents());
             }
         }
         
@@ -194,23 +218,27 @@ public class ReportsService {
             .map(budget -> {
                 String category = convertCategoryName(budget.getCategory());
                 // Budgeted amount for the entire period (monthly budget * number of months)
-                Double budgeted = budget.getAmount() * monthsInPeriod;
+                long budgetedCents = budget.getAmountCents() * monthsInPeriod;
                 // Spent amount for the entire period
-                Double spent = spentByCategory.getOrDefault(budget.getCategory(), 0.0);
-                Double remaining = budgeted - spent;
+                long spentCents = spentByCategory.getOrDefault(budget.getCategory(), 0L);
                 
-                return new BudgetComparisonDto(category, budgeted, spent, remaining);
+                return new BudgetComparisonDto(category, budgetedCents, spentCents, budgetedCents - spentCents);
             })
             .toList();
     }
     
     private ReportsMetricsDto generateMetrics(List<MonthlyDataDto> monthlyData) {
-        double totalIncome = monthlyData.stream().mapToDouble(MonthlyDataDto::getIncome).sum();
-        double totalExpenses = monthlyData.stream().mapToDouble(MonthlyDataDto::getExpenses).sum();
+        long totalIncome = 0;
+        long totalExpenses = 0;
         // Use savings from monthly data (period-specific savings)
-        double totalSavings = monthlyData.stream().mapToDouble(MonthlyDataDto::getSavings).sum();
-        double avgMonthlyExpenses = monthlyData.isEmpty() ? 0.0 : totalExpenses / monthlyData.size();
-        double savingsRate = totalIncome > 0 ? (totalSavings / totalIncome) * 100 : 0.0;
+        long totalSavings = 0;
+        for (MonthlyDataDto month : monthlyData) {
+            totalIncome += month.getIncomeCents();
+            totalExpenses += month.getExpensesCents();
+            totalSavings += month.getSavingsCents();
+        }
+        long avgMonthlyExpenses = monthlyData.isEmpty() ? 0L : Math.round((double) totalExpenses / monthlyData.size());
+        double savingsRate = totalIncome > 0 ? Money.percent(totalSavings, totalIncome) : 0.0;
         
         return new ReportsMetricsDto(totalIncome, totalExpenses, totalSavings, 
                                    avgMonthlyExpenses, savingsRate);
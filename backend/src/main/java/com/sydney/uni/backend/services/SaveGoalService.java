@@ -5,6 +5,7 @@ import com.sydney.uni.backend.entity.SaveGoal;
 import com.sydney.uni.backend.entity.User;
 import com.sydney.uni.backend.repository.SaveGoalRepository;
 import com.sydney.uni.backend.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,10 +16,13 @@ public class SaveGoalService {
 
     private final SaveGoalRepository saveGoalRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SaveGoalService(SaveGoalRepository saveGoalRepository, UserRepository userRepository) {
+    public SaveGoalService(SaveGoalRepository saveGoalRepository, UserRepository userRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.saveGoalRepository = saveGoalRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -33,19 +37,22 @@ public class SaveGoalService {
         if (existingSaveGoal.isPresent()) {
             // Update existing save goal
             saveGoal = existingSaveGoal.get();
-            saveGoal.setTargetAmount(saveGoalRequest.getTargetAmount());
+            saveGoal.setTargetAmountCents(saveGoalRequest.getTargetAmountCents());
             saveGoal.setDescription(saveGoalRequest.getDescription());
         } else {
             // Create new save goal
             saveGoal = new SaveGoal();
             saveGoal.setUser(user);
-            saveGoal.setTargetAmount(saveGoalRequest.getTargetAmount());
+            saveGoal.setTargetAmountCents(saveGoalRequest.getTargetAmountCents());
             saveGoal.setDescription(saveGoalRequest.getDescription());
         }
 
-        return saveGoalRepository.save(saveGoal);
+        SaveGoal saved = saveGoalRepository.save(saveGoal);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        return saved;
     }
 
+    @Transactional(readOnly = true)
     public SaveGoal getSaveGoal(Long userId) {
         Optional<SaveGoal> saveGoal = saveGoalRepository.findByUserId(userId);
         return saveGoal.orElse(null);
@@ -56,10 +63,12 @@ public class SaveGoalService {
         SaveGoal saveGoal = saveGoalRepository.findByUserId(userId)
             .orElseThrow(() -> new RuntimeException("Save goal not found"));
 
-        saveGoal.setTargetAmount(saveGoalRequest.getTargetAmount());
+        saveGoal.setTargetAmountCents(saveGoalRequest.getTargetAmountCents());
         saveGoal.setDescription(saveGoalRequest.getDescription());
 
-        return saveGoalRepository.save(saveGoal);
+        SaveGoal saved = saveGoalRepository.save(saveGoal);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        return saved;
     }
 
     @Transactional
@@ -68,5 +77,6 @@ public class SaveGoalService {
             .orElseThrow(() -> new RuntimeException("Save goal not found"));
 
         saveGoalRepository.delete(saveGoal);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
     }
 }
@@ -3,12 +3,14 @@ package com.sydney.uni.backend.services;
 import com.sydney.uni.backend.dto.SaveMoneyRequest;
 import com.sydney.uni.backend.dto.UnsaveMoneyRequest;
 import com.sydney.uni.backend.entity.Account;
+import com.sydney.uni.backend.entity.LedgerEventType;
 import com.sydney.uni.backend.entity.SavingAction;
 import com.sydney.uni.backend.entity.SavingLog;
 import com.sydney.uni.backend.entity.User;
 import com.sydney.uni.backend.repository.AccountRepository;
 import com.sydney.uni.backend.repository.SavingLogRepository;
 import com.sydney.uni.backend.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,11 +23,19 @@ public class SaveMoneyService {
     private final AccountRepository accountRepository;
     private final SavingLogRepository savingLogRepository;
     private final UserRepository userRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final LedgerService ledgerService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SaveMoneyService(AccountRepository accountRepository, SavingLogRepository savingLogRepository, UserRepository userRepository) {
+    public SaveMoneyService(AccountRepository accountRepository, SavingLogRepository savingLogRepository,
+                            UserRepository userRepository, MonthlyRollupService monthlyRollupService,
+                            LedgerService ledgerService, ApplicationEventPublisher eventPublisher) {
         this.accountRepository = accountRepository;
         this.savingLogRepository = savingLogRepository;
         this.userRepository = userRepository;
+        this.monthlyRollupService = monthlyRollupService;
+        this.ledgerService = ledgerService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -39,14 +49,14 @@ public class SaveMoneyService {
         Account account = userAccounts.get(0); // Use first account
         
         // Check if account has sufficient balance
-        if (account.getBalance() < saveMoneyRequest.getAmount()) {
+        long amountCents = saveMoneyRequest.getAmountCents();
+        if (account.getBalanceCents() < amountCents) {
             throw new RuntimeException("Insufficient balance to save");
         }
         
         // Mark money as saved without reducing balance
         // This is just a way to track how much of the balance is "saved" for goals
-        Double currentSaved = account.getSaved() != null ? account.getSaved() : 0.0;
-        account.setSaved(currentSaved + saveMoneyRequest.getAmount());
+        account.setSavedCents(account.getSavedCents() + amountCents);
         // Note: balance remains unchanged - we're just marking part of it as "saved"
         
         // Save updated account
@@ -58,7 +68,7 @@ public class SaveMoneyService {
         
         SavingLog savingLog = new SavingLog();
         savingLog.setAction(SavingAction.SAVE);
-        savingLog.setAmount(saveMoneyRequest.getAmount());
+        savingLog.setAmountCents(amountCents);
         savingLog.setDescription(saveMoneyRequest.getDescription() != null ? 
             saveMoneyRequest.getDescription() : "Money marked as saved");
         savingLog.setTimestamp(LocalDateTime.now());
@@ -66,6 +76,10 @@ public class SaveMoneyService {
         savingLog.setAccount(savedAccount);
         
         savingLogRepository.save(savingLog);
+        monthlyRollupService.recordSaving(savingLog);
+        ledgerService.record(savedAccount.getId(), LedgerEventType.SAVE, 0, amountCents, null);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        eventPublisher.publishEvent(AccountDeltaEvent.savingsChanged(userId, amountCents));
         
         return savedAccount;
     }
@@ -81,13 +95,13 @@ public class SaveMoneyService {
         Account account = userAccounts.get(0); // Use first account
         
         // Check if account has sufficient saved amount
-        Double currentSaved = account.getSaved() != null ? account.getSaved() : 0.0;
-        if (currentSaved < unsaveMoneyRequest.getAmount()) {
+        long amountCents = unsaveMoneyRequest.getAmountCents();
+        if (account.getSavedCents() < amountCents) {
             throw new RuntimeException("Insufficient saved amount to unsave");
         }
         
         // Unmark money as saved
-        account.setSaved(currentSaved - unsaveMoneyRequest.getAmount());
+        account.setSavedCents(account.getSavedCents() - amountCents);
         
         // Save updated account
         Account savedAccount = accountRepository.save(account);
@@ -98,7 +112,7 @@ public class SaveMoneyService {
         
         SavingLog savingLog = new SavingLog();
         savingLog.setAction(SavingAction.UNSAVE);
-        savingLog.setAmount(unsaveMoneyRequest.getAmount());
+        savingLog.setAmountCents(amountCents);
         savingLog.setDescription(unsaveMoneyRequest.getDescription() != null ? 
             unsaveMoneyRequest.getDescription() : "Money unmarked as saved");
         savingLog.setTimestamp(LocalDateTime.now());
@@ -106,10 +120,15 @@ public class SaveMoneyService {
         savingLog.setAccount(savedAccount);
         
         savingLogRepository.save(savingLog);
+        monthlyRollupService.recordSaving(savingLog);
+        ledgerService.record(savedAccount.getId(), LedgerEventType.UNSAVE, 0, -amountCents, null);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        eventPublisher.publishEvent(AccountDeltaEvent.savingsChanged(userId, -amountCents));
         
         return savedAccount;
     }
 
+    @Transactional(readOnly = true)
     public List<SavingLog> getSavingLogs(Long userId) {
         return savingLogRepository.findByUserIdOrderByTimestampDesc(userId);
     }
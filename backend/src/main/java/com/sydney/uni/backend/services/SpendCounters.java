@@ -0,0 +1,275 @@
+package com.sydney.uni.backend.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sydney.uni.backend.datasource.PrimaryReads;
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.MonthlyRollup;
+import com.sydney.uni.backend.entity.RollupType;
+import com.sydney.uni.backend.repository.MonthlyRollupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory spending per user, month and category, so budget and dashboard lookups don't query
+ * monthly_rollup. A month is seeded from the rollup on first use and then moved by the same increments
+ * MonthlyRollupService writes, applied once their transaction commits. Idle months are evicted; entries
+ * also expire max-age after they were seeded, however often they are written since, because writes made
+ * on another instance never reach this one.
+ * Published as cache.* metrics tagged cache=spend.
+ */
+@Component
+public class SpendCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(SpendCounters.class);
+
+    public static final String CACHE_NAME = "spend";
+
+    private static final int UNCATEGORIZED = ExpenseCategory.values().length;
+    private static final int STRIPES = 64;
+
+    private record Key(Long userId, YearMonth month) {
+    }
+
+    // One adder per category plus one for expenses without a category, so concurrent writers never lock
+    private static final class MonthSpend {
+        private final LongAdder[] cents = new LongAdder[UNCATEGORIZED + 1];
+
+        MonthSpend() {
+            for (int i = 0; i < cents.length; i++) {
+                cents[i] = new LongAdder();
+            }
+        }
+
+        void add(ExpenseCategory category, long amountCents) {
+            cents[slot(category)].add(amountCents);
+        }
+
+        long category(ExpenseCategory category) {
+            return cents[slot(category)].sum();
+        }
+
+        long total() {
+            long total = 0;
+            for (LongAdder adder : cents) {
+                total += adder.sum();
+            }
+            return total;
+        }
+
+        boolean matches(MonthSpend other) {
+            for (int i = 0; i < cents.length; i++) {
+                if (cents[i].sum() != other.cents[i].sum()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int slot(ExpenseCategory category) {
+            return category != null ? category.ordinal() : UNCATEGORIZED;
+        }
+    }
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final PrimaryReads primaryReads;
+    private final int checkSample;
+    private final Cache<Key, MonthSpend> cache;
+    private final Counter drift;
+
+    // Per stripe of users: writes between their rollup increment and the end of their transaction, and
+    // writes finished so far. A seed is kept only if neither moved while it read, so a commit that raced
+    // the read is never lost or counted twice. Users sharing a stripe only cost each other a cache miss.
+    private final AtomicIntegerArray pendingWrites = new AtomicIntegerArray(STRIPES);
+    private final AtomicLongArray finishedWrites = new AtomicLongArray(STRIPES);
+
+    @Autowired
+    public SpendCounters(MonthlyRollupRepository monthlyRollupRepository,
+                         PrimaryReads primaryReads,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.spend-counters.max-entries:50000}") long maxEntries,
+                         @Value("${app.spend-counters.idle-ttl:10m}") Duration idleTtl,
+                         @Value("${app.spend-counters.max-age:30m}") Duration maxAge,
+                         @Value("${app.spend-counters.check-sample:100}") int checkSample) {
+        this(monthlyRollupRepository, primaryReads, meterRegistry, maxEntries, idleTtl, maxAge, checkSample,
+            Ticker.systemTicker());
+    }
+
+    public SpendCounters(MonthlyRollupRepository monthlyRollupRepository, PrimaryReads primaryReads,
+                         MeterRegistry meterRegistry, long maxEntries, Duration idleTtl, Duration maxAge,
+                         int checkSample, Ticker ticker) {
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.primaryReads = primaryReads;
+        this.checkSample = checkSample;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterAccess(idleTtl)
+            .expireAfterWrite(maxAge)
+            .ticker(ticker)
+            .recordStats()
+            .<Key, MonthSpend>build(), CACHE_NAME);
+        this.drift = Counter.builder("spend.counters.drift")
+            .description("Spend counters found out of step with monthly_rollup and dropped")
+            .register(meterRegistry);
+    }
+
+    public long monthTotal(Long userId, YearMonth month) {
+        return get(new Key(userId, month)).total();
+    }
+
+    public long categoryTotal(Long userId, YearMonth month, ExpenseCategory category) {
+        return get(new Key(userId, month)).category(category);
+    }
+
+    /**
+     * Records an expense increment made in the caller's transaction. Counters move only after commit;
+     * a rollback leaves them untouched.
+     */
+    public void recordAfterCommit(Long userId, YearMonth month, ExpenseCategory category, long amountCents) {
+        afterCommit(userId, () -> {
+            // Added in place: replacing the entry would restart max-age, and a month written often would
+            // then never be reseeded. A plain map read also keeps writes out of the hit-rate metrics.
+            MonthSpend spend = cache.asMap().get(new Key(userId, month));
+            if (spend != null) {
+                spend.add(category, amountCents);
+            }
+        });
+    }
+
+    // For bulk rewrites of a user's rollups: every cached month of the user is reseeded once they commit
+    public void invalidateAfterCommit(Long userId) {
+        afterCommit(userId, () -> cache.asMap().keySet().removeIf(key -> key.userId().equals(userId)));
+    }
+
+    /**
+     * Compares a cached month with monthly_rollup and drops it when they disagree. Returns false only for
+     * drift; months that aren't cached, or that a write touched during the check, count as consistent.
+     */
+    public boolean verify(Long userId, YearMonth month) {
+        Key key = new Key(userId, month);
+        MonthSpend cached = cache.getIfPresent(key);
+        if (cached == null) {
+            return true;
+        }
+
+        int stripe = stripe(userId);
+        long finishedBefore = finishedWrites.get(stripe);
+        MonthSpend stored = load(key);
+        if (!quiet(stripe, finishedBefore) || cached.matches(stored)) {
+            return true;
+        }
+
+        log.warn("Spend counters for user {} in {} drifted from monthly_rollup ({} cents cached, {} stored)",
+            userId, month, cached.total(), stored.total());
+        drift.increment();
+        cache.asMap().remove(key, cached);
+        return false;
+    }
+
+    // Checks a sample of cached months, so drift from a missed or doubled increment doesn't live until expiry.
+    // Drawn at random (reservoir sampling) so every cached month gets checked over time, not just the ones
+    // the map happens to iterate first.
+    @Scheduled(fixedDelayString = "${app.spend-counters.check-millis:600000}")
+    public void verifySample() {
+        List<Key> sample = new ArrayList<>(checkSample);
+        int seen = 0;
+        for (Key key : cache.asMap().keySet()) {
+            seen++;
+            if (sample.size() < checkSample) {
+                sample.add(key);
+            } else {
+                int slot = ThreadLocalRandom.current().nextInt(seen);
+                if (slot < checkSample) {
+                    sample.set(slot, key);
+                }
+            }
+        }
+        sample.forEach(key -> verify(key.userId(), key.month()));
+    }
+
+    private MonthSpend get(Key key) {
+        MonthSpend cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(key.userId());
+        long finishedBefore = finishedWrites.get(stripe);
+        MonthSpend seeded = load(key);
+        MonthSpend existing = cache.asMap().putIfAbsent(key, seeded);
+        if (existing != null) {
+            return existing;
+        }
+        // A write that committed around the read may or may not be in it; serve it this once uncached
+        if (!quiet(stripe, finishedBefore)) {
+            cache.asMap().remove(key, seeded);
+        }
+        return seeded;
+    }
+
+    private MonthSpend load(Key key) {
+        MonthSpend spend = new MonthSpend();
+        int yearMonth = MonthlyRollup.key(key.month());
+        // From the primary: a seed from a lagging replica would miss a recent commit until the month expires
+        List<MonthlyRollup> rollups = primaryReads.read(() ->
+            monthlyRollupRepository.findByUserIdAndYearMonthBetween(key.userId(), yearMonth, yearMonth));
+        for (MonthlyRollup rollup : rollups) {
+            if (rollup.getType() == RollupType.OUT) {
+                spend.add(rollup.getCategory(), rollup.getTotalCents());
+            }
+        }
+        return spend;
+    }
+
+    private boolean quiet(int stripe, long finishedBefore) {
+        return pendingWrites.get(stripe) == 0 && finishedWrites.get(stripe) == finishedBefore;
+    }
+
+    private void afterCommit(Long userId, Runnable apply) {
+        int stripe = stripe(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            finishedWrites.incrementAndGet(stripe);
+            return;
+        }
+
+        pendingWrites.incrementAndGet(stripe);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply.run();
+                    }
+                } finally {
+                    // Finished before no longer pending, so a seed checking in between sees one or the other
+                    finishedWrites.incrementAndGet(stripe);
+                    pendingWrites.decrementAndGet(stripe);
+                }
+            }
+        });
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(userId.hashCode(), STRIPES);
+    }
+}
@@ -0,0 +1,98 @@
+package com.sydney.uni.backend.services;
+
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.entity.TransactionType;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import com.sydney.uni.backend.utils.Money;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@Service
+public class TransactionExportService {
+
+    static final String CSV_HEADER = "id,date,type,category,description,amount,notes";
+
+    // Flush to the client every N rows so data starts flowing before the whole export is written
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final TransactionRepository transactionRepository;
+    private final EntityManager entityManager;
+
+    public TransactionExportService(TransactionRepository transactionRepository, EntityManager entityManager) {
+        this.transactionRepository = transactionRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public void writeExpensesCsv(Long userId, OutputStream outputStream) throws IOException {
+        try (Stream<Transaction> rows = transactionRepository.streamByUserIdAndType(userId, TransactionType.OUT)) {
+            writeCsv(rows, outputStream);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeLedgerCsv(Long userId, OutputStream outputStream) throws IOException {
+        try (Stream<Transaction> rows = transactionRepository.streamByUserId(userId)) {
+            writeCsv(rows, outputStream);
+        }
+    }
+
+    private void writeCsv(Stream<Transaction> rows, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        int[] written = {0};
+        try {
+            rows.forEach(transaction -> {
+                try {
+                    writer.write(toCsvLine(transaction));
+                    writer.write('\n');
+                    if (++written[0] % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                // Keep the persistence context from growing with the export
+                entityManager.detach(transaction);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private String toCsvLine(Transaction transaction) {
+        return String.join(",",
+            transaction.getId() != null ? transaction.getId().toString() : "",
+            transaction.getDate() != null ? transaction.getDate().toString() : "",
+            transaction.getType() != null ? transaction.getType().name() : "",
+            transaction.getExpenseCategory() != null ? transaction.getExpenseCategory().name() : "",
+            escape(transaction.getDetail()),
+            Money.format(transaction.getAmountCents()),
+            escape(transaction.getNote()));
+    }
+
+    private static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        // Neutralise spreadsheet formula injection for user-entered text
+        String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0 || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0) {
+            return '"' + safe.replace("\"", "\"\"") + '"';
+        }
+        return safe;
+    }
+}
@@ -0,0 +1,189 @@
+package com.sydney.uni.backend.services;
+
+import com.sydney.uni.backend.dto.ImportResultDto;
+import com.sydney.uni.backend.dto.ImportedTransaction;
+import com.sydney.uni.backend.entity.Account;
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.LedgerEventType;
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.entity.TransactionType;
+import com.sydney.uni.backend.entity.User;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import com.sydney.uni.backend.repository.UserRepository;
+import com.sydney.uni.backend.utils.TransactionFileParser;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class TransactionImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionImportService.class);
+
+    // Rows written per flush; the account balance is settled once per batch, not per row
+    public static final int BATCH_SIZE = 500;
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final LedgerService ledgerService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionImportService(AccountRepository accountRepository,
+                                    TransactionRepository transactionRepository,
+                                    UserRepository userRepository,
+                                    MonthlyRollupService monthlyRollupService,
+                                    LedgerService ledgerService,
+                                    EntityManager entityManager,
+                                    ApplicationEventPublisher eventPublisher,
+                                    TransactionTemplate transactionTemplate) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.userRepository = userRepository;
+        this.monthlyRollupService = monthlyRollupService;
+        this.ledgerService = ledgerService;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Imports a statement in batches of {@link #BATCH_SIZE} rows, each committed in its own transaction, so a
+     * large file never holds one long transaction, the account row lock or an ever-growing undo log. If a
+     * batch fails, the batches before it stay committed and {@link ImportInterruptedException} reports where
+     * to resume; the first {@code resumeFrom} data rows of the file are skipped without being imported.
+     */
+    public ImportResultDto importTransactions(Long userId, String filename, InputStream inputStream,
+                                              long resumeFrom) throws IOException {
+        long started = System.nanoTime();
+        TransactionFileParser parser = TransactionFileParser.open(filename, inputStream);
+        Account account = transactionTemplate.execute(status -> findOrCreateAccount(userId));
+
+        List<Transaction> batch = new ArrayList<>(BATCH_SIZE);
+        long balanceDeltaCents = 0;
+        long rowsRead = 0;
+        long committedRows = resumeFrom;
+        long imported = 0;
+        long skipped = 0;
+        try {
+            while (true) {
+                ImportedTransaction row;
+                try {
+                    row = parser.next();
+                } catch (IllegalArgumentException e) {
+                    if (++rowsRead > resumeFrom) {
+                        skipped++;
+                    }
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+                if (++rowsRead <= resumeFrom) {
+                    continue;
+                }
+
+                batch.add(toTransaction(row, account));
+                balanceDeltaCents += row.type() == TransactionType.IN ? row.amountCents() : -row.amountCents();
+                if (batch.size() == BATCH_SIZE) {
+                    imported += writeBatch(batch, account.getId(), balanceDeltaCents);
+                    committedRows = rowsRead;
+                    balanceDeltaCents = 0;
+                }
+            }
+            imported += writeBatch(batch, account.getId(), balanceDeltaCents);
+        } catch (RuntimeException e) {
+            log.warn("Import for user {} stopped after {} rows; resume from row {}", userId, imported, committedRows, e);
+            throw new ImportInterruptedException(imported, committedRows, e);
+        } finally {
+            if (imported > 0) {
+                // Published outside any transaction, so listeners run now for the batches already committed
+                eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+                // Too many rows to stream one by one; open dashboards reload instead
+                eventPublisher.publishEvent(AccountDeltaEvent.reload(userId));
+            }
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        double rowsPerSecond = imported * 1000.0 / elapsedMillis;
+        log.info("Imported {} transactions for user {} in {} ms ({} rows/s, {} skipped)",
+            imported, userId, elapsedMillis, Math.round(rowsPerSecond), skipped);
+        return new ImportResultDto(imported, skipped, elapsedMillis, rowsPerSecond);
+    }
+
+    private int writeBatch(List<Transaction> batch, Long accountId, long balanceDeltaCents) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionRepository.saveAll(batch);
+            accountRepository.adjustBalance(accountId, balanceDeltaCents);
+            monthlyRollupService.recordTransactions(batch);
+            ledgerService.record(accountId, LedgerEventType.IMPORT, balanceDeltaCents, 0, null);
+            entityManager.flush();
+        });
+
+        // Drop the committed batch from the persistence context so memory stays flat
+        entityManager.clear();
+        batch.clear();
+        return size;
+    }
+
+    private Transaction toTransaction(ImportedTransaction row, Account account) {
+        Transaction transaction = new Transaction();
+        transaction.setType(row.type());
+        transaction.setAmountCents(row.amountCents());
+        transaction.setDate(row.date());
+        transaction.setExpenseCategory(row.type() == TransactionType.OUT ? toExpenseCategory(row.category()) : null);
+        transaction.setDetail(row.description());
+        transaction.setNote(row.notes());
+        transaction.setAccount(account);
+        transaction.setUser(account.getUser());
+        return transaction;
+    }
+
+    private ExpenseCategory toExpenseCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        // Accepts both display labels ("Food & Dining") and enum names ("FOOD_DINING")
+        String name = category.toUpperCase(Locale.ROOT).replace('&', ' ').trim().replaceAll("[\\s_]+", "_");
+        try {
+            return ExpenseCategory.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null; // Unknown category
+        }
+    }
+
+    private Account findOrCreateAccount(Long userId) {
+        List<Account> userAccounts = accountRepository.findByUserId(userId);
+
+        if (!userAccounts.isEmpty()) {
+            return userAccounts.get(0);
+        }
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+
+        Account newAccount = new Account();
+        newAccount.setUser(user);
+        newAccount.setBalanceCents(0);
+        newAccount.setSavedCents(0);
+
+        return accountRepository.save(newAccount);
+    }
+}
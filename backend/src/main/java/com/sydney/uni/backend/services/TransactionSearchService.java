@@ -0,0 +1,72 @@
+package com.sydney.uni.backend.services;
+
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.migration.DatabasePlatform;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+public class TransactionSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Caps the terms taken from one query so a pasted paragraph cannot turn into a huge tsquery
+    static final int MAX_TERMS = 8;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final TransactionRepository transactionRepository;
+    private final DatabasePlatform databasePlatform;
+
+    public TransactionSearchService(TransactionRepository transactionRepository, DatabasePlatform databasePlatform) {
+        this.transactionRepository = transactionRepository;
+        this.databasePlatform = databasePlatform;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Transaction> search(Long userId, String query, int page, int size) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            throw new RuntimeException("Search query must contain letters or digits");
+        }
+
+        // Clamp the page size so a single request can never pull the whole history
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        if (databasePlatform.isPostgres()) {
+            return transactionRepository.searchRanked(userId, toTsQuery(terms), pageable);
+        }
+        return transactionRepository.searchByPattern(userId, toLikePattern(terms), pageable);
+    }
+
+    // Only letters and digits survive, so nothing the user types can change the meaning of the tsquery
+    static List<String> terms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(NON_WORD.split(query.toLowerCase(Locale.ROOT)))
+            .filter(term -> !term.isEmpty())
+            .limit(MAX_TERMS)
+            .toList();
+    }
+
+    // Every term must match; the :* suffix makes each one a prefix match, so "ube" finds "Uber"
+    static String toTsQuery(List<String> terms) {
+        return terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+    }
+
+    // The H2 fallback matches the terms in the order they were typed
+    static String toLikePattern(List<String> terms) {
+        return "%" + String.join("%", terms) + "%";
+    }
+}
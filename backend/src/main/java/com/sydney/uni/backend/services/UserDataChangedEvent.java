@@ -0,0 +1,8 @@
+package com.sydney.uni.backend.services;
+
+/**
+ * Published by every service that changes a user's balances, transactions, savings, budgets or save goal.
+ * Listeners that care about the committed state should use {@code @TransactionalEventListener}.
+ */
+public record UserDataChangedEvent(Long userId) {
+}
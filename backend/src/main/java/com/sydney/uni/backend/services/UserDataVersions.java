@@ -0,0 +1,44 @@
+package com.sydney.uni.backend.services;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user counter of committed writes. Cached read models remember the version they were built from
+ * and are stale as soon as the counter moves on, so a write never has to know which caches exist.
+ * Counters live in this instance only; caches that use them must also carry a TTL when several
+ * instances share one database.
+ */
+@Component
+public class UserDataVersions {
+
+    // Counters restart at zero with the process, so tags from another run or instance must never match
+    private final String instanceTag = Long.toUnsignedString(new SecureRandom().nextLong(), 36);
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long current(Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version == null ? 0L : version.get();
+    }
+
+    /**
+     * Strong ETag for a per-user representation at the current version. The variant names the endpoint and
+     * anything else the body depends on (period, month, page size) and must not contain quotes.
+     */
+    public String etag(Long userId, String variant) {
+        return "\"" + instanceTag + "-" + userId + "-" + current(userId) + "-" + variant + "\"";
+    }
+
+    // Bumped after commit: a reader that sees the new version is guaranteed to read the new data
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        if (event.userId() != null) {
+            versions.computeIfAbsent(event.userId(), id -> new AtomicLong()).incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.sydney.uni.backend.utils;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a cents field that travels as a decimal amount in JSON, so the API keeps its
+ * {@code "amount": 12.34} shape while the field itself is {@code long amountCents = 1234}.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonSerialize(using = Cents.Serializer.class)
+@JsonDeserialize(using = Cents.Deserializer.class)
+public @interface Cents {
+
+    class Serializer extends StdScalarSerializer<Long> {
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Long.class);
+        }
+
+        @Override
+        public void serialize(Long cents, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(Money.toDecimal(cents));
+        }
+    }
+
+    class Deserializer extends StdScalarDeserializer<Long> {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(Long.class);
+        }
+
+        @Override
+        public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            try {
+                // Accepts numbers and numeric strings alike
+                return Money.parseCents(parser.getValueAsString());
+            } catch (NumberFormatException | ArithmeticException | NullPointerException e) {
+                return (Long) context.handleWeirdStringValue(Long.class, parser.getText(), "not a valid amount");
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.sydney.uni.backend.utils;
+
+import com.sydney.uni.backend.dto.ImportedTransaction;
+import com.sydney.uni.backend.entity.TransactionType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads RFC 4180 CSV with a header row. Columns are matched by name, so both our own export format
+ * and typical bank statements (date/description/amount or debit/credit) are accepted.
+ * Without a type column the sign decides the direction: negative amounts are expenses.
+ */
+final class CsvTransactionParser implements TransactionFileParser {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+        DateTimeFormatter.ISO_LOCAL_DATE,
+        DateTimeFormatter.ofPattern("d/M/yyyy"),
+        DateTimeFormatter.ofPattern("d-M-yyyy")
+    );
+
+    private final BufferedReader reader;
+    private final int dateColumn;
+    private final int amountColumn;
+    private final int debitColumn;
+    private final int creditColumn;
+    private final int typeColumn;
+    private final int categoryColumn;
+    private final int descriptionColumn;
+    private final int notesColumn;
+    private int row;
+
+    CsvTransactionParser(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("File is empty");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // Strip a UTF-8 byte order mark that spreadsheet tools like to prepend
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+
+        dateColumn = column(columns, "date", "transaction date", "posted date");
+        amountColumn = column(columns, "amount");
+        debitColumn = column(columns, "debit", "withdrawal");
+        creditColumn = column(columns, "credit", "deposit");
+        typeColumn = column(columns, "type");
+        categoryColumn = column(columns, "category");
+        descriptionColumn = column(columns, "description", "detail", "narrative", "payee", "name");
+        notesColumn = column(columns, "notes", "note", "memo");
+
+        if (dateColumn < 0) {
+            throw new IllegalArgumentException("CSV header must contain a date column");
+        }
+        if (amountColumn < 0 && debitColumn < 0 && creditColumn < 0) {
+            throw new IllegalArgumentException("CSV header must contain an amount or debit/credit column");
+        }
+    }
+
+    @Override
+    public ImportedTransaction next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        row++;
+        try {
+            return toTransaction(record);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Row " + row + ": " + e.getMessage(), e);
+        }
+    }
+
+    private ImportedTransaction toTransaction(List<String> record) {
+        LocalDate date = parseDate(field(record, dateColumn));
+
+        long signedCents;
+        if (amountColumn >= 0) {
+            signedCents = parseCents(field(record, amountColumn));
+        } else if (!field(record, debitColumn).isEmpty()) {
+            signedCents = -Math.abs(parseCents(field(record, debitColumn)));
+        } else {
+            signedCents = Math.abs(parseCents(field(record, creditColumn)));
+        }
+
+        String typeValue = field(record, typeColumn);
+        TransactionType type = typeValue.isEmpty()
+            ? (signedCents < 0 ? TransactionType.OUT : TransactionType.IN)
+            : parseType(typeValue);
+
+        return new ImportedTransaction(date, type, Math.abs(signedCents),
+            text(field(record, categoryColumn)),
+            text(field(record, descriptionColumn)),
+            text(field(record, notesColumn)));
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"'); // escaped quote
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static int column(Map<String, Integer> columns, String... names) {
+        for (String name : names) {
+            Integer index = columns.get(name);
+            if (index != null) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static String field(List<String> record, int column) {
+        if (column < 0 || column >= record.size()) {
+            return "";
+        }
+        return record.get(column).trim();
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Missing date");
+        }
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value, format);
+            } catch (DateTimeParseException ignored) {
+                // try the next format
+            }
+        }
+        throw new IllegalArgumentException("Unrecognised date '" + value + "'");
+    }
+
+    private static long parseCents(String value) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Missing amount");
+        }
+        String cleaned = value.replace("$", "").replace(",", "").replace(" ", "");
+        boolean negative = cleaned.startsWith("(") && cleaned.endsWith(")"); // accounting notation
+        if (negative) {
+            cleaned = cleaned.substring(1, cleaned.length() - 1);
+        }
+        long cents;
+        try {
+            cents = Money.parseCents(cleaned);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount '" + value + "'");
+        }
+        return negative ? -cents : cents;
+    }
+
+    private static TransactionType parseType(String value) {
+        switch (value.toUpperCase(Locale.ROOT)) {
+            case "IN":
+            case "CREDIT":
+                return TransactionType.IN;
+            case "OUT":
+            case "DEBIT":
+                return TransactionType.OUT;
+            default:
+                throw new IllegalArgumentException("Unknown type '" + value + "'");
+        }
+    }
+
+    private static String text(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        // Undo the formula guard our own export adds, so exported files round-trip unchanged
+        if (value.length() > 1 && value.charAt(0) == '\'' && "=+-@".indexOf(value.charAt(1)) >= 0) {
+            return value.substring(1);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sydney.uni.backend.utils;
+
+/**
+ * Id of the authenticated user for the request being handled on this thread.
+ * Bound by JwtAuthenticationFilter and cleared when the request completes.
+ */
+public final class CurrentUserHolder {
+
+    private static final ThreadLocal<Long> CURRENT_USER = new ThreadLocal<>();
+
+    private CurrentUserHolder() {
+    }
+
+    public static void set(Long userId) {
+        CURRENT_USER.set(userId);
+    }
+
+    public static Long get() {
+        return CURRENT_USER.get();
+    }
+
+    public static void clear() {
+        CURRENT_USER.remove();
+    }
+}
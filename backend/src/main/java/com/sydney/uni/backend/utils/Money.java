@@ -0,0 +1,42 @@
+package com.sydney.uni.backend.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Money is held as a long count of cents everywhere inside the backend. Conversion to and from
+ * decimal amounts only happens at the edges: JSON, CSV/OFX files and percentage calculations.
+ */
+public final class Money {
+
+    private static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).movePointRight(SCALE).longValueExact();
+    }
+
+    // Parses a plain decimal such as "12.5" or "-3"; throws NumberFormatException on anything else
+    public static long parseCents(String amount) {
+        try {
+            return toCents(new BigDecimal(amount.trim()));
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount out of range: " + amount);
+        }
+    }
+
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static String format(long cents) {
+        return toDecimal(cents).toPlainString();
+    }
+
+    // part / whole * 100; 0 when whole is 0
+    public static double percent(long part, long whole) {
+        return whole == 0 ? 0.0 : part * 100.0 / whole;
+    }
+}
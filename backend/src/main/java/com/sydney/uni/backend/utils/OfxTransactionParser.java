@@ -0,0 +1,120 @@
+package com.sydney.uni.backend.utils;
+
+import com.sydney.uni.backend.dto.ImportedTransaction;
+import com.sydney.uni.backend.entity.TransactionType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads STMTTRN records from OFX 1.x (SGML, unclosed leaf tags) or OFX 2.x (XML) statements.
+ * The file is scanned tag by tag, so line layout does not matter.
+ */
+final class OfxTransactionParser implements TransactionFileParser {
+
+    private final BufferedReader reader;
+    private int row;
+
+    OfxTransactionParser(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportedTransaction next() throws IOException {
+        String tag;
+        do {
+            tag = nextTag();
+            if (tag == null) {
+                return null;
+            }
+        } while (!tag.equals("STMTTRN"));
+
+        row++;
+        Map<String, String> values = new HashMap<>();
+        while ((tag = nextTag()) != null && !tag.equals("/STMTTRN")) {
+            if (!tag.startsWith("/")) {
+                values.put(tag, readValue());
+            }
+        }
+
+        try {
+            return toTransaction(values);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Transaction " + row + ": " + e.getMessage(), e);
+        }
+    }
+
+    private ImportedTransaction toTransaction(Map<String, String> values) {
+        String posted = values.getOrDefault("DTPOSTED", "");
+        if (posted.length() < 8) {
+            throw new IllegalArgumentException("Missing DTPOSTED");
+        }
+        // Only the date part matters; time and [offset:TZ] suffixes are dropped
+        LocalDate date = LocalDate.parse(posted.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+
+        String amountValue = values.get("TRNAMT");
+        if (amountValue == null || amountValue.isEmpty()) {
+            throw new IllegalArgumentException("Missing TRNAMT");
+        }
+        long cents;
+        try {
+            cents = Money.parseCents(amountValue.replace(",", "."));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid TRNAMT '" + amountValue + "'");
+        }
+
+        String name = values.get("NAME");
+        String memo = values.get("MEMO");
+        boolean hasName = name != null && !name.isEmpty();
+        String description = hasName ? name : memo;
+        String notes = hasName ? memo : null;
+
+        return new ImportedTransaction(date, cents < 0 ? TransactionType.OUT : TransactionType.IN,
+            Math.abs(cents), null, blankToNull(description), blankToNull(notes));
+    }
+
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            // skip header lines and whitespace between tags
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        StringBuilder tag = new StringBuilder();
+        while ((c = reader.read()) != -1 && c != '>') {
+            tag.append((char) c);
+        }
+        return tag.toString().trim().toUpperCase(Locale.ROOT);
+    }
+
+    private String readValue() throws IOException {
+        StringBuilder value = new StringBuilder();
+        while (true) {
+            reader.mark(1);
+            int c = reader.read();
+            if (c == -1) {
+                break;
+            }
+            if (c == '<') {
+                reader.reset();
+                break;
+            }
+            value.append((char) c);
+        }
+        return value.toString().trim()
+            .replace("&lt;", "<")
+            .replace("&gt;", ">")
+            .replace("&amp;", "&");
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,51 @@
+package com.sydney.uni.backend.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for transaction listings ordered by (date DESC, id DESC).
+ * The cursor points at the last row of the previous page; the next page starts strictly after it.
+ */
+public final class TransactionCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDate date;
+    private final Long id;
+
+    private TransactionCursor(LocalDate date, Long id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public static String encode(LocalDate date, Long id) {
+        String raw = date + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDate date = LocalDate.parse(raw.substring(0, separatorIndex));
+            Long id = Long.valueOf(raw.substring(separatorIndex + 1));
+            return new TransactionCursor(date, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.sydney.uni.backend.utils;
+
+import com.sydney.uni.backend.dto.ImportedTransaction;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Pull-style reader over an uploaded statement. Rows are parsed one at a time so an import
+ * never holds more than the current row in memory, whatever the file size.
+ */
+public interface TransactionFileParser {
+
+    /**
+     * Returns the next row, or null at end of input.
+     *
+     * @throws IllegalArgumentException if the current row is malformed; the parser is positioned
+     *                                  on the following row, so callers may skip it and carry on
+     */
+    ImportedTransaction next() throws IOException;
+
+    /**
+     * Picks a parser from the file extension: .csv is read as CSV, .ofx/.qfx as OFX.
+     *
+     * @throws IllegalArgumentException for any other extension
+     */
+    static TransactionFileParser open(String filename, InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ofx") || name.endsWith(".qfx")) {
+            return new OfxTransactionParser(reader);
+        }
+        if (name.endsWith(".csv")) {
+            return new CsvTransactionParser(reader);
+        }
+        throw new IllegalArgumentException("Unsupported file type: " + filename + " (expected .csv, .ofx or .qfx)");
+    }
+}
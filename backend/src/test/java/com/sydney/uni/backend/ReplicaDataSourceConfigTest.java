@@ -0,0 +1,56 @@
+package com.sydney.uni.backend;
+
+import com.sydney.uni.backend.datasource.ReadYourWritesGuard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Uses two in-memory H2 databases as stand-ins for the primary and the replica.
+ */
+class ReplicaDataSourceConfigTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:primary_test;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica_test;DB_CLOSE_DELAY=-1";
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private DataSource dataSource() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(PRIMARY_URL);
+        properties.setUsername("sa");
+        properties.setPassword("");
+        return new ReplicaDataSourceConfig().dataSource(
+            properties, new ReadYourWritesGuard(Duration.ofSeconds(5)), REPLICA_URL, "sa", "", 2);
+    }
+
+    private String connectedUrl(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    @Test
+    void testWritesGoToPrimary() throws SQLException {
+        assertTrue(connectedUrl(dataSource()).contains("primary_test"));
+    }
+
+    @Test
+    void testReadOnlyTransactionsGoToReplica() throws SQLException {
+        DataSource dataSource = dataSource();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertTrue(connectedUrl(dataSource).contains("replica_test"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.sydney.uni.backend.benchmark;
+
+import com.sydney.uni.backend.dto.DashboardStatsDto;
+import com.sydney.uni.backend.entity.Account;
+import com.sydney.uni.backend.entity.Budget;
+import com.sydney.uni.backend.entity.SaveGoal;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.repository.BudgetRepository;
+import com.sydney.uni.backend.repository.SaveGoalRepository;
+import com.sydney.uni.backend.services.DashboardService;
+import com.sydney.uni.backend.services.MonthlyRollupService;
+import com.sydney.uni.backend.services.ParallelReads;
+import org.mockito.stubbing.Answer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test for the dashboard stats read: REPOSITORIES (five reads one after another) against PARALLEL
+ * (the same five reads fanned out on a bounded pool). Each read is a stub that parks for a fixed
+ * round-trip time, so the numbers show the scheduling effect rather than database speed. Sample mode
+ * reports p0.50 / p0.99 per configuration; 16 concurrent callers against a pool of maxConcurrency
+ * workers shows where the bulkhead starts queuing. Not part of the test run; start it with {@code main}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class DashboardFanOutBenchmark {
+
+    @Param({"REPOSITORIES", "PARALLEL"})
+    private DashboardService.QueryMode queryMode;
+
+    // Simulated database round trip per read
+    @Param({"2"})
+    private int roundTripMillis;
+
+    // Worker threads in the parallel-read pool, i.e. connections fan-out may hold at once
+    @Param({"4", "16"})
+    private int maxConcurrency;
+
+    private ExecutorService executor;
+    private DashboardService dashboardService;
+
+    @Setup
+    public void setUp() {
+        long roundTripNanos = TimeUnit.MILLISECONDS.toNanos(roundTripMillis);
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        BudgetRepository budgetRepository = mock(BudgetRepository.class);
+        SaveGoalRepository saveGoalRepository = mock(SaveGoalRepository.class);
+        MonthlyRollupService monthlyRollupService = mock(MonthlyRollupService.class);
+
+        Account account = new Account();
+        account.setBalanceCents(100000L);
+        account.setSavedCents(20000L);
+        Budget budget = new Budget();
+        budget.setPeriod("monthly");
+        budget.setAmountCents(50000L);
+        SaveGoal goal = new SaveGoal();
+        goal.setTargetAmountCents(80000L);
+
+        when(accountRepository.findByUserId(anyLong())).then(roundTrip(roundTripNanos, List.of(account)));
+        when(monthlyRollupService.getTotal(anyLong(), any(), any())).then(roundTrip(roundTripNanos, 12000L));
+        when(budgetRepository.findByUserId(anyLong())).then(roundTrip(roundTripNanos, List.of(budget)));
+        when(saveGoalRepository.findByUserId(anyLong())).then(roundTrip(roundTripNanos, Optional.of(goal)));
+
+        // Same shape as the production pool: fixed workers, bounded queue, caller runs on overflow
+        executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100), new ThreadPoolExecutor.CallerRunsPolicy());
+        ParallelReads parallelReads = new ParallelReads(executor, TransactionOperations.withoutTransaction(),
+            Duration.ofSeconds(10));
+        dashboardService = new DashboardService(accountRepository, null, budgetRepository, saveGoalRepository,
+            monthlyRollupService, queryMode, parallelReads);
+    }
+
+    private static Answer<Object> roundTrip(long nanos, Object result) {
+        return invocation -> {
+            LockSupport.parkNanos(nanos);
+            return result;
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public DashboardStatsDto dashboardStats() {
+        return dashboardService.getDashboardStats(1L);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(DashboardFanOutBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,125 @@
+package com.sydney.uni.backend.benchmark;
+
+import com.sydney.uni.backend.dto.CategoryTotal;
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.MonthlyRollup;
+import com.sydney.uni.backend.entity.RollupType;
+import com.sydney.uni.backend.services.MonthlyRollupService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the aggregation paths before and after money moved to long cents: boxed Double sums merged
+ * through maps and streams against primitive long accumulators. Not part of the test run; start it with
+ * {@code main} (or the JMH runner) against a test-compiled classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyAggregationBenchmark {
+
+    // Roughly a busy user's year of rollup rows, or one import batch worth of transactions
+    @Param({"500", "50000"})
+    private int rows;
+
+    private ExpenseCategory[] categories;
+    private Double[] amounts;
+    private long[] cents;
+    private List<MonthlyRollup> rollups;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ExpenseCategory[] values = ExpenseCategory.values();
+        categories = new ExpenseCategory[rows];
+        amounts = new Double[rows];
+        cents = new long[rows];
+        rollups = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            categories[i] = values[random.nextInt(values.length)];
+            cents[i] = 1 + random.nextInt(50_000);
+            amounts[i] = cents[i] / 100.0;
+
+            MonthlyRollup rollup = new MonthlyRollup();
+            rollup.setType(RollupType.OUT);
+            rollup.setCategory(categories[i]);
+            rollup.setTotalCents(cents[i]);
+            rollups.add(rollup);
+        }
+    }
+
+    // Before: per-category totals merged into an EnumMap of boxed Doubles
+    @Benchmark
+    public Map<ExpenseCategory, Double> categoryTotalsBoxedDouble() {
+        Map<ExpenseCategory, Double> totals = new EnumMap<>(ExpenseCategory.class);
+        for (int i = 0; i < rows; i++) {
+            totals.merge(categories[i], amounts[i], Double::sum);
+        }
+        return totals;
+    }
+
+    // After: MonthlyRollupService's ordinal-indexed long[] accumulation
+    @Benchmark
+    public List<CategoryTotal> categoryTotalsLongCents() {
+        return MonthlyRollupService.toCategoryTotals(rollups);
+    }
+
+    // Before: grand total streamed over boxed Doubles
+    @Benchmark
+    public double grandTotalBoxedDouble() {
+        return Arrays.stream(amounts).mapToDouble(amount -> amount != null ? amount : 0.0).sum();
+    }
+
+    // After: plain long loop
+    @Benchmark
+    public long grandTotalLongCents() {
+        long total = 0;
+        for (long amount : cents) {
+            total += amount;
+        }
+        return total;
+    }
+
+    // Before: recordTransactions' {sum, count} bucket as double[]
+    @Benchmark
+    public double[] bucketDouble() {
+        double[] sums = new double[2];
+        for (int i = 0; i < rows; i++) {
+            sums[0] += amounts[i];
+            sums[1]++;
+        }
+        return sums;
+    }
+
+    // After: the same bucket as long[]
+    @Benchmark
+    public long[] bucketLongCents() {
+        long[] sums = new long[2];
+        for (int i = 0; i < rows; i++) {
+            sums[0] += cents[i];
+            sums[1]++;
+        }
+        return sums;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(MoneyAggregationBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -5,6 +5,7 @@ import com.sydney.uni.backend.dto.BudgetDto;
 import com.sydney.uni.backend.dto.BudgetRequest;
 import com.sydney.uni.backend.entity.Budget;
 import com.sydney.uni.backend.services.BudgetService;
+import com.sydney.uni.backend.services.UserDataVersions;
 import com.sydney.uni.backend.utils.JwtUtil;
 import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
@@ -32,10 +34,14 @@ class BudgetControllerTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserDataVersions userDataVersions;
+
     @InjectMocks
     private BudgetController budgetController;
 
     private static final String VALID_TOKEN = "Bearer valid.jwt.token";
+    private static final String ETAG = "\"tag\"";
     private static final String VALID_TOKEN_VALUE = "valid.jwt.token";
     private static final String INVALID_TOKEN = "Bearer invalid.token";
     private static final String INVALID_TOKEN_VALUE = "invalid.token";
@@ -47,10 +53,11 @@ class BudgetControllerTest {
     @BeforeEach
     void setup() {
         when(jwtUtil.extractUserId(VALID_TOKEN_VALUE)).thenReturn(USER_ID);
+        when(userDataVersions.etag(anyLong(), anyString())).thenReturn(ETAG);
 
         budgetRequest = new BudgetRequest();
         budgetRequest.setCategory("Food & Dining");
-        budgetRequest.setAmount(500.0);
+        budgetRequest.setAmountCents(50000L);
         budgetRequest.setPeriod("monthly");
     }
 
@@ -76,7 +83,7 @@ class BudgetControllerTest {
                 .thenReturn(List.of(dto));
 
         ResponseEntity<ApiResponse<List<BudgetDto>>> response =
-                budgetController.getUserBudgets(VALID_TOKEN);
+                budgetController.getUserBudgets(VALID_TOKEN, null);
 
         assertEquals(200, response.getStatusCodeValue());
         assertTrue(response.getBody().isSuccess());
@@ -175,7 +182,7 @@ class BudgetControllerTest {
     @Test
     void testGetUserBudgets_Unauthorized() {
         ResponseEntity<ApiResponse<List<BudgetDto>>> response =
-                budgetController.getUserBudgets(null);
+                budgetController.getUserBudgets(null, null);
         assertEquals(401, response.getStatusCodeValue());
     }
 
@@ -184,7 +191,7 @@ class BudgetControllerTest {
         when(jwtUtil.extractUserId(INVALID_TOKEN_VALUE)).thenThrow(new JwtException("Invalid signature"));
 
         ResponseEntity<ApiResponse<List<BudgetDto>>> response =
-                budgetController.getUserBudgets(INVALID_TOKEN);
+                budgetController.getUserBudgets(INVALID_TOKEN, null);
         assertEquals(400, response.getStatusCodeValue());
         assertEquals("GET_BUDGETS_FAILED", response.getBody().getError().getCode());
     }
@@ -194,7 +201,7 @@ class BudgetControllerTest {
         when(jwtUtil.extractUserId(VALID_TOKEN_VALUE)).thenReturn(null);
 
         ResponseEntity<ApiResponse<List<BudgetDto>>> response =
-                budgetController.getUserBudgets(VALID_TOKEN);
+                budgetController.getUserBudgets(VALID_TOKEN, null);
         assertEquals(401, response.getStatusCodeValue());
         assertEquals("INVALID_TOKEN", response.getBody().getError().getCode());
     }
@@ -310,4 +317,25 @@ class BudgetControllerTest {
         assertEquals(401, response.getStatusCodeValue());
         assertEquals("INVALID_TOKEN", response.getBody().getError().getCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetUserBudgets_SendsETag() {
+        when(budgetService.getUserBudgetsWithSpending(USER_ID)).thenReturn(List.of());
+
+        ResponseEntity<ApiResponse<List<BudgetDto>>> response = budgetController.getUserBudgets(VALID_TOKEN, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void testGetUserBudgets_NotModifiedSkipsService() {
+        ResponseEntity<ApiResponse<List<BudgetDto>>> response = budgetController.getUserBudgets(VALID_TOKEN, ETAG);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verifyNoInteractions(budgetService);
+    }
+}
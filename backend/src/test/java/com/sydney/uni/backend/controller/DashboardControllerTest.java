@@ -1,10 +1,18 @@
 package com.sydney.uni.backend.controller;
 
 import com.sydney.uni.backend.dto.ApiResponse;
+import com.sydney.uni.backend.dto.BudgetDto;
+import com.sydney.uni.backend.dto.DashboardBootstrapDto;
 import com.sydney.uni.backend.dto.DashboardStatsDto;
 import com.sydney.uni.backend.dto.TransactionDto;
+import com.sydney.uni.backend.services.DashboardBootstrapService;
+import com.sydney.uni.backend.services.DashboardEventStream;
 import com.sydney.uni.backend.services.DashboardService;
+import com.sydney.uni.backend.services.DashboardStatsCache;
+import com.sydney.uni.backend.services.UserDataVersions;
+import com.sydney.uni.backend.utils.CurrentUserHolder;
 import com.sydney.uni.backend.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,7 +21,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -27,44 +38,63 @@ class DashboardControllerTest {
     @Mock
     private DashboardService dashboardService;
 
+    @Mock
+    private DashboardBootstrapService dashboardBootstrapService;
+
+    @Mock
+    private DashboardStatsCache dashboardStatsCache;
+
+    @Mock
+    private DashboardEventStream dashboardEventStream;
+
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserDataVersions userDataVersions;
+
     @InjectMocks
     private DashboardController dashboardController;
 
     private static final String VALID_TOKEN = "Bearer valid.jwt.token";
+    private static final String ETAG = "\"tag\"";
 
     @BeforeEach
     void setup() {
         when(jwtUtil.extractUserId(anyString())).thenReturn(1L);
+        when(userDataVersions.etag(anyLong(), anyString())).thenReturn(ETAG);
+    }
+
+    @AfterEach
+    void tearDown() {
+        CurrentUserHolder.clear();
     }
 
     // Get Dashboard
     @Test
     void testGetDashboardStats_Success() {
         DashboardStatsDto stats = new DashboardStatsDto();
-        stats.setTotalBalance(1000.0);
-        stats.setSaved(200.0);
-        stats.setMonthlySpending(400.0);
-        stats.setBudgetLeft(600.0);
-        stats.setSavingsGoal(500.0);
+        stats.setTotalBalanceCents(100000L);
+        stats.setSavedCents(20000L);
+        stats.setMonthlySpendingCents(40000L);
+        stats.setBudgetLeftCents(60000L);
+        stats.setSavingsGoalCents(50000L);
         stats.setSavingsProgress(0.8);
         stats.setBudgetUsedPercentage(40.0);
         stats.setMonthlySpendingChange(5.0);
-        stats.setLastMonthSpending(380.0);
+        stats.setLastMonthSpendingCents(38000L);
         stats.setHasSavingsGoal(true);
 
-        when(dashboardService.getDashboardStats(eq(1L))).thenReturn(stats);
+        when(dashboardStatsCache.getDashboardStats(eq(1L))).thenReturn(stats);
 
         ResponseEntity<ApiResponse<DashboardStatsDto>> response =
-                dashboardController.getDashboardStats(VALID_TOKEN);
+                dashboardController.getDashboardStats(VALID_TOKEN, null);
 
         assertEquals(200, response.getStatusCodeValue());
         assertNotNull(response.getBody());
         assertTrue(response.getBody().isSuccess());
-        assertEquals(1000.0, response.getBody().getData().getTotalBalance());
-        assertEquals(400.0, response.getBody().getData().getMonthlySpending());
+        assertEquals(100000L, response.getBody().getData().getTotalBalanceCents());
+        assertEquals(40000L, response.getBody().getData().getMonthlySpendingCents());
         assertTrue(response.getBody().getData().getHasSavingsGoal());
     }
 
@@ -72,7 +102,7 @@ class DashboardControllerTest {
     @Test
     void testGetDashboardStats_NoToken() {
         ResponseEntity<ApiResponse<DashboardStatsDto>> response =
-                dashboardController.getDashboardStats(null);
+                dashboardController.getDashboardStats(null, null);
 
         assertEquals(401, response.getStatusCodeValue());
         assertFalse(response.getBody().isSuccess());
@@ -85,7 +115,7 @@ class DashboardControllerTest {
         when(jwtUtil.extractUserId(anyString())).thenThrow(new RuntimeException("Invalid token"));
 
         ResponseEntity<ApiResponse<DashboardStatsDto>> response =
-                dashboardController.getDashboardStats("Bearer invalid.token");
+                dashboardController.getDashboardStats("Bearer invalid.token", null);
 
         assertEquals(401, response.getStatusCodeValue());
         assertFalse(response.getBody().isSuccess());
@@ -97,19 +127,19 @@ class DashboardControllerTest {
     void testGetRecentTransactions_Success() {
         TransactionDto t1 = new TransactionDto();
         t1.setDetail("Lunch");
-        t1.setAmount(15.0);
+        t1.setAmountCents(1500L);
         t1.setCategoryDisplayName("Food");
 
         TransactionDto t2 = new TransactionDto();
         t2.setDetail("Transport");
-        t2.setAmount(5.0);
+        t2.setAmountCents(500L);
         t2.setCategoryDisplayName("Travel");
 
         when(dashboardService.getRecentTransactions(eq(1L), eq(10)))
                 .thenReturn(List.of(t1, t2));
 
         ResponseEntity<ApiResponse<List<TransactionDto>>> response =
-                dashboardController.getRecentTransactions(VALID_TOKEN, 10);
+                dashboardController.getRecentTransactions(VALID_TOKEN, null, 10);
 
         assertEquals(200, response.getStatusCodeValue());
         assertTrue(response.getBody().isSuccess());
@@ -122,7 +152,7 @@ class DashboardControllerTest {
     @Test
     void testGetRecentTransactions_NoToken() {
         ResponseEntity<ApiResponse<List<TransactionDto>>> response =
-                dashboardController.getRecentTransactions(null, 10);
+                dashboardController.getRecentTransactions(null, null, 10);
 
         assertEquals(401, response.getStatusCodeValue());
         assertFalse(response.getBody().isSuccess());
@@ -135,10 +165,131 @@ class DashboardControllerTest {
         when(jwtUtil.extractUserId(anyString())).thenThrow(new RuntimeException("Invalid token"));
 
         ResponseEntity<ApiResponse<List<TransactionDto>>> response =
-                dashboardController.getRecentTransactions("Bearer invalid.token", 10);
+                dashboardController.getRecentTransactions("Bearer invalid.token", null, 10);
 
         assertEquals(401, response.getStatusCodeValue());
         assertFalse(response.getBody().isSuccess());
         assertEquals("Invalid token", response.getBody().getMessage());
     }
+
+    @Test
+    void testGetDashboardStats_NotModifiedSkipsComputation() {
+        ResponseEntity<ApiResponse<DashboardStatsDto>> response =
+                dashboardController.getDashboardStats(VALID_TOKEN, ETAG);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        verifyNoInteractions(dashboardStatsCache, dashboardService);
+    }
+
+    @Test
+    void testGetRecentTransactions_ETagPerLimit() {
+        when(dashboardService.getRecentTransactions(1L, 25)).thenReturn(List.of());
+
+        ResponseEntity<ApiResponse<List<TransactionDto>>> response =
+                dashboardController.getRecentTransactions(VALID_TOKEN, "\"stale\"", 25);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ETAG, response.getHeaders().getFirst(HttpHeaders.ETAG));
+        verify(userDataVersions).etag(1L, "transactions-25");
+    }
+
+    @Test
+    void testGetRecentTransactions_WildcardIsNotModified() {
+        ResponseEntity<ApiResponse<List<TransactionDto>>> response =
+                dashboardController.getRecentTransactions(VALID_TOKEN, "*", 10);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(dashboardService, never()).getRecentTransactions(anyLong(), anyInt());
+    }
+
+    @Test
+    void testGetDashboardBootstrap_Success() {
+        DashboardStatsDto stats = new DashboardStatsDto();
+        stats.setTotalBalanceCents(100000L);
+        TransactionDto transaction = new TransactionDto();
+        transaction.setDetail("Lunch");
+        BudgetDto budget = new BudgetDto();
+        budget.setCategory("FOOD_DINING");
+        DashboardBootstrapDto bootstrap = new DashboardBootstrapDto(stats, List.of(transaction), List.of(budget), null);
+        when(dashboardBootstrapService.getBootstrap(1L, 10)).thenReturn(bootstrap);
+
+        ResponseEntity<ApiResponse<DashboardBootstrapDto>> response =
+                dashboardController.getDashboardBootstrap(VALID_TOKEN, null, 10);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertTrue(response.getBody().isSuccess());
+        assertEquals(100000L, response.getBody().getData().getStats().getTotalBalanceCents());
+        assertEquals("Lunch", response.getBody().getData().getTransactions().get(0).getDetail());
+        assertEquals("FOOD_DINING", response.getBody().getData().getBudgets().get(0).getCategory());
+        assertNull(response.getBody().getData().getSaveGoal());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        verify(userDataVersions).etag(eq(1L), startsWith("bootstrap-"));
+    }
+
+    @Test
+    void testGetDashboardBootstrap_UsesUserFromFilter() {
+        CurrentUserHolder.set(7L);
+        when(dashboardBootstrapService.getBootstrap(7L, 10)).thenReturn(new DashboardBootstrapDto());
+
+        ResponseEntity<ApiResponse<DashboardBootstrapDto>> response =
+                dashboardController.getDashboardBootstrap(VALID_TOKEN, null, 10);
+
+        assertEquals(200, response.getStatusCodeValue());
+        verify(dashboardBootstrapService).getBootstrap(7L, 10);
+        verifyNoInteractions(jwtUtil);
+    }
+
+    @Test
+    void testGetDashboardBootstrap_NoToken() {
+        ResponseEntity<ApiResponse<DashboardBootstrapDto>> response =
+                dashboardController.getDashboardBootstrap(null, null, 10);
+
+        assertEquals(401, response.getStatusCodeValue());
+        assertEquals("Unauthorized", response.getBody().getMessage());
+        verifyNoInteractions(dashboardBootstrapService);
+    }
+
+    @Test
+    void testGetDashboardBootstrap_InvalidToken() {
+        when(jwtUtil.extractUserId(anyString())).thenThrow(new RuntimeException("Invalid token"));
+
+        ResponseEntity<ApiResponse<DashboardBootstrapDto>> response =
+                dashboardController.getDashboardBootstrap("Bearer invalid.token", null, 10);
+
+        assertEquals(401, response.getStatusCodeValue());
+        assertEquals("Invalid token", response.getBody().getMessage());
+    }
+
+    @Test
+    void testGetDashboardBootstrap_NotModified() {
+        ResponseEntity<ApiResponse<DashboardBootstrapDto>> response =
+                dashboardController.getDashboardBootstrap(VALID_TOKEN, ETAG, 10);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verifyNoInteractions(dashboardBootstrapService);
+    }
+
+    // Stream
+    @Test
+    void testStreamDashboardDeltas_UsesUserFromFilter() {
+        CurrentUserHolder.set(7L);
+        SseEmitter emitter = new SseEmitter();
+        when(dashboardEventStream.subscribe(7L)).thenReturn(emitter);
+
+        ResponseEntity<SseEmitter> response = dashboardController.streamDashboardDeltas();
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertSame(emitter, response.getBody());
+        verifyNoInteractions(jwtUtil);
+    }
+
+    @Test
+    void testStreamDashboardDeltas_NoAuthenticatedUser() {
+        ResponseEntity<SseEmitter> response = dashboardController.streamDashboardDeltas();
+
+        assertEquals(401, response.getStatusCodeValue());
+        assertNull(response.getBody());
+        verifyNoInteractions(dashboardEventStream);
+    }
 }
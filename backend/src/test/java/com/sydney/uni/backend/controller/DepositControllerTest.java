@@ -42,13 +42,13 @@ class DepositControllerTest {
     @Test
     void testProcessDeposit_Success() {
         DepositRequest request = new DepositRequest();
-        request.setAmount(200.0);
+        request.setAmountCents(20000L);
         request.setDescription("Weekly top-up");
 
         Account account = new Account();
         account.setId(1L);
-        account.setBalance(1200.0);
-        account.setSaved(500.0);
+        account.setBalanceCents(120000L);
+        account.setSavedCents(50000L);
 
         when(depositService.processDeposit(eq(1L), any(DepositRequest.class))).thenReturn(account);
 
@@ -58,14 +58,14 @@ class DepositControllerTest {
         assertEquals(200, response.getStatusCodeValue());
         assertTrue(response.getBody().isSuccess());
         assertNotNull(response.getBody().getData());
-        assertEquals(1200.0, response.getBody().getData().getBalance());
+        assertEquals(120000L, response.getBody().getData().getBalanceCents());
         verify(depositService, times(1)).processDeposit(eq(1L), any(DepositRequest.class));
     }
 
     @Test
     void testProcessDeposit_NoToken() {
         DepositRequest request = new DepositRequest();
-        request.setAmount(100.0);
+        request.setAmountCents(10000L);
 
         ResponseEntity<ApiResponse<Account>> response =
                 depositController.processDeposit(null, request);
@@ -81,7 +81,7 @@ class DepositControllerTest {
         when(jwtUtil.extractUserId(anyString())).thenThrow(new RuntimeException("Invalid token"));
 
         DepositRequest request = new DepositRequest();
-        request.setAmount(300.0);
+        request.setAmountCents(30000L);
 
         ResponseEntity<ApiResponse<Account>> response =
                 depositController.processDeposit("Bearer invalid.token", request);
@@ -112,7 +112,7 @@ class DepositControllerTest {
     @Test
     void testProcessDeposit_DepositFailed() {
         DepositRequest request = new DepositRequest();
-        request.setAmount(999.0);
+        request.setAmountCents(99900L);
         request.setDescription("Invalid test case");
 
         when(depositService.processDeposit(eq(1L), any(DepositRequest.class)))
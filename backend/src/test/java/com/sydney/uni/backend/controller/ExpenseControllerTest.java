@@ -1,12 +1,19 @@
 package com.sydney.uni.backend.controller;
 
 import com.sydney.uni.backend.dto.ApiResponse;
+import com.sydney.uni.backend.dto.ExpenseFilterRequest;
+import com.sydney.uni.backend.dto.ExpensePageDto;
 import com.sydney.uni.backend.dto.ExpenseRequest;
+import com.sydney.uni.backend.dto.ImportResultDto;
 import com.sydney.uni.backend.dto.TransactionDto;
 import com.sydney.uni.backend.entity.Transaction;
 import com.sydney.uni.backend.services.DashboardService;
 import com.sydney.uni.backend.services.ExpenseService;
+import com.sydney.uni.backend.services.ImportInterruptedException;
+import com.sydney.uni.backend.services.TransactionExportService;
+import com.sydney.uni.backend.services.TransactionImportService;
 import com.sydney.uni.backend.utils.JwtUtil;
+import com.sydney.uni.backend.utils.TransactionCursor;
 import io.jsonwebtoken.JwtException; // 确保你 import 了这个
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,8 +23,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +49,12 @@ class ExpenseControllerTest {
     @Mock
     private DashboardService dashboardService;
 
+    @Mock
+    private TransactionExportService transactionExportService;
+
+    @Mock
+    private TransactionImportService transactionImportService;
+
     @Mock
     private JwtUtil jwtUtil;
 
@@ -55,7 +77,7 @@ class ExpenseControllerTest {
 
         expenseRequest = new ExpenseRequest();
         expenseRequest.setCategory("Food");
-        expenseRequest.setAmount(50.0);
+        expenseRequest.setAmountCents(5000L);
     }
 
 
@@ -99,21 +121,85 @@ class ExpenseControllerTest {
         Transaction transaction = new Transaction();
         TransactionDto dto = new TransactionDto();
 
-        when(expenseService.getUserExpenses(eq(USER_ID))).thenReturn(List.of(transaction));
+        when(expenseService.getUserExpensesPage(eq(USER_ID), isNull(), eq(50))).thenReturn(new SliceImpl<>(List.of(transaction)));
         when(dashboardService.convertToTransactionDto(transaction)).thenReturn(dto);
 
-        ResponseEntity<ApiResponse<List<TransactionDto>>> response =
-                expenseController.getUserExpenses(VALID_TOKEN);
+        ResponseEntity<ApiResponse<ExpensePageDto>> response =
+                expenseController.getUserExpenses(VALID_TOKEN, null, 50);
 
         assertEquals(200, response.getStatusCodeValue());
         assertTrue(response.getBody().isSuccess());
         assertNotNull(response.getBody().getData());
+        assertEquals(1, response.getBody().getData().getItems().size());
+        assertNull(response.getBody().getData().getNextCursor());
+    }
+
+    @Test
+    void testGetUserExpenses_HasNextPage() {
+        Transaction transaction = new Transaction();
+        transaction.setId(7L);
+        transaction.setDate(LocalDate.of(2024, 5, 1));
+
+        when(expenseService.getUserExpensesPage(eq(USER_ID), isNull(), eq(1)))
+                .thenReturn(new SliceImpl<>(List.of(transaction), PageRequest.of(0, 1), true));
+        when(dashboardService.convertToTransactionDto(transaction)).thenReturn(new TransactionDto());
+
+        ResponseEntity<ApiResponse<ExpensePageDto>> response =
+                expenseController.getUserExpenses(VALID_TOKEN, null, 1);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(TransactionCursor.encode(LocalDate.of(2024, 5, 1), 7L),
+                response.getBody().getData().getNextCursor());
+    }
+
+    @Test
+    void testFilterExpenses_Success() {
+        Transaction transaction = new Transaction();
+        transaction.setId(9L);
+        transaction.setDate(LocalDate.of(2024, 3, 2));
+        ExpenseFilterRequest filter = new ExpenseFilterRequest();
+        filter.setCategory("Travel");
+
+        when(expenseService.filterExpenses(USER_ID, filter, null, 1))
+                .thenReturn(new SliceImpl<>(List.of(transaction), PageRequest.of(0, 1), true));
+        when(dashboardService.convertToTransactionDto(transaction)).thenReturn(new TransactionDto());
+
+        ResponseEntity<ApiResponse<ExpensePageDto>> response =
+                expenseController.filterExpenses(VALID_TOKEN, filter, null, 1);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(1, response.getBody().getData().getItems().size());
+        assertEquals(TransactionCursor.encode(LocalDate.of(2024, 3, 2), 9L),
+                response.getBody().getData().getNextCursor());
+    }
+
+    @Test
+    void testFilterExpenses_ServiceFailure() {
+        ExpenseFilterRequest filter = new ExpenseFilterRequest();
+        filter.setCategory("Pets");
+        when(expenseService.filterExpenses(USER_ID, filter, null, 50))
+                .thenThrow(new RuntimeException("Unknown category: Pets"));
+
+        ResponseEntity<ApiResponse<ExpensePageDto>> response =
+                expenseController.filterExpenses(VALID_TOKEN, filter, null, 50);
+
+        assertEquals(400, response.getStatusCodeValue());
+        assertEquals("FILTER_EXPENSES_FAILED", response.getBody().getError().getCode());
+    }
+
+    @Test
+    void testFilterExpenses_NoToken() {
+        ResponseEntity<ApiResponse<ExpensePageDto>> response =
+                expenseController.filterExpenses(null, new ExpenseFilterRequest(), null, 50);
+
+        assertEquals(401, response.getStatusCodeValue());
+        verifyNoInteractions(expenseService);
     }
 
     @Test
     void testGetUserExpenses_NoToken() {
-        ResponseEntity<ApiResponse<List<TransactionDto>>> response =
-                expenseController.getUserExpenses(null);
+        ResponseEntity<ApiResponse<ExpensePageDto>> response =
+                expenseController.getUserExpenses(null, null, 50);
 
         assertEquals(401, response.getStatusCodeValue());
         assertFalse(response.getBody().isSuccess());
@@ -196,11 +282,11 @@ class ExpenseControllerTest {
 
     @Test
     void testGetUserExpenses_ServiceFailure() {
-        when(expenseService.getUserExpenses(USER_ID))
+        when(expenseService.getUserExpensesPage(USER_ID, null, 50))
                 .thenThrow(new RuntimeException("Database error"));
 
-        ResponseEntity<ApiResponse<List<TransactionDto>>> response =
-                expenseController.getUserExpenses(VALID_TOKEN);
+        ResponseEntity<ApiResponse<ExpensePageDto>> response =
+                expenseController.getUserExpenses(VALID_TOKEN, null, 50);
 
         assertEquals(400, response.getStatusCodeValue());
         assertEquals("GET_EXPENSES_FAILED", response.getBody().getError().getCode());
@@ -251,8 +337,8 @@ class ExpenseControllerTest {
 
     @Test
     void testGetUserExpenses_BadFormat() {
-        ResponseEntity<ApiResponse<List<TransactionDto>>> response =
-                expenseController.getUserExpenses("NotBearer");
+        ResponseEntity<ApiResponse<ExpensePageDto>> response =
+                expenseController.getUserExpenses("NotBearer", null, 50);
         assertEquals(401, response.getStatusCodeValue());
     }
 
@@ -290,8 +376,8 @@ class ExpenseControllerTest {
     @Test
     void testGetUserExpenses_UserIdNull() {
         when(jwtUtil.extractUserId(VALID_TOKEN_VALUE)).thenReturn(null);
-        ResponseEntity<ApiResponse<List<TransactionDto>>> response =
-                expenseController.getUserExpenses(VALID_TOKEN);
+        ResponseEntity<ApiResponse<ExpensePageDto>> response =
+                expenseController.getUserExpenses(VALID_TOKEN, null, 50);
         assertEquals(401, response.getStatusCodeValue());
         assertEquals("INVALID_TOKEN", response.getBody().getError().getCode());
     }
@@ -337,4 +423,90 @@ class ExpenseControllerTest {
                 expenseController.updateExpense(2L, null, expenseRequest);
         assertEquals(401, response.getStatusCodeValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExportExpenses_StreamsCsv() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = expenseController.exportExpenses(VALID_TOKEN);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals("text/csv;charset=UTF-8", response.getHeaders().getContentType().toString());
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("expenses.csv"));
+
+        // Nothing is read until the body is written
+        verifyNoInteractions(transactionExportService);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        verify(transactionExportService).writeExpensesCsv(eq(USER_ID), any(OutputStream.class));
+    }
+
+    @Test
+    void testExportLedger_StreamsCsv() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = expenseController.exportLedger(VALID_TOKEN);
+
+        assertEquals(200, response.getStatusCodeValue());
+        response.getBody().writeTo(new ByteArrayOutputStream());
+        verify(transactionExportService).writeLedgerCsv(eq(USER_ID), any(OutputStream.class));
+    }
+
+    @Test
+    void testExportExpenses_InvalidToken() {
+        ResponseEntity<StreamingResponseBody> response = expenseController.exportExpenses(INVALID_TOKEN);
+        assertEquals(401, response.getStatusCodeValue());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void testExportExpenses_NoToken() {
+        ResponseEntity<StreamingResponseBody> response = expenseController.exportExpenses(null);
+        assertEquals(401, response.getStatusCodeValue());
+        verifyNoInteractions(transactionExportService);
+    }
+
+    @Test
+    void testImportTransactions_Success() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "bank.csv", "text/csv", "date,amount\n2024-01-01,-5\n".getBytes());
+        ImportResultDto result = new ImportResultDto(1, 0, 3, 333.3);
+        when(transactionImportService.importTransactions(eq(USER_ID), eq("bank.csv"), any(InputStream.class), eq(0L))).thenReturn(result);
+
+        ResponseEntity<ApiResponse<ImportResultDto>> response = expenseController.importTransactions(VALID_TOKEN, file, 0);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertSame(result, response.getBody().getData());
+    }
+
+    @Test
+    void testImportTransactions_ServiceThrows() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "bank.csv", "text/csv", new byte[0]);
+        when(transactionImportService.importTransactions(eq(USER_ID), eq("bank.csv"), any(InputStream.class), eq(0L)))
+                .thenThrow(new IllegalArgumentException("File is empty"));
+
+        ResponseEntity<ApiResponse<ImportResultDto>> response = expenseController.importTransactions(VALID_TOKEN, file, 0);
+
+        assertEquals(400, response.getStatusCodeValue());
+        assertEquals("IMPORT_FAILED", response.getBody().getError().getCode());
+    }
+
+    @Test
+    void testImportTransactions_InterruptedReturnsResumePoint() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "bank.csv", "text/csv", new byte[0]);
+        when(transactionImportService.importTransactions(eq(USER_ID), eq("bank.csv"), any(InputStream.class), eq(500L)))
+                .thenThrow(new ImportInterruptedException(500, 1001, new IllegalStateException("connection lost")));
+
+        ResponseEntity<ApiResponse<ImportResultDto>> response = expenseController.importTransactions(VALID_TOKEN, file, 500);
+
+        assertEquals(400, response.getStatusCodeValue());
+        assertEquals("IMPORT_INTERRUPTED", response.getBody().getError().getCode());
+        assertEquals(500L, response.getBody().getError().getDetails().get("imported"));
+        assertEquals(1001L, response.getBody().getError().getDetails().get("resumeFrom"));
+    }
+
+    @Test
+    void testImportTransactions_NoToken() {
+        MockMultipartFile file = new MockMultipartFile("file", "bank.csv", "text/csv", new byte[0]);
+
+        ResponseEntity<ApiResponse<ImportResultDto>> response = expenseController.importTransactions(null, file, 0);
+
+        assertEquals(401, response.getStatusCodeValue());
+        verifyNoInteractions(transactionImportService);
+    }
+}
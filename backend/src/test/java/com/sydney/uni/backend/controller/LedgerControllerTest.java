@@ -0,0 +1,96 @@
+package com.sydney.uni.backend.controller;
+
+import com.sydney.uni.backend.dto.ApiResponse;
+import com.sydney.uni.backend.dto.LedgerBalanceDto;
+import com.sydney.uni.backend.services.LedgerService;
+import com.sydney.uni.backend.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LedgerControllerTest {
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @InjectMocks
+    private LedgerController ledgerController;
+
+    private static final String VALID_TOKEN = "Bearer valid.jwt.token";
+    private static final String VALID_TOKEN_VALUE = "valid.jwt.token";
+    private static final Long USER_ID = 1L;
+
+    @BeforeEach
+    void setup() {
+        when(jwtUtil.extractUserId(VALID_TOKEN_VALUE)).thenReturn(USER_ID);
+    }
+
+    @Test
+    void testGetBalance_Current() {
+        LedgerBalanceDto dto = new LedgerBalanceDto(10000L, 2000L, LocalDateTime.now(), 3L, 10000L, 2000L);
+        when(ledgerService.getUserBalance(USER_ID, null)).thenReturn(dto);
+
+        ResponseEntity<ApiResponse<LedgerBalanceDto>> response = ledgerController.getBalance(VALID_TOKEN, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertTrue(response.getBody().isSuccess());
+        assertSame(dto, response.getBody().getData());
+    }
+
+    @Test
+    void testGetBalance_AtTime() {
+        LocalDateTime at = LocalDateTime.of(2024, 5, 1, 9, 30);
+        LedgerBalanceDto dto = new LedgerBalanceDto(8000L, 0L, at, 2L, null, null);
+        when(ledgerService.getUserBalance(USER_ID, at)).thenReturn(dto);
+
+        ResponseEntity<ApiResponse<LedgerBalanceDto>> response = ledgerController.getBalance(VALID_TOKEN, at);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(8000L, response.getBody().getData().getBalanceCents());
+    }
+
+    @Test
+    void testGetBalance_Unauthorized() {
+        ResponseEntity<ApiResponse<LedgerBalanceDto>> response = ledgerController.getBalance(null, null);
+
+        assertEquals(401, response.getStatusCode().value());
+        assertEquals("UNAUTHORIZED", response.getBody().getError().getCode());
+        verifyNoInteractions(ledgerService);
+    }
+
+    @Test
+    void testGetBalance_ServiceError() {
+        when(ledgerService.getUserBalance(USER_ID, null)).thenThrow(new RuntimeException("No account found for user"));
+
+        ResponseEntity<ApiResponse<LedgerBalanceDto>> response = ledgerController.getBalance(VALID_TOKEN, null);
+
+        assertEquals(400, response.getStatusCode().value());
+        assertEquals("LEDGER_BALANCE_FAILED", response.getBody().getError().getCode());
+    }
+
+    @Test
+    void testGetBalance_InvalidToken() {
+        when(jwtUtil.extractUserId("bad")).thenReturn(null);
+
+        ResponseEntity<ApiResponse<LedgerBalanceDto>> response = ledgerController.getBalance("Bearer bad", null);
+
+        assertEquals(401, response.getStatusCode().value());
+        assertEquals("INVALID_TOKEN", response.getBody().getError().getCode());
+    }
+}
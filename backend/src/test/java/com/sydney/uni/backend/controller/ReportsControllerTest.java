@@ -2,7 +2,8 @@ package com.sydney.uni.backend.controller;
 
 import com.sydney.uni.backend.dto.ReportsDto;
 import com.sydney.uni.backend.dto.ReportsMetricsDto;
-import com.sydney.uni.backend.services.ReportsService;
+import com.sydney.uni.backend.services.ReportsResultCache;
+import com.sydney.uni.backend.services.UserDataVersions;
 import com.sydney.uni.backend.utils.JwtUtil;
 import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,27 +14,32 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ReportsControllerTest {
 
     @Mock
-    private ReportsService reportsService;
+    private ReportsResultCache reportsResultCache;
 
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserDataVersions userDataVersions;
+
     @InjectMocks
     private ReportsController reportsController;
 
     private static final String VALID_TOKEN = "Bearer valid.jwt.token";
+    private static final String ETAG = "\"tag\"";
     private static final String VALID_TOKEN_VALUE = "valid.jwt.token";
     private static final String INVALID_TOKEN = "Bearer invalid.token";
     private static final String INVALID_TOKEN_VALUE = "invalid.token";
@@ -44,7 +50,8 @@ class ReportsControllerTest {
     @BeforeEach
     void setup() {
         when(jwtUtil.extractUserId(VALID_TOKEN_VALUE)).thenReturn(USER_ID);
-        ReportsMetricsDto metrics = new ReportsMetricsDto(1000.0, 500.0, 100.0, 500.0, 0.5);
+        when(userDataVersions.etag(anyLong(), anyString())).thenReturn(ETAG);
+        ReportsMetricsDto metrics = new ReportsMetricsDto(100000L, 50000L, 10000L, 50000L, 0.5);
         mockReportsDto = new ReportsDto(
                 Collections.emptyList(),
                 Collections.emptyList(),
@@ -56,20 +63,20 @@ class ReportsControllerTest {
     @Test
     void testGetReports_Success() {
         String period = "6months";
-        when(reportsService.getReportsData(USER_ID, period)).thenReturn(mockReportsDto);
-        ResponseEntity<Object> response = reportsController.getReports(period, VALID_TOKEN);
+        when(reportsResultCache.getReportsData(USER_ID, period)).thenReturn(mockReportsDto);
+        ResponseEntity<Object> response = reportsController.getReports(period, VALID_TOKEN, null);
         assertEquals(200, response.getStatusCodeValue());
         assertNotNull(response.getBody());
         assertTrue(response.getBody() instanceof ReportsDto);
         ReportsDto body = (ReportsDto) response.getBody();
-        assertEquals(1000.0, body.getMetrics().getTotalIncome());
-        assertEquals(500.0, body.getMetrics().getTotalExpenses());
+        assertEquals(100000L, body.getMetrics().getTotalIncomeCents());
+        assertEquals(50000L, body.getMetrics().getTotalExpensesCents());
     }
 
     @Test
     void testGetReports_Unauthorized_NoToken() {
         String period = "6months";
-        ResponseEntity<Object> response = reportsController.getReports(period, null);
+        ResponseEntity<Object> response = reportsController.getReports(period, null, null);
         assertEquals(401, response.getStatusCodeValue());
         assertNotNull(response.getBody());
         assertEquals("Unauthorized: Missing or invalid token", response.getBody());
@@ -80,7 +87,7 @@ class ReportsControllerTest {
         String period = "6months";
         String badToken = "InvalidFormat";
 
-        ResponseEntity<Object> response = reportsController.getReports(period, badToken);
+        ResponseEntity<Object> response = reportsController.getReports(period, badToken, null);
 
         assertEquals(401, response.getStatusCodeValue());
         assertNotNull(response.getBody());
@@ -92,7 +99,7 @@ class ReportsControllerTest {
         String period = "6months";
         when(jwtUtil.extractUserId(INVALID_TOKEN_VALUE)).thenThrow(new JwtException("Invalid signature"));
 
-        ResponseEntity<Object> response = reportsController.getReports(period, INVALID_TOKEN);
+        ResponseEntity<Object> response = reportsController.getReports(period, INVALID_TOKEN, null);
 
         assertEquals(401, response.getStatusCodeValue());
         assertNotNull(response.getBody());
@@ -104,7 +111,7 @@ class ReportsControllerTest {
         String period = "6months";
         when(jwtUtil.extractUserId(VALID_TOKEN_VALUE)).thenReturn(null);
 
-        ResponseEntity<Object> response = reportsController.getReports(period, VALID_TOKEN);
+        ResponseEntity<Object> response = reportsController.getReports(period, VALID_TOKEN, null);
 
         assertEquals(401, response.getStatusCodeValue());
         assertNotNull(response.getBody());
@@ -114,12 +121,32 @@ class ReportsControllerTest {
     @Test
     void testGetReports_ServiceFailure() {
         String period = "6months";
-        when(reportsService.getReportsData(USER_ID, period)).thenThrow(new RuntimeException("Database error"));
+        when(reportsResultCache.getReportsData(USER_ID, period)).thenThrow(new RuntimeException("Database error"));
 
-        ResponseEntity<Object> response = reportsController.getReports(period, VALID_TOKEN);
+        ResponseEntity<Object> response = reportsController.getReports(period, VALID_TOKEN, null);
 
         assertEquals(401, response.getStatusCodeValue());
         assertNotNull(response.getBody());
         assertEquals("Unauthorized: Invalid token", response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetReports_ETagDependsOnPeriod() {
+        when(reportsResultCache.getReportsData(USER_ID, "year")).thenReturn(mockReportsDto);
+
+        ResponseEntity<Object> response = reportsController.getReports("year", VALID_TOKEN, null);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        verify(userDataVersions).etag(eq(USER_ID), startsWith("reports-year-"));
+    }
+
+    @Test
+    void testGetReports_NotModifiedSkipsComputation() {
+        ResponseEntity<Object> response = reportsController.getReports("6months", VALID_TOKEN, "\"other\", " + ETAG);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verifyNoInteractions(reportsResultCache);
+    }
+}
@@ -4,6 +4,7 @@ import com.sydney.uni.backend.dto.ApiResponse;
 import com.sydney.uni.backend.dto.SaveGoalRequest;
 import com.sydney.uni.backend.entity.SaveGoal;
 import com.sydney.uni.backend.services.SaveGoalService;
+import com.sydney.uni.backend.services.UserDataVersions;
 import com.sydney.uni.backend.utils.JwtUtil;
 import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,13 +15,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,10 +39,14 @@ class SaveGoalControllerTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserDataVersions userDataVersions;
+
     @InjectMocks
     private SaveGoalController saveGoalController;
 
     private static final String VALID_TOKEN = "Bearer valid.jwt.token";
+    private static final String ETAG = "\"tag\"";
     private static final String VALID_TOKEN_VALUE = "valid.jwt.token";
     private static final String INVALID_TOKEN = "Bearer invalid.token";
     private static final String INVALID_TOKEN_VALUE = "invalid.token";
@@ -48,15 +58,16 @@ class SaveGoalControllerTest {
     @BeforeEach
     void setup() {
         when(jwtUtil.extractUserId(VALID_TOKEN_VALUE)).thenReturn(USER_ID);
+        when(userDataVersions.etag(anyLong(), anyString())).thenReturn(ETAG);
 
         saveGoalRequest = new SaveGoalRequest();
-        saveGoalRequest.setTargetAmount(5000.0);
+        saveGoalRequest.setTargetAmountCents(500000L);
         saveGoalRequest.setDescription("Trip to Japan");
 
         mockSaveGoal = new SaveGoal();
         mockSaveGoal.setId(1L);
         // The problematic line 'mockSaveGoal.setUserId(USER_ID);' has been removed.
-        mockSaveGoal.setTargetAmount(5000.0);
+        mockSaveGoal.setTargetAmountCents(500000L);
         mockSaveGoal.setDescription("Trip to Japan");
     }
 
@@ -73,7 +84,7 @@ class SaveGoalControllerTest {
         assertEquals(200, response.getStatusCodeValue());
         assertNotNull(response.getBody());
         assertTrue(response.getBody().isSuccess());
-        assertEquals(5000.0, response.getBody().getData().getTargetAmount());
+        assertEquals(500000L, response.getBody().getData().getTargetAmountCents());
         assertEquals("Trip to Japan", response.getBody().getData().getDescription());
     }
 
@@ -144,7 +155,7 @@ class SaveGoalControllerTest {
         when(saveGoalService.getSaveGoal(USER_ID)).thenReturn(mockSaveGoal);
 
         ResponseEntity<ApiResponse<SaveGoal>> response =
-                saveGoalController.getSaveGoal(VALID_TOKEN);
+                saveGoalController.getSaveGoal(VALID_TOKEN, null);
 
         assertEquals(200, response.getStatusCodeValue());
         assertTrue(response.getBody().isSuccess());
@@ -156,7 +167,7 @@ class SaveGoalControllerTest {
         when(saveGoalService.getSaveGoal(USER_ID)).thenReturn(null);
 
         ResponseEntity<ApiResponse<SaveGoal>> response =
-                saveGoalController.getSaveGoal(VALID_TOKEN);
+                saveGoalController.getSaveGoal(VALID_TOKEN, null);
 
         assertEquals(404, response.getStatusCodeValue());
         assertFalse(response.getBody().isSuccess());
@@ -166,7 +177,7 @@ class SaveGoalControllerTest {
     @Test
     void testGetSaveGoal_Unauthorized() {
         ResponseEntity<ApiResponse<SaveGoal>> response =
-                saveGoalController.getSaveGoal(null);
+                saveGoalController.getSaveGoal(null, null);
 
         assertEquals(401, response.getStatusCodeValue());
         assertFalse(response.getBody().isSuccess());
@@ -176,7 +187,7 @@ class SaveGoalControllerTest {
     @Test
     void testGetSaveGoal_HeaderWithoutBearer_Unauthorized() {
         String badHeader = "Token x";
-        ResponseEntity<ApiResponse<SaveGoal>> response = saveGoalController.getSaveGoal(badHeader);
+        ResponseEntity<ApiResponse<SaveGoal>> response = saveGoalController.getSaveGoal(badHeader, null);
         assertEquals(401, response.getStatusCodeValue());
         assertFalse(response.getBody().isSuccess());
         assertEquals("UNAUTHORIZED", response.getBody().getError().getCode());
@@ -187,7 +198,7 @@ class SaveGoalControllerTest {
         when(jwtUtil.extractUserId(INVALID_TOKEN_VALUE)).thenThrow(new JwtException("Invalid signature"));
 
         ResponseEntity<ApiResponse<SaveGoal>> response =
-                saveGoalController.getSaveGoal(INVALID_TOKEN);
+                saveGoalController.getSaveGoal(INVALID_TOKEN, null);
 
         assertEquals(400, response.getStatusCodeValue());
         assertFalse(response.getBody().isSuccess());
@@ -200,7 +211,7 @@ class SaveGoalControllerTest {
         when(jwtUtil.extractUserId(VALID_TOKEN_VALUE)).thenReturn(null);
 
         ResponseEntity<ApiResponse<SaveGoal>> response =
-                saveGoalController.getSaveGoal(VALID_TOKEN);
+                saveGoalController.getSaveGoal(VALID_TOKEN, null);
 
         assertEquals(401, response.getStatusCodeValue());
         assertFalse(response.getBody().isSuccess());
@@ -213,7 +224,7 @@ class SaveGoalControllerTest {
     void testUpdateSaveGoal_Success() {
         SaveGoal updatedGoal = new SaveGoal();
         updatedGoal.setId(1L);
-        updatedGoal.setTargetAmount(6000.0);
+        updatedGoal.setTargetAmountCents(600000L);
         updatedGoal.setDescription("Updated Goal");
 
         when(saveGoalService.updateSaveGoal(eq(USER_ID), any(SaveGoalRequest.class)))
@@ -224,7 +235,7 @@ class SaveGoalControllerTest {
 
         assertEquals(200, response.getStatusCodeValue());
         assertTrue(response.getBody().isSuccess());
-        assertEquals(6000.0, response.getBody().getData().getTargetAmount());
+        assertEquals(600000L, response.getBody().getData().getTargetAmountCents());
     }
 
     @Test
@@ -310,4 +321,23 @@ class SaveGoalControllerTest {
         assertFalse(response.getBody().isSuccess());
         assertEquals("INVALID_TOKEN", response.getBody().getError().getCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetSaveGoal_NotModifiedSkipsService() {
+        ResponseEntity<ApiResponse<SaveGoal>> response = saveGoalController.getSaveGoal(VALID_TOKEN, "W/" + ETAG);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verifyNoInteractions(saveGoalService);
+    }
+
+    @Test
+    void testGetSaveGoal_StaleTagReturnsBody() {
+        when(saveGoalService.getSaveGoal(USER_ID)).thenReturn(new SaveGoal());
+
+        ResponseEntity<ApiResponse<SaveGoal>> response = saveGoalController.getSaveGoal(VALID_TOKEN, "\"older\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ETAG, response.getHeaders().getFirst(HttpHeaders.ETAG));
+    }
+}
@@ -47,14 +47,14 @@ class SaveMoneyControllerTest {
     void setup() {
         // 准备一个可重用的 Request DTO
         saveMoneyRequest = new SaveMoneyRequest();
-        saveMoneyRequest.setAmount(100.0);
+        saveMoneyRequest.setAmountCents(10000L);
         saveMoneyRequest.setDescription("Test save");
 
         // 准备一个可重用的 Account 实体
         mockAccount = new Account();
         // mockAccount.setId(1);
-        // mockAccount.setBalance(1000.0);
-        // mockAccount.setSaved(100.0);
+        // mockAccount.setBalanceCents(100000L);
+        // mockAccount.setSavedCents(10000L);
 
         // 模拟通用的 Token 校验
         when(jwtUtil.extractUserId(VALID_TOKEN_VALUE)).thenReturn(USER_ID);
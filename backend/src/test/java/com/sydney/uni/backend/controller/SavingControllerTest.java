@@ -60,7 +60,7 @@ class SavingControllerTest {
     @Test
     void testSaveMoney_Success() {
         SaveMoneyRequest request = new SaveMoneyRequest();
-        request.setAmount(100.0);
+        request.setAmountCents(10000L);
         request.setDescription("Saving for holiday");
 
         when(saveMoneyService.saveMoney(eq(USER_ID), any(SaveMoneyRequest.class)))
@@ -139,7 +139,7 @@ class SavingControllerTest {
     @Test
     void testUnsaveMoney_Success() {
         UnsaveMoneyRequest request = new UnsaveMoneyRequest();
-        request.setAmount(50.0);
+        request.setAmountCents(5000L);
         request.setDescription("Need cash");
 
         when(saveMoneyService.unsaveMoney(eq(USER_ID), any(UnsaveMoneyRequest.class)))
@@ -196,14 +196,14 @@ class SavingControllerTest {
         SavingLog log1 = new SavingLog();
         log1.setId(1L);
         log1.setAction(SavingAction.SAVE);
-        log1.setAmount(100.0);
+        log1.setAmountCents(10000L);
         log1.setDescription("Saved");
         log1.setTimestamp(LocalDateTime.now());
 
         SavingLog log2 = new SavingLog();
         log2.setId(2L);
         log2.setAction(SavingAction.UNSAVE);
-        log2.setAmount(50.0);
+        log2.setAmountCents(5000L);
         log2.setDescription("Unsaved");
         log2.setTimestamp(LocalDateTime.now().minusDays(1));
 
@@ -0,0 +1,106 @@
+package com.sydney.uni.backend.controller;
+
+import com.sydney.uni.backend.dto.ApiResponse;
+import com.sydney.uni.backend.dto.TransactionDto;
+import com.sydney.uni.backend.dto.TransactionSearchPageDto;
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.services.DashboardService;
+import com.sydney.uni.backend.services.TransactionSearchService;
+import com.sydney.uni.backend.utils.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TransactionControllerTest {
+
+    @Mock
+    private TransactionSearchService transactionSearchService;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @InjectMocks
+    private TransactionController transactionController;
+
+    private static final String VALID_TOKEN = "Bearer valid.jwt.token";
+    private static final String VALID_TOKEN_VALUE = "valid.jwt.token";
+    private static final Long USER_ID = 1L;
+
+    @BeforeEach
+    void setup() {
+        when(jwtUtil.extractUserId(VALID_TOKEN_VALUE)).thenReturn(USER_ID);
+        when(jwtUtil.extractUserId("invalid.token")).thenThrow(new JwtException("Invalid token"));
+    }
+
+    @Test
+    void testSearch_Success() {
+        Transaction transaction = new Transaction();
+        transaction.setId(7L);
+        TransactionDto dto = new TransactionDto();
+        dto.setId(7L);
+        when(transactionSearchService.search(USER_ID, "uber", 1, 20))
+            .thenReturn(new SliceImpl<>(List.of(transaction), PageRequest.of(1, 20), true));
+        when(dashboardService.convertToTransactionDto(transaction)).thenReturn(dto);
+
+        ResponseEntity<ApiResponse<TransactionSearchPageDto>> response =
+            transactionController.search(VALID_TOKEN, "uber", 1, 20);
+
+        assertEquals(200, response.getStatusCode().value());
+        TransactionSearchPageDto page = response.getBody().getData();
+        assertEquals(List.of(dto), page.getItems());
+        assertEquals(1, page.getPage());
+        assertTrue(page.isHasNext());
+    }
+
+    @Test
+    void testSearch_NoToken() {
+        ResponseEntity<ApiResponse<TransactionSearchPageDto>> response =
+            transactionController.search(null, "uber", 0, 20);
+
+        assertEquals(401, response.getStatusCode().value());
+        assertEquals("UNAUTHORIZED", response.getBody().getError().getCode());
+        verifyNoInteractions(transactionSearchService);
+    }
+
+    @Test
+    void testSearch_InvalidToken() {
+        when(jwtUtil.extractUserId("bad")).thenReturn(null);
+
+        ResponseEntity<ApiResponse<TransactionSearchPageDto>> response =
+            transactionController.search("Bearer bad", "uber", 0, 20);
+
+        assertEquals(401, response.getStatusCode().value());
+        assertEquals("INVALID_TOKEN", response.getBody().getError().getCode());
+    }
+
+    @Test
+    void testSearch_ServiceFailure() {
+        when(transactionSearchService.search(USER_ID, "!!", 0, 20))
+            .thenThrow(new RuntimeException("Search query must contain letters or digits"));
+
+        ResponseEntity<ApiResponse<TransactionSearchPageDto>> response =
+            transactionController.search(VALID_TOKEN, "!!", 0, 20);
+
+        assertEquals(400, response.getStatusCode().value());
+        assertEquals("SEARCH_FAILED", response.getBody().getError().getCode());
+    }
+}
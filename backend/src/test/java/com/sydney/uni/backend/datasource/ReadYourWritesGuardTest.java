@@ -0,0 +1,51 @@
+package com.sydney.uni.backend.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesGuardTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private final ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofSeconds(5), now::get);
+
+    @Test
+    void testUserWithoutWritesCanUseReplica() {
+        assertFalse(guard.requiresPrimary(1L));
+        assertFalse(guard.requiresPrimary(null));
+    }
+
+    @Test
+    void testRecentWriterStaysOnPrimaryUntilWindowPasses() {
+        guard.recordWrite(1L);
+
+        now.set(Duration.ofSeconds(4).toNanos());
+        assertTrue(guard.requiresPrimary(1L));
+        assertFalse(guard.requiresPrimary(2L));
+
+        now.set(Duration.ofSeconds(5).toNanos());
+        assertFalse(guard.requiresPrimary(1L));
+    }
+
+    @Test
+    void testPurgeDropsExpiredEntriesOnly() {
+        guard.recordWrite(1L);
+        now.set(Duration.ofSeconds(3).toNanos());
+        guard.recordWrite(2L);
+
+        now.set(Duration.ofSeconds(6).toNanos());
+        guard.purgeExpired();
+
+        assertFalse(guard.requiresPrimary(1L));
+        assertTrue(guard.requiresPrimary(2L));
+    }
+
+    @Test
+    void testNullUserIsIgnored() {
+        guard.recordWrite(null);
+        assertFalse(guard.requiresPrimary(null));
+    }
+}
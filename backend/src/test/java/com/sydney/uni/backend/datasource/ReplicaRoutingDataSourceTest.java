@@ -0,0 +1,139 @@
+package com.sydney.uni.backend.datasource;
+
+import com.sydney.uni.backend.utils.CurrentUserHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofMinutes(1));
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(guard);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Also releases the replica marker a test may have left bound
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_UNKNOWN));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        CurrentUserHolder.clear();
+    }
+
+    @Test
+    void testReadWriteTransactionUsesPrimary() {
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        CurrentUserHolder.set(1L);
+
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReadAfterOwnCommittedWriteUsesPrimary() {
+        CurrentUserHolder.set(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+        // Nothing is recorded until the write commits
+        assertFalse(guard.requiresPrimary(1L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+
+        // Other users are unaffected
+        CurrentUserHolder.set(2L);
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testRolledBackWriteDoesNotPinUser() {
+        CurrentUserHolder.set(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        routing.determineCurrentLookupKey();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertFalse(guard.requiresPrimary(1L));
+    }
+
+    @Test
+    void testPrimaryReadUsesPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        PrimaryReads primaryReads = new PrimaryReads(TransactionOperations.withoutTransaction(),
+            TransactionOperations.withoutTransaction());
+
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, primaryReads.read(routing::determineCurrentLookupKey));
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReplicaConnectionMarksTransactionUntilCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertFalse(ReplicaRoutingDataSource.isOnReplica());
+
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routing.determineCurrentLookupKey());
+        assertTrue(ReplicaRoutingDataSource.isOnReplica());
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertFalse(ReplicaRoutingDataSource.isOnReplica());
+    }
+
+    @Test
+    void testPrimaryReadJoinsCallerNotOnReplica() {
+        AtomicInteger separate = new AtomicInteger();
+        PrimaryReads primaryReads = new PrimaryReads(TransactionOperations.withoutTransaction(), countingTransaction(separate));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // A read-write caller, then a read-only one the guard keeps on the primary
+        CurrentUserHolder.set(1L);
+        routing.determineCurrentLookupKey();
+        primaryReads.read(() -> null);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+        primaryReads.read(() -> null);
+
+        assertEquals(0, separate.get());
+    }
+
+    @Test
+    void testPrimaryReadOpensSeparateTransactionOnReplica() {
+        AtomicInteger separate = new AtomicInteger();
+        PrimaryReads primaryReads = new PrimaryReads(TransactionOperations.withoutTransaction(), countingTransaction(separate));
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routing.determineCurrentLookupKey();
+
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, primaryReads.read(routing::determineCurrentLookupKey));
+        assertEquals(1, separate.get());
+    }
+
+    private static TransactionOperations countingTransaction(AtomicInteger count) {
+        return new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                count.incrementAndGet();
+                return action.doInTransaction(null);
+            }
+        };
+    }
+}
@@ -14,12 +14,12 @@ class BudgetComparisonDtoTest {
 
     @Test
     void testParameterizedConstructorAndGetters() {
-        BudgetComparisonDto dto = new BudgetComparisonDto("Food", 500.0, 300.0, 200.0);
+        BudgetComparisonDto dto = new BudgetComparisonDto("Food", 50000L, 30000L, 20000L);
 
         assertEquals("Food", dto.getCategory());
-        assertEquals(500.0, dto.getBudgeted());
-        assertEquals(300.0, dto.getSpent());
-        assertEquals(200.0, dto.getRemaining());
+        assertEquals(50000L, dto.getBudgetedCents());
+        assertEquals(30000L, dto.getSpentCents());
+        assertEquals(20000L, dto.getRemainingCents());
     }
 
     @Test
@@ -27,13 +27,13 @@ class BudgetComparisonDtoTest {
         BudgetComparisonDto dto = new BudgetComparisonDto();
 
         dto.setCategory("Travel");
-        dto.setBudgeted(1000.0);
-        dto.setSpent(100.0);
-        dto.setRemaining(900.0);
+        dto.setBudgetedCents(100000L);
+        dto.setSpentCents(10000L);
+        dto.setRemainingCents(90000L);
 
         assertEquals("Travel", dto.getCategory());
-        assertEquals(1000.0, dto.getBudgeted());
-        assertEquals(100.0, dto.getSpent());
-        assertEquals(900.0, dto.getRemaining());
+        assertEquals(100000L, dto.getBudgetedCents());
+        assertEquals(10000L, dto.getSpentCents());
+        assertEquals(90000L, dto.getRemainingCents());
     }
 }
\ No newline at end of file
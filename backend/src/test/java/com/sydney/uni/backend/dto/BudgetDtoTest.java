@@ -12,17 +12,17 @@ class BudgetDtoTest {
         dto.setId(1L);
         dto.setCategory("Food");
         dto.setPeriod("Monthly");
-        dto.setAmount(500.0);
-        dto.setSpent(250.0);
-        dto.setRemaining(250.0);
+        dto.setAmountCents(50000L);
+        dto.setSpentCents(25000L);
+        dto.setRemainingCents(25000L);
         dto.setUtilizationPercentage(50.0);
 
         assertEquals(1L, dto.getId());
         assertEquals("Food", dto.getCategory());
         assertEquals("Monthly", dto.getPeriod());
-        assertEquals(500.0, dto.getAmount());
-        assertEquals(250.0, dto.getSpent());
-        assertEquals(250.0, dto.getRemaining());
+        assertEquals(50000L, dto.getAmountCents());
+        assertEquals(25000L, dto.getSpentCents());
+        assertEquals(25000L, dto.getRemainingCents());
         assertEquals(50.0, dto.getUtilizationPercentage());
     }
 
@@ -73,15 +73,15 @@ class BudgetDtoTest {
         a.setId(1L);
         assertNotEquals(a, b);
         b.setId(1L);
-        a.setAmount(100.0);
-        b.setAmount(100.0);
+        a.setAmountCents(10000L);
+        b.setAmountCents(10000L);
         assertEquals(a, b);
-        a.setSpent(10.0);
+        a.setSpentCents(1000L);
         assertNotEquals(a, b);
-        b.setSpent(10.0);
-        b.setRemaining(90.0);
+        b.setSpentCents(1000L);
+        b.setRemainingCents(9000L);
         assertNotEquals(a, b);
-        a.setRemaining(90.0);
+        a.setRemainingCents(9000L);
         a.setUtilizationPercentage(10.0);
         assertNotEquals(a, b);
         b.setUtilizationPercentage(10.0);
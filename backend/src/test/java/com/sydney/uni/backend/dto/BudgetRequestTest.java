@@ -10,11 +10,11 @@ class BudgetRequestTest {
         BudgetRequest request = new BudgetRequest();
 
         request.setCategory("Utilities");
-        request.setAmount(150.0);
+        request.setAmountCents(15000L);
         request.setPeriod("Monthly");
 
         assertEquals("Utilities", request.getCategory());
-        assertEquals(150.0, request.getAmount());
+        assertEquals(15000L, request.getAmountCents());
         assertEquals("Monthly", request.getPeriod());
     }
 
@@ -22,11 +22,11 @@ class BudgetRequestTest {
     void testLombokGeneratedMethods() {
         BudgetRequest request1 = new BudgetRequest();
         request1.setCategory("Utilities");
-        request1.setAmount(150.0);
+        request1.setAmountCents(15000L);
 
         BudgetRequest request2 = new BudgetRequest();
         request2.setCategory("Utilities");
-        request2.setAmount(150.0);
+        request2.setAmountCents(15000L);
 
         assertEquals(request1, request2);
         assertEquals(request1.hashCode(), request2.hashCode());
@@ -45,10 +45,10 @@ class BudgetRequestTest {
         assertEquals(a, b);
         assertEquals(a.hashCode(), b.hashCode());
 
-        a.setAmount(1.0);
+        a.setAmountCents(100L);
         assertNotEquals(a, b);
 
-        b.setAmount(1.0);
+        b.setAmountCents(100L);
         b.setCategory("C");
         assertNotEquals(a, b);
 
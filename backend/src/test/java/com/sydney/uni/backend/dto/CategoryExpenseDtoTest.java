@@ -7,25 +7,25 @@ class CategoryExpenseDtoTest {
 
     @Test
     void testParameterizedConstructorAndGetters() {
-        CategoryExpenseDto dto = new CategoryExpenseDto("Food", 100.0, "#FF0000", "50%");
+        CategoryExpenseDto dto = new CategoryExpenseDto("Food", 10000L, "#FF0000", "50%");
 
         assertEquals("Food", dto.getCategory());
-        assertEquals(100.0, dto.getAmount());
+        assertEquals(10000L, dto.getAmountCents());
         assertEquals("#FF0000", dto.getColor());
         assertEquals("50%", dto.getPercentage());
     }
 
     @Test
     void testSetters() {
-        CategoryExpenseDto dto = new CategoryExpenseDto(null, null, null, null);
+        CategoryExpenseDto dto = new CategoryExpenseDto(null, 0L, null, null);
 
         dto.setCategory("Travel");
-        dto.setAmount(200.0);
+        dto.setAmountCents(20000L);
         dto.setColor("#00FF00");
         dto.setPercentage("25%");
 
         assertEquals("Travel", dto.getCategory());
-        assertEquals(200.0, dto.getAmount());
+        assertEquals(20000L, dto.getAmountCents());
         assertEquals("#00FF00", dto.getColor());
         assertEquals("25%", dto.getPercentage());
     }
@@ -0,0 +1,20 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryTotalTest {
+
+    @Test
+    void testAccessorsAndEquality() {
+        CategoryTotal a = new CategoryTotal(ExpenseCategory.TRAVEL, 30000L);
+        CategoryTotal b = new CategoryTotal(ExpenseCategory.TRAVEL, 30000L);
+
+        assertEquals(ExpenseCategory.TRAVEL, a.category());
+        assertEquals(30000L, a.totalCents());
+        assertEquals(a, b);
+        assertNotEquals(a, new CategoryTotal(ExpenseCategory.FOOD_DINING, 30000L));
+    }
+}
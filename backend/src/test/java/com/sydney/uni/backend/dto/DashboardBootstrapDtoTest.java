@@ -0,0 +1,47 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.SaveGoal;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DashboardBootstrapDtoTest {
+
+    @Test
+    void testGettersAndSetters() {
+        DashboardBootstrapDto dto = new DashboardBootstrapDto();
+        DashboardStatsDto stats = new DashboardStatsDto();
+        stats.setTotalBalanceCents(1000L);
+        BudgetDto budget = new BudgetDto();
+        budget.setId(2L);
+        TransactionDto transaction = new TransactionDto();
+        transaction.setId(3L);
+        SaveGoal goal = new SaveGoal();
+        goal.setTargetAmountCents(5000L);
+
+        dto.setStats(stats);
+        dto.setTransactions(List.of(transaction));
+        dto.setBudgets(List.of(budget));
+        dto.setSaveGoal(goal);
+
+        assertEquals(1000L, dto.getStats().getTotalBalanceCents());
+        assertEquals(3L, dto.getTransactions().get(0).getId());
+        assertEquals(2L, dto.getBudgets().get(0).getId());
+        assertEquals(5000L, dto.getSaveGoal().getTargetAmountCents());
+    }
+
+    @Test
+    void testAllArgsConstructorAndEquality() {
+        DashboardBootstrapDto a = new DashboardBootstrapDto(new DashboardStatsDto(), List.of(), List.of(), null);
+        DashboardBootstrapDto b = new DashboardBootstrapDto(new DashboardStatsDto(), List.of(), List.of(), null);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNull(a.getSaveGoal());
+
+        b.setSaveGoal(new SaveGoal());
+        assertNotEquals(a, b);
+    }
+}
@@ -0,0 +1,40 @@
+package com.sydney.uni.backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DashboardDeltaDtoTest {
+
+    @Test
+    void testGettersAndSetters() {
+        DashboardDeltaDto dto = new DashboardDeltaDto();
+        TransactionDto transaction = new TransactionDto();
+        transaction.setId(3L);
+
+        dto.setChange("TRANSACTION_CREATED");
+        dto.setBalanceDeltaCents(-1500L);
+        dto.setSavedDeltaCents(0L);
+        dto.setMonthlySpendingDeltaCents(1500L);
+        dto.setTransaction(transaction);
+
+        assertEquals("TRANSACTION_CREATED", dto.getChange());
+        assertEquals(-1500L, dto.getBalanceDeltaCents());
+        assertEquals(0L, dto.getSavedDeltaCents());
+        assertEquals(1500L, dto.getMonthlySpendingDeltaCents());
+        assertEquals(3L, dto.getTransaction().getId());
+    }
+
+    @Test
+    void testAllArgsConstructorAndEquality() {
+        DashboardDeltaDto a = new DashboardDeltaDto("SAVINGS_CHANGED", -2000L, 2000L, 0L, null);
+        DashboardDeltaDto b = new DashboardDeltaDto("SAVINGS_CHANGED", -2000L, 2000L, 0L, null);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNull(a.getTransaction());
+
+        b.setSavedDeltaCents(1000L);
+        assertNotEquals(a, b);
+    }
+}
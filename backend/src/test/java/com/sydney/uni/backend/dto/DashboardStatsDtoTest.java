@@ -9,26 +9,26 @@ class DashboardStatsDtoTest {
     void testGettersAndSetters() {
         DashboardStatsDto dto = new DashboardStatsDto();
 
-        dto.setTotalBalance(10000.0);
-        dto.setSaved(2000.0);
-        dto.setMonthlySpending(1500.0);
-        dto.setBudgetLeft(500.0);
-        dto.setSavingsGoal(10000.0);
+        dto.setTotalBalanceCents(1000000L);
+        dto.setSavedCents(200000L);
+        dto.setMonthlySpendingCents(150000L);
+        dto.setBudgetLeftCents(50000L);
+        dto.setSavingsGoalCents(1000000L);
         dto.setSavingsProgress(20.0);
         dto.setBudgetUsedPercentage(75.0);
         dto.setMonthlySpendingChange(10.0);
-        dto.setLastMonthSpending(1350.0);
+        dto.setLastMonthSpendingCents(135000L);
         dto.setHasSavingsGoal(true);
 
-        assertEquals(10000.0, dto.getTotalBalance());
-        assertEquals(2000.0, dto.getSaved());
-        assertEquals(1500.0, dto.getMonthlySpending());
-        assertEquals(500.0, dto.getBudgetLeft());
-        assertEquals(10000.0, dto.getSavingsGoal());
+        assertEquals(1000000L, dto.getTotalBalanceCents());
+        assertEquals(200000L, dto.getSavedCents());
+        assertEquals(150000L, dto.getMonthlySpendingCents());
+        assertEquals(50000L, dto.getBudgetLeftCents());
+        assertEquals(1000000L, dto.getSavingsGoalCents());
         assertEquals(20.0, dto.getSavingsProgress());
         assertEquals(75.0, dto.getBudgetUsedPercentage());
         assertEquals(10.0, dto.getMonthlySpendingChange());
-        assertEquals(1350.0, dto.getLastMonthSpending());
+        assertEquals(135000L, dto.getLastMonthSpendingCents());
         assertTrue(dto.getHasSavingsGoal());
     }
 
@@ -49,51 +49,51 @@ class DashboardStatsDtoTest {
     @Test
     void testEqualsDifferentFields() {
         DashboardStatsDto base = new DashboardStatsDto();
-        base.setTotalBalance(1.0);
-        base.setSaved(2.0);
-        base.setMonthlySpending(3.0);
-        base.setBudgetLeft(4.0);
-        base.setSavingsGoal(5.0);
+        base.setTotalBalanceCents(100L);
+        base.setSavedCents(200L);
+        base.setMonthlySpendingCents(300L);
+        base.setBudgetLeftCents(400L);
+        base.setSavingsGoalCents(500L);
         base.setSavingsProgress(6.0);
         base.setBudgetUsedPercentage(7.0);
         base.setMonthlySpendingChange(8.0);
-        base.setLastMonthSpending(9.0);
+        base.setLastMonthSpendingCents(900L);
         base.setHasSavingsGoal(true);
 
         DashboardStatsDto diff = new DashboardStatsDto();
-        diff.setTotalBalance(1.0);
-        diff.setSaved(2.0);
-        diff.setMonthlySpending(3.0);
-        diff.setBudgetLeft(4.0);
-        diff.setSavingsGoal(5.0);
+        diff.setTotalBalanceCents(100L);
+        diff.setSavedCents(200L);
+        diff.setMonthlySpendingCents(300L);
+        diff.setBudgetLeftCents(400L);
+        diff.setSavingsGoalCents(500L);
         diff.setSavingsProgress(6.0);
         diff.setBudgetUsedPercentage(7.0);
         diff.setMonthlySpendingChange(8.0);
-        diff.setLastMonthSpending(9.0);
+        diff.setLastMonthSpendingCents(900L);
         diff.setHasSavingsGoal(true);
 
         assertEquals(base, diff); // identical values
 
         // one-by-one inequality tests
-        diff.setTotalBalance(999.0);
+        diff.setTotalBalanceCents(99900L);
         assertNotEquals(base, diff);
-        diff.setTotalBalance(1.0);
+        diff.setTotalBalanceCents(100L);
 
-        diff.setSaved(999.0);
+        diff.setSavedCents(99900L);
         assertNotEquals(base, diff);
-        diff.setSaved(2.0);
+        diff.setSavedCents(200L);
 
-        diff.setMonthlySpending(999.0);
+        diff.setMonthlySpendingCents(99900L);
         assertNotEquals(base, diff);
-        diff.setMonthlySpending(3.0);
+        diff.setMonthlySpendingCents(300L);
 
-        diff.setBudgetLeft(999.0);
+        diff.setBudgetLeftCents(99900L);
         assertNotEquals(base, diff);
-        diff.setBudgetLeft(4.0);
+        diff.setBudgetLeftCents(400L);
 
-        diff.setSavingsGoal(999.0);
+        diff.setSavingsGoalCents(99900L);
         assertNotEquals(base, diff);
-        diff.setSavingsGoal(5.0);
+        diff.setSavingsGoalCents(500L);
 
         diff.setSavingsProgress(999.0);
         assertNotEquals(base, diff);
@@ -107,9 +107,9 @@ class DashboardStatsDtoTest {
         assertNotEquals(base, diff);
         diff.setMonthlySpendingChange(8.0);
 
-        diff.setLastMonthSpending(999.0);
+        diff.setLastMonthSpendingCents(99900L);
         assertNotEquals(base, diff);
-        diff.setLastMonthSpending(9.0);
+        diff.setLastMonthSpendingCents(900L);
 
         diff.setHasSavingsGoal(false);
         assertNotEquals(base, diff);
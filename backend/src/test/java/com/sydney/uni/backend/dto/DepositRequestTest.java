@@ -9,21 +9,21 @@ class DepositRequestTest {
     void testGettersAndSetters() {
         DepositRequest request = new DepositRequest();
 
-        request.setAmount(100.50);
+        request.setAmountCents(10050L);
         request.setDescription("Test Deposit");
 
-        assertEquals(100.50, request.getAmount());
+        assertEquals(10050L, request.getAmountCents());
         assertEquals("Test Deposit", request.getDescription());
     }
 
     @Test
     void testLombokGeneratedMethods() {
         DepositRequest request1 = new DepositRequest();
-        request1.setAmount(100.0);
+        request1.setAmountCents(10000L);
         request1.setDescription("Test");
 
         DepositRequest request2 = new DepositRequest();
-        request2.setAmount(100.0);
+        request2.setAmountCents(10000L);
         request2.setDescription("Test");
 
         assertEquals(request1, request2);
@@ -43,10 +43,10 @@ class DepositRequestTest {
         assertEquals(a, b);
         assertEquals(a.hashCode(), b.hashCode());
 
-        a.setAmount(1.0);
+        a.setAmountCents(100L);
         assertNotEquals(a, b);
 
-        b.setAmount(1.0);
+        b.setAmountCents(100L);
         b.setDescription("d");
         assertNotEquals(a, b);
     }
@@ -0,0 +1,39 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpenseFilterRequestTest {
+
+    @Test
+    void testGettersAndSetters() {
+        ExpenseFilterRequest filter = new ExpenseFilterRequest();
+        filter.setType(TransactionType.OUT);
+        filter.setFrom(LocalDate.of(2024, 1, 1));
+        filter.setTo(LocalDate.of(2024, 1, 31));
+        filter.setCategory("Travel");
+        filter.setMinAmount(new BigDecimal("5.00"));
+        filter.setMaxAmount(new BigDecimal("99.99"));
+
+        assertEquals(TransactionType.OUT, filter.getType());
+        assertEquals(LocalDate.of(2024, 1, 1), filter.getFrom());
+        assertEquals(LocalDate.of(2024, 1, 31), filter.getTo());
+        assertEquals("Travel", filter.getCategory());
+        assertEquals(new BigDecimal("5.00"), filter.getMinAmount());
+        assertEquals(new BigDecimal("99.99"), filter.getMaxAmount());
+    }
+
+    @Test
+    void testDefaultsAreUnset() {
+        ExpenseFilterRequest filter = new ExpenseFilterRequest();
+
+        assertNull(filter.getType());
+        assertNull(filter.getCategory());
+        assertEquals(filter, new ExpenseFilterRequest());
+    }
+}
@@ -0,0 +1,37 @@
+package com.sydney.uni.backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpensePageDtoTest {
+
+    @Test
+    void testGettersAndSetters() {
+        ExpensePageDto dto = new ExpensePageDto();
+        TransactionDto item = new TransactionDto();
+        item.setId(1L);
+
+        dto.setItems(List.of(item));
+        dto.setNextCursor("abc");
+
+        assertEquals(1, dto.getItems().size());
+        assertEquals(1L, dto.getItems().get(0).getId());
+        assertEquals("abc", dto.getNextCursor());
+    }
+
+    @Test
+    void testAllArgsConstructorAndEquality() {
+        ExpensePageDto a = new ExpensePageDto(List.of(), null);
+        ExpensePageDto b = new ExpensePageDto(List.of(), null);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNull(a.getNextCursor());
+
+        b.setNextCursor("next");
+        assertNotEquals(a, b);
+    }
+}
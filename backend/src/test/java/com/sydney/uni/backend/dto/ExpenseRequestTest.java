@@ -13,13 +13,13 @@ class ExpenseRequestTest {
 
         request.setDescription("Lunch");
         request.setCategory("Food & Dining");
-        request.setAmount(25.50);
+        request.setAmountCents(2550L);
         request.setDate(date);
         request.setNotes("With colleagues");
 
         assertEquals("Lunch", request.getDescription());
         assertEquals("Food & Dining", request.getCategory());
-        assertEquals(25.50, request.getAmount());
+        assertEquals(2550L, request.getAmountCents());
         assertEquals(date, request.getDate());
         assertEquals("With colleagues", request.getNotes());
     }
@@ -30,12 +30,12 @@ class ExpenseRequestTest {
 
         ExpenseRequest request1 = new ExpenseRequest();
         request1.setCategory("Food");
-        request1.setAmount(25.50);
+        request1.setAmountCents(2550L);
         request1.setDate(date);
 
         ExpenseRequest request2 = new ExpenseRequest();
         request2.setCategory("Food");
-        request2.setAmount(25.50);
+        request2.setAmountCents(2550L);
         request2.setDate(date);
 
         assertEquals(request1, request2);
@@ -55,10 +55,10 @@ class ExpenseRequestTest {
         assertEquals(a, b);
         assertEquals(a.hashCode(), b.hashCode());
 
-        a.setAmount(1.0);
+        a.setAmountCents(100L);
         assertNotEquals(a, b);
 
-        b.setAmount(1.0);
+        b.setAmountCents(100L);
         b.setDescription("d");
         assertNotEquals(a, b);
 
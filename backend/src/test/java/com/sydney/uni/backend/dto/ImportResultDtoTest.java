@@ -0,0 +1,34 @@
+package com.sydney.uni.backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportResultDtoTest {
+
+    @Test
+    void testGettersAndSetters() {
+        ImportResultDto dto = new ImportResultDto();
+        dto.setImported(1000);
+        dto.setSkipped(2);
+        dto.setElapsedMillis(250);
+        dto.setRowsPerSecond(4000.0);
+
+        assertEquals(1000, dto.getImported());
+        assertEquals(2, dto.getSkipped());
+        assertEquals(250, dto.getElapsedMillis());
+        assertEquals(4000.0, dto.getRowsPerSecond());
+    }
+
+    @Test
+    void testAllArgsConstructorAndEquality() {
+        ImportResultDto a = new ImportResultDto(10, 0, 5, 2000.0);
+        ImportResultDto b = new ImportResultDto(10, 0, 5, 2000.0);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        b.setSkipped(1);
+        assertNotEquals(a, b);
+    }
+}
@@ -0,0 +1,27 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportedTransactionTest {
+
+    @Test
+    void testAccessorsAndEquality() {
+        LocalDate date = LocalDate.of(2024, 2, 1);
+        ImportedTransaction a = new ImportedTransaction(date, TransactionType.OUT, 950L, "Travel", "Bus", null);
+        ImportedTransaction b = new ImportedTransaction(date, TransactionType.OUT, 950L, "Travel", "Bus", null);
+
+        assertEquals(date, a.date());
+        assertEquals(TransactionType.OUT, a.type());
+        assertEquals(950L, a.amountCents());
+        assertEquals("Travel", a.category());
+        assertEquals("Bus", a.description());
+        assertNull(a.notes());
+        assertEquals(a, b);
+        assertNotEquals(a, new ImportedTransaction(date, TransactionType.IN, 950L, "Travel", "Bus", null));
+    }
+}
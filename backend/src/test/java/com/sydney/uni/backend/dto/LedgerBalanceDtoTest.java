@@ -0,0 +1,34 @@
+package com.sydney.uni.backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerBalanceDtoTest {
+
+    @Test
+    void testAllArgsConstructorAndGetters() {
+        LocalDateTime asOf = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LedgerBalanceDto dto = new LedgerBalanceDto(50000L, 10000L, asOf, 12L, 50500L, 10000L);
+
+        assertEquals(50000L, dto.getBalanceCents());
+        assertEquals(10000L, dto.getSavedCents());
+        assertEquals(asOf, dto.getAsOf());
+        assertEquals(12L, dto.getReplayedEntries());
+        assertEquals(50500L, dto.getStoredBalanceCents());
+        assertEquals(10000L, dto.getStoredSavedCents());
+    }
+
+    @Test
+    void testNoArgsConstructorAndSetters() {
+        LedgerBalanceDto dto = new LedgerBalanceDto();
+        dto.setBalanceCents(100L);
+        dto.setReplayedEntries(0L);
+
+        assertEquals(100L, dto.getBalanceCents());
+        assertEquals(0L, dto.getReplayedEntries());
+        assertNull(dto.getStoredBalanceCents());
+    }
+}
@@ -0,0 +1,21 @@
+package com.sydney.uni.backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerTotalsTest {
+
+    @Test
+    void testAccessorsAndEquality() {
+        LedgerTotals a = new LedgerTotals(12000L, 3000L, 4L, 104L);
+        LedgerTotals b = new LedgerTotals(12000L, 3000L, 4L, 104L);
+
+        assertEquals(12000L, a.balanceCents());
+        assertEquals(3000L, a.savedCents());
+        assertEquals(4L, a.entries());
+        assertEquals(104L, a.lastEntrySeq());
+        assertEquals(a, b);
+        assertNotEquals(a, new LedgerTotals(12000L, 3000L, 5L, 105L));
+    }
+}
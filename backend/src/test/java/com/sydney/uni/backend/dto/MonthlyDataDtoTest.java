@@ -14,12 +14,12 @@ class MonthlyDataDtoTest {
 
     @Test
     void testParameterizedConstructorAndGetters() {
-        MonthlyDataDto dto = new MonthlyDataDto("January", 1000.0, 500.0, 500.0);
+        MonthlyDataDto dto = new MonthlyDataDto("January", 100000L, 50000L, 50000L);
 
         assertEquals("January", dto.getMonth());
-        assertEquals(1000.0, dto.getIncome());
-        assertEquals(500.0, dto.getExpenses());
-        assertEquals(500.0, dto.getSavings());
+        assertEquals(100000L, dto.getIncomeCents());
+        assertEquals(50000L, dto.getExpensesCents());
+        assertEquals(50000L, dto.getSavingsCents());
     }
 
     @Test
@@ -27,13 +27,13 @@ class MonthlyDataDtoTest {
         MonthlyDataDto dto = new MonthlyDataDto();
 
         dto.setMonth("February");
-        dto.setIncome(1200.0);
-        dto.setExpenses(600.0);
-        dto.setSavings(600.0);
+        dto.setIncomeCents(120000L);
+        dto.setExpensesCents(60000L);
+        dto.setSavingsCents(60000L);
 
         assertEquals("February", dto.getMonth());
-        assertEquals(1200.0, dto.getIncome());
-        assertEquals(600.0, dto.getExpenses());
-        assertEquals(600.0, dto.getSavings());
+        assertEquals(120000L, dto.getIncomeCents());
+        assertEquals(60000L, dto.getExpensesCents());
+        assertEquals(60000L, dto.getSavingsCents());
     }
 }
\ No newline at end of file
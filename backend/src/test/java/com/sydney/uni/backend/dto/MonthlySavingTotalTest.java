@@ -0,0 +1,22 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.SavingAction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlySavingTotalTest {
+
+    @Test
+    void testAccessorsAndEquality() {
+        MonthlySavingTotal a = new MonthlySavingTotal(2024, 1, SavingAction.SAVE, 5000L);
+        MonthlySavingTotal b = new MonthlySavingTotal(2024, 1, SavingAction.SAVE, 5000L);
+
+        assertEquals(2024, a.year());
+        assertEquals(1, a.month());
+        assertEquals(SavingAction.SAVE, a.action());
+        assertEquals(5000L, a.totalCents());
+        assertEquals(a, b);
+        assertNotEquals(a, new MonthlySavingTotal(2024, 1, SavingAction.UNSAVE, 5000L));
+    }
+}
@@ -0,0 +1,23 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlyTransactionTotalTest {
+
+    @Test
+    void testAccessorsAndEquality() {
+        MonthlyTransactionTotal a = new MonthlyTransactionTotal(2024, 5, TransactionType.OUT, 12050L);
+        MonthlyTransactionTotal b = new MonthlyTransactionTotal(2024, 5, TransactionType.OUT, 12050L);
+
+        assertEquals(2024, a.year());
+        assertEquals(5, a.month());
+        assertEquals(TransactionType.OUT, a.type());
+        assertEquals(12050L, a.totalCents());
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, new MonthlyTransactionTotal(2024, 5, TransactionType.IN, 12050L));
+    }
+}
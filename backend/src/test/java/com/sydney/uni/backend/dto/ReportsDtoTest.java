@@ -33,7 +33,7 @@ class ReportsDtoTest {
     void testSetters() {
         ReportsDto dto = new ReportsDto();
         List<MonthlyDataDto> monthlyData = Collections.singletonList(new MonthlyDataDto());
-        List<CategoryExpenseDto> categoryExpenses = Collections.singletonList(new CategoryExpenseDto(null,null,null,null));
+        List<CategoryExpenseDto> categoryExpenses = Collections.singletonList(new CategoryExpenseDto(null,0L,null,null));
         List<BudgetComparisonDto> budgetComparison = Collections.singletonList(new BudgetComparisonDto());
         ReportsMetricsDto metrics = new ReportsMetricsDto();
 
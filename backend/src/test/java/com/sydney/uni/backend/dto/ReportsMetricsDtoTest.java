@@ -9,17 +9,17 @@ class ReportsMetricsDtoTest {
     void testDefaultConstructor() {
         ReportsMetricsDto dto = new ReportsMetricsDto();
         assertNotNull(dto);
-        assertNull(dto.getTotalIncome());
+        assertEquals(0L, dto.getTotalIncomeCents());
     }
 
     @Test
     void testParameterizedConstructorAndGetters() {
-        ReportsMetricsDto dto = new ReportsMetricsDto(1000.0, 500.0, 100.0, 500.0, 0.5);
+        ReportsMetricsDto dto = new ReportsMetricsDto(100000L, 50000L, 10000L, 50000L, 0.5);
 
-        assertEquals(1000.0, dto.getTotalIncome());
-        assertEquals(500.0, dto.getTotalExpenses());
-        assertEquals(100.0, dto.getTotalSavings());
-        assertEquals(500.0, dto.getAvgMonthlyExpenses());
+        assertEquals(100000L, dto.getTotalIncomeCents());
+        assertEquals(50000L, dto.getTotalExpensesCents());
+        assertEquals(10000L, dto.getTotalSavingsCents());
+        assertEquals(50000L, dto.getAvgMonthlyExpensesCents());
         assertEquals(0.5, dto.getSavingsRate());
     }
 
@@ -27,16 +27,16 @@ class ReportsMetricsDtoTest {
     void testSetters() {
         ReportsMetricsDto dto = new ReportsMetricsDto();
 
-        dto.setTotalIncome(2000.0);
-        dto.setTotalExpenses(800.0);
-        dto.setTotalSavings(200.0);
-        dto.setAvgMonthlyExpenses(800.0);
+        dto.setTotalIncomeCents(200000L);
+        dto.setTotalExpensesCents(80000L);
+        dto.setTotalSavingsCents(20000L);
+        dto.setAvgMonthlyExpensesCents(80000L);
         dto.setSavingsRate(0.6);
 
-        assertEquals(2000.0, dto.getTotalIncome());
-        assertEquals(800.0, dto.getTotalExpenses());
-        assertEquals(200.0, dto.getTotalSavings());
-        assertEquals(800.0, dto.getAvgMonthlyExpenses());
+        assertEquals(200000L, dto.getTotalIncomeCents());
+        assertEquals(80000L, dto.getTotalExpensesCents());
+        assertEquals(20000L, dto.getTotalSavingsCents());
+        assertEquals(80000L, dto.getAvgMonthlyExpensesCents());
         assertEquals(0.6, dto.getSavingsRate());
     }
 }
\ No newline at end of file
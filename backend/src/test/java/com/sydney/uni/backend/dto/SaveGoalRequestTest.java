@@ -9,21 +9,21 @@ class SaveGoalRequestTest {
     void testGettersAndSetters() {
         SaveGoalRequest request = new SaveGoalRequest();
 
-        request.setTargetAmount(5000.0);
+        request.setTargetAmountCents(500000L);
         request.setDescription("Holiday");
 
-        assertEquals(5000.0, request.getTargetAmount());
+        assertEquals(500000L, request.getTargetAmountCents());
         assertEquals("Holiday", request.getDescription());
     }
 
     @Test
     void testLombokGeneratedMethods() {
         SaveGoalRequest request1 = new SaveGoalRequest();
-        request1.setTargetAmount(5000.0);
+        request1.setTargetAmountCents(500000L);
         request1.setDescription("Holiday");
 
         SaveGoalRequest request2 = new SaveGoalRequest();
-        request2.setTargetAmount(5000.0);
+        request2.setTargetAmountCents(500000L);
         request2.setDescription("Holiday");
 
         assertEquals(request1, request2);
@@ -43,10 +43,10 @@ class SaveGoalRequestTest {
         assertEquals(a, b);
         assertEquals(a.hashCode(), b.hashCode());
 
-        a.setTargetAmount(1.0);
+        a.setTargetAmountCents(100L);
         assertNotEquals(a, b);
 
-        b.setTargetAmount(1.0);
+        b.setTargetAmountCents(100L);
         b.setDescription("d");
         assertNotEquals(a, b);
     }
@@ -9,20 +9,20 @@ class SaveMoneyRequestTest {
     void testGettersAndSetters() {
         SaveMoneyRequest request = new SaveMoneyRequest();
 
-        request.setAmount(200.0);
+        request.setAmountCents(20000L);
         request.setDescription("For savings");
 
-        assertEquals(200.0, request.getAmount());
+        assertEquals(20000L, request.getAmountCents());
         assertEquals("For savings", request.getDescription());
     }
 
     @Test
     void testLombokGeneratedMethods() {
         SaveMoneyRequest request1 = new SaveMoneyRequest();
-        request1.setAmount(200.0);
+        request1.setAmountCents(20000L);
 
         SaveMoneyRequest request2 = new SaveMoneyRequest();
-        request2.setAmount(200.0);
+        request2.setAmountCents(20000L);
 
         assertEquals(request1, request2);
         assertEquals(request1.hashCode(), request2.hashCode());
@@ -41,10 +41,10 @@ class SaveMoneyRequestTest {
         assertEquals(a, b);
         assertEquals(a.hashCode(), b.hashCode());
 
-        a.setAmount(1.0);
+        a.setAmountCents(100L);
         assertNotEquals(a, b);
 
-        b.setAmount(1.0);
+        b.setAmountCents(100L);
         b.setDescription("d");
         assertNotEquals(a, b);
     }
@@ -14,7 +14,7 @@ class SavingLogDtoTest {
         SavingLogDto a = new SavingLogDto();
         a.setId(1L);
         a.setAction(SavingAction.SAVE);
-        a.setAmount(100.0);
+        a.setAmountCents(10000L);
         a.setDescription("desc");
         a.setTimestamp(LocalDateTime.now());
         a.setActionDisplayName("Money Saved");
@@ -23,7 +23,7 @@ class SavingLogDtoTest {
         SavingLogDto b = new SavingLogDto();
         b.setId(1L);
         b.setAction(SavingAction.SAVE);
-        b.setAmount(100.0);
+        b.setAmountCents(10000L);
         b.setDescription("desc");
         b.setTimestamp(a.getTimestamp());
         b.setActionDisplayName("Money Saved");
@@ -32,7 +32,7 @@ class SavingLogDtoTest {
         assertEquals(a, b);
         assertEquals(a.hashCode(), b.hashCode());
 
-        b.setAmount(200.0);
+        b.setAmountCents(20000L);
         assertNotEquals(a, b);
         assertNotEquals(a.hashCode(), b.hashCode());
 
@@ -47,7 +47,7 @@ class SavingLogDtoTest {
 
         dto.setId(1L);
         dto.setAction(SavingAction.SAVE);
-        dto.setAmount(100.0);
+        dto.setAmountCents(10000L);
         dto.setDescription("Saved money");
         dto.setTimestamp(time);
         dto.setActionDisplayName("Money Saved");
@@ -55,7 +55,7 @@ class SavingLogDtoTest {
 
         assertEquals(1L, dto.getId());
         assertEquals(SavingAction.SAVE, dto.getAction());
-        assertEquals(100.0, dto.getAmount());
+        assertEquals(10000L, dto.getAmountCents());
         assertEquals("Saved money", dto.getDescription());
         assertEquals(time, dto.getTimestamp());
         assertEquals("Money Saved", dto.getActionDisplayName());
@@ -94,9 +94,9 @@ class SavingLogDtoTest {
         assertNotEquals(x, y);
         y.setAction(SavingAction.SAVE);
 
-        x.setAmount(10.0);
+        x.setAmountCents(1000L);
         assertNotEquals(x, y);
-        y.setAmount(10.0);
+        y.setAmountCents(1000L);
 
         x.setDescription("d");
         assertNotEquals(x, y);
@@ -0,0 +1,23 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.SavingAction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SavingRollupRowTest {
+
+    @Test
+    void testAccessorsAndEquality() {
+        SavingRollupRow a = new SavingRollupRow(2024, 5, SavingAction.SAVE, 7500L, 3L);
+        SavingRollupRow b = new SavingRollupRow(2024, 5, SavingAction.SAVE, 7500L, 3L);
+
+        assertEquals(2024, a.year());
+        assertEquals(5, a.month());
+        assertEquals(SavingAction.SAVE, a.action());
+        assertEquals(7500L, a.totalCents());
+        assertEquals(3L, a.count());
+        assertEquals(a, b);
+        assertNotEquals(a, new SavingRollupRow(2024, 5, SavingAction.UNSAVE, 7500L, 3L));
+    }
+}
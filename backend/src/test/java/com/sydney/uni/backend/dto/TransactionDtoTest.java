@@ -21,7 +21,7 @@ class TransactionDtoTest {
         dto.setDate(date);
         dto.setExpenseCategory(ExpenseCategory.FOOD_DINING);
         dto.setDetail("Groceries");
-        dto.setAmount(150.0);
+        dto.setAmountCents(15000L);
         dto.setNote("Weekly shopping");
         dto.setCategoryDisplayName("Food");
         dto.setIcon("🍎");
@@ -32,12 +32,29 @@ class TransactionDtoTest {
         assertEquals(date, dto.getDate());
         assertEquals(ExpenseCategory.FOOD_DINING, dto.getExpenseCategory());
         assertEquals("Groceries", dto.getDetail());
-        assertEquals(150.0, dto.getAmount());
+        assertEquals(15000L, dto.getAmountCents());
         assertEquals("Weekly shopping", dto.getNote());
         assertEquals("Food", dto.getCategoryDisplayName());
         assertEquals("🍎", dto.getIcon());
     }
 
+    @Test
+    void testProjectionConstructor() {
+        LocalDate date = LocalDate.now();
+
+        TransactionDto dto = new TransactionDto(5L, TransactionType.IN, date, null, "Deposit", 20000L, "Salary");
+
+        assertEquals(5L, dto.getId());
+        assertEquals(TransactionType.IN, dto.getType());
+        assertEquals(date, dto.getDate());
+        assertNull(dto.getExpenseCategory());
+        assertEquals("Deposit", dto.getDetail());
+        assertEquals(20000L, dto.getAmountCents());
+        assertEquals("Salary", dto.getNote());
+        assertNull(dto.getCategoryDisplayName());
+        assertNull(dto.getIcon());
+    }
+
     @Test
     void testLombokGeneratedMethods() {
         // Test equals(), hashCode(), and toString()
@@ -93,8 +110,8 @@ class TransactionDtoTest {
         b = new TransactionDto();
         a.setId(1L);
         b.setId(1L);
-        a.setAmount(10.0);
-        b.setAmount(10.0);
+        a.setAmountCents(1000L);
+        b.setAmountCents(1000L);
         a.setNote("n");
         assertNotEquals(a, b);
         b.setNote("n");
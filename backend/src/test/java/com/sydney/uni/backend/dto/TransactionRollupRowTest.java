@@ -0,0 +1,25 @@
+package com.sydney.uni.backend.dto;
+
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionRollupRowTest {
+
+    @Test
+    void testAccessorsAndEquality() {
+        TransactionRollupRow a = new TransactionRollupRow(2024, 2, TransactionType.OUT, ExpenseCategory.SHOPPING, 4000L, 2L);
+        TransactionRollupRow b = new TransactionRollupRow(2024, 2, TransactionType.OUT, ExpenseCategory.SHOPPING, 4000L, 2L);
+
+        assertEquals(2024, a.year());
+        assertEquals(2, a.month());
+        assertEquals(TransactionType.OUT, a.type());
+        assertEquals(ExpenseCategory.SHOPPING, a.category());
+        assertEquals(4000L, a.totalCents());
+        assertEquals(2L, a.count());
+        assertEquals(a, b);
+        assertNotEquals(a, new TransactionRollupRow(2024, 2, TransactionType.OUT, null, 4000L, 2L));
+    }
+}
@@ -0,0 +1,37 @@
+package com.sydney.uni.backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionSearchPageDtoTest {
+
+    @Test
+    void testGettersAndSetters() {
+        TransactionSearchPageDto dto = new TransactionSearchPageDto();
+        TransactionDto item = new TransactionDto();
+        item.setId(1L);
+
+        dto.setItems(List.of(item));
+        dto.setPage(2);
+        dto.setHasNext(true);
+
+        assertEquals(1L, dto.getItems().get(0).getId());
+        assertEquals(2, dto.getPage());
+        assertTrue(dto.isHasNext());
+    }
+
+    @Test
+    void testAllArgsConstructorAndEquality() {
+        TransactionSearchPageDto a = new TransactionSearchPageDto(List.of(), 0, false);
+        TransactionSearchPageDto b = new TransactionSearchPageDto(List.of(), 0, false);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        b.setHasNext(true);
+        assertNotEquals(a, b);
+    }
+}
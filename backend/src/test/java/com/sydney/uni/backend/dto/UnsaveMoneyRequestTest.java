@@ -9,20 +9,20 @@ class UnsaveMoneyRequestTest {
     void testGettersAndSetters() {
         UnsaveMoneyRequest request = new UnsaveMoneyRequest();
 
-        request.setAmount(50.0);
+        request.setAmountCents(5000L);
         request.setDescription("Need cash");
 
-        assertEquals(50.0, request.getAmount());
+        assertEquals(5000L, request.getAmountCents());
         assertEquals("Need cash", request.getDescription());
     }
 
     @Test
     void testLombokGeneratedMethods() {
         UnsaveMoneyRequest request1 = new UnsaveMoneyRequest();
-        request1.setAmount(50.0);
+        request1.setAmountCents(5000L);
 
         UnsaveMoneyRequest request2 = new UnsaveMoneyRequest();
-        request2.setAmount(50.0);
+        request2.setAmountCents(5000L);
 
         assertEquals(request1, request2);
         assertEquals(request1.hashCode(), request2.hashCode());
@@ -41,10 +41,10 @@ class UnsaveMoneyRequestTest {
         assertEquals(a, b);
         assertEquals(a.hashCode(), b.hashCode());
 
-        a.setAmount(1.0);
+        a.setAmountCents(100L);
         assertNotEquals(a, b);
 
-        b.setAmount(1.0);
+        b.setAmountCents(100L);
         b.setDescription("d");
         assertNotEquals(a, b);
     }
@@ -12,20 +12,20 @@ class AccountTest {
 
         Account a = new Account();
         a.setId(1L);
-        a.setBalance(100.0);
-        a.setSaved(20.0);
+        a.setBalanceCents(10000L);
+        a.setSavedCents(2000L);
         a.setUser(u);
 
         Account b = new Account();
         b.setId(1L);
-        b.setBalance(100.0);
-        b.setSaved(20.0);
+        b.setBalanceCents(10000L);
+        b.setSavedCents(2000L);
         b.setUser(u);
 
         assertEquals(a, b);
         assertEquals(a.hashCode(), b.hashCode());
 
-        b.setSaved(30.0);
+        b.setSavedCents(3000L);
         assertNotEquals(a, b);
         assertNotEquals(a.hashCode(), b.hashCode());
 
@@ -39,13 +39,13 @@ class AccountTest {
         User user = new User();
 
         account.setId(1L);
-        account.setBalance(1000.0);
-        account.setSaved(500.0);
+        account.setBalanceCents(100000L);
+        account.setSavedCents(50000L);
         account.setUser(user);
 
         assertEquals(1L, account.getId());
-        assertEquals(1000.0, account.getBalance());
-        assertEquals(500.0, account.getSaved());
+        assertEquals(100000L, account.getBalanceCents());
+        assertEquals(50000L, account.getSavedCents());
         assertEquals(user, account.getUser());
     }
 
@@ -53,11 +53,11 @@ class AccountTest {
     void testLombokGeneratedMethods() {
         Account account1 = new Account();
         account1.setId(1L);
-        account1.setBalance(1000.0);
+        account1.setBalanceCents(100000L);
 
         Account account2 = new Account();
         account2.setId(1L);
-        account2.setBalance(1000.0);
+        account2.setBalanceCents(100000L);
 
         assertEquals(account1, account2);
         assertEquals(account1.hashCode(), account2.hashCode());
@@ -77,12 +77,12 @@ class AccountTest {
         assertFalse(a.equals(new Object()));
 
         assertEquals(a, b);
-        a.setBalance(10.0);
+        a.setBalanceCents(1000L);
         assertNotEquals(a, b);
-        b.setBalance(10.0);
-        a.setSaved(5.0);
+        b.setBalanceCents(1000L);
+        a.setSavedCents(500L);
         assertNotEquals(a, b);
-        b.setSaved(5.0);
+        b.setSavedCents(500L);
         User u = new User();
         a.setUser(u);
         assertNotEquals(a, b);
@@ -0,0 +1,29 @@
+package com.sydney.uni.backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceSnapshotTest {
+
+    @Test
+    void testGettersAndSetters() {
+        LocalDateTime asOf = LocalDateTime.of(2024, 3, 1, 12, 0);
+        BalanceSnapshot snapshot = new BalanceSnapshot();
+        snapshot.setId(1L);
+        snapshot.setAccountId(2L);
+        snapshot.setEntrySeq(100L);
+        snapshot.setBalanceCents(90000L);
+        snapshot.setSavedCents(15000L);
+        snapshot.setAsOf(asOf);
+
+        assertEquals(1L, snapshot.getId());
+        assertEquals(2L, snapshot.getAccountId());
+        assertEquals(100L, snapshot.getEntrySeq());
+        assertEquals(90000L, snapshot.getBalanceCents());
+        assertEquals(15000L, snapshot.getSavedCents());
+        assertEquals(asOf, snapshot.getAsOf());
+    }
+}
@@ -14,20 +14,20 @@ class BudgetTest {
         a.setId(1L);
         a.setCategory("FOOD_DINING");
         a.setPeriod("monthly");
-        a.setAmount(800.0);
+        a.setAmountCents(80000L);
         a.setUser(u);
 
         Budget b = new Budget();
         b.setId(1L);
         b.setCategory("FOOD_DINING");
         b.setPeriod("monthly");
-        b.setAmount(800.0);
+        b.setAmountCents(80000L);
         b.setUser(u);
 
         assertEquals(a, b);
         assertEquals(a.hashCode(), b.hashCode());
 
-        b.setAmount(900.0);
+        b.setAmountCents(90000L);
         assertNotEquals(a, b);
         assertNotEquals(a.hashCode(), b.hashCode());
 
@@ -43,13 +43,13 @@ class BudgetTest {
         budget.setId(1L);
         budget.setCategory("Food");
         budget.setPeriod("Monthly");
-        budget.setAmount(500.0);
+        budget.setAmountCents(50000L);
         budget.setUser(user);
 
         assertEquals(1L, budget.getId());
         assertEquals("Food", budget.getCategory());
         assertEquals("Monthly", budget.getPeriod());
-        assertEquals(500.0, budget.getAmount());
+        assertEquals(50000L, budget.getAmountCents());
         assertEquals(user, budget.getUser());
     }
 
@@ -82,9 +82,9 @@ class BudgetTest {
         a.setPeriod("M");
         assertNotEquals(a, b);
         b.setPeriod("M");
-        a.setAmount(1.0);
+        a.setAmountCents(100L);
         assertNotEquals(a, b);
-        b.setAmount(1.0);
+        b.setAmountCents(100L);
         User u = new User();
         a.setUser(u);
         assertNotEquals(a, b);
@@ -0,0 +1,33 @@
+package com.sydney.uni.backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerEntryTest {
+
+    @Test
+    void testGettersAndSetters() {
+        LocalDateTime now = LocalDateTime.now();
+        LedgerEntry entry = new LedgerEntry();
+        entry.setId(1L);
+        entry.setAccountId(2L);
+        entry.setEntrySeq(3L);
+        entry.setEventType(LedgerEventType.DEPOSIT);
+        entry.setBalanceDeltaCents(5000L);
+        entry.setSavedDeltaCents(0L);
+        entry.setTransactionId(4L);
+        entry.setOccurredAt(now);
+
+        assertEquals(1L, entry.getId());
+        assertEquals(2L, entry.getAccountId());
+        assertEquals(3L, entry.getEntrySeq());
+        assertEquals(LedgerEventType.DEPOSIT, entry.getEventType());
+        assertEquals(5000L, entry.getBalanceDeltaCents());
+        assertEquals(0L, entry.getSavedDeltaCents());
+        assertEquals(4L, entry.getTransactionId());
+        assertEquals(now, entry.getOccurredAt());
+    }
+}
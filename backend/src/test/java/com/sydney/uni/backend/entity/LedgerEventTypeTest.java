@@ -0,0 +1,21 @@
+package com.sydney.uni.backend.entity;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerEventTypeTest {
+
+    @Test
+    void testEnumValues() {
+        LedgerEventType[] types = LedgerEventType.values();
+        assertEquals(8, types.length);
+        assertEquals(LedgerEventType.OPENING, types[0]);
+        assertEquals(LedgerEventType.UNSAVE, types[types.length - 1]);
+    }
+
+    @Test
+    void testEnumValueOf() {
+        assertEquals(LedgerEventType.EXPENSE_EDIT, LedgerEventType.valueOf("EXPENSE_EDIT"));
+        assertEquals(LedgerEventType.IMPORT, LedgerEventType.valueOf("IMPORT"));
+    }
+}
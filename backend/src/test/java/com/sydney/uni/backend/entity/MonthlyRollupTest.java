@@ -0,0 +1,40 @@
+package com.sydney.uni.backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlyRollupTest {
+
+    @Test
+    void testGettersAndSetters() {
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setId(1L);
+        rollup.setUserId(7L);
+        rollup.setYearMonth(202403);
+        rollup.setType(RollupType.OUT);
+        rollup.setCategory(ExpenseCategory.TRAVEL);
+        rollup.setTotalCents(9950L);
+        rollup.setCount(3L);
+
+        assertEquals(1L, rollup.getId());
+        assertEquals(7L, rollup.getUserId());
+        assertEquals(202403, rollup.getYearMonth());
+        assertEquals(RollupType.OUT, rollup.getType());
+        assertEquals(ExpenseCategory.TRAVEL, rollup.getCategory());
+        assertEquals(9950L, rollup.getTotalCents());
+        assertEquals(3L, rollup.getCount());
+    }
+
+    @Test
+    void testYearMonthKeyRoundTrip() {
+        assertEquals(202412, MonthlyRollup.key(YearMonth.of(2024, 12)));
+        assertEquals(202501, MonthlyRollup.key(YearMonth.of(2025, 1)));
+
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setYearMonth(MonthlyRollup.key(YearMonth.of(2023, 7)));
+        assertEquals(YearMonth.of(2023, 7), rollup.toYearMonth());
+    }
+}
@@ -0,0 +1,23 @@
+package com.sydney.uni.backend.entity;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollupTypeTest {
+
+    @Test
+    void testEnumValues() {
+        RollupType[] types = RollupType.values();
+        assertEquals(4, types.length);
+        assertEquals(RollupType.IN, types[0]);
+        assertEquals(RollupType.UNSAVE, types[3]);
+    }
+
+    @Test
+    void testOfTransactionTypeAndSavingAction() {
+        assertEquals(RollupType.IN, RollupType.of(TransactionType.IN));
+        assertEquals(RollupType.OUT, RollupType.of(TransactionType.OUT));
+        assertEquals(RollupType.SAVE, RollupType.of(SavingAction.SAVE));
+        assertEquals(RollupType.UNSAVE, RollupType.of(SavingAction.UNSAVE));
+    }
+}
@@ -27,9 +27,9 @@ class SaveGoalTest {
         assertNotEquals(a, b);
         b.setId(1L);
 
-        a.setTargetAmount(1000.0);
+        a.setTargetAmountCents(100000L);
         assertNotEquals(a, b);
-        b.setTargetAmount(1000.0);
+        b.setTargetAmountCents(100000L);
 
         a.setDescription("desc");
         assertNotEquals(a, b);
@@ -57,13 +57,13 @@ class SaveGoalTest {
         LocalDate date = LocalDate.now();
 
         saveGoal.setId(1L);
-        saveGoal.setTargetAmount(5000.0);
+        saveGoal.setTargetAmountCents(500000L);
         saveGoal.setDescription("Holiday");
         saveGoal.setDueDate(date);
         saveGoal.setUser(user);
 
         assertEquals(1L, saveGoal.getId());
-        assertEquals(5000.0, saveGoal.getTargetAmount());
+        assertEquals(500000L, saveGoal.getTargetAmountCents());
         assertEquals("Holiday", saveGoal.getDescription());
         assertEquals(date, saveGoal.getDueDate());
         assertEquals(user, saveGoal.getUser());
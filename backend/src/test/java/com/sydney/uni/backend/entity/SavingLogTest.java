@@ -16,7 +16,7 @@ class SavingLogTest {
         SavingLog a = new SavingLog();
         a.setId(1L);
         a.setAction(SavingAction.SAVE);
-        a.setAmount(100.0);
+        a.setAmountCents(10000L);
         a.setDescription("x");
         a.setTimestamp(LocalDateTime.now());
         a.setUser(u);
@@ -25,7 +25,7 @@ class SavingLogTest {
         SavingLog b = new SavingLog();
         b.setId(1L);
         b.setAction(SavingAction.SAVE);
-        b.setAmount(100.0);
+        b.setAmountCents(10000L);
         b.setDescription("x");
         b.setTimestamp(a.getTimestamp());
         b.setUser(u);
@@ -51,7 +51,7 @@ class SavingLogTest {
 
         log.setId(1L);
         log.setAction(SavingAction.SAVE);
-        log.setAmount(100.0);
+        log.setAmountCents(10000L);
         log.setDescription("Saved");
         log.setTimestamp(time);
         log.setUser(user);
@@ -59,7 +59,7 @@ class SavingLogTest {
 
         assertEquals(1L, log.getId());
         assertEquals(SavingAction.SAVE, log.getAction());
-        assertEquals(100.0, log.getAmount());
+        assertEquals(10000L, log.getAmountCents());
         assertEquals("Saved", log.getDescription());
         assertEquals(time, log.getTimestamp());
         assertEquals(user, log.getUser());
@@ -87,9 +87,9 @@ class SavingLogTest {
         assertFalse(x.equals(null));
         assertFalse(x.equals(new Object()));
         assertEquals(x, y);
-        x.setAmount(1.0);
+        x.setAmountCents(100L);
         assertNotEquals(x, y);
-        y.setAmount(1.0);
+        y.setAmountCents(100L);
         x.setDescription("d");
         assertNotEquals(x, y);
         y.setDescription("d");
@@ -123,9 +123,9 @@ class SavingLogTest {
         assertEquals(a, b);
 
         // amount
-        a.setAmount(77.0);
+        a.setAmountCents(7700L);
         assertNotEquals(a, b);
-        b.setAmount(77.0);
+        b.setAmountCents(7700L);
         assertEquals(a, b);
 
         // description
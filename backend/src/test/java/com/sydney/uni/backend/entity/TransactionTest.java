@@ -18,7 +18,7 @@ class TransactionTest {
         a.setDate(LocalDate.now());
         a.setExpenseCategory(null);
         a.setDetail("salary");
-        a.setAmount(1000.0);
+        a.setAmountCents(100000L);
         a.setNote("note");
         a.setAccount(acc);
 
@@ -28,7 +28,7 @@ class TransactionTest {
         b.setDate(a.getDate());
         b.setExpenseCategory(null);
         b.setDetail("salary");
-        b.setAmount(1000.0);
+        b.setAmountCents(100000L);
         b.setNote("note");
         b.setAccount(acc);
 
@@ -55,7 +55,7 @@ class TransactionTest {
         transaction.setDate(date);
         transaction.setExpenseCategory(ExpenseCategory.FOOD_DINING);
         transaction.setDetail("Groceries");
-        transaction.setAmount(150.0);
+        transaction.setAmountCents(15000L);
         transaction.setNote("Weekly shop");
         transaction.setAccount(account);
 
@@ -64,7 +64,7 @@ class TransactionTest {
         assertEquals(date, transaction.getDate());
         assertEquals(ExpenseCategory.FOOD_DINING, transaction.getExpenseCategory());
         assertEquals("Groceries", transaction.getDetail());
-        assertEquals(150.0, transaction.getAmount());
+        assertEquals(15000L, transaction.getAmountCents());
         assertEquals("Weekly shop", transaction.getNote());
         assertEquals(account, transaction.getAccount());
     }
@@ -93,9 +93,9 @@ class TransactionTest {
         a.setDetail("d");
         assertNotEquals(a, b);
         b.setDetail("d");
-        a.setAmount(5.0);
+        a.setAmountCents(500L);
         assertNotEquals(a, b);
-        b.setAmount(5.0);
+        b.setAmountCents(500L);
         a.setNote("n");
         assertNotEquals(a, b);
         b.setNote("n");
@@ -148,9 +148,9 @@ class TransactionTest {
         assertEquals(a, b);
 
         // amount
-        a.setAmount(12.34);
+        a.setAmountCents(1234L);
         assertNotEquals(a, b);
-        b.setAmount(12.34);
+        b.setAmountCents(1234L);
         assertEquals(a, b);
 
         // note
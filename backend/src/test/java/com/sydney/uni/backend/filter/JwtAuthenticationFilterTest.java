@@ -1,5 +1,6 @@
 package com.sydney.uni.backend.filter;
 
+import com.sydney.uni.backend.utils.CurrentUserHolder;
 import com.sydney.uni.backend.utils.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -95,4 +96,36 @@ class JwtAuthenticationFilterTest {
         verify(jwtUtil, never()).validateToken(anyString(), anyString());
         verify(filterChain).doFilter(request, response);
     }
+
+    @Test
+    void testDoFilterInternal_BindsCurrentUserForRequest() throws ServletException, IOException {
+        String token = "valid.jwt.token";
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(jwtUtil.extractUsername(token)).thenReturn("user@example.com");
+        when(jwtUtil.validateToken(token, "user@example.com")).thenReturn(true);
+        when(jwtUtil.extractUserId(token)).thenReturn(42L);
+        doAnswer(invocation -> {
+            assertEquals(42L, CurrentUserHolder.get());
+            return null;
+        }).when(filterChain).doFilter(request, response);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertNull(CurrentUserHolder.get());
+    }
+
+    @Test
+    void testDoFilterInternal_IgnoresQueryTokenOnStream() throws ServletException, IOException {
+        // Tokens only travel in the Authorization header; a URL ends up in access logs and browser history
+        when(request.getHeader("Authorization")).thenReturn(null);
+        lenient().when(request.getRequestURI()).thenReturn("/api/dashboard/stream");
+        lenient().when(request.getParameter("access_token")).thenReturn("some.jwt.token");
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(jwtUtil, never()).extractUsername(anyString());
+        verify(filterChain).doFilter(request, response);
+    }
 }
@@ -0,0 +1,60 @@
+package com.sydney.uni.backend.migration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatabasePlatformTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private DatabaseMetaData metaData;
+
+    @InjectMocks
+    private DatabasePlatform databasePlatform;
+
+    @Test
+    void testDetectsPostgresOnce() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+
+        assertTrue(databasePlatform.isPostgres());
+        assertTrue(databasePlatform.isPostgres());
+
+        verify(dataSource, times(1)).getConnection();
+        verify(connection).close();
+    }
+
+    @Test
+    void testH2IsNotPostgres() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+
+        assertFalse(databasePlatform.isPostgres());
+    }
+
+    @Test
+    void testConnectionFailure() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("down"));
+
+        assertThrows(IllegalStateException.class, () -> databasePlatform.isPostgres());
+    }
+}
@@ -0,0 +1,59 @@
+package com.sydney.uni.backend.migration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IdSequenceAlignmentTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DatabasePlatform databasePlatform;
+
+    @InjectMocks
+    private IdSequenceAlignment alignment;
+
+    @Test
+    void testSkipsNonPostgres() {
+        when(databasePlatform.isPostgres()).thenReturn(false);
+
+        alignment.afterPropertiesSet();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testAdvancesSequenceBehindTable() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(MAX(id), 0)"), eq(Long.class))).thenReturn(0L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT last_value"), eq(Long.class))).thenReturn(1L);
+        when(jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM transaction", Long.class)).thenReturn(1200L);
+
+        alignment.afterPropertiesSet();
+
+        verify(jdbcTemplate).queryForObject("SELECT setval(?, ?)", Long.class, "transaction_seq", 1200L);
+        verify(jdbcTemplate, never()).queryForObject(eq("SELECT setval(?, ?)"), eq(Long.class), eq("account_seq"), any());
+    }
+
+    @Test
+    void testLeavesSequenceAheadOfTable() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(MAX(id), 0)"), eq(Long.class))).thenReturn(40L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT last_value"), eq(Long.class))).thenReturn(51L);
+
+        alignment.afterPropertiesSet();
+
+        verify(jdbcTemplate, never()).queryForObject(eq("SELECT setval(?, ?)"), eq(Long.class), any(), any());
+    }
+}
@@ -0,0 +1,51 @@
+package com.sydney.uni.backend.migration;
+
+import com.sydney.uni.backend.entity.Account;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.services.LedgerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerOpeningBalancesTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @InjectMocks
+    private LedgerOpeningBalances openingBalances;
+
+    @Test
+    void testRunOpensEachAccountWithoutLedger() {
+        Account first = new Account();
+        first.setId(1L);
+        Account second = new Account();
+        second.setId(2L);
+        when(accountRepository.findWithoutLedger()).thenReturn(List.of(first, second));
+
+        openingBalances.run(new DefaultApplicationArguments());
+
+        verify(ledgerService).open(1L);
+        verify(ledgerService).open(2L);
+    }
+
+    @Test
+    void testRunDoesNothingWhenAllAccountsHaveLedgers() {
+        when(accountRepository.findWithoutLedger()).thenReturn(List.of());
+
+        openingBalances.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(ledgerService);
+    }
+}
@@ -0,0 +1,64 @@
+package com.sydney.uni.backend.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MoneyToCentsTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private MoneyToCents migration;
+
+    @BeforeEach
+    void setUp() {
+        migration = new MoneyToCents(jdbcTemplate, transactionTemplate);
+        when(jdbcTemplate.queryForObject(eq(MoneyToCents.COLUMN_EXISTS_SQL), eq(Long.class), anyString(), anyString()))
+            .thenReturn(0L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void testSkipsWhenOldColumnsAreGone() {
+        migration.afterPropertiesSet();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).update(anyString());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void testCopiesThenDropsRemainingColumns() {
+        when(jdbcTemplate.queryForObject(MoneyToCents.COLUMN_EXISTS_SQL, Long.class, "transaction", "amount"))
+            .thenReturn(1L);
+        when(jdbcTemplate.update(anyString())).thenReturn(4);
+
+        migration.afterPropertiesSet();
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).execute("DROP INDEX IF EXISTS idx_transaction_user_type_date");
+        order.verify(jdbcTemplate).update(
+            "UPDATE transaction SET amount_cents = ROUND(amount * 100) WHERE amount IS NOT NULL");
+        order.verify(jdbcTemplate).execute("ALTER TABLE transaction DROP COLUMN amount");
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(jdbcTemplate, never()).execute("ALTER TABLE account DROP COLUMN balance");
+    }
+}
@@ -0,0 +1,80 @@
+package com.sydney.uni.backend.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MonthlyRollupBucketIndexTest {
+
+    private static final String EXISTS_SQL = "SELECT 1 FROM pg_class WHERE oid = to_regclass(?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private DatabasePlatform databasePlatform;
+
+    private MonthlyRollupBucketIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        index = new MonthlyRollupBucketIndex(jdbcTemplate, transactionTemplate, databasePlatform);
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.queryForList(EXISTS_SQL, Integer.class, MonthlyRollupBucketIndex.INDEX_NAME)).thenReturn(List.of());
+    }
+
+    @Test
+    void testSkipsOnH2() {
+        when(databasePlatform.isPostgres()).thenReturn(false);
+
+        index.afterPropertiesSet();
+
+        verifyNoInteractions(jdbcTemplate, transactionTemplate);
+    }
+
+    @Test
+    void testSkipsWhenIndexExists() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(jdbcTemplate.queryForList(EXISTS_SQL, Integer.class, MonthlyRollupBucketIndex.INDEX_NAME)).thenReturn(List.of(1));
+
+        index.afterPropertiesSet();
+
+        verifyNoInteractions(transactionTemplate);
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void testMergesDuplicatesBeforeCreatingIndex() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+
+        index.afterPropertiesSet();
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).execute("LOCK TABLE monthly_rollup IN SHARE ROW EXCLUSIVE MODE");
+        order.verify(jdbcTemplate).update(MonthlyRollupBucketIndex.MERGE_SQL);
+        order.verify(jdbcTemplate).execute(
+            "CREATE UNIQUE INDEX IF NOT EXISTS uq_monthly_rollup_bucket ON monthly_rollup (user_id, year_month, type, COALESCE(category, ''))");
+    }
+}
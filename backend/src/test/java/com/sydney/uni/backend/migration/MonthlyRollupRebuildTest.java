@@ -0,0 +1,96 @@
+package com.sydney.uni.backend.migration;
+
+import com.sydney.uni.backend.repository.MonthlyRollupRepository;
+import com.sydney.uni.backend.repository.SavingLogRepository;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import com.sydney.uni.backend.repository.UserRepository;
+import com.sydney.uni.backend.services.MonthlyRollupService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MonthlyRollupRebuildTest {
+
+    @Mock
+    private MonthlyRollupService monthlyRollupService;
+
+    @Mock
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private SavingLogRepository savingLogRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private MonthlyRollupRebuild rebuild;
+
+    @Test
+    void testRunSkipsWhenRollupsExist() {
+        when(monthlyRollupRepository.count()).thenReturn(10L);
+
+        rebuild.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(monthlyRollupService);
+    }
+
+    @Test
+    void testRunSkipsWhenThereIsNoHistory() {
+        when(monthlyRollupRepository.count()).thenReturn(0L);
+        when(transactionRepository.count()).thenReturn(0L);
+        when(savingLogRepository.count()).thenReturn(0L);
+
+        rebuild.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(monthlyRollupService);
+    }
+
+    @Test
+    void testRunBackfillsEmptyTable() {
+        when(monthlyRollupRepository.count()).thenReturn(0L);
+        when(transactionRepository.count()).thenReturn(3L);
+        when(userRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+
+        rebuild.run(new DefaultApplicationArguments());
+
+        verify(monthlyRollupService).rebuild(1L);
+        verify(monthlyRollupService).rebuild(2L);
+    }
+
+    @Test
+    void testRunRebuildsAllUsersOnRequest() {
+        when(monthlyRollupRepository.count()).thenReturn(10L);
+        when(userRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+
+        rebuild.run(new DefaultApplicationArguments("--rebuild-rollups"));
+
+        verify(monthlyRollupService).rebuild(1L);
+        verify(monthlyRollupService).rebuild(2L);
+    }
+
+    @Test
+    void testRunRebuildsRequestedUsersAndContinuesPastFailures() {
+        when(monthlyRollupService.rebuild(4L)).thenThrow(new RuntimeException("boom"));
+
+        rebuild.run(new DefaultApplicationArguments("--rebuild-rollups=4,9"));
+
+        verify(monthlyRollupService).rebuild(4L);
+        verify(monthlyRollupService).rebuild(9L);
+        verify(userRepository, never()).findAllIds();
+    }
+}
@@ -0,0 +1,94 @@
+package com.sydney.uni.backend.migration;
+
+import com.sydney.uni.backend.support.PostgresTestSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Converts plain transaction and saving_log tables on a real Postgres server, which H2 cannot stand in
+ * for. Skipped when no server is reachable; see {@link PostgresTestSchema}.
+ */
+class PartitionMaintenancePostgresTest {
+
+    private PostgresTestSchema schema;
+    private JdbcTemplate jdbcTemplate;
+    private PartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        schema = PostgresTestSchema.createOrSkip();
+        jdbcTemplate = new JdbcTemplate(schema.dataSource());
+        maintenance = new PartitionMaintenance(jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(schema.dataSource())),
+            new DatabasePlatform(schema.dataSource()), 1);
+
+        jdbcTemplate.execute("CREATE TABLE \"user\" (id bigint PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE account (id bigint PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE transaction (id bigint PRIMARY KEY, date date, user_id bigint, account_id bigint,"
+            + " type varchar(16), expense_category varchar(32), amount_cents bigint, detail varchar(255), note varchar(255))");
+        jdbcTemplate.execute("CREATE TABLE saving_log (id bigint PRIMARY KEY, \"timestamp\" timestamp, user_id bigint, account_id bigint)");
+        jdbcTemplate.update("INSERT INTO \"user\" VALUES (1)");
+        jdbcTemplate.update("INSERT INTO account VALUES (1)");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (schema != null) {
+            schema.close();
+        }
+    }
+
+    @Test
+    void testConvertsPlainTablesAndGivesNullDatesTheStandInMonth() {
+        jdbcTemplate.update("INSERT INTO transaction (id, date, user_id, account_id, type, amount_cents) VALUES"
+            + " (1, DATE '2024-01-15', 1, 1, 'OUT', 100), (2, DATE '2024-02-03', 1, 1, 'OUT', 200), (3, NULL, 1, 1, 'IN', 300)");
+        jdbcTemplate.update("INSERT INTO saving_log VALUES (1, TIMESTAMP '2024-01-20 10:00:00', 1, 1)");
+
+        maintenance.afterPropertiesSet();
+
+        assertEquals("p", relkind("transaction"));
+        assertEquals("p", relkind("saving_log"));
+        assertEquals(3, count("transaction"));
+        assertEquals(List.of(1L), ids("transaction_p2024_01"));
+        assertEquals(List.of(2L), ids("transaction_p2024_02"));
+        // The row without a date keeps its id and lands in 1970-01, outside every real month
+        assertEquals(List.of(3L), ids("transaction_p1970_01"));
+        assertEquals(0, count("transaction_default"));
+        assertEquals(LocalDate.of(1970, 1, 1), jdbcTemplate.queryForObject("SELECT date FROM transaction WHERE id = 3", LocalDate.class));
+        assertEquals(1, count("saving_log_p2024_01"));
+    }
+
+    @Test
+    void testSecondRunIsANoOp() {
+        jdbcTemplate.update("INSERT INTO transaction (id, date, user_id, account_id, type, amount_cents) VALUES"
+            + " (1, DATE '2024-01-15', 1, 1, 'OUT', 100)");
+
+        maintenance.afterPropertiesSet();
+        maintenance.maintain();
+
+        assertEquals(1, count("transaction"));
+        assertEquals(List.of(1L), ids("transaction_p2024_01"));
+    }
+
+    private String relkind(String table) {
+        return jdbcTemplate.queryForObject("SELECT CAST(relkind AS varchar) FROM pg_class WHERE oid = to_regclass(?)",
+            String.class, table);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private List<Long> ids(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class);
+    }
+}
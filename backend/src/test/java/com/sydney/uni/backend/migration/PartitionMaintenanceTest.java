@@ -0,0 +1,151 @@
+package com.sydney.uni.backend.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PartitionMaintenanceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private DatabasePlatform databasePlatform;
+
+    private PartitionMaintenance maintenance;
+
+    private static final String RELKIND_SQL = "SELECT CAST(relkind AS varchar) FROM pg_class WHERE oid = to_regclass(?)";
+    private static final String EXISTS_SQL = "SELECT 1 FROM pg_class WHERE oid = to_regclass(?)";
+    private static final String NULL_IDS_SQL = "SELECT id FROM transaction_unpartitioned WHERE date IS NULL ORDER BY id LIMIT 100";
+    private static final String UPDATE_NULLS_SQL = "UPDATE transaction_unpartitioned SET date = DATE '1970-01-01' WHERE date IS NULL";
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        maintenance = new PartitionMaintenance(jdbcTemplate, transactionTemplate, databasePlatform, 1);
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.queryForList(eq(EXISTS_SQL), eq(Integer.class), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(startsWith("SELECT DISTINCT"), eq(LocalDate.class))).thenReturn(List.of());
+    }
+
+    private static String partition(String table, YearMonth month) {
+        return table + month.format(DateTimeFormatter.ofPattern("'_p'yyyy_MM"));
+    }
+
+    @Test
+    void testSkipsOnH2() {
+        when(databasePlatform.isPostgres()).thenReturn(false);
+
+        maintenance.afterPropertiesSet();
+
+        verifyNoInteractions(jdbcTemplate, transactionTemplate);
+    }
+
+    @Test
+    void testCreatesUpcomingPartitionsForPartitionedTable() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(jdbcTemplate.queryForList(eq(RELKIND_SQL), eq(String.class), any(Object[].class))).thenReturn(List.of("p"));
+        YearMonth current = YearMonth.now();
+        when(jdbcTemplate.queryForList(EXISTS_SQL, Integer.class, partition("transaction", current))).thenReturn(List.of(1));
+
+        maintenance.maintain();
+
+        String next = partition("transaction", current.plusMonths(1));
+        verify(jdbcTemplate).execute("CREATE TABLE " + next + " (LIKE transaction INCLUDING DEFAULTS)");
+        verify(jdbcTemplate).execute(startsWith("ALTER TABLE transaction ATTACH PARTITION " + next));
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE " + partition("transaction", current) + " "));
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE transaction RENAME"));
+        verify(jdbcTemplate).execute("CREATE TABLE " + partition("saving_log", current) + " (LIKE saving_log INCLUDING DEFAULTS)");
+    }
+
+    @Test
+    void testMovesRowsOutOfDefaultPartition() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(jdbcTemplate.queryForList(eq(RELKIND_SQL), eq(String.class), any(Object[].class))).thenReturn(List.of("p"));
+        when(jdbcTemplate.queryForList(contains("FROM transaction_default"), eq(LocalDate.class)))
+                .thenReturn(List.of(LocalDate.of(2019, 7, 1)));
+
+        maintenance.maintain();
+
+        verify(jdbcTemplate).update("WITH moved AS (DELETE FROM transaction_default WHERE date >= '2019-07-01' AND date < '2019-08-01' RETURNING *)"
+                + " INSERT INTO transaction_p2019_07 SELECT * FROM moved");
+        verify(jdbcTemplate).execute("ALTER TABLE transaction ATTACH PARTITION transaction_p2019_07 FOR VALUES FROM ('2019-07-01') TO ('2019-08-01')");
+    }
+
+    @Test
+    void testConvertsPlainTable() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(jdbcTemplate.queryForList(eq(RELKIND_SQL), eq(String.class), any(Object[].class))).thenReturn(List.of("p"));
+        when(jdbcTemplate.queryForList(RELKIND_SQL, String.class, "transaction")).thenReturn(List.of("r"));
+        when(jdbcTemplate.queryForList(contains("FROM transaction_unpartitioned"), eq(LocalDate.class)))
+                .thenReturn(List.of(LocalDate.of(2024, 1, 1)));
+        when(jdbcTemplate.queryForList(NULL_IDS_SQL, Long.class)).thenReturn(List.of(7L, 9L));
+        when(jdbcTemplate.update(UPDATE_NULLS_SQL)).thenReturn(2);
+
+        maintenance.maintain();
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).execute("ALTER TABLE transaction RENAME TO transaction_unpartitioned");
+        order.verify(jdbcTemplate).queryForList(NULL_IDS_SQL, Long.class);
+        order.verify(jdbcTemplate).update(UPDATE_NULLS_SQL);
+        order.verify(jdbcTemplate).execute("CREATE TABLE transaction (LIKE transaction_unpartitioned INCLUDING DEFAULTS) PARTITION BY RANGE (date)");
+        order.verify(jdbcTemplate).execute("CREATE TABLE transaction_default PARTITION OF transaction DEFAULT");
+        order.verify(jdbcTemplate).execute("CREATE TABLE transaction_p2024_01 (LIKE transaction INCLUDING DEFAULTS)");
+        order.verify(jdbcTemplate).update("INSERT INTO transaction SELECT * FROM transaction_unpartitioned");
+        order.verify(jdbcTemplate).execute("DROP TABLE transaction_unpartitioned");
+        order.verify(jdbcTemplate).execute("ALTER TABLE transaction ADD PRIMARY KEY (id, date)");
+        order.verify(jdbcTemplate).execute(
+            "ALTER TABLE transaction ADD CONSTRAINT fk_transaction_account FOREIGN KEY (account_id) REFERENCES account (id)");
+        order.verify(jdbcTemplate).execute(
+            "ALTER TABLE transaction ADD CONSTRAINT fk_transaction_user FOREIGN KEY (user_id) REFERENCES \"user\" (id)");
+
+        verify(jdbcTemplate, never()).execute("ALTER TABLE saving_log RENAME TO saving_log_unpartitioned");
+    }
+
+    @Test
+    void testConvertLeavesRowsWithPartitionValueAlone() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(jdbcTemplate.queryForList(eq(RELKIND_SQL), eq(String.class), any(Object[].class))).thenReturn(List.of("p"));
+        when(jdbcTemplate.queryForList(RELKIND_SQL, String.class, "transaction")).thenReturn(List.of("r"));
+        when(jdbcTemplate.queryForList(NULL_IDS_SQL, Long.class)).thenReturn(List.of());
+
+        maintenance.maintain();
+
+        verify(jdbcTemplate, never()).update(UPDATE_NULLS_SQL);
+        verify(jdbcTemplate).update("INSERT INTO transaction SELECT * FROM transaction_unpartitioned");
+    }
+
+    @Test
+    void testSkipsMissingTable() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(jdbcTemplate.queryForList(eq(RELKIND_SQL), eq(String.class), any(Object[].class))).thenReturn(List.of());
+
+        maintenance.maintain();
+
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE"));
+    }
+}
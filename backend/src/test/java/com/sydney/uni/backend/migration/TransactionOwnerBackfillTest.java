@@ -0,0 +1,39 @@
+package com.sydney.uni.backend.migration;
+
+import com.sydney.uni.backend.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionOwnerBackfillTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private TransactionOwnerBackfill backfill;
+
+    @Test
+    void testRunBackfillsMissingOwners() {
+        when(transactionRepository.backfillUserIds()).thenReturn(3);
+
+        backfill.afterPropertiesSet();
+
+        verify(transactionRepository).backfillUserIds();
+    }
+
+    @Test
+    void testRunIsNoOpWhenNothingToBackfill() {
+        when(transactionRepository.backfillUserIds()).thenReturn(0);
+
+        backfill.afterPropertiesSet();
+
+        verify(transactionRepository, times(1)).backfillUserIds();
+        verifyNoMoreInteractions(transactionRepository);
+    }
+}
@@ -0,0 +1,49 @@
+package com.sydney.uni.backend.migration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSearchIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DatabasePlatform databasePlatform;
+
+    @InjectMocks
+    private TransactionSearchIndex searchIndex;
+
+    @Test
+    void testCreatesGinIndexOnPostgres() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+
+        searchIndex.run(new DefaultApplicationArguments());
+
+        verify(jdbcTemplate).execute("CREATE INDEX IF NOT EXISTS idx_transaction_search ON transaction USING GIN "
+            + "(to_tsvector('simple', coalesce(detail, '') || ' ' || coalesce(note, '')))");
+    }
+
+    @Test
+    void testSkipsOnH2() {
+        when(databasePlatform.isPostgres()).thenReturn(false);
+
+        searchIndex.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testPartitionedTableRecreatesIndex() {
+        assertTrue(PartitionMaintenance.TABLES.get(0).parentDdl().contains(TransactionSearchIndex.CREATE_INDEX_SQL));
+    }
+}
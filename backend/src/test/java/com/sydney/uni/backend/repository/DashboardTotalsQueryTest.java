@@ -0,0 +1,195 @@
+package com.sydney.uni.backend.repository;
+
+import com.sydney.uni.backend.datasource.PrimaryReads;
+import com.sydney.uni.backend.dto.DashboardStatsDto;
+import com.sydney.uni.backend.dto.DashboardTotals;
+import com.sydney.uni.backend.entity.*;
+import com.sydney.uni.backend.services.ClosedMonthReports;
+import com.sydney.uni.backend.services.DashboardService;
+import com.sydney.uni.backend.services.MonthlyRollupService;
+import com.sydney.uni.backend.services.ParallelReads;
+import com.sydney.uni.backend.services.SpendCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the dashboard CTE against a real schema and checks it matches what the per-repository path
+ * would compute, in a single statement.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DashboardTotalsQueryTest {
+
+    private static final YearMonth CURRENT = YearMonth.now();
+    private static final YearMonth PREVIOUS = CURRENT.minusMonths(1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private SaveGoalRepository saveGoalRepository;
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("Leo Liu", "leo@example.com", "secret"));
+        account(100000L, 20000L);
+        account(5000L, 0L);
+
+        rollup(CURRENT, RollupType.OUT, ExpenseCategory.FOOD_DINING, 12000L);
+        rollup(CURRENT, RollupType.OUT, null, 3000L);
+        rollup(CURRENT, RollupType.IN, null, 99999L);
+        rollup(PREVIOUS, RollupType.OUT, ExpenseCategory.TRAVEL, 10000L);
+        rollup(CURRENT.minusMonths(2), RollupType.OUT, ExpenseCategory.TRAVEL, 77777L);
+
+        budget("monthly", 30000L);
+        budget("monthly", 20000L);
+        budget("weekly", 5000L);
+
+        SaveGoal saveGoal = new SaveGoal();
+        saveGoal.setTargetAmountCents(80000L);
+        saveGoal.setUser(user);
+        entityManager.persist(saveGoal);
+
+        // Another user's rows must not leak into the sums
+        User other = entityManager.persist(new User("Other", "other@example.com", "secret"));
+        Account otherAccount = new Account();
+        otherAccount.setUser(other);
+        otherAccount.setBalanceCents(123L);
+        entityManager.persist(otherAccount);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private void account(long balanceCents, long savedCents) {
+        Account account = new Account();
+        account.setUser(user);
+        account.setBalanceCents(balanceCents);
+        account.setSavedCents(savedCents);
+        entityManager.persist(account);
+    }
+
+    private void rollup(YearMonth month, RollupType type, ExpenseCategory category, long totalCents) {
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setUserId(user.getId());
+        rollup.setYearMonth(MonthlyRollup.key(month));
+        rollup.setType(type);
+        rollup.setCategory(category);
+        rollup.setTotalCents(totalCents);
+        rollup.setCount(1L);
+        entityManager.persist(rollup);
+    }
+
+    private void budget(String period, long amountCents) {
+        Budget budget = new Budget();
+        budget.setCategory("FOOD_DINING");
+        budget.setPeriod(period);
+        budget.setAmountCents(amountCents);
+        budget.setUser(user);
+        entityManager.persist(budget);
+    }
+
+    @Test
+    void testTotalsInOneStatement() {
+        DashboardTotals totals = accountRepository.findDashboardTotals(
+            user.getId(), MonthlyRollup.key(CURRENT), MonthlyRollup.key(PREVIOUS));
+
+        assertEquals(105000L, totals.getBalanceCents());
+        assertEquals(20000L, totals.getSavedCents());
+        assertEquals(15000L, totals.getMonthSpendingCents());
+        assertEquals(10000L, totals.getLastMonthSpendingCents());
+        assertEquals(2L, totals.getMonthlyBudgetCount());
+        assertEquals(50000L, totals.getMonthlyBudgetCents());
+        assertEquals(1L, totals.getSaveGoalCount());
+        assertEquals(80000L, totals.getSaveGoalTargetCents());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testUserWithoutDataGetsOneZeroRow() {
+        User fresh = entityManager.persistAndFlush(new User("New", "new@example.com", "secret"));
+
+        DashboardTotals totals = accountRepository.findDashboardTotals(
+            fresh.getId(), MonthlyRollup.key(CURRENT), MonthlyRollup.key(PREVIOUS));
+
+        assertEquals(0L, totals.getBalanceCents());
+        assertEquals(0L, totals.getMonthSpendingCents());
+        assertEquals(0L, totals.getMonthlyBudgetCount());
+        assertEquals(0L, totals.getSaveGoalCount());
+    }
+
+    // Read-only transactions join the test transaction, so the uncommitted fixtures stay visible
+    private ParallelReads parallelReads() {
+        return new ParallelReads(transactionManager, 1, 1, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testCteModeBuildsStatsInOneStatement() {
+        DashboardService cte = new DashboardService(accountRepository, null, budgetRepository, saveGoalRepository,
+            null, DashboardService.QueryMode.CTE, parallelReads());
+
+        DashboardStatsDto stats = cte.getDashboardStats(user.getId());
+
+        assertEquals(105000L, stats.getTotalBalanceCents());
+        assertEquals(20000L, stats.getSavedCents());
+        assertEquals(15000L, stats.getMonthlySpendingCents());
+        assertEquals(10000L, stats.getLastMonthSpendingCents());
+        assertEquals(50.0, stats.getMonthlySpendingChange());
+        assertEquals(35000L, stats.getBudgetLeftCents());
+        assertEquals(30.0, stats.getBudgetUsedPercentage());
+        assertEquals(80000L, stats.getSavingsGoalCents());
+        assertEquals(25.0, stats.getSavingsProgress());
+        assertTrue(stats.getHasSavingsGoal());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testCteModeMatchesRepositoryMode() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // Without a transaction of its own, so seeds see the rows this test has not committed
+        PrimaryReads primaryReads = new PrimaryReads(TransactionOperations.withoutTransaction(),
+            TransactionOperations.withoutTransaction());
+        SpendCounters spendCounters = new SpendCounters(monthlyRollupRepository, primaryReads, meterRegistry,
+            100, Duration.ofMinutes(1), Duration.ofMinutes(1), 10);
+        ClosedMonthReports closedMonthReports = new ClosedMonthReports(monthlyRollupRepository, primaryReads, meterRegistry,
+            100, Duration.ofMinutes(1));
+        MonthlyRollupService monthlyRollupService = new MonthlyRollupService(monthlyRollupRepository, null, null, null,
+            spendCounters, closedMonthReports, null);
+        DashboardService repositories = new DashboardService(accountRepository, null, budgetRepository, saveGoalRepository,
+            monthlyRollupService, DashboardService.QueryMode.REPOSITORIES, parallelReads());
+        DashboardService cte = new DashboardService(accountRepository, null, budgetRepository, saveGoalRepository,
+            null, DashboardService.QueryMode.CTE, parallelReads());
+
+        assertEquals(repositories.getDashboardStats(user.getId()), cte.getDashboardStats(user.getId()));
+    }
+}
@@ -0,0 +1,153 @@
+package com.sydney.uni.backend.repository;
+
+import com.sydney.uni.backend.entity.*;
+import com.sydney.uni.backend.services.BudgetService;
+import com.sydney.uni.backend.services.ExpenseService;
+import com.sydney.uni.backend.services.SaveGoalService;
+import com.sydney.uni.backend.services.SaveMoneyService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the SQL statements behind each read endpoint's service call. With eager to-one associations
+ * every listed row pulled in its account and user with extra selects; these pin the lazy fetch plans
+ * to one statement per read.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class FetchPlanQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private SavingLogRepository savingLogRepository;
+
+    @Autowired
+    private SaveGoalRepository saveGoalRepository;
+
+    private Statistics statistics;
+    private User user;
+    private Transaction firstTransaction;
+    private Budget budget;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("Leo Liu", "leo@example.com", "secret"));
+        Account account = new Account();
+        account.setUser(user);
+        account.setBalanceCents(100000L);
+        entityManager.persist(account);
+
+        for (int i = 0; i < 3; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setType(TransactionType.OUT);
+            transaction.setAmountCents(1000L + i);
+            transaction.setDate(LocalDate.of(2024, 5, 1 + i));
+            transaction.setAccount(account);
+            transaction.setUser(user);
+            entityManager.persist(transaction);
+            if (firstTransaction == null) {
+                firstTransaction = transaction;
+            }
+
+            SavingLog savingLog = new SavingLog();
+            savingLog.setAction(SavingAction.SAVE);
+            savingLog.setAmountCents(500L);
+            savingLog.setTimestamp(LocalDateTime.of(2024, 5, 1 + i, 9, 0));
+            savingLog.setUser(user);
+            savingLog.setAccount(account);
+            entityManager.persist(savingLog);
+        }
+
+        budget = new Budget();
+        budget.setCategory("FOOD_DINING");
+        budget.setPeriod("month");
+        budget.setAmountCents(20000L);
+        budget.setUser(user);
+        entityManager.persist(budget);
+
+        SaveGoal saveGoal = new SaveGoal();
+        saveGoal.setTargetAmountCents(500000L);
+        saveGoal.setUser(user);
+        entityManager.persist(saveGoal);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testListExpenses_SingleStatement() {
+        ExpenseService expenseService = new ExpenseService(null, transactionRepository, null, null, null, null);
+
+        assertEquals(3, expenseService.getUserExpensesPage(user.getId(), null, 50).getContent().size());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetExpense_LoadsAccountInSameStatement() {
+        ExpenseService expenseService = new ExpenseService(null, transactionRepository, null, null, null, null);
+
+        Transaction transaction = expenseService.getExpenseById(firstTransaction.getId(), user.getId());
+        assertEquals(100000L, transaction.getAccount().getBalanceCents());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testDeleteBudget_OwnerCheckNeedsNoUserLoad() {
+        BudgetService budgetService = new BudgetService(budgetRepository, null, null, event -> { });
+
+        budgetService.deleteBudget(user.getId(), budget.getId());
+        entityManager.flush();
+
+        assertEquals(2, statistics.getPrepareStatementCount()); // select budget, delete budget
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testListBudgets_SingleStatement() {
+        BudgetService budgetService = new BudgetService(budgetRepository, null, null, event -> { });
+
+        assertEquals(1, budgetService.getUserBudgets(user.getId()).size());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testListSavingLogs_SingleStatement() {
+        SaveMoneyService saveMoneyService = new SaveMoneyService(null, savingLogRepository, null, null, null, null);
+
+        assertEquals(3, saveMoneyService.getSavingLogs(user.getId()).size());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetSaveGoal_SingleStatement() {
+        SaveGoalService saveGoalService = new SaveGoalService(saveGoalRepository, null, null);
+
+        assertNotNull(saveGoalService.getSaveGoal(user.getId()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
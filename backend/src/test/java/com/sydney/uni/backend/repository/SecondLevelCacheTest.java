@@ -0,0 +1,114 @@
+package com.sydney.uni.backend.repository;
+
+import com.sydney.uni.backend.entity.Budget;
+import com.sydney.uni.backend.entity.SaveGoal;
+import com.sydney.uni.backend.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises the second-level cache with committed data: each repository call runs in its own
+ * transaction, as it does behind the services, so entries are cached and invalidated on commit.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private SaveGoalRepository saveGoalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Leo Liu", "leo@example.com", "secret"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        saveGoalRepository.deleteAll();
+        budgetRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testUserById_ServedFromCache() {
+        assertEquals("leo@example.com", userRepository.findById(user.getId()).orElseThrow().getEmail());
+        assertEquals("leo@example.com", userRepository.findById(user.getId()).orElseThrow().getEmail());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics("user").getHitCount() >= 2);
+    }
+
+    @Test
+    void testUserByEmail_SecondLookupHitsQueryCache() {
+        assertTrue(userRepository.findByEmail("leo@example.com").isPresent());
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+
+        assertTrue(userRepository.findByEmail("leo@example.com").isPresent());
+
+        assertEquals(statementsAfterFirst, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryRegionStatistics("user-by-email").getHitCount());
+    }
+
+    @Test
+    void testBudgetsByUser_InvalidatedByWrite() {
+        Budget budget = new Budget();
+        budget.setCategory("FOOD_DINING");
+        budget.setPeriod("month");
+        budget.setAmountCents(20000L);
+        budget.setUser(user);
+        budgetRepository.save(budget);
+
+        assertEquals(1, budgetRepository.findByUserId(user.getId()).size());
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+        assertEquals(20000L, budgetRepository.findByUserId(user.getId()).get(0).getAmountCents());
+        assertEquals(statementsAfterFirst, statistics.getPrepareStatementCount());
+
+        // A write to budget makes the cached result stale, so the next lookup goes back to the database
+        Budget second = new Budget();
+        second.setCategory("TRAVEL");
+        second.setPeriod("month");
+        second.setAmountCents(5000L);
+        second.setUser(user);
+        budgetRepository.save(second);
+
+        assertEquals(2, budgetRepository.findByUserId(user.getId()).size());
+    }
+
+    @Test
+    void testSaveGoalByUser_ServedFromCache() {
+        SaveGoal saveGoal = new SaveGoal();
+        saveGoal.setTargetAmountCents(500000L);
+        saveGoal.setUser(user);
+        saveGoalRepository.save(saveGoal);
+
+        assertTrue(saveGoalRepository.findByUserId(user.getId()).isPresent());
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+        assertEquals(500000L, saveGoalRepository.findByUserId(user.getId()).orElseThrow().getTargetAmountCents());
+
+        assertEquals(statementsAfterFirst, statistics.getPrepareStatementCount());
+    }
+}
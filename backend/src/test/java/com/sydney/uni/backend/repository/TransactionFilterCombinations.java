@@ -0,0 +1,89 @@
+package com.sydney.uni.backend.repository;
+
+import com.sydney.uni.backend.dto.ExpenseFilterRequest;
+import com.sydney.uni.backend.entity.TransactionType;
+import com.sydney.uni.backend.services.ExpenseService;
+import com.sydney.uni.backend.utils.TransactionCursor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Runs every combination of expense filters through the real Specification code and hands the SQL
+ * Hibernate generates for each one to a database-specific plan check. Tests using it import
+ * {@link CaptureStatements}.
+ */
+final class TransactionFilterCombinations {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class CaptureStatements {
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            StatementInspector inspector = sql -> {
+                STATEMENTS.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    private TransactionFilterCombinations() {
+    }
+
+    /**
+     * Returns "filter mask: plan" for every combination whose plan {@code explain} turns into a failure
+     * message, i.e. returns non-null for.
+     */
+    static List<String> failures(TransactionRepository transactionRepository, Function<String, String> explain) {
+        ExpenseService expenseService = new ExpenseService(null, transactionRepository, null, null, null, null);
+        String cursor = TransactionCursor.encode(LocalDate.of(2024, 6, 1), 500L);
+
+        List<String> failures = new ArrayList<>();
+        // Bits: type, category, from, to, minAmount, maxAmount, cursor
+        for (int mask = 0; mask < 1 << 7; mask++) {
+            ExpenseFilterRequest filter = new ExpenseFilterRequest();
+            if ((mask & 1) != 0) {
+                filter.setType(TransactionType.OUT);
+            }
+            if ((mask & 2) != 0) {
+                filter.setCategory("Food & Dining");
+            }
+            if ((mask & 4) != 0) {
+                filter.setFrom(LocalDate.of(2024, 1, 1));
+            }
+            if ((mask & 8) != 0) {
+                filter.setTo(LocalDate.of(2024, 12, 31));
+            }
+            if ((mask & 16) != 0) {
+                filter.setMinAmount(new BigDecimal("10.00"));
+            }
+            if ((mask & 32) != 0) {
+                filter.setMaxAmount(new BigDecimal("250.00"));
+            }
+
+            STATEMENTS.clear();
+            expenseService.filterExpenses(1L, filter, (mask & 64) != 0 ? cursor : null, 50);
+
+            String sql = STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase().contains("from transaction"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No transaction query captured"));
+            String failure = explain.apply(sql);
+            if (failure != null) {
+                failures.add("filter mask " + Integer.toBinaryString(mask) + ": " + failure);
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,59 @@
+package com.sydney.uni.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that H2, the test database, answers every expense filter combination from one of the user-leading
+ * transaction indexes rather than a tableScan. This only speaks for H2's planner; the production plans are
+ * checked by {@link TransactionFilterPostgresPlanTest}.
+ */
+@DataJpaTest
+@Import(TransactionFilterCombinations.CaptureStatements.class)
+class TransactionFilterPlanTest {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testEveryFilterCombinationUsesAnIndexOnH2() {
+        List<String> tableScans = TransactionFilterCombinations.failures(transactionRepository, sql -> {
+            String plan = explain(sql);
+            return plan.contains("tableScan") ? plan : null;
+        });
+
+        assertTrue(tableScans.isEmpty(), String.join("\n", tableScans));
+    }
+
+    private String explain(String sql) {
+        // EXPLAIN only plans the statement, so parameters can stay null
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet plan = statement.executeQuery()) {
+                    StringBuilder text = new StringBuilder();
+                    while (plan.next()) {
+                        text.append(plan.getString(1));
+                    }
+                    return text.toString();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package com.sydney.uni.backend.repository;
+
+import com.sydney.uni.backend.support.PostgresTestSchema;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The production counterpart of {@link TransactionFilterPlanTest}: every expense filter combination must
+ * be answerable from a transaction index on Postgres. Runs against a scratch schema that Hibernate creates
+ * with the entity indexes, and is skipped when no server is reachable (see {@link PostgresTestSchema}).
+ * <p>
+ * The table is empty, so sequential scans are switched off for the session; Postgres then only picks
+ * one when no index can serve the query at all. Plans are generic (EXPLAIN (GENERIC_PLAN), Postgres 16+):
+ * binding nulls, as the H2 test does, would let Postgres fold the filters away and skip the scan entirely.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIf("com.sydney.uni.backend.support.PostgresTestSchema#isAvailable")
+@Import(TransactionFilterCombinations.CaptureStatements.class)
+class TransactionFilterPostgresPlanTest {
+
+    private static PostgresTestSchema schema;
+
+    @DynamicPropertySource
+    static void scratchSchema(DynamicPropertyRegistry registry) {
+        schema = PostgresTestSchema.createOrSkip();
+        registry.add("spring.datasource.url", schema::jdbcUrl);
+        registry.add("spring.datasource.username", schema::username);
+        registry.add("spring.datasource.password", schema::password);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @AfterAll
+    static void dropScratchSchema() throws Exception {
+        if (schema != null) {
+            schema.close();
+        }
+    }
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testEveryFilterCombinationUsesAnIndexOnPostgres() {
+        List<String> seqScans = TransactionFilterCombinations.failures(transactionRepository, sql -> {
+            String plan = explain(sql);
+            return plan.contains("Seq Scan on transaction") ? plan : null;
+        });
+
+        assertTrue(seqScans.isEmpty(), String.join("\n", seqScans));
+    }
+
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Assumptions.assumeTrue(connection.getMetaData().getDatabaseMajorVersion() >= 16,
+                "EXPLAIN (GENERIC_PLAN) needs Postgres 16 or later");
+
+            // A generic plan takes $n placeholders in the statement text instead of bound values
+            StringBuilder numbered = new StringBuilder();
+            int parameter = 0;
+            for (char c : sql.toCharArray()) {
+                if (c == '?') {
+                    numbered.append('$').append(++parameter);
+                } else {
+                    numbered.append(c);
+                }
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+                try (ResultSet plan = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numbered)) {
+                    StringBuilder text = new StringBuilder();
+                    while (plan.next()) {
+                        text.append(plan.getString(1)).append('\n');
+                    }
+                    return text.toString();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.entity.TransactionType;
+import com.sydney.uni.backend.services.AccountDeltaEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountDeltaEventTest {
+
+    private static Transaction transaction(TransactionType type, long amountCents, LocalDate date) {
+        Transaction transaction = new Transaction();
+        transaction.setType(type);
+        transaction.setAmountCents(amountCents);
+        transaction.setDate(date);
+        return transaction;
+    }
+
+    @Test
+    void testTransactionCreated_ExpenseThisMonth() {
+        Transaction expense = transaction(TransactionType.OUT, 1500L, LocalDate.now());
+
+        AccountDeltaEvent event = AccountDeltaEvent.transactionCreated(1L, expense);
+
+        assertEquals(AccountDeltaEvent.Change.TRANSACTION_CREATED, event.change());
+        assertEquals(-1500L, event.balanceDeltaCents());
+        assertEquals(0L, event.savedDeltaCents());
+        assertEquals(1500L, event.monthSpendingDeltaCents());
+        assertSame(expense, event.transaction());
+    }
+
+    @Test
+    void testTransactionCreated_ExpenseInAnotherMonthLeavesMonthSpending() {
+        Transaction expense = transaction(TransactionType.OUT, 1500L, LocalDate.now().minusMonths(2));
+
+        AccountDeltaEvent event = AccountDeltaEvent.transactionCreated(1L, expense);
+
+        assertEquals(-1500L, event.balanceDeltaCents());
+        assertEquals(0L, event.monthSpendingDeltaCents());
+    }
+
+    @Test
+    void testTransactionCreated_Deposit() {
+        AccountDeltaEvent event = AccountDeltaEvent.transactionCreated(1L,
+                transaction(TransactionType.IN, 5000L, LocalDate.now()));
+
+        assertEquals(5000L, event.balanceDeltaCents());
+        assertEquals(0L, event.monthSpendingDeltaCents());
+    }
+
+    @Test
+    void testSavingsChanged() {
+        AccountDeltaEvent event = AccountDeltaEvent.savingsChanged(1L, -2000L);
+
+        assertEquals(AccountDeltaEvent.Change.SAVINGS_CHANGED, event.change());
+        assertEquals(0L, event.balanceDeltaCents());
+        assertEquals(-2000L, event.savedDeltaCents());
+        assertNull(event.transaction());
+    }
+}
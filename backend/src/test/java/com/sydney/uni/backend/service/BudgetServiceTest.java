@@ -4,16 +4,18 @@ import com.sydney.uni.backend.dto.BudgetDto;
 import com.sydney.uni.backend.dto.BudgetRequest;
 import com.sydney.uni.backend.entity.*;
 import com.sydney.uni.backend.repository.BudgetRepository;
-import com.sydney.uni.backend.repository.TransactionRepository;
 import com.sydney.uni.backend.repository.UserRepository;
 import com.sydney.uni.backend.services.BudgetService;
+import com.sydney.uni.backend.services.MonthlyRollupService;
+import com.sydney.uni.backend.services.UserDataChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,7 +31,10 @@ class BudgetServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private MonthlyRollupService monthlyRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private BudgetService budgetService;
@@ -51,12 +56,12 @@ class BudgetServiceTest {
         budget.setUser(user);
         budget.setCategory("Food & Dining");
         budget.setPeriod("monthly");
-        budget.setAmount(500.0);
+        budget.setAmountCents(50000L);
 
         request = new BudgetRequest();
         request.setCategory("Food & Dining");
         request.setPeriod("monthly");
-        request.setAmount(600.0);
+        request.setAmountCents(60000L);
     }
 
     // addBudget - create new budget
@@ -83,7 +88,7 @@ class BudgetServiceTest {
 
         Budget result = budgetService.addBudget(1L, request);
 
-        assertEquals(600.0, result.getAmount());
+        assertEquals(60000L, result.getAmountCents());
         verify(budgetRepository, times(1)).save(budget);
     }
 
@@ -112,33 +117,23 @@ class BudgetServiceTest {
     // getUserBudgetsWithSpending
     @Test
     void testGetUserBudgetsWithSpending() {
-        Transaction tx = new Transaction();
-        tx.setType(TransactionType.OUT);
-        tx.setAmount(100.0);
-        tx.setExpenseCategory(ExpenseCategory.FOOD_DINING);
-        tx.setDate(LocalDate.now());
-
         Budget budget = new Budget();
         budget.setId(1L);
         budget.setCategory("FOOD_DINING");
-        budget.setAmount(500.0);
+        budget.setAmountCents(50000L);
         budget.setPeriod("monthly");
 
         when(budgetRepository.findByUserId(anyLong()))
                 .thenReturn(List.of(budget));
 
-        when(transactionRepository.findByAccountUserIdAndDateBetweenAndType(
-                anyLong(),
-                any(LocalDate.class),
-                any(LocalDate.class),
-                eq(TransactionType.OUT)
-        )).thenReturn(List.of(tx));
+        when(monthlyRollupService.getCategoryTotal(1L, YearMonth.now(), ExpenseCategory.FOOD_DINING))
+                .thenReturn(10000L);
 
         List<BudgetDto> result = budgetService.getUserBudgetsWithSpending(1L);
 
         assertEquals(1, result.size());
-        assertEquals(100.0, result.get(0).getSpent());
-        assertEquals(400.0, result.get(0).getRemaining());
+        assertEquals(10000L, result.get(0).getSpentCents());
+        assertEquals(40000L, result.get(0).getRemainingCents());
         assertTrue(result.get(0).getUtilizationPercentage() > 0);
     }
 
@@ -156,20 +151,15 @@ class BudgetServiceTest {
     // getBudgetById success
     @Test
     void testGetBudgetById_Success() {
-        Transaction tx = new Transaction();
-        tx.setType(TransactionType.OUT);
-        tx.setAmount(200.0);
-        tx.setExpenseCategory(ExpenseCategory.FOOD_DINING);
-        tx.setDate(LocalDate.now());
-
         when(budgetRepository.findById(10L)).thenReturn(Optional.of(budget));
-        when(transactionRepository.findByAccountUserIdAndDateBetweenAndType(eq(1L), any(), any(), eq(TransactionType.OUT)))
-                .thenReturn(List.of(tx));
 
         BudgetDto dto = budgetService.getBudgetById(10L, 1L);
 
         assertNotNull(dto);
         assertEquals("Food & Dining", dto.getCategory());
+        // Display-label categories don't match an ExpenseCategory name, so nothing is looked up
+        assertEquals(0L, dto.getSpentCents());
+        verifyNoInteractions(monthlyRollupService);
     }
 
     //  getBudgetById - budget not found
@@ -206,7 +196,7 @@ class BudgetServiceTest {
 
         Budget result = budgetService.updateBudget(10L, 1L, request);
 
-        assertEquals(600.0, result.getAmount());
+        assertEquals(60000L, result.getAmountCents());
         verify(budgetRepository, times(1)).save(any(Budget.class));
     }
 
@@ -243,6 +233,7 @@ class BudgetServiceTest {
         budgetService.deleteBudget(1L, 10L);
 
         verify(budgetRepository, times(1)).delete(budget);
+        verify(eventPublisher).publishEvent(new UserDataChangedEvent(1L));
     }
 
     // deleteBudget - not found
@@ -268,5 +259,7 @@ class BudgetServiceTest {
                 () -> budgetService.deleteBudget(1L, 10L));
 
         assertEquals("Budget does not belong to user", ex.getMessage());
+        verify(budgetRepository, never()).delete(any());
+        verify(eventPublisher, never()).publishEvent(any(UserDataChangedEvent.class));
     }
 }
@@ -0,0 +1,165 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.datasource.PrimaryReads;
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.MonthlyRollup;
+import com.sydney.uni.backend.entity.RollupType;
+import com.sydney.uni.backend.repository.MonthlyRollupRepository;
+import com.sydney.uni.backend.services.ClosedMonthReports;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ClosedMonthReportsTest {
+
+    // "Now" is 15 June 2024, so May and earlier have ended
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-06-15T10:00:00Z"), ZoneOffset.UTC);
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+    private static final YearMonth APRIL = YearMonth.of(2024, 4);
+    private static final YearMonth MAY = YearMonth.of(2024, 5);
+
+    private MonthlyRollupRepository monthlyRollupRepository;
+    private PrimaryReads primaryReads;
+    private ClosedMonthReports closedMonthReports;
+
+    @BeforeEach
+    void setUp() {
+        monthlyRollupRepository = mock(MonthlyRollupRepository.class);
+        primaryReads = spy(new PrimaryReads(TransactionOperations.withoutTransaction(),
+            TransactionOperations.withoutTransaction()));
+        closedMonthReports = new ClosedMonthReports(monthlyRollupRepository, primaryReads, new SimpleMeterRegistry(),
+                100, Duration.ofHours(1), CLOCK);
+        when(monthlyRollupRepository.findByUserIdAndYearMonthBetween(1L, 202403, 202405)).thenReturn(List.of(
+                rollup(MARCH, RollupType.OUT, ExpenseCategory.TRAVEL, 6000L),
+                rollup(MAY, RollupType.IN, null, 50000L)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static MonthlyRollup rollup(YearMonth month, RollupType type, ExpenseCategory category, long totalCents) {
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setUserId(1L);
+        rollup.setYearMonth(MonthlyRollup.key(month));
+        rollup.setType(type);
+        rollup.setCategory(category);
+        rollup.setTotalCents(totalCents);
+        return rollup;
+    }
+
+    @Test
+    void testGetRollups_ReadsMissingMonthsOnceThenFromMemory() {
+        List<MonthlyRollup> first = closedMonthReports.getRollups(1L, MARCH, MAY);
+        List<MonthlyRollup> second = closedMonthReports.getRollups(1L, MARCH, MAY);
+
+        assertEquals(2, first.size());
+        assertEquals(first, second);
+        // April has no rows and is remembered as empty rather than read again
+        verify(monthlyRollupRepository, times(1)).findByUserIdAndYearMonthBetween(anyLong(), anyInt(), anyInt());
+        verify(primaryReads, times(1)).read(any());
+    }
+
+    @Test
+    void testInvalidateAfterCommit_KeepsNeighbourAcrossYearEnd() {
+        YearMonth december = YearMonth.of(2023, 12);
+        YearMonth january = YearMonth.of(2024, 1);
+        closedMonthReports.getRollups(1L, december, january);
+
+        closedMonthReports.invalidateAfterCommit(1L, december);
+        closedMonthReports.getRollups(1L, december, january);
+
+        verify(monthlyRollupRepository).findByUserIdAndYearMonthBetween(1L, 202312, 202401);
+        verify(monthlyRollupRepository).findByUserIdAndYearMonthBetween(1L, 202312, 202312);
+    }
+
+    @Test
+    void testGetRollups_ReadsOnlyTheMonthsNotCached() {
+        closedMonthReports.getRollups(1L, MARCH, MAY);
+        when(monthlyRollupRepository.findByUserIdAndYearMonthBetween(1L, 202402, 202402)).thenReturn(List.of(
+                rollup(YearMonth.of(2024, 2), RollupType.SAVE, null, 1000L)));
+
+        List<MonthlyRollup> rollups = closedMonthReports.getRollups(1L, YearMonth.of(2024, 2), MAY);
+
+        assertEquals(3, rollups.size());
+        assertEquals(RollupType.SAVE, rollups.get(0).getType());
+        verify(monthlyRollupRepository).findByUserIdAndYearMonthBetween(1L, 202402, 202402);
+    }
+
+    @Test
+    void testGetRollups_RejectsMonthsThatHaveNotEnded() {
+        assertThrows(IllegalArgumentException.class,
+                () -> closedMonthReports.getRollups(1L, MAY, YearMonth.of(2024, 6)));
+        verifyNoInteractions(monthlyRollupRepository);
+    }
+
+    @Test
+    void testInvalidate_RereadsOnlyTheTouchedMonth() {
+        closedMonthReports.getRollups(1L, MARCH, MAY);
+        when(monthlyRollupRepository.findByUserIdAndYearMonthBetween(1L, 202404, 202404)).thenReturn(List.of(
+                rollup(APRIL, RollupType.OUT, ExpenseCategory.SHOPPING, 2500L)));
+
+        // A back-dated expense in April
+        closedMonthReports.invalidateAfterCommit(1L, APRIL);
+        List<MonthlyRollup> rollups = closedMonthReports.getRollups(1L, MARCH, MAY);
+
+        assertEquals(3, rollups.size());
+        assertEquals(ExpenseCategory.SHOPPING, rollups.get(1).getCategory());
+        verify(monthlyRollupRepository).findByUserIdAndYearMonthBetween(1L, 202404, 202404);
+        verify(monthlyRollupRepository, times(2)).findByUserIdAndYearMonthBetween(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testInvalidate_WaitsForCommit() {
+        closedMonthReports.getRollups(1L, MARCH, MAY);
+
+        TransactionSynchronizationManager.initSynchronization();
+        closedMonthReports.invalidateAfterCommit(1L, APRIL);
+        closedMonthReports.getRollups(1L, MARCH, MAY);
+        verify(monthlyRollupRepository, times(1)).findByUserIdAndYearMonthBetween(anyLong(), anyInt(), anyInt());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        closedMonthReports.getRollups(1L, MARCH, MAY);
+        verify(monthlyRollupRepository).findByUserIdAndYearMonthBetween(1L, 202404, 202404);
+    }
+
+    @Test
+    void testInvalidateUser_RereadsEveryMonth() {
+        closedMonthReports.getRollups(1L, MARCH, MAY);
+
+        closedMonthReports.invalidateUserAfterCommit(1L);
+        closedMonthReports.getRollups(1L, MARCH, MAY);
+
+        verify(monthlyRollupRepository, times(2)).findByUserIdAndYearMonthBetween(1L, 202403, 202405);
+    }
+
+    @Test
+    void testUsersAreCachedSeparately() {
+        closedMonthReports.getRollups(1L, MARCH, MAY);
+
+        assertTrue(closedMonthReports.getRollups(2L, MARCH, MAY).isEmpty());
+        verify(monthlyRollupRepository).findByUserIdAndYearMonthBetween(2L, 202403, 202405);
+    }
+}
@@ -0,0 +1,183 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.dto.BudgetDto;
+import com.sydney.uni.backend.dto.DashboardBootstrapDto;
+import com.sydney.uni.backend.dto.TransactionDto;
+import com.sydney.uni.backend.entity.*;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.repository.BudgetRepository;
+import com.sydney.uni.backend.repository.SaveGoalRepository;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import com.sydney.uni.backend.repository.UserRepository;
+import com.sydney.uni.backend.services.BudgetService;
+import com.sydney.uni.backend.services.DashboardBootstrapService;
+import com.sydney.uni.backend.services.DashboardService;
+import com.sydney.uni.backend.services.MonthlyRollupService;
+import com.sydney.uni.backend.services.ParallelReads;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardBootstrapServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final YearMonth CURRENT = YearMonth.now();
+    private static final YearMonth PREVIOUS = CURRENT.minusMonths(1);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @Mock
+    private SaveGoalRepository saveGoalRepository;
+
+    @Mock
+    private MonthlyRollupService monthlyRollupService;
+
+    private DashboardService dashboardService;
+    private DashboardBootstrapService bootstrapService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ParallelReads parallelReads = new ParallelReads(Executors.newSingleThreadExecutor(),
+                TransactionOperations.withoutTransaction(), Duration.ofSeconds(5));
+        dashboardService = new DashboardService(accountRepository, transactionRepository, budgetRepository,
+                saveGoalRepository, monthlyRollupService, DashboardService.QueryMode.REPOSITORIES, parallelReads);
+        bootstrapService = new DashboardBootstrapService(accountRepository, budgetRepository, saveGoalRepository,
+                monthlyRollupService, dashboardService);
+
+        Account account = new Account();
+        account.setBalanceCents(100000L);
+        account.setSavedCents(20000L);
+        when(accountRepository.findByUserId(USER_ID)).thenReturn(List.of(account));
+
+        when(budgetRepository.findByUserId(USER_ID)).thenReturn(List.of(
+                budget(10L, "FOOD_DINING", "monthly", 30000L),
+                budget(11L, "TRAVEL", "yearly", 200000L),
+                budget(12L, "Food & Dining", "monthly", 5000L)));
+
+        SaveGoal goal = new SaveGoal();
+        goal.setTargetAmountCents(80000L);
+        when(saveGoalRepository.findByUserId(USER_ID)).thenReturn(Optional.of(goal));
+
+        when(monthlyRollupService.getRollups(USER_ID, PREVIOUS, CURRENT)).thenReturn(List.of(
+                rollup(CURRENT, RollupType.OUT, ExpenseCategory.FOOD_DINING, 12000L),
+                rollup(CURRENT, RollupType.OUT, ExpenseCategory.TRAVEL, 4000L),
+                rollup(CURRENT, RollupType.OUT, null, 3000L),
+                rollup(CURRENT, RollupType.IN, null, 99999L),
+                rollup(PREVIOUS, RollupType.OUT, ExpenseCategory.TRAVEL, 10000L),
+                rollup(PREVIOUS, RollupType.SAVE, null, 5000L)));
+
+        TransactionDto recent = new TransactionDto(1L, TransactionType.OUT, LocalDate.now(),
+                ExpenseCategory.FOOD_DINING, "Lunch", 1500L, null);
+        when(transactionRepository.findRecentByUserId(eq(USER_ID), any(Pageable.class))).thenReturn(List.of(recent));
+    }
+
+    private static Budget budget(Long id, String category, String period, long amountCents) {
+        Budget budget = new Budget();
+        budget.setId(id);
+        budget.setCategory(category);
+        budget.setPeriod(period);
+        budget.setAmountCents(amountCents);
+        return budget;
+    }
+
+    private static MonthlyRollup rollup(YearMonth month, RollupType type, ExpenseCategory category, long cents) {
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setUserId(USER_ID);
+        rollup.setYearMonth(MonthlyRollup.key(month));
+        rollup.setType(type);
+        rollup.setCategory(category);
+        rollup.setTotalCents(cents);
+        return rollup;
+    }
+
+    @Test
+    void testGetBootstrap_BuildsEverySection() {
+        DashboardBootstrapDto bootstrap = bootstrapService.getBootstrap(USER_ID, 10);
+
+        assertEquals(100000L, bootstrap.getStats().getTotalBalanceCents());
+        assertEquals(19000L, bootstrap.getStats().getMonthlySpendingCents());
+        assertEquals(10000L, bootstrap.getStats().getLastMonthSpendingCents());
+        assertEquals(16000L, bootstrap.getStats().getBudgetLeftCents());
+        assertEquals(25.0, bootstrap.getStats().getSavingsProgress());
+
+        List<BudgetDto> budgets = bootstrap.getBudgets();
+        assertEquals(3, budgets.size());
+        assertEquals(12000L, budgets.get(0).getSpentCents());
+        assertEquals(18000L, budgets.get(0).getRemainingCents());
+        assertEquals(40.0, budgets.get(0).getUtilizationPercentage());
+        assertEquals(4000L, budgets.get(1).getSpentCents());
+        // Display-label categories never match expenses, as in BudgetService
+        assertEquals(0L, budgets.get(2).getSpentCents());
+
+        assertEquals(80000L, bootstrap.getSaveGoal().getTargetAmountCents());
+        assertEquals("Lunch", bootstrap.getTransactions().get(0).getDetail());
+        assertEquals("Food & Dining", bootstrap.getTransactions().get(0).getCategoryDisplayName());
+    }
+
+    @Test
+    void testGetBootstrap_ReadsSharedRowsOnce() {
+        bootstrapService.getBootstrap(USER_ID, 10);
+
+        verify(accountRepository, times(1)).findByUserId(USER_ID);
+        verify(budgetRepository, times(1)).findByUserId(USER_ID);
+        verify(saveGoalRepository, times(1)).findByUserId(USER_ID);
+        verify(monthlyRollupService, times(1)).getRollups(USER_ID, PREVIOUS, CURRENT);
+        verify(monthlyRollupService, never()).getTotal(anyLong(), any(), any());
+        verify(monthlyRollupService, never()).getCategoryTotal(anyLong(), any(), any());
+    }
+
+    @Test
+    void testGetBootstrap_MatchesIndividualEndpoints() {
+        when(monthlyRollupService.getTotal(USER_ID, CURRENT, TransactionType.OUT)).thenReturn(19000L);
+        when(monthlyRollupService.getTotal(USER_ID, PREVIOUS, TransactionType.OUT)).thenReturn(10000L);
+        when(monthlyRollupService.getCategoryTotal(USER_ID, CURRENT, ExpenseCategory.FOOD_DINING)).thenReturn(12000L);
+        when(monthlyRollupService.getCategoryTotal(USER_ID, CURRENT, ExpenseCategory.TRAVEL)).thenReturn(4000L);
+        BudgetService budgetService = new BudgetService(budgetRepository, mock(UserRepository.class),
+                monthlyRollupService, event -> { });
+
+        DashboardBootstrapDto bootstrap = bootstrapService.getBootstrap(USER_ID, 10);
+
+        assertEquals(dashboardService.getDashboardStats(USER_ID), bootstrap.getStats());
+        assertEquals(budgetService.getUserBudgetsWithSpending(USER_ID), bootstrap.getBudgets());
+        assertEquals(dashboardService.getRecentTransactions(USER_ID, 10), bootstrap.getTransactions());
+    }
+
+    @Test
+    void testGetBootstrap_NewUser() {
+        when(accountRepository.findByUserId(2L)).thenReturn(List.of());
+        when(budgetRepository.findByUserId(2L)).thenReturn(List.of());
+        when(saveGoalRepository.findByUserId(2L)).thenReturn(Optional.empty());
+        when(monthlyRollupService.getRollups(eq(2L), any(), any())).thenReturn(List.of());
+        when(transactionRepository.findRecentByUserId(eq(2L), any(Pageable.class))).thenReturn(List.of());
+
+        DashboardBootstrapDto bootstrap = bootstrapService.getBootstrap(2L, 10);
+
+        assertEquals(0L, bootstrap.getStats().getTotalBalanceCents());
+        assertNull(bootstrap.getStats().getBudgetUsedPercentage());
+        assertFalse(bootstrap.getStats().getHasSavingsGoal());
+        assertTrue(bootstrap.getBudgets().isEmpty());
+        assertTrue(bootstrap.getTransactions().isEmpty());
+        assertNull(bootstrap.getSaveGoal());
+    }
+}
@@ -0,0 +1,206 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.dto.TransactionDto;
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.entity.TransactionType;
+import com.sydney.uni.backend.services.AccountDeltaEvent;
+import com.sydney.uni.backend.services.DashboardEventStream;
+import com.sydney.uni.backend.services.DashboardService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DashboardEventStreamTest {
+
+    private DashboardService dashboardService;
+    private SimpleMeterRegistry meterRegistry;
+    private QueuedExecutor sender;
+    private DashboardEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = mock(DashboardService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sender = new QueuedExecutor();
+        stream = new DashboardEventStream(dashboardService, meterRegistry, Duration.ofMinutes(1), 2, sender);
+    }
+
+    private static Transaction expense(long amountCents) {
+        Transaction transaction = new Transaction();
+        transaction.setId(5L);
+        transaction.setType(TransactionType.OUT);
+        transaction.setAmountCents(amountCents);
+        transaction.setDate(LocalDate.now());
+        return transaction;
+    }
+
+    @Test
+    void testSubscribe_CountsStreamsAndRegistersGauge() {
+        stream.subscribe(1L);
+        stream.subscribe(2L);
+
+        assertEquals(2, stream.subscriberCount());
+        assertEquals(2.0, meterRegistry.get("dashboard.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    void testSubscribe_ClosesOldestStreamOverPerUserCap() throws IOException {
+        SseEmitter oldest = stream.subscribe(1L);
+        stream.subscribe(1L);
+        stream.subscribe(1L);
+
+        assertEquals(2, stream.subscriberCount());
+        // The evicted stream was completed, so nothing more can be sent on it
+        assertThrows(IllegalStateException.class, () -> oldest.send("late"));
+    }
+
+    @Test
+    void testOnAccountDelta_NoSubscribersIsNoOp() {
+        stream.onAccountDelta(AccountDeltaEvent.transactionCreated(1L, expense(1500L)));
+
+        assertTrue(sender.tasks.isEmpty());
+        verifyNoInteractions(dashboardService);
+    }
+
+    @Test
+    void testOnAccountDelta_SendsToTheUsersStreamsOnly() {
+        when(dashboardService.convertToTransactionDto(any(Transaction.class))).thenReturn(new TransactionDto());
+        stream.subscribe(1L);
+        stream.subscribe(2L);
+
+        stream.onAccountDelta(AccountDeltaEvent.transactionCreated(1L, expense(1500L)));
+
+        assertEquals(1, sender.tasks.size());
+        verify(dashboardService).convertToTransactionDto(any(Transaction.class));
+        sender.runAll();
+        assertEquals(2, stream.subscriberCount());
+    }
+
+    @Test
+    void testOnAccountDelta_SavingsChangeHasNoTransaction() {
+        stream.subscribe(1L);
+
+        stream.onAccountDelta(AccountDeltaEvent.savingsChanged(1L, 2000L));
+
+        assertEquals(1, sender.tasks.size());
+        verifyNoInteractions(dashboardService);
+    }
+
+    @Test
+    void testOnAccountDelta_SaturatedSenderClosesStreams() {
+        stream.subscribe(1L);
+        sender.rejecting = true;
+
+        stream.onAccountDelta(AccountDeltaEvent.savingsChanged(1L, 2000L));
+
+        // The closed stream fails its next write and drops out
+        sender.rejecting = false;
+        stream.heartbeat();
+        sender.runAll();
+        assertEquals(0, stream.subscriberCount());
+    }
+
+    @Test
+    void testOnAccountDelta_ReloadHasNoTransaction() {
+        stream.subscribe(1L);
+
+        stream.onAccountDelta(AccountDeltaEvent.reload(1L));
+
+        assertEquals(1, sender.tasks.size());
+        verifyNoInteractions(dashboardService);
+    }
+
+    @Test
+    void testHeartbeat_SendsOnSenderPool() {
+        stream.subscribe(1L);
+        stream.subscribe(2L);
+
+        stream.heartbeat();
+
+        // One task for both users; nothing is written on the scheduler thread
+        assertEquals(1, sender.tasks.size());
+        sender.runAll();
+        assertEquals(2, stream.subscriberCount());
+    }
+
+    @Test
+    void testHeartbeat_SaturatedSenderClosesStreams() {
+        stream.subscribe(1L);
+        sender.rejecting = true;
+
+        stream.heartbeat();
+
+        sender.rejecting = false;
+        stream.heartbeat();
+        sender.runAll();
+        assertEquals(0, stream.subscriberCount());
+    }
+
+    @Test
+    void testDestroy_StopsSender() {
+        stream.subscribe(1L);
+
+        stream.destroy();
+
+        assertTrue(sender.isShutdown());
+    }
+
+    // Holds tasks until the test runs them, or rejects them to simulate a full queue
+    private static class QueuedExecutor extends AbstractExecutorService {
+        private final List<Runnable> tasks = new ArrayList<>();
+        private boolean rejecting;
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            if (rejecting) {
+                throw new RejectedExecutionException("queue full");
+            }
+            tasks.add(command);
+        }
+
+        void runAll() {
+            tasks.forEach(Runnable::run);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.copyOf(tasks);
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -1,19 +1,33 @@
 package com.sydney.uni.backend.service;
 
 import com.sydney.uni.backend.dto.DashboardStatsDto;
+import com.sydney.uni.backend.dto.DashboardTotals;
 import com.sydney.uni.backend.dto.TransactionDto;
 import com.sydney.uni.backend.entity.*;
 import com.sydney.uni.backend.repository.*;
 import com.sydney.uni.backend.services.DashboardService;
+import com.sydney.uni.backend.services.MonthlyRollupService;
+import com.sydney.uni.backend.services.ParallelReads;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,12 +46,84 @@ class DashboardServiceTest {
     @Mock
     private SaveGoalRepository saveGoalRepository;
 
-    @InjectMocks
+    @Mock
+    private MonthlyRollupService monthlyRollupService;
+
+    private ExecutorService executor;
+
     private DashboardService dashboardService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        executor = Executors.newFixedThreadPool(5);
+        dashboardService = service(DashboardService.QueryMode.REPOSITORIES, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private DashboardService service(DashboardService.QueryMode queryMode, Duration deadline) {
+        ParallelReads parallelReads = new ParallelReads(executor, TransactionOperations.withoutTransaction(), deadline);
+        return new DashboardService(accountRepository, transactionRepository, budgetRepository,
+                saveGoalRepository, monthlyRollupService, queryMode, parallelReads);
+    }
+
+    private DashboardService cteService() {
+        return service(DashboardService.QueryMode.CTE, Duration.ofSeconds(5));
+    }
+
+    private DashboardService parallelService(Duration deadline) {
+        return service(DashboardService.QueryMode.PARALLEL, deadline);
+    }
+
+    private DashboardTotals totals(long balance, long saved, long month, long lastMonth,
+                                   long budgetCount, long budgetCents, long goalCount, long goalCents) {
+        DashboardTotals totals = mock(DashboardTotals.class);
+        when(totals.getBalanceCents()).thenReturn(balance);
+        when(totals.getSavedCents()).thenReturn(saved);
+        when(totals.getMonthSpendingCents()).thenReturn(month);
+        when(totals.getLastMonthSpendingCents()).thenReturn(lastMonth);
+        when(totals.getMonthlyBudgetCount()).thenReturn(budgetCount);
+        when(totals.getMonthlyBudgetCents()).thenReturn(budgetCents);
+        when(totals.getSaveGoalCount()).thenReturn(goalCount);
+        when(totals.getSaveGoalTargetCents()).thenReturn(goalCents);
+        return totals;
+    }
+
+    @Test
+    void testGetDashboardStats_CteModeUsesSingleQuery() {
+        YearMonth now = YearMonth.now();
+        DashboardTotals totals = totals(100000L, 20000L, 30000L, 20000L, 1L, 100000L, 1L, 100000L);
+        when(accountRepository.findDashboardTotals(1L, MonthlyRollup.key(now), MonthlyRollup.key(now.minusMonths(1))))
+                .thenReturn(totals);
+
+        DashboardStatsDto stats = cteService().getDashboardStats(1L);
+
+        assertEquals(100000L, stats.getTotalBalanceCents());
+        assertEquals(30000L, stats.getMonthlySpendingCents());
+        assertEquals(50.0, stats.getMonthlySpendingChange());
+        assertEquals(70000L, stats.getBudgetLeftCents());
+        assertEquals(30.0, stats.getBudgetUsedPercentage());
+        assertEquals(20.0, stats.getSavingsProgress());
+        assertTrue(stats.getHasSavingsGoal());
+        verify(accountRepository, never()).findByUserId(anyLong());
+        verifyNoInteractions(monthlyRollupService, budgetRepository, saveGoalRepository);
+    }
+
+    @Test
+    void testGetDashboardStats_CteModeNoBudgetsOrGoal() {
+        DashboardTotals totals = totals(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+        when(accountRepository.findDashboardTotals(eq(2L), anyInt(), anyInt())).thenReturn(totals);
+
+        DashboardStatsDto stats = cteService().getDashboardStats(2L);
+
+        assertEquals(0L, stats.getBudgetLeftCents());
+        assertNull(stats.getBudgetUsedPercentage());
+        assertFalse(stats.getHasSavingsGoal());
+        assertEquals(0.0, stats.getSavingsProgress());
     }
 
     @Test
@@ -46,35 +132,23 @@ class DashboardServiceTest {
 
         // Mock accounts
         Account account = new Account();
-        account.setBalance(1000.0);
-        account.setSaved(200.0);
+        account.setBalanceCents(100000L);
+        account.setSavedCents(20000L);
         when(accountRepository.findByUserId(userId)).thenReturn(List.of(account));
 
-        // Mock transactions (current month and last month)
-        Transaction currentTx = new Transaction();
-        currentTx.setAmount(300.0);
-        currentTx.setType(TransactionType.OUT);
-        currentTx.setDate(LocalDate.now());
-
-        Transaction lastTx = new Transaction();
-        lastTx.setAmount(200.0);
-        lastTx.setType(TransactionType.OUT);
-        lastTx.setDate(LocalDate.now().minusMonths(1));
-
-        when(transactionRepository.findByAccountUserIdAndDateBetweenAndType(
-                eq(userId), any(), any(), eq(TransactionType.OUT)))
-                .thenReturn(List.of(currentTx))
-                .thenReturn(List.of(lastTx));
+        // Mock monthly rollups (current month and last month)
+        when(monthlyRollupService.getTotal(userId, YearMonth.now(), TransactionType.OUT)).thenReturn(30000L);
+        when(monthlyRollupService.getTotal(userId, YearMonth.now().minusMonths(1), TransactionType.OUT)).thenReturn(20000L);
 
         // Mock budgets
         Budget monthlyBudget = new Budget();
-        monthlyBudget.setAmount(1000.0);
+        monthlyBudget.setAmountCents(100000L);
         monthlyBudget.setPeriod("monthly");
         when(budgetRepository.findByUserId(userId)).thenReturn(List.of(monthlyBudget));
 
         // Mock save goal
         SaveGoal saveGoal = new SaveGoal();
-        saveGoal.setTargetAmount(1000.0);
+        saveGoal.setTargetAmountCents(100000L);
         when(saveGoalRepository.findByUserId(userId)).thenReturn(Optional.of(saveGoal));
 
         // Execute
@@ -82,33 +156,115 @@ class DashboardServiceTest {
 
         // Verify and assert
         assertNotNull(stats);
-        assertEquals(1000.0, stats.getTotalBalance());
-        assertEquals(200.0, stats.getSaved());
-        assertEquals(300.0, stats.getMonthlySpending());
-        assertTrue(stats.getBudgetLeft() <= 1000.0);
+        assertEquals(100000L, stats.getTotalBalanceCents());
+        assertEquals(20000L, stats.getSavedCents());
+        assertEquals(30000L, stats.getMonthlySpendingCents());
+        assertTrue(stats.getBudgetLeftCents() <= 100000L);
         assertTrue(stats.getSavingsProgress() > 0);
         assertTrue(stats.getMonthlySpendingChange() >= 0);
         assertTrue(stats.getHasSavingsGoal());
     }
 
+    @Test
+    void testGetDashboardStats_ParallelModeMatchesSequential() {
+        Long userId = 1L;
+        Account account = new Account();
+        account.setBalanceCents(100000L);
+        account.setSavedCents(20000L);
+        when(accountRepository.findByUserId(userId)).thenReturn(List.of(account));
+        when(monthlyRollupService.getTotal(userId, YearMonth.now(), TransactionType.OUT)).thenReturn(30000L);
+        when(monthlyRollupService.getTotal(userId, YearMonth.now().minusMonths(1), TransactionType.OUT)).thenReturn(20000L);
+        Budget monthlyBudget = new Budget();
+        monthlyBudget.setAmountCents(100000L);
+        monthlyBudget.setPeriod("monthly");
+        Budget yearlyBudget = new Budget();
+        yearlyBudget.setAmountCents(900000L);
+        yearlyBudget.setPeriod("yearly");
+        when(budgetRepository.findByUserId(userId)).thenReturn(List.of(monthlyBudget, yearlyBudget));
+        SaveGoal saveGoal = new SaveGoal();
+        saveGoal.setTargetAmountCents(100000L);
+        when(saveGoalRepository.findByUserId(userId)).thenReturn(Optional.of(saveGoal));
+
+        DashboardStatsDto parallel = parallelService(Duration.ofSeconds(5)).getDashboardStats(userId);
+
+        assertEquals(dashboardService.getDashboardStats(userId), parallel);
+        assertEquals(70000L, parallel.getBudgetLeftCents());
+        assertEquals(20.0, parallel.getSavingsProgress());
+    }
+
+    private static Answer<Object> afterAllStarted(CountDownLatch started, Object result) {
+        return invocation -> {
+            started.countDown();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            return result;
+        };
+    }
+
+    @Test
+    void testGetDashboardStats_ParallelModeRunsReadsConcurrently() {
+        Long userId = 3L;
+        // Every read waits until all five have started, so this only completes when they overlap
+        CountDownLatch allStarted = new CountDownLatch(5);
+        when(accountRepository.findByUserId(userId)).then(afterAllStarted(allStarted, List.of()));
+        when(monthlyRollupService.getTotal(eq(userId), any(), eq(TransactionType.OUT)))
+                .then(afterAllStarted(allStarted, 0L));
+        when(budgetRepository.findByUserId(userId)).then(afterAllStarted(allStarted, List.of()));
+        when(saveGoalRepository.findByUserId(userId)).then(afterAllStarted(allStarted, Optional.empty()));
+
+        DashboardStatsDto stats = parallelService(Duration.ofSeconds(5)).getDashboardStats(userId);
+
+        assertEquals(0L, stats.getTotalBalanceCents());
+        assertFalse(stats.getHasSavingsGoal());
+    }
+
+    @Test
+    void testGetDashboardStats_ParallelModeDeadline() {
+        Long userId = 4L;
+        when(accountRepository.findByUserId(userId)).then(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+        when(monthlyRollupService.getTotal(eq(userId), any(), eq(TransactionType.OUT))).thenReturn(0L);
+        when(budgetRepository.findByUserId(userId)).thenReturn(List.of());
+        when(saveGoalRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+        DashboardService parallel = parallelService(Duration.ofMillis(50));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> parallel.getDashboardStats(userId));
+        assertInstanceOf(TimeoutException.class, e.getCause());
+    }
+
+    @Test
+    void testGetDashboardStats_ParallelModePropagatesFailure() {
+        Long userId = 5L;
+        when(accountRepository.findByUserId(userId)).thenReturn(List.of());
+        when(monthlyRollupService.getTotal(eq(userId), any(), eq(TransactionType.OUT))).thenReturn(0L);
+        when(budgetRepository.findByUserId(userId)).thenThrow(new IllegalStateException("connection lost"));
+        when(saveGoalRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+        DashboardService parallel = parallelService(Duration.ofSeconds(5));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> parallel.getDashboardStats(userId));
+        assertEquals("connection lost", e.getMessage());
+    }
+
     @Test
     void testGetDashboardStats_NoBudgetsOrGoals() {
         Long userId = 2L;
 
         Account account = new Account();
-        account.setBalance(0.0);
-        account.setSaved(0.0);
+        account.setBalanceCents(0L);
+        account.setSavedCents(0L);
         when(accountRepository.findByUserId(userId)).thenReturn(List.of(account));
 
-        when(transactionRepository.findByAccountUserIdAndDateBetweenAndType(anyLong(), any(), any(), any()))
-                .thenReturn(List.of());
+        when(monthlyRollupService.getTotal(anyLong(), any(), any())).thenReturn(0L);
         when(budgetRepository.findByUserId(userId)).thenReturn(List.of());
         when(saveGoalRepository.findByUserId(userId)).thenReturn(Optional.empty());
 
         DashboardStatsDto stats = dashboardService.getDashboardStats(userId);
 
         assertNotNull(stats);
-        assertEquals(0.0, stats.getBudgetLeft());
+        assertEquals(0L, stats.getBudgetLeftCents());
         assertEquals(0.0, stats.getSavingsProgress());
         assertFalse(stats.getHasSavingsGoal());
     }
@@ -117,16 +273,10 @@ class DashboardServiceTest {
     void testGetRecentTransactions() {
         Long userId = 3L;
 
-        Transaction t1 = new Transaction();
-        t1.setId(1L);
-        t1.setType(TransactionType.OUT);
-        t1.setDate(LocalDate.now());
-        t1.setExpenseCategory(ExpenseCategory.SHOPPING);
-        t1.setDetail("Groceries");
-        t1.setAmount(50.0);
-        t1.setNote("Supermarket");
+        TransactionDto t1 = new TransactionDto(1L, TransactionType.OUT, LocalDate.now(),
+                ExpenseCategory.SHOPPING, "Groceries", 5000L, "Supermarket");
 
-        when(transactionRepository.findTop10ByAccountUserIdOrderByDateDesc(userId))
+        when(transactionRepository.findRecentByUserId(eq(userId), any(Pageable.class)))
                 .thenReturn(List.of(t1));
 
         List<TransactionDto> dtos = dashboardService.getRecentTransactions(userId, 5);
@@ -141,7 +291,7 @@ class DashboardServiceTest {
     void testConvertToTransactionDto_ForDeposit() {
         Transaction deposit = new Transaction();
         deposit.setType(TransactionType.IN);
-        deposit.setAmount(500.0);
+        deposit.setAmountCents(50000L);
         deposit.setDetail("Deposit");
         deposit.setDate(LocalDate.now());
 
@@ -155,7 +305,7 @@ class DashboardServiceTest {
     void testConvertToTransactionDto_ExpenseWithoutCategory_UseOther() {
         Transaction t = new Transaction();
         t.setType(TransactionType.OUT);
-        t.setAmount(20.0);
+        t.setAmountCents(2000L);
         t.setDetail("Misc");
         t.setDate(LocalDate.now());
 
@@ -171,9 +321,7 @@ class DashboardServiceTest {
         Account account = new Account();
         when(accountRepository.findByUserId(userId)).thenReturn(List.of(account));
         // current & last month both empty
-        when(transactionRepository.findByAccountUserIdAndDateBetweenAndType(eq(userId), any(), any(), eq(TransactionType.OUT)))
-                .thenReturn(List.of())
-                .thenReturn(List.of());
+        when(monthlyRollupService.getTotal(eq(userId), any(), eq(TransactionType.OUT))).thenReturn(0L);
         when(budgetRepository.findByUserId(userId)).thenReturn(List.of());
         when(saveGoalRepository.findByUserId(userId)).thenReturn(Optional.empty());
 
@@ -186,13 +334,8 @@ class DashboardServiceTest {
         Long userId = 10L;
         Account account = new Account();
         when(accountRepository.findByUserId(userId)).thenReturn(List.of(account));
-        Transaction current = new Transaction();
-        current.setType(TransactionType.OUT);
-        current.setAmount(50.0);
-        current.setDate(LocalDate.now());
-        when(transactionRepository.findByAccountUserIdAndDateBetweenAndType(eq(userId), any(), any(), eq(TransactionType.OUT)))
-                .thenReturn(List.of(current))
-                .thenReturn(List.of());
+        when(monthlyRollupService.getTotal(userId, YearMonth.now(), TransactionType.OUT)).thenReturn(5000L);
+        when(monthlyRollupService.getTotal(userId, YearMonth.now().minusMonths(1), TransactionType.OUT)).thenReturn(0L);
         when(budgetRepository.findByUserId(userId)).thenReturn(List.of());
         when(saveGoalRepository.findByUserId(userId)).thenReturn(Optional.empty());
 
@@ -204,30 +347,64 @@ class DashboardServiceTest {
     void testSavingsGoalPresentTargetZero_ProgressZero() {
         Long userId = 11L;
         Account account = new Account();
-        account.setSaved(0.0);
+        account.setSavedCents(0L);
         when(accountRepository.findByUserId(userId)).thenReturn(List.of(account));
-        when(transactionRepository.findByAccountUserIdAndDateBetweenAndType(eq(userId), any(), any(), eq(TransactionType.OUT)))
-                .thenReturn(List.of())
-                .thenReturn(List.of());
+        when(monthlyRollupService.getTotal(eq(userId), any(), eq(TransactionType.OUT))).thenReturn(0L);
         when(budgetRepository.findByUserId(userId)).thenReturn(List.of());
         SaveGoal goal = new SaveGoal();
-        goal.setTargetAmount(0.0);
+        goal.setTargetAmountCents(0L);
         when(saveGoalRepository.findByUserId(userId)).thenReturn(Optional.of(goal));
 
         DashboardStatsDto stats = dashboardService.getDashboardStats(userId);
         assertTrue(stats.getHasSavingsGoal());
-        assertEquals(0.0, stats.getSavingsGoal());
+        assertEquals(0L, stats.getSavingsGoalCents());
         assertEquals(0.0, stats.getSavingsProgress());
     }
 
     @Test
-    void testGetRecentTransactions_RespectsLimit() {
+    void testGetRecentTransactions_PushesLimitToQuery() {
         Long userId = 12L;
-        Transaction t1 = new Transaction(); t1.setId(1L); t1.setType(TransactionType.OUT); t1.setDate(LocalDate.now());
-        Transaction t2 = new Transaction(); t2.setId(2L); t2.setType(TransactionType.OUT); t2.setDate(LocalDate.now());
-        when(transactionRepository.findTop10ByAccountUserIdOrderByDateDesc(userId)).thenReturn(List.of(t1, t2));
+        TransactionDto t1 = new TransactionDto(1L, TransactionType.OUT, LocalDate.now(), null, null, 1000L, null);
+        when(transactionRepository.findRecentByUserId(eq(userId), any(Pageable.class))).thenReturn(List.of(t1));
+
         List<TransactionDto> dtos = dashboardService.getRecentTransactions(userId, 1);
+
         assertEquals(1, dtos.size());
+        assertEquals("Other", dtos.get(0).getCategoryDisplayName());
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(transactionRepository).findRecentByUserId(eq(userId), pageable.capture());
+        assertEquals(0, pageable.getValue().getPageNumber());
+        assertEquals(1, pageable.getValue().getPageSize());
+    }
+
+    @Test
+    void testGetRecentTransactions_CapsLimit() {
+        Long userId = 13L;
+        when(transactionRepository.findRecentByUserId(eq(userId), any(Pageable.class))).thenReturn(List.of());
+
+        dashboardService.getRecentTransactions(userId, 10_000);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(transactionRepository).findRecentByUserId(eq(userId), pageable.capture());
+        assertEquals(50, pageable.getValue().getPageSize());
+    }
+
+    @Test
+    void testGetRecentTransactions_NonPositiveLimit() {
+        assertTrue(dashboardService.getRecentTransactions(14L, 0).isEmpty());
+        verify(transactionRepository, never()).findRecentByUserId(anyLong(), any());
+    }
+
+    @Test
+    void testGetRecentTransactions_DepositDisplay() {
+        Long userId = 15L;
+        TransactionDto deposit = new TransactionDto(2L, TransactionType.IN, LocalDate.now(), null, "Deposit", 10000L, null);
+        when(transactionRepository.findRecentByUserId(eq(userId), any(Pageable.class))).thenReturn(List.of(deposit));
+
+        List<TransactionDto> dtos = dashboardService.getRecentTransactions(userId, 10);
+
+        assertEquals("Deposit", dtos.get(0).getCategoryDisplayName());
+        assertEquals("💰", dtos.get(0).getIcon());
     }
 
     @Test
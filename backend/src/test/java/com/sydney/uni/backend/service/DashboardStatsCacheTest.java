@@ -0,0 +1,127 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.dto.DashboardStatsDto;
+import com.sydney.uni.backend.services.DashboardService;
+import com.sydney.uni.backend.services.DashboardStatsCache;
+import com.sydney.uni.backend.services.UserDataChangedEvent;
+import com.sydney.uni.backend.services.UserDataVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardStatsCacheTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    private UserDataVersions userDataVersions;
+    private MutableClock clock;
+    private DashboardStatsCache dashboardStatsCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        userDataVersions = new UserDataVersions();
+        clock = new MutableClock(Instant.parse("2024-03-31T23:00:00Z"));
+        dashboardStatsCache = new DashboardStatsCache(dashboardService, userDataVersions, new SimpleMeterRegistry(), 100, Duration.ofMinutes(30), clock);
+
+        when(dashboardService.getDashboardStats(anyLong())).thenAnswer(invocation -> new DashboardStatsDto());
+    }
+
+    @Test
+    void testRepeatedReadsAreServedFromMemory() {
+        DashboardStatsDto first = dashboardStatsCache.getDashboardStats(1L);
+        DashboardStatsDto second = dashboardStatsCache.getDashboardStats(1L);
+
+        assertSame(first, second);
+        verify(dashboardService, times(1)).getDashboardStats(1L);
+    }
+
+    @Test
+    void testCommittedWriteInvalidatesOnlyThatUser() {
+        DashboardStatsDto userOne = dashboardStatsCache.getDashboardStats(1L);
+        DashboardStatsDto userTwo = dashboardStatsCache.getDashboardStats(2L);
+
+        userDataVersions.onUserDataChanged(new UserDataChangedEvent(1L));
+
+        assertNotSame(userOne, dashboardStatsCache.getDashboardStats(1L));
+        assertSame(userTwo, dashboardStatsCache.getDashboardStats(2L));
+        verify(dashboardService, times(2)).getDashboardStats(1L);
+        verify(dashboardService, times(1)).getDashboardStats(2L);
+    }
+
+    @Test
+    void testWriteDuringComputeLeavesEntryStale() {
+        // The write commits while the first read is still computing from the old data
+        when(dashboardService.getDashboardStats(1L)).thenAnswer(invocation -> {
+            userDataVersions.onUserDataChanged(new UserDataChangedEvent(1L));
+            return new DashboardStatsDto();
+        }).thenAnswer(invocation -> new DashboardStatsDto());
+
+        DashboardStatsDto computedDuringWrite = dashboardStatsCache.getDashboardStats(1L);
+        DashboardStatsDto afterWrite = dashboardStatsCache.getDashboardStats(1L);
+
+        assertNotSame(computedDuringWrite, afterWrite);
+        assertSame(afterWrite, dashboardStatsCache.getDashboardStats(1L));
+        verify(dashboardService, times(2)).getDashboardStats(1L);
+    }
+
+    @Test
+    void testMonthRolloverRecomputes() {
+        DashboardStatsDto march = dashboardStatsCache.getDashboardStats(1L);
+
+        clock.advance(Duration.ofHours(2));
+
+        assertNotSame(march, dashboardStatsCache.getDashboardStats(1L));
+        verify(dashboardService, times(2)).getDashboardStats(1L);
+    }
+
+    @Test
+    void testEntriesExpireAfterTtl() {
+        DashboardStatsCache shortLived = new DashboardStatsCache(dashboardService, userDataVersions, new SimpleMeterRegistry(), 100, Duration.ZERO, clock);
+
+        shortLived.getDashboardStats(1L);
+        shortLived.getDashboardStats(1L);
+
+        verify(dashboardService, times(2)).getDashboardStats(1L);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -2,19 +2,25 @@ package com.sydney.uni.backend.service;
 
 import com.sydney.uni.backend.dto.DepositRequest;
 import com.sydney.uni.backend.entity.Account;
+import com.sydney.uni.backend.entity.LedgerEventType;
 import com.sydney.uni.backend.entity.Transaction;
 import com.sydney.uni.backend.entity.TransactionType;
 import com.sydney.uni.backend.entity.User;
 import com.sydney.uni.backend.repository.AccountRepository;
 import com.sydney.uni.backend.repository.TransactionRepository;
 import com.sydney.uni.backend.repository.UserRepository;
+import com.sydney.uni.backend.services.LedgerService;
+import com.sydney.uni.backend.services.MonthlyRollupService;
 import com.sydney.uni.backend.services.DepositService;
+import com.sydney.uni.backend.services.AccountDeltaEvent;
+import com.sydney.uni.backend.services.UserDataChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +40,15 @@ class DepositServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MonthlyRollupService monthlyRollupService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DepositService depositService;
 
@@ -50,11 +65,11 @@ class DepositServiceTest {
         mockAccount = new Account();
         mockAccount.setId(1L);
         mockAccount.setUser(mockUser);
-        mockAccount.setBalance(100.0);
-        mockAccount.setSaved(0.0);
+        mockAccount.setBalanceCents(10000L);
+        mockAccount.setSavedCents(0L);
 
         depositRequest = new DepositRequest();
-        depositRequest.setAmount(50.0);
+        depositRequest.setAmountCents(5000L);
         depositRequest.setDescription("Top-up");
     }
 
@@ -67,9 +82,13 @@ class DepositServiceTest {
         Account result = depositService.processDeposit(1L, depositRequest);
 
         assertNotNull(result);
-        assertEquals(150.0, result.getBalance());
+        assertEquals(15000L, result.getBalanceCents());
         verify(accountRepository, times(1)).save(mockAccount);
-        verify(transactionRepository, times(1)).save(any(Transaction.class));
+        verify(transactionRepository, times(1)).save(argThat((Transaction transaction) -> transaction.getUser() == mockUser));
+        verify(monthlyRollupService).recordTransaction(argThat(transaction -> transaction.getType() == TransactionType.IN));
+        verify(ledgerService).record(eq(mockAccount.getId()), eq(LedgerEventType.DEPOSIT), anyLong(), eq(0L), any());
+        verify(eventPublisher).publishEvent(new UserDataChangedEvent(1L));
+        verify(eventPublisher).publishEvent(any(AccountDeltaEvent.class));
     }
 
     @Test
@@ -82,7 +101,7 @@ class DepositServiceTest {
         Account result = depositService.processDeposit(1L, depositRequest);
 
         assertNotNull(result);
-        assertEquals(50.0, result.getBalance());
+        assertEquals(5000L, result.getBalanceCents());
         verify(accountRepository, atLeastOnce()).save(any(Account.class));
         verify(transactionRepository).save(any(Transaction.class));
     }
@@ -98,6 +117,7 @@ class DepositServiceTest {
         assertEquals("User not found", ex.getMessage());
         verify(accountRepository, never()).save(mockAccount);
         verify(transactionRepository, never()).save(any());
+        verifyNoInteractions(monthlyRollupService, ledgerService);
     }
 
     @Test
@@ -110,7 +130,7 @@ class DepositServiceTest {
 
         assertNotNull(result);
         assertEquals(mockUser, result.getUser());
-        assertEquals(150.0, result.getBalance());
+        assertEquals(15000L, result.getBalanceCents());
         verify(accountRepository).findByUserId(1L);
     }
 
@@ -121,7 +141,7 @@ class DepositServiceTest {
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> {
             Transaction tx = invocation.getArgument(0);
             assertEquals(TransactionType.IN, tx.getType());
-            assertEquals(depositRequest.getAmount(), tx.getAmount());
+            assertEquals(depositRequest.getAmountCents(), tx.getAmountCents());
             assertNull(tx.getExpenseCategory());
             assertEquals("Deposit", tx.getDetail());
             return tx;
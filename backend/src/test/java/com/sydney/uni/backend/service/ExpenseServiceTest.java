@@ -1,21 +1,35 @@
 package com.sydney.uni.backend.service;
 
+import com.sydney.uni.backend.dto.ExpenseFilterRequest;
 import com.sydney.uni.backend.dto.ExpenseRequest;
 import com.sydney.uni.backend.entity.*;
 import com.sydney.uni.backend.repository.AccountRepository;
 import com.sydney.uni.backend.repository.TransactionRepository;
 import com.sydney.uni.backend.repository.UserRepository;
+import com.sydney.uni.backend.services.LedgerService;
+import com.sydney.uni.backend.services.MonthlyRollupService;
 import com.sydney.uni.backend.services.ExpenseService;
+import com.sydney.uni.backend.services.AccountDeltaEvent;
+import com.sydney.uni.backend.services.UserDataChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import com.sydney.uni.backend.utils.TransactionCursor;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,6 +47,15 @@ class ExpenseServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MonthlyRollupService monthlyRollupService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ExpenseService expenseService;
 
@@ -50,20 +73,20 @@ class ExpenseServiceTest {
         mockAccount = new Account();
         mockAccount.setId(1L);
         mockAccount.setUser(mockUser);
-        mockAccount.setBalance(500.0);
-        mockAccount.setSaved(100.0);
+        mockAccount.setBalanceCents(50000L);
+        mockAccount.setSavedCents(10000L);
 
         expenseRequest = new ExpenseRequest();
         expenseRequest.setDescription("Dinner");
         expenseRequest.setCategory("Food & Dining");
-        expenseRequest.setAmount(100.0);
+        expenseRequest.setAmountCents(10000L);
         expenseRequest.setDate(LocalDate.now());
         expenseRequest.setNotes("Weekend dinner");
 
         mockTransaction = new Transaction();
         mockTransaction.setId(1L);
         mockTransaction.setAccount(mockAccount);
-        mockTransaction.setAmount(100.0);
+        mockTransaction.setAmountCents(10000L);
         mockTransaction.setType(TransactionType.OUT);
         mockTransaction.setDetail("Dinner");
     }
@@ -79,17 +102,35 @@ class ExpenseServiceTest {
         assertNotNull(result);
         assertEquals(TransactionType.OUT, result.getType());
         assertEquals(ExpenseCategory.FOOD_DINING, result.getExpenseCategory());
+        assertSame(mockUser, result.getUser());
         verify(accountRepository).save(mockAccount);
         verify(transactionRepository).save(any(Transaction.class));
+        verify(monthlyRollupService).recordTransaction(result);
+        verify(ledgerService).record(1L, LedgerEventType.EXPENSE, -10000L, 0L, null);
+        verify(eventPublisher).publishEvent(new UserDataChangedEvent(1L));
+        verify(eventPublisher).publishEvent(new AccountDeltaEvent(1L, AccountDeltaEvent.Change.TRANSACTION_CREATED,
+                -10000L, 0L, 10000L, result));
     }
 
     // Add Expense - Insufficient balance
+    @Test
+    void testAddExpense_DefaultsMissingDateToToday() {
+        expenseRequest.setDate(null);
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(mockAccount));
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Transaction result = expenseService.addExpense(1L, expenseRequest);
+
+        assertEquals(LocalDate.now(), result.getDate());
+    }
+
     @Test
     void testAddExpense_InsufficientBalance() {
-        mockAccount.setBalance(50.0);
+        mockAccount.setBalanceCents(5000L);
         when(accountRepository.findByUserId(1L)).thenReturn(List.of(mockAccount));
 
         assertThrows(RuntimeException.class, () -> expenseService.addExpense(1L, expenseRequest));
+        verifyNoInteractions(monthlyRollupService, eventPublisher);
     }
 
     // Get Expense By ID - Not Belong to User
@@ -101,7 +142,7 @@ class ExpenseServiceTest {
         anotherAccount.setUser(anotherUser);
         mockTransaction.setAccount(anotherAccount);
 
-        when(transactionRepository.findById(1L)).thenReturn(Optional.of(mockTransaction));
+        when(transactionRepository.findWithAccountById(1L)).thenReturn(Optional.of(mockTransaction));
 
         assertThrows(RuntimeException.class, () -> expenseService.getExpenseById(1L, 1L));
     }
@@ -110,38 +151,138 @@ class ExpenseServiceTest {
     @Test
     void testUpdateExpense_Success() {
         mockTransaction.setAccount(mockAccount);
-        when(transactionRepository.findById(1L)).thenReturn(Optional.of(mockTransaction));
+        when(transactionRepository.findWithAccountById(1L)).thenReturn(Optional.of(mockTransaction));
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        expenseRequest.setAmount(120.0);
+        mockTransaction.setDate(LocalDate.of(2024, 1, 15));
+        mockTransaction.setExpenseCategory(ExpenseCategory.SHOPPING);
+        expenseRequest.setAmountCents(12000L);
+
+        // The old state must leave the rollup before the new state is recorded
+        doAnswer(invocation -> {
+            Transaction before = invocation.getArgument(0);
+            assertEquals(10000L, before.getAmountCents());
+            assertEquals(LocalDate.of(2024, 1, 15), before.getDate());
+            assertEquals(ExpenseCategory.SHOPPING, before.getExpenseCategory());
+            return null;
+        }).when(monthlyRollupService).reverseTransaction(mockTransaction);
+
         Transaction updated = expenseService.updateExpense(1L, 1L, expenseRequest);
 
-        assertEquals(120.0, updated.getAmount());
+        assertEquals(12000L, updated.getAmountCents());
         verify(accountRepository).save(mockAccount);
+        verify(ledgerService).record(1L, LedgerEventType.EXPENSE_EDIT, -2000L, 0L, 1L);
+        var order = inOrder(monthlyRollupService);
+        order.verify(monthlyRollupService).reverseTransaction(mockTransaction);
+        order.verify(monthlyRollupService).recordTransaction(updated);
+        // Moved from January 2024 into this month, so the whole new amount counts as this month's spending
+        verify(eventPublisher).publishEvent(new AccountDeltaEvent(1L, AccountDeltaEvent.Change.TRANSACTION_UPDATED,
+                -2000L, 0L, 12000L, updated));
     }
 
     // Delete Expense - Success
     @Test
     void testDeleteExpense_Success() {
         mockTransaction.setAccount(mockAccount);
-        when(transactionRepository.findById(1L)).thenReturn(Optional.of(mockTransaction));
+        when(transactionRepository.findWithAccountById(1L)).thenReturn(Optional.of(mockTransaction));
 
         expenseService.deleteExpense(1L, 1L);
 
         verify(accountRepository).save(mockAccount);
         verify(transactionRepository).delete(mockTransaction);
-        assertEquals(600.0, mockAccount.getBalance()); // refunded
+        verify(monthlyRollupService).reverseTransaction(mockTransaction);
+        verify(ledgerService).record(1L, LedgerEventType.EXPENSE_DELETE, 10000L, 0L, 1L);
+        assertEquals(60000L, mockAccount.getBalanceCents()); // refunded
+        verify(eventPublisher).publishEvent(new UserDataChangedEvent(1L));
+        verify(eventPublisher).publishEvent(new AccountDeltaEvent(1L, AccountDeltaEvent.Change.TRANSACTION_DELETED,
+                10000L, 0L, 0L, mockTransaction));
+    }
+
+    // Get User Expenses - first page
+    @Test
+    void testGetUserExpensesPage_FirstPage() {
+        when(transactionRepository.findFirstPageByUserIdAndType(eq(1L), eq(TransactionType.OUT), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(mockTransaction)));
+
+        Slice<Transaction> result = expenseService.getUserExpensesPage(1L, null, 20);
+        assertEquals(1, result.getContent().size());
+        assertEquals(TransactionType.OUT, result.getContent().get(0).getType());
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(transactionRepository).findFirstPageByUserIdAndType(eq(1L), eq(TransactionType.OUT), pageable.capture());
+        assertEquals(20, pageable.getValue().getPageSize());
+    }
+
+    // Get User Expenses - continuation from a cursor
+    @Test
+    void testGetUserExpensesPage_WithCursor() {
+        LocalDate cursorDate = LocalDate.of(2024, 5, 1);
+        String cursor = TransactionCursor.encode(cursorDate, 42L);
+        when(transactionRepository.findPageByUserIdAndTypeAfter(eq(1L), eq(TransactionType.OUT), eq(cursorDate), eq(42L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(mockTransaction)));
+
+        Slice<Transaction> result = expenseService.getUserExpensesPage(1L, cursor, 20);
+        assertEquals(1, result.getContent().size());
+        verify(transactionRepository, never()).findFirstPageByUserIdAndType(anyLong(), any(), any());
+    }
+
+    // Get User Expenses - page size is capped
+    @Test
+    void testGetUserExpensesPage_ClampsPageSize() {
+        when(transactionRepository.findFirstPageByUserIdAndType(eq(1L), eq(TransactionType.OUT), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        expenseService.getUserExpensesPage(1L, null, 10_000);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(transactionRepository).findFirstPageByUserIdAndType(eq(1L), eq(TransactionType.OUT), pageable.capture());
+        assertEquals(ExpenseService.MAX_PAGE_SIZE, pageable.getValue().getPageSize());
+    }
+
+    // Get User Expenses - malformed cursor
+    @Test
+    void testGetUserExpensesPage_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> expenseService.getUserExpensesPage(1L, "not-a-cursor", 20));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFilterExpenses_TrimsExtraRowIntoHasNext() {
+        Transaction first = new Transaction();
+        Transaction second = new Transaction();
+        Transaction extra = new Transaction();
+        doReturn(List.of(first, second, extra)).when(transactionRepository).findBy(any(Specification.class), any(Function.class));
+
+        ExpenseFilterRequest filter = new ExpenseFilterRequest();
+        filter.setType(TransactionType.OUT);
+        filter.setCategory("FOOD_DINING");
+        filter.setMinAmount(new BigDecimal("12.50"));
+        Slice<Transaction> result = expenseService.filterExpenses(1L, filter, null, 2);
+
+        assertEquals(List.of(first, second), result.getContent());
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFilterExpenses_LastPage() {
+        doReturn(List.of(new Transaction())).when(transactionRepository).findBy(any(Specification.class), any(Function.class));
+        String cursor = TransactionCursor.encode(LocalDate.of(2024, 5, 1), 42L);
+
+        Slice<Transaction> result = expenseService.filterExpenses(1L, new ExpenseFilterRequest(), cursor, 10);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.hasNext());
     }
 
-    // Get User Expenses
     @Test
-    void testGetUserExpenses() {
-        when(transactionRepository.findByAccountUserIdAndTypeOrderByDateDesc(1L, TransactionType.OUT))
-                .thenReturn(List.of(mockTransaction));
+    void testFilterExpenses_UnknownCategory() {
+        ExpenseFilterRequest filter = new ExpenseFilterRequest();
+        filter.setCategory("Pets");
 
-        List<Transaction> result = expenseService.getUserExpenses(1L);
-        assertEquals(1, result.size());
-        assertEquals(TransactionType.OUT, result.get(0).getType());
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> expenseService.filterExpenses(1L, filter, null, 10));
+        assertEquals("Unknown category: Pets", ex.getMessage());
+        verifyNoInteractions(transactionRepository);
     }
 
     @Test
@@ -159,7 +300,7 @@ class ExpenseServiceTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(mockUser));
         when(accountRepository.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
-        expenseRequest.setAmount(0.0);
+        expenseRequest.setAmountCents(0L);
         expenseService.addExpense(1L, expenseRequest);
         verify(userRepository).findById(1L);
         verify(accountRepository, atLeastOnce()).save(any(Account.class));
@@ -174,7 +315,7 @@ class ExpenseServiceTest {
 
     @Test
     void testGetExpenseById_NotFound_throws() {
-        when(transactionRepository.findById(999L)).thenReturn(Optional.empty());
+        when(transactionRepository.findWithAccountById(999L)).thenReturn(Optional.empty());
         assertThrows(RuntimeException.class, () -> expenseService.getExpenseById(999L, 1L));
     }
 
@@ -189,7 +330,7 @@ class ExpenseServiceTest {
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
         for (String n : names) {
             expenseRequest.setCategory(n);
-            expenseRequest.setAmount(0.0);
+            expenseRequest.setAmountCents(0L);
             Transaction t = expenseService.addExpense(1L, expenseRequest);
             assertNotNull(t.getExpenseCategory());
         }
@@ -0,0 +1,222 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.dto.LedgerBalanceDto;
+import com.sydney.uni.backend.dto.LedgerTotals;
+import com.sydney.uni.backend.entity.Account;
+import com.sydney.uni.backend.entity.BalanceSnapshot;
+import com.sydney.uni.backend.entity.LedgerEntry;
+import com.sydney.uni.backend.entity.LedgerEventType;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.repository.BalanceSnapshotRepository;
+import com.sydney.uni.backend.repository.LedgerEntryRepository;
+import com.sydney.uni.backend.services.LedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerServiceTest {
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Mock
+    private BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @InjectMocks
+    private LedgerService ledgerService;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = new Account();
+        account.setId(5L);
+        account.setBalanceCents(40000L);
+        account.setSavedCents(5000L);
+    }
+
+    private BalanceSnapshot snapshot(long entrySeq, long balanceCents, long savedCents, LocalDateTime asOf) {
+        BalanceSnapshot snapshot = new BalanceSnapshot();
+        snapshot.setAccountId(5L);
+        snapshot.setEntrySeq(entrySeq);
+        snapshot.setBalanceCents(balanceCents);
+        snapshot.setSavedCents(savedCents);
+        snapshot.setAsOf(asOf);
+        return snapshot;
+    }
+
+    @Test
+    void testRecord_AppendsNextSeqUnderAccountLock() {
+        when(accountRepository.lockById(5L)).thenReturn(Optional.of(account));
+        when(ledgerEntryRepository.findLastEntrySeq(5L)).thenReturn(41L);
+        when(ledgerEntryRepository.save(any(LedgerEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        LedgerEntry entry = ledgerService.record(5L, LedgerEventType.EXPENSE, -2000L, 0L, 9L);
+
+        assertEquals(42L, entry.getEntrySeq());
+        assertEquals(LedgerEventType.EXPENSE, entry.getEventType());
+        assertEquals(-2000L, entry.getBalanceDeltaCents());
+        assertEquals(9L, entry.getTransactionId());
+        assertNotNull(entry.getOccurredAt());
+        verify(balanceSnapshotRepository, never()).save(any());
+    }
+
+    @Test
+    void testRecord_OpensLedgerWithPriorBalanceOnFirstEntry() {
+        when(accountRepository.lockById(5L)).thenReturn(Optional.of(account));
+        when(ledgerEntryRepository.findLastEntrySeq(5L)).thenReturn(0L);
+        // Stored values already include this change
+        when(accountRepository.findStoredBalance(5L)).thenReturn(new LedgerTotals(38000L, 5000L, 0L, 0L));
+        when(ledgerEntryRepository.save(any(LedgerEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        ledgerService.record(5L, LedgerEventType.EXPENSE, -2000L, 0L, 9L);
+
+        ArgumentCaptor<LedgerEntry> saved = ArgumentCaptor.forClass(LedgerEntry.class);
+        verify(ledgerEntryRepository, times(2)).save(saved.capture());
+        LedgerEntry opening = saved.getAllValues().get(0);
+        assertEquals(LedgerEventType.OPENING, opening.getEventType());
+        assertEquals(1L, opening.getEntrySeq());
+        assertEquals(40000L, opening.getBalanceDeltaCents());
+        assertEquals(5000L, opening.getSavedDeltaCents());
+        assertEquals(2L, saved.getAllValues().get(1).getEntrySeq());
+    }
+
+    @Test
+    void testRecord_TakesSnapshotEveryInterval() {
+        LocalDateTime earlier = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(accountRepository.lockById(5L)).thenReturn(Optional.of(account));
+        when(ledgerEntryRepository.findLastEntrySeq(5L)).thenReturn(2L * LedgerService.SNAPSHOT_INTERVAL - 1);
+        when(ledgerEntryRepository.save(any(LedgerEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(balanceSnapshotRepository.findFirstByAccountIdOrderByEntrySeqDesc(5L))
+                .thenReturn(Optional.of(snapshot(LedgerService.SNAPSHOT_INTERVAL, 30000L, 4000L, earlier)));
+        when(ledgerEntryRepository.sumRange(5L, (long) LedgerService.SNAPSHOT_INTERVAL, 2L * LedgerService.SNAPSHOT_INTERVAL))
+                .thenReturn(new LedgerTotals(10000L, 1000L, (long) LedgerService.SNAPSHOT_INTERVAL, 2L * LedgerService.SNAPSHOT_INTERVAL));
+
+        LedgerEntry entry = ledgerService.record(5L, LedgerEventType.DEPOSIT, 500L, 0L, null);
+
+        ArgumentCaptor<BalanceSnapshot> snapshot = ArgumentCaptor.forClass(BalanceSnapshot.class);
+        verify(balanceSnapshotRepository).save(snapshot.capture());
+        assertEquals(2L * LedgerService.SNAPSHOT_INTERVAL, snapshot.getValue().getEntrySeq());
+        assertEquals(40000L, snapshot.getValue().getBalanceCents());
+        assertEquals(5000L, snapshot.getValue().getSavedCents());
+        assertEquals(entry.getOccurredAt(), snapshot.getValue().getAsOf());
+    }
+
+    @Test
+    void testRecord_UnknownAccount_throws() {
+        when(accountRepository.lockById(5L)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> ledgerService.record(5L, LedgerEventType.DEPOSIT, 100L, 0L, null));
+        verifyNoInteractions(ledgerEntryRepository);
+    }
+
+    @Test
+    void testOpen_SkipsAccountsWithEntries() {
+        when(accountRepository.lockById(5L)).thenReturn(Optional.of(account));
+        when(ledgerEntryRepository.existsByAccountId(5L)).thenReturn(true);
+
+        assertFalse(ledgerService.open(5L));
+        verify(ledgerEntryRepository, never()).save(any());
+    }
+
+    @Test
+    void testOpen_WritesOpeningEntry() {
+        when(accountRepository.lockById(5L)).thenReturn(Optional.of(account));
+        when(ledgerEntryRepository.existsByAccountId(5L)).thenReturn(false);
+        when(accountRepository.findStoredBalance(5L)).thenReturn(new LedgerTotals(40000L, 5000L, 0L, 0L));
+        when(ledgerEntryRepository.save(any(LedgerEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        assertTrue(ledgerService.open(5L));
+
+        verify(ledgerEntryRepository).save(argThat(entry -> entry.getEventType() == LedgerEventType.OPENING
+                && entry.getEntrySeq() == 1L && entry.getBalanceDeltaCents() == 40000L));
+    }
+
+    @Test
+    void testGetCurrentBalance_SnapshotPlusTail() {
+        when(balanceSnapshotRepository.findFirstByAccountIdOrderByEntrySeqDesc(5L))
+                .thenReturn(Optional.of(snapshot(200L, 35000L, 4000L, LocalDateTime.now())));
+        when(ledgerEntryRepository.sumRange(5L, 200L, Long.MAX_VALUE)).thenReturn(new LedgerTotals(5000L, 1000L, 7L, 207L));
+
+        LedgerTotals totals = ledgerService.getCurrentBalance(5L);
+
+        assertEquals(40000L, totals.balanceCents());
+        assertEquals(5000L, totals.savedCents());
+        assertEquals(7L, totals.entries());
+    }
+
+    @Test
+    void testGetCurrentBalance_NoSnapshotReadsFromStart() {
+        when(balanceSnapshotRepository.findFirstByAccountIdOrderByEntrySeqDesc(5L)).thenReturn(Optional.empty());
+        when(ledgerEntryRepository.sumRange(5L, 0L, Long.MAX_VALUE)).thenReturn(new LedgerTotals(8000L, 0L, 3L, 3L));
+
+        assertEquals(8000L, ledgerService.getCurrentBalance(5L).balanceCents());
+    }
+
+    @Test
+    void testGetBalanceAt_UsesSnapshotBeforeTime() {
+        LocalDateTime at = LocalDateTime.of(2024, 6, 1, 0, 0);
+        when(balanceSnapshotRepository.findFirstByAccountIdAndAsOfLessThanEqualOrderByEntrySeqDesc(5L, at))
+                .thenReturn(Optional.of(snapshot(100L, 25000L, 0L, at.minusDays(3))));
+        when(ledgerEntryRepository.sumAfterUntil(5L, 100L, at)).thenReturn(new LedgerTotals(-3000L, 2000L, 4L, 104L));
+
+        LedgerTotals totals = ledgerService.getBalanceAt(5L, at);
+
+        assertEquals(22000L, totals.balanceCents());
+        assertEquals(2000L, totals.savedCents());
+        assertEquals(104L, totals.lastEntrySeq());
+    }
+
+    @Test
+    void testGetUserBalance_CurrentIncludesStoredValues() {
+        account.setBalanceCents(41000L);
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(account));
+        when(balanceSnapshotRepository.findFirstByAccountIdOrderByEntrySeqDesc(5L)).thenReturn(Optional.empty());
+        when(ledgerEntryRepository.sumRange(5L, 0L, Long.MAX_VALUE)).thenReturn(new LedgerTotals(40000L, 5000L, 9L, 9L));
+
+        LedgerBalanceDto dto = ledgerService.getUserBalance(1L, null);
+
+        assertEquals(40000L, dto.getBalanceCents());
+        assertEquals(41000L, dto.getStoredBalanceCents());
+        assertEquals(5000L, dto.getStoredSavedCents());
+        assertEquals(9L, dto.getReplayedEntries());
+        assertNotNull(dto.getAsOf());
+    }
+
+    @Test
+    void testGetUserBalance_HistoricalOmitsStoredValues() {
+        LocalDateTime at = LocalDateTime.of(2024, 6, 1, 0, 0);
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(account));
+        when(balanceSnapshotRepository.findFirstByAccountIdAndAsOfLessThanEqualOrderByEntrySeqDesc(5L, at))
+                .thenReturn(Optional.empty());
+        when(ledgerEntryRepository.sumAfterUntil(5L, 0L, at)).thenReturn(new LedgerTotals(12000L, 0L, 2L, 2L));
+
+        LedgerBalanceDto dto = ledgerService.getUserBalance(1L, at);
+
+        assertEquals(12000L, dto.getBalanceCents());
+        assertEquals(at, dto.getAsOf());
+        assertNull(dto.getStoredBalanceCents());
+    }
+
+    @Test
+    void testGetUserBalance_NoAccount_throws() {
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of());
+
+        assertThrows(RuntimeException.class, () -> ledgerService.getUserBalance(1L, null));
+    }
+}
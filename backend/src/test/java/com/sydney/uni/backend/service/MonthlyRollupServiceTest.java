@@ -0,0 +1,262 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.dto.CategoryTotal;
+import com.sydney.uni.backend.dto.MonthlySavingTotal;
+import com.sydney.uni.backend.dto.MonthlyTransactionTotal;
+import com.sydney.uni.backend.dto.SavingRollupRow;
+import com.sydney.uni.backend.dto.TransactionRollupRow;
+import com.sydney.uni.backend.entity.*;
+import com.sydney.uni.backend.migration.DatabasePlatform;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.repository.MonthlyRollupRepository;
+import com.sydney.uni.backend.repository.SavingLogRepository;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import com.sydney.uni.backend.services.ClosedMonthReports;
+import com.sydney.uni.backend.services.MonthlyRollupService;
+import com.sydney.uni.backend.services.SpendCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyRollupServiceTest {
+
+    @Mock
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private SavingLogRepository savingLogRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private SpendCounters spendCounters;
+
+    @Mock
+    private ClosedMonthReports closedMonthReports;
+
+    @Mock
+    private DatabasePlatform databasePlatform;
+
+    @InjectMocks
+    private MonthlyRollupService monthlyRollupService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+    }
+
+    private Transaction expense(long amountCents, LocalDate date, ExpenseCategory category) {
+        Transaction transaction = new Transaction();
+        transaction.setType(TransactionType.OUT);
+        transaction.setAmountCents(amountCents);
+        transaction.setDate(date);
+        transaction.setExpenseCategory(category);
+        transaction.setUser(user);
+        return transaction;
+    }
+
+    private MonthlyRollup rollup(YearMonth month, RollupType type, ExpenseCategory category, long totalCents) {
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setUserId(1L);
+        rollup.setYearMonth(MonthlyRollup.key(month));
+        rollup.setType(type);
+        rollup.setCategory(category);
+        rollup.setTotalCents(totalCents);
+        rollup.setCount(1L);
+        return rollup;
+    }
+
+    @Test
+    void testRecordTransaction_IncrementsExistingBucket() {
+        when(monthlyRollupRepository.increment(1L, 202403, RollupType.OUT, ExpenseCategory.TRAVEL, 4000L, 1L))
+                .thenReturn(1);
+
+        monthlyRollupService.recordTransaction(expense(4000L, LocalDate.of(2024, 3, 9), ExpenseCategory.TRAVEL));
+
+        // An existing bucket is updated in place without queueing on the account row lock
+        verify(monthlyRollupRepository).increment(1L, 202403, RollupType.OUT, ExpenseCategory.TRAVEL, 4000L, 1L);
+        verify(monthlyRollupRepository, never()).save(any());
+        verifyNoInteractions(accountRepository, databasePlatform);
+        verify(spendCounters).recordAfterCommit(1L, YearMonth.of(2024, 3), ExpenseCategory.TRAVEL, 4000L);
+        verify(closedMonthReports).invalidateAfterCommit(1L, YearMonth.of(2024, 3));
+    }
+
+    @Test
+    void testRecordTransaction_CreatesMissingBucketUnderAccountLockOnH2() {
+        when(monthlyRollupRepository.increment(anyLong(), anyInt(), any(), any(), anyLong(), anyLong())).thenReturn(0);
+
+        monthlyRollupService.recordTransaction(expense(4000L, LocalDate.of(2024, 3, 9), null));
+
+        // Checked again under the lock, in case another writer created the bucket first
+        InOrder order = inOrder(accountRepository, monthlyRollupRepository);
+        order.verify(monthlyRollupRepository).increment(1L, 202403, RollupType.OUT, null, 4000L, 1L);
+        order.verify(accountRepository).lockByUserId(1L);
+        order.verify(monthlyRollupRepository).increment(1L, 202403, RollupType.OUT, null, 4000L, 1L);
+        ArgumentCaptor<MonthlyRollup> saved = ArgumentCaptor.forClass(MonthlyRollup.class);
+        order.verify(monthlyRollupRepository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getUserId());
+        assertEquals(202403, saved.getValue().getYearMonth());
+        assertEquals(RollupType.OUT, saved.getValue().getType());
+        assertNull(saved.getValue().getCategory());
+        assertEquals(4000L, saved.getValue().getTotalCents());
+        assertEquals(1L, saved.getValue().getCount());
+    }
+
+    @Test
+    void testRecordTransaction_FindsBucketCreatedWhileWaitingForLockOnH2() {
+        when(monthlyRollupRepository.increment(1L, 202403, RollupType.OUT, ExpenseCategory.TRAVEL, 4000L, 1L))
+                .thenReturn(0, 1);
+
+        monthlyRollupService.recordTransaction(expense(4000L, LocalDate.of(2024, 3, 9), ExpenseCategory.TRAVEL));
+
+        verify(accountRepository).lockByUserId(1L);
+        verify(monthlyRollupRepository, never()).save(any());
+    }
+
+    @Test
+    void testRecordTransaction_UpsertsMissingBucketOnPostgres() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(monthlyRollupRepository.increment(anyLong(), anyInt(), any(), any(), anyLong(), anyLong())).thenReturn(0);
+
+        monthlyRollupService.recordTransaction(expense(4000L, LocalDate.of(2024, 3, 9), ExpenseCategory.TRAVEL));
+
+        // The unique bucket index resolves a concurrent insert, so no lock is taken
+        verify(monthlyRollupRepository).upsert(1L, 202403, "OUT", "TRAVEL", 4000L, 1L);
+        verify(monthlyRollupRepository, never()).save(any());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void testReverseTransaction_SubtractsAmountAndCount() {
+        Transaction transaction = expense(2500L, LocalDate.of(2024, 1, 31), ExpenseCategory.SHOPPING);
+        transaction.setUser(null);
+        Account account = new Account();
+        account.setUser(user);
+        transaction.setAccount(account);
+        when(monthlyRollupRepository.increment(1L, 202401, RollupType.OUT, ExpenseCategory.SHOPPING, -2500L, -1L))
+                .thenReturn(1);
+
+        monthlyRollupService.reverseTransaction(transaction);
+
+        verify(monthlyRollupRepository).increment(1L, 202401, RollupType.OUT, ExpenseCategory.SHOPPING, -2500L, -1L);
+        verify(spendCounters).recordAfterCommit(1L, YearMonth.of(2024, 1), ExpenseCategory.SHOPPING, -2500L);
+    }
+
+    @Test
+    void testRecordTransaction_SkipsRowsWithoutDate() {
+        monthlyRollupService.recordTransaction(expense(1000L, null, null));
+
+        verifyNoInteractions(monthlyRollupRepository, accountRepository);
+    }
+
+    @Test
+    void testRecordSaving_UsesActionAndTimestampMonth() {
+        SavingLog savingLog = new SavingLog();
+        savingLog.setAction(SavingAction.UNSAVE);
+        savingLog.setAmountCents(1500L);
+        savingLog.setTimestamp(LocalDateTime.of(2024, 6, 30, 23, 59));
+        savingLog.setUser(user);
+        when(monthlyRollupRepository.increment(1L, 202406, RollupType.UNSAVE, null, 1500L, 1L)).thenReturn(1);
+
+        monthlyRollupService.recordSaving(savingLog);
+
+        verify(monthlyRollupRepository).increment(1L, 202406, RollupType.UNSAVE, null, 1500L, 1L);
+        verifyNoInteractions(spendCounters);
+        verify(closedMonthReports).invalidateAfterCommit(1L, YearMonth.of(2024, 6));
+    }
+
+    @Test
+    void testRecordTransactions_GroupsByBucket() {
+        when(monthlyRollupRepository.increment(anyLong(), anyInt(), any(), any(), anyLong(), anyLong())).thenReturn(1);
+
+        monthlyRollupService.recordTransactions(List.of(
+                expense(1000L, LocalDate.of(2024, 2, 1), ExpenseCategory.TRAVEL),
+                expense(1500L, LocalDate.of(2024, 2, 20), ExpenseCategory.TRAVEL),
+                expense(500L, LocalDate.of(2024, 3, 1), ExpenseCategory.TRAVEL)));
+
+        verify(monthlyRollupRepository).increment(1L, 202402, RollupType.OUT, ExpenseCategory.TRAVEL, 2500L, 2L);
+        verify(monthlyRollupRepository).increment(1L, 202403, RollupType.OUT, ExpenseCategory.TRAVEL, 500L, 1L);
+        verifyNoMoreInteractions(monthlyRollupRepository);
+    }
+
+    @Test
+    void testGetTotalAndCategoryTotal() {
+        when(spendCounters.monthTotal(1L, YearMonth.of(2024, 5))).thenReturn(12000L);
+        when(spendCounters.categoryTotal(1L, YearMonth.of(2024, 5), ExpenseCategory.EDUCATION)).thenReturn(0L);
+        when(monthlyRollupRepository.sumTotal(1L, 202405, RollupType.IN)).thenReturn(null);
+
+        // Spending comes from the counters; other types still read the rollup
+        assertEquals(12000L, monthlyRollupService.getTotal(1L, YearMonth.of(2024, 5), TransactionType.OUT));
+        assertEquals(0L, monthlyRollupService.getCategoryTotal(1L, YearMonth.of(2024, 5), ExpenseCategory.EDUCATION));
+        assertEquals(0L, monthlyRollupService.getTotal(1L, YearMonth.of(2024, 5), TransactionType.IN));
+        verify(monthlyRollupRepository, never()).sumTotal(anyLong(), anyInt(), eq(RollupType.OUT));
+    }
+
+    @Test
+    void testConverters() {
+        YearMonth month = YearMonth.of(2024, 4);
+        List<MonthlyRollup> rollups = List.of(
+                rollup(month, RollupType.IN, null, 100000L),
+                rollup(month, RollupType.OUT, ExpenseCategory.TRAVEL, 6000L),
+                rollup(month, RollupType.OUT, null, 4000L),
+                rollup(month.plusMonths(1), RollupType.OUT, ExpenseCategory.TRAVEL, 1000L),
+                rollup(month, RollupType.SAVE, null, 20000L));
+
+        List<MonthlyTransactionTotal> transactionTotals = MonthlyRollupService.toTransactionTotals(rollups);
+        assertTrue(transactionTotals.contains(new MonthlyTransactionTotal(2024, 4, TransactionType.IN, 100000L)));
+        assertTrue(transactionTotals.contains(new MonthlyTransactionTotal(2024, 4, TransactionType.OUT, 10000L)));
+        assertTrue(transactionTotals.contains(new MonthlyTransactionTotal(2024, 5, TransactionType.OUT, 1000L)));
+        assertEquals(3, transactionTotals.size());
+
+        assertEquals(List.of(new CategoryTotal(ExpenseCategory.TRAVEL, 7000L)),
+                MonthlyRollupService.toCategoryTotals(rollups));
+        assertEquals(List.of(new MonthlySavingTotal(2024, 4, SavingAction.SAVE, 20000L)),
+                MonthlyRollupService.toSavingTotals(rollups));
+    }
+
+    @Test
+    void testRebuild_ReplacesRowsUnderAccountLock() {
+        when(transactionRepository.rollupByUserId(1L)).thenReturn(List.of(
+                new TransactionRollupRow(2024, 1, TransactionType.OUT, ExpenseCategory.TRAVEL, 8000L, 4L),
+                new TransactionRollupRow(2024, 1, TransactionType.IN, null, 50000L, 1L)));
+        when(savingLogRepository.rollupByUserId(1L)).thenReturn(List.of(
+                new SavingRollupRow(2024, 2, SavingAction.SAVE, 5000L, 2L)));
+
+        int rows = monthlyRollupService.rebuild(1L);
+
+        assertEquals(3, rows);
+        InOrder order = inOrder(accountRepository, monthlyRollupRepository);
+        order.verify(accountRepository).lockByUserId(1L);
+        order.verify(monthlyRollupRepository).deleteAllForUser(1L);
+        verify(spendCounters).invalidateAfterCommit(1L);
+        verify(closedMonthReports).invalidateUserAfterCommit(1L);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MonthlyRollup>> saved = ArgumentCaptor.forClass(List.class);
+        order.verify(monthlyRollupRepository).saveAll(saved.capture());
+        MonthlyRollup save = saved.getValue().get(2);
+        assertEquals(202402, save.getYearMonth());
+        assertEquals(RollupType.SAVE, save.getType());
+        assertEquals(2L, save.getCount());
+    }
+}
@@ -0,0 +1,161 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.services.ParallelReads;
+import com.sydney.uni.backend.utils.CurrentUserHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class ParallelReadsTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private ParallelReads parallelReads;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        CurrentUserHolder.clear();
+        if (parallelReads != null) {
+            parallelReads.destroy();
+        }
+    }
+
+    @Test
+    void testInReadOnlyTransaction_UsesReadOnlyDefinition() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        parallelReads = new ParallelReads(transactionManager, 1, 1, Duration.ofSeconds(1));
+
+        assertEquals("value", parallelReads.inReadOnlyTransaction(() -> "value"));
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void testBatch_ReturnsResults() {
+        ParallelReads reads = new ParallelReads(executor, TransactionOperations.withoutTransaction(), Duration.ofSeconds(5));
+
+        try (ParallelReads.Batch batch = reads.begin()) {
+            Future<Integer> first = batch.submit(() -> 1);
+            Future<Integer> second = batch.submit(() -> 2);
+
+            assertEquals(3, batch.get(first) + batch.get(second));
+        }
+    }
+
+    @Test
+    void testBatch_DeadlineCancelsOutstandingReads() throws Exception {
+        ParallelReads reads = new ParallelReads(executor, TransactionOperations.withoutTransaction(), Duration.ofMillis(50));
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Future<Object> slow;
+        try (ParallelReads.Batch batch = reads.begin()) {
+            slow = batch.submit(() -> {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+
+            RuntimeException e = assertThrows(RuntimeException.class, () -> batch.get(slow));
+            assertInstanceOf(TimeoutException.class, e.getCause());
+        }
+
+        assertTrue(slow.isCancelled());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testBatch_RethrowsReadFailure() {
+        ParallelReads reads = new ParallelReads(executor, TransactionOperations.withoutTransaction(), Duration.ofSeconds(5));
+
+        try (ParallelReads.Batch batch = reads.begin()) {
+            Future<Object> failing = batch.submit(() -> {
+                throw new IllegalStateException("query failed");
+            });
+
+            IllegalStateException e = assertThrows(IllegalStateException.class, () -> batch.get(failing));
+            assertEquals("query failed", e.getMessage());
+        }
+    }
+
+    @Test
+    void testBatch_CallerRunsWhenSaturated() throws Exception {
+        // One worker, one queue slot: the third read has nowhere to go and runs on the submitting thread
+        parallelReads = new ParallelReads(mock(PlatformTransactionManager.class), 1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+
+        try (ParallelReads.Batch batch = parallelReads.begin()) {
+            Future<Boolean> blocking = batch.submit(() -> {
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    return false;
+                }
+            });
+            Future<Thread> queued = batch.submit(Thread::currentThread);
+            Future<Thread> overflow = batch.submit(Thread::currentThread);
+
+            assertTrue(overflow.isDone());
+            assertSame(caller, batch.get(overflow));
+            release.countDown();
+            assertTrue(batch.get(blocking));
+            assertNotSame(caller, batch.get(queued));
+        }
+    }
+
+    @Test
+    void testBatch_ReadsRunAsCallingUser() {
+        ParallelReads reads = new ParallelReads(executor, TransactionOperations.withoutTransaction(), Duration.ofSeconds(5));
+        CurrentUserHolder.set(7L);
+
+        try (ParallelReads.Batch batch = reads.begin()) {
+            Future<Long> user = batch.submit(CurrentUserHolder::get);
+            assertEquals(7L, batch.get(user));
+
+            // Cleared again so the pooled worker does not carry the user into the next batch
+            CurrentUserHolder.clear();
+            Future<Long> next = batch.submit(CurrentUserHolder::get);
+            assertNull(batch.get(next));
+        }
+    }
+
+    @Test
+    void testBatch_CallerRunKeepsCallersUser() throws Exception {
+        parallelReads = new ParallelReads(mock(PlatformTransactionManager.class), 1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        CurrentUserHolder.set(7L);
+
+        try (ParallelReads.Batch batch = parallelReads.begin()) {
+            batch.submit(() -> {
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    return false;
+                }
+            });
+            batch.submit(CurrentUserHolder::get);
+            Future<Long> overflow = batch.submit(CurrentUserHolder::get);
+
+            assertEquals(7L, batch.get(overflow));
+            assertEquals(7L, CurrentUserHolder.get());
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.dto.ReportsDto;
+import com.sydney.uni.backend.services.ReportsResultCache;
+import com.sydney.uni.backend.services.ReportsService;
+import com.sydney.uni.backend.services.UserDataChangedEvent;
+import com.sydney.uni.backend.services.UserDataVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReportsResultCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 5, 20);
+
+    @Mock
+    private ReportsService reportsService;
+
+    private UserDataVersions userDataVersions;
+    private SimpleMeterRegistry meterRegistry;
+    private ReportsResultCache reportsResultCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        userDataVersions = new UserDataVersions();
+        meterRegistry = new SimpleMeterRegistry();
+        reportsResultCache = newCache(100, Clock.fixed(Instant.parse("2024-05-20T10:00:00Z"), ZoneOffset.UTC));
+
+        when(reportsService.getReportsData(anyLong(), anyString(), any(LocalDate.class)))
+            .thenAnswer(invocation -> emptyReport());
+    }
+
+    private ReportsResultCache newCache(long maxEntries, Clock clock) {
+        return new ReportsResultCache(reportsService, userDataVersions, meterRegistry, maxEntries, Duration.ofMinutes(30), clock);
+    }
+
+    private ReportsDto emptyReport() {
+        return new ReportsDto(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), null);
+    }
+
+    @Test
+    void testSameKeyIsComputedOnce() {
+        ReportsDto first = reportsResultCache.getReportsData(1L, "year");
+        ReportsDto second = reportsResultCache.getReportsData(1L, "year");
+
+        assertSame(first, second);
+        verify(reportsService, times(1)).getReportsData(1L, "year", TODAY);
+    }
+
+    @Test
+    void testPeriodsAreCachedSeparately() {
+        ReportsDto year = reportsResultCache.getReportsData(1L, "year");
+        ReportsDto sixMonths = reportsResultCache.getReportsData(1L, "6months");
+
+        assertNotSame(year, sixMonths);
+        verify(reportsService).getReportsData(1L, "year", TODAY);
+        verify(reportsService).getReportsData(1L, "6months", TODAY);
+    }
+
+    @Test
+    void testUnknownPeriodSharesTheDefaultEntry() {
+        ReportsDto sixMonths = reportsResultCache.getReportsData(1L, "6months");
+
+        assertSame(sixMonths, reportsResultCache.getReportsData(1L, "3months"));
+        verify(reportsService, times(1)).getReportsData(1L, "6months", TODAY);
+    }
+
+    @Test
+    void testUserWriteMovesToNewVersion() {
+        ReportsDto before = reportsResultCache.getReportsData(1L, "year");
+        ReportsDto otherUser = reportsResultCache.getReportsData(2L, "year");
+
+        userDataVersions.onUserDataChanged(new UserDataChangedEvent(1L));
+
+        assertNotSame(before, reportsResultCache.getReportsData(1L, "year"));
+        assertSame(otherUser, reportsResultCache.getReportsData(2L, "year"));
+        verify(reportsService, times(2)).getReportsData(1L, "year", TODAY);
+    }
+
+    @Test
+    void testNewDayUsesNewAsOfDate() {
+        reportsResultCache.getReportsData(1L, "year");
+        ReportsResultCache tomorrow = newCache(100, Clock.fixed(Instant.parse("2024-05-21T10:00:00Z"), ZoneOffset.UTC));
+
+        tomorrow.getReportsData(1L, "year");
+
+        verify(reportsService).getReportsData(1L, "year", TODAY.plusDays(1));
+    }
+
+    @Test
+    void testHitsAndMissesArePublished() {
+        reportsResultCache.getReportsData(1L, "year");
+        reportsResultCache.getReportsData(1L, "year");
+        reportsResultCache.getReportsData(1L, "year");
+        reportsResultCache.getReportsData(2L, "year");
+
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", ReportsResultCache.CACHE_NAME)
+            .tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", ReportsResultCache.CACHE_NAME)
+            .tag("result", "miss").functionCounter().count());
+        assertNotNull(meterRegistry.get("cache.evictions").tag("cache", ReportsResultCache.CACHE_NAME).functionCounter());
+    }
+}
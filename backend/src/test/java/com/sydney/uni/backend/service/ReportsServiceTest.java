@@ -3,6 +3,8 @@ package com.sydney.uni.backend.service;
 import com.sydney.uni.backend.dto.*;
 import com.sydney.uni.backend.entity.*;
 import com.sydney.uni.backend.repository.*;
+import com.sydney.uni.backend.services.ClosedMonthReports;
+import com.sydney.uni.backend.services.MonthlyRollupService;
 import com.sydney.uni.backend.services.ReportsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,53 +23,53 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ReportsServiceTest {
 
-    @Mock
-    private TransactionRepository transactionRepository;
     @Mock
     private BudgetRepository budgetRepository;
     @Mock
-    private SavingLogRepository savingLogRepository;
+    private MonthlyRollupService monthlyRollupService;
+    @Mock
+    private ClosedMonthReports closedMonthReports;
 
     @InjectMocks
     private ReportsService reportsService;
 
-    private Transaction transactionIn;
-    private Transaction transactionOut;
+    private int year;
+    private int month;
     private Budget budget;
-    private SavingLog savingLog;
 
     @BeforeEach
     void setUp() {
-        transactionIn = new Transaction();
-        transactionIn.setType(TransactionType.IN);
-        transactionIn.setAmount(1000.0);
-        transactionIn.setDate(LocalDate.now());
-        transactionIn.setExpenseCategory(ExpenseCategory.OTHER);
-
-        transactionOut = new Transaction();
-        transactionOut.setType(TransactionType.OUT);
-        transactionOut.setAmount(500.0);
-        transactionOut.setDate(LocalDate.now());
-        transactionOut.setExpenseCategory(ExpenseCategory.FOOD_DINING);
+        LocalDate now = LocalDate.now();
+        year = now.getYear();
+        month = now.getMonthValue();
 
         budget = new Budget();
         budget.setCategory("FOOD_DINING");
-        budget.setAmount(600.0);
+        budget.setAmountCents(60000L);
+    }
 
-        savingLog = new SavingLog();
-        savingLog.setAction(SavingAction.SAVE);
-        savingLog.setAmount(200.0);
-        savingLog.setTimestamp(LocalDateTime.now());
+    private void stubRollups(MonthlyRollup... rollups) {
+        when(monthlyRollupService.getRollups(anyLong(), any(), any())).thenReturn(List.of(rollups));
+    }
+
+    private MonthlyRollup rollup(int year, int month, RollupType type, ExpenseCategory category, long totalCents) {
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setYearMonth(MonthlyRollup.key(YearMonth.of(year, month)));
+        rollup.setType(type);
+        rollup.setCategory(category);
+        rollup.setTotalCents(totalCents);
+        rollup.setCount(1L);
+        return rollup;
     }
 
     @Test
     void testGetReportsData_Success() {
-        when(transactionRepository.findByUserIdAndDateBetween(anyLong(), any(), any()))
-                .thenReturn(List.of(transactionIn, transactionOut));
+        stubRollups(
+                rollup(year, month, RollupType.IN, null, 100000L),
+                rollup(year, month, RollupType.OUT, ExpenseCategory.FOOD_DINING, 50000L),
+                rollup(year, month, RollupType.SAVE, null, 20000L));
         when(budgetRepository.findByUserId(anyLong()))
                 .thenReturn(List.of(budget));
-        when(savingLogRepository.findByUserIdOrderByTimestampDesc(anyLong()))
-                .thenReturn(List.of(savingLog));
 
         ReportsDto reports = reportsService.getReportsData(1L, "6months");
 
@@ -76,7 +78,93 @@ class ReportsServiceTest {
         assertFalse(reports.getCategoryExpenses().isEmpty());
         assertFalse(reports.getBudgetComparison().isEmpty());
         assertNotNull(reports.getMetrics());
-        assertTrue(reports.getMetrics().getTotalIncome() > 0);
+        assertEquals(100000L, reports.getMetrics().getTotalIncomeCents());
+        assertEquals(50000L, reports.getMetrics().getTotalExpensesCents());
+        assertEquals(20000L, reports.getMetrics().getTotalSavingsCents());
+
+        MonthlyDataDto currentMonth = reports.getMonthlyData().get(reports.getMonthlyData().size() - 1);
+        assertEquals(100000L, currentMonth.getIncomeCents());
+        assertEquals(50000L, currentMonth.getExpensesCents());
+        assertEquals("100.0", reports.getCategoryExpenses().get(0).getPercentage());
+    }
+
+    @Test
+    void testGetReportsData_ReadsOnlyCurrentMonthLive() {
+        stubRollups();
+        when(budgetRepository.findByUserId(anyLong())).thenReturn(Collections.emptyList());
+
+        reportsService.getReportsData(7L, "6months");
+
+        YearMonth current = YearMonth.now();
+        verify(monthlyRollupService).getRollups(7L, current, current);
+        verify(closedMonthReports).getRollups(7L, current.minusMonths(6), current.minusMonths(1));
+    }
+
+    @Test
+    void testGetReportsData_CombinesClosedAndLiveMonths() {
+        YearMonth previous = YearMonth.now().minusMonths(1);
+        stubRollups(rollup(year, month, RollupType.OUT, ExpenseCategory.FOOD_DINING, 5000L));
+        when(closedMonthReports.getRollups(anyLong(), any(), any())).thenReturn(List.of(
+                rollup(previous.getYear(), previous.getMonthValue(), RollupType.OUT, ExpenseCategory.FOOD_DINING, 3000L),
+                rollup(previous.getYear(), previous.getMonthValue(), RollupType.IN, null, 40000L)));
+        when(budgetRepository.findByUserId(anyLong())).thenReturn(Collections.emptyList());
+
+        ReportsDto dto = reportsService.getReportsData(1L, "6months");
+
+        List<MonthlyDataDto> months = dto.getMonthlyData();
+        assertEquals(3000L, months.get(months.size() - 2).getExpensesCents());
+        assertEquals(40000L, months.get(months.size() - 2).getIncomeCents());
+        assertEquals(5000L, months.get(months.size() - 1).getExpensesCents());
+        assertEquals(8000L, dto.getCategoryExpenses().get(0).getAmountCents());
+    }
+
+    @Test
+    void testGetReportsData_AsOfDateSetsWindow() {
+        when(budgetRepository.findByUserId(anyLong())).thenReturn(Collections.emptyList());
+
+        ReportsDto dto = reportsService.getReportsData(7L, "year", LocalDate.of(2023, 3, 15));
+
+        // Every month of a past window has ended, so nothing is read live
+        verify(closedMonthReports).getRollups(7L, YearMonth.of(2023, 1), YearMonth.of(2023, 3));
+        verifyNoInteractions(monthlyRollupService);
+        assertEquals(List.of("Jan", "Feb", "Mar"), dto.getMonthlyData().stream().map(MonthlyDataDto::getMonth).toList());
+    }
+
+    @Test
+    void testCanonicalPeriod() {
+        assertEquals("year", ReportsService.canonicalPeriod("year"));
+        assertEquals("6months", ReportsService.canonicalPeriod("6months"));
+        assertEquals("6months", ReportsService.canonicalPeriod("3months"));
+        assertEquals("6months", ReportsService.canonicalPeriod(null));
+    }
+
+    @Test
+    void testMonthlyData_SumsCategoriesWithinMonth() {
+        stubRollups(
+                rollup(year, month, RollupType.OUT, ExpenseCategory.FOOD_DINING, 12000L),
+                rollup(year, month, RollupType.OUT, ExpenseCategory.TRAVEL, 8000L),
+                rollup(year, month, RollupType.OUT, null, 500L));
+        when(budgetRepository.findByUserId(anyLong())).thenReturn(Collections.emptyList());
+
+        ReportsDto dto = reportsService.getReportsData(1L, "6months");
+
+        MonthlyDataDto currentMonth = dto.getMonthlyData().get(dto.getMonthlyData().size() - 1);
+        assertEquals(20500L, currentMonth.getExpensesCents());
+        // Uncategorised spending counts towards the month but not towards any category
+        assertEquals(2, dto.getCategoryExpenses().size());
+        assertEquals("Food & Dining", dto.getCategoryExpenses().get(0).getCategory());
+    }
+
+    @Test
+    void testMonthlyData_IgnoresMonthsOutsideWindow() {
+        YearMonth outside = YearMonth.now().minusMonths(6);
+        stubRollups(rollup(outside.getYear(), outside.getMonthValue(), RollupType.OUT, null, 8000L));
+        when(budgetRepository.findByUserId(anyLong())).thenReturn(Collections.emptyList());
+
+        ReportsDto dto = reportsService.getReportsData(1L, "6months");
+
+        long expenses = dto.getMonthlyData().stream().mapToLong(MonthlyDataDto::getExpensesCents).sum();
+        assertEquals(0L, expenses);
     }
 
     @Test
@@ -106,12 +194,9 @@ class ReportsServiceTest {
 
     @Test
     void testGenerateCategoryExpenses_EmptyTransactions() {
-        when(transactionRepository.findByUserIdAndDateBetween(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        stubRollups();
         when(budgetRepository.findByUserId(anyLong()))
                 .thenReturn(Collections.emptyList());
-        when(savingLogRepository.findByUserIdOrderByTimestampDesc(anyLong()))
-                .thenReturn(Collections.emptyList());
 
         ReportsDto reports = reportsService.getReportsData(1L, "3months");
 
@@ -122,12 +207,9 @@ class ReportsServiceTest {
 
     @Test
     void testGetReportsData_NoData() {
-        when(transactionRepository.findByUserIdAndDateBetween(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        stubRollups();
         when(budgetRepository.findByUserId(anyLong()))
                 .thenReturn(Collections.emptyList());
-        when(savingLogRepository.findByUserIdOrderByTimestampDesc(anyLong()))
-                .thenReturn(Collections.emptyList());
 
         ReportsDto reports = reportsService.getReportsData(1L, "6months");
 
@@ -140,10 +222,8 @@ class ReportsServiceTest {
     @Test
     void testMonthlyData_SixMonthsWindowSize() {
         // no data, but period = 6months should still yield exactly 6 months in list
-        when(transactionRepository.findByUserIdAndDateBetween(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        stubRollups();
         when(budgetRepository.findByUserId(anyLong())).thenReturn(Collections.emptyList());
-        when(savingLogRepository.findByUserIdOrderByTimestampDesc(anyLong())).thenReturn(Collections.emptyList());
 
         ReportsDto dto = reportsService.getReportsData(1L, "6months");
         assertEquals(6, dto.getMonthlyData().size());
@@ -151,48 +231,32 @@ class ReportsServiceTest {
 
     @Test
     void testSavingLogs_UnsaveSubtracts() {
-        when(transactionRepository.findByUserIdAndDateBetween(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        stubRollups(
+                rollup(year, month, RollupType.SAVE, null, 20000L),
+                rollup(year, month, RollupType.UNSAVE, null, 5000L));
         when(budgetRepository.findByUserId(anyLong())).thenReturn(Collections.emptyList());
 
-        SavingLog save = new SavingLog();
-        save.setAction(SavingAction.SAVE);
-        save.setAmount(200.0);
-        save.setTimestamp(LocalDateTime.now());
-        SavingLog unsave = new SavingLog();
-        unsave.setAction(SavingAction.UNSAVE);
-        unsave.setAmount(50.0);
-        unsave.setTimestamp(LocalDateTime.now());
-        when(savingLogRepository.findByUserIdOrderByTimestampDesc(anyLong()))
-                .thenReturn(List.of(save, unsave));
-
         ReportsDto dto = reportsService.getReportsData(1L, "6months");
-        double sum = dto.getMonthlyData().stream().mapToDouble(MonthlyDataDto::getSavings).sum();
-        assertEquals(150.0, sum, 0.0001);
+        long sum = dto.getMonthlyData().stream().mapToLong(MonthlyDataDto::getSavingsCents).sum();
+        assertEquals(15000L, sum);
     }
 
     @Test
     void testBudgetComparison_PeriodMonthsMultiply() {
-        // one budget and one OUT transaction in its category
-        Transaction out = new Transaction();
-        out.setType(TransactionType.OUT);
-        out.setAmount(100.0);
-        out.setDate(LocalDate.now());
-        out.setExpenseCategory(ExpenseCategory.HEALTHCARE);
-        when(transactionRepository.findByUserIdAndDateBetween(anyLong(), any(), any()))
-                .thenReturn(List.of(out));
+        // one budget and one OUT category total for it
+        stubRollups(rollup(year, month, RollupType.OUT, ExpenseCategory.HEALTHCARE, 10000L));
 
         Budget b = new Budget();
         b.setCategory("HEALTHCARE");
-        b.setAmount(50.0);
+        b.setAmountCents(5000L);
         when(budgetRepository.findByUserId(anyLong())).thenReturn(List.of(b));
-        when(savingLogRepository.findByUserIdOrderByTimestampDesc(anyLong())).thenReturn(Collections.emptyList());
 
         ReportsDto dto = reportsService.getReportsData(1L, "year");
         BudgetComparisonDto cmp = dto.getBudgetComparison().get(0);
-        assertTrue(cmp.getBudgeted() >= 50.0); // monthsInPeriod * 50
+        assertTrue(cmp.getBudgetedCents() >= 5000L); // monthsInPeriod * 50.00
         assertEquals("Healthcare", cmp.getCategory());
-        assertTrue(cmp.getRemaining() <= cmp.getBudgeted());
+        assertTrue(cmp.getRemainingCents() <= cmp.getBudgetedCents());
+        assertEquals(10000L, cmp.getSpentCents());
     }
 
     @Test
@@ -219,32 +283,23 @@ class ReportsServiceTest {
     @Test
     void testBudgetComparison_CategoryWithoutTransactions_ZeroSpentAndDefaultName() {
         // no OUT transactions in EDUCATION
-        when(transactionRepository.findByUserIdAndDateBetween(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        stubRollups();
         Budget b = new Budget();
         b.setCategory("UNKNOWN_CAT");
-        b.setAmount(100.0);
+        b.setAmountCents(10000L);
         when(budgetRepository.findByUserId(anyLong())).thenReturn(List.of(b));
-        when(savingLogRepository.findByUserIdOrderByTimestampDesc(anyLong())).thenReturn(Collections.emptyList());
 
         ReportsDto dto = reportsService.getReportsData(1L, "6months");
         BudgetComparisonDto cmp = dto.getBudgetComparison().get(0);
         // convertCategoryName will pass through unknown
         assertEquals("UNKNOWN_CAT", cmp.getCategory());
-        assertTrue(cmp.getSpent() == 0.0);
+        assertEquals(0L, cmp.getSpentCents());
     }
 
     @Test
     void testCategoryExpenses_PercentageZeroWhenNoTotal() {
-        Transaction out = new Transaction();
-        out.setType(TransactionType.OUT);
-        out.setAmount(0.0);
-        out.setDate(LocalDate.now());
-        out.setExpenseCategory(ExpenseCategory.FOOD_DINING);
-        when(transactionRepository.findByUserIdAndDateBetween(anyLong(), any(), any()))
-                .thenReturn(List.of(out));
+        stubRollups(rollup(year, month, RollupType.OUT, ExpenseCategory.FOOD_DINING, 0L));
         when(budgetRepository.findByUserId(anyLong())).thenReturn(Collections.emptyList());
-        when(savingLogRepository.findByUserIdOrderByTimestampDesc(anyLong())).thenReturn(Collections.emptyList());
 
         ReportsDto dto = reportsService.getReportsData(1L, "6months");
         // if total is zero, percentage string becomes 0.0
@@ -6,11 +6,13 @@ import com.sydney.uni.backend.entity.User;
 import com.sydney.uni.backend.repository.SaveGoalRepository;
 import com.sydney.uni.backend.repository.UserRepository;
 import com.sydney.uni.backend.services.SaveGoalService;
+import com.sydney.uni.backend.services.UserDataChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -25,6 +27,9 @@ class SaveGoalServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SaveGoalService saveGoalService;
 
@@ -35,7 +40,7 @@ class SaveGoalServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         request = new SaveGoalRequest();
-        request.setTargetAmount(5000.0);
+        request.setTargetAmountCents(500000L);
         request.setDescription("Vacation savings");
 
         user = new User();
@@ -49,14 +54,14 @@ class SaveGoalServiceTest {
         when(saveGoalRepository.findByUserId(1L)).thenReturn(Optional.empty());
 
         SaveGoal newGoal = new SaveGoal();
-        newGoal.setTargetAmount(5000.0);
+        newGoal.setTargetAmountCents(500000L);
         newGoal.setDescription("Vacation savings");
         when(saveGoalRepository.save(any(SaveGoal.class))).thenReturn(newGoal);
 
         SaveGoal result = saveGoalService.setSaveGoal(1L, request);
 
         assertNotNull(result);
-        assertEquals(5000.0, result.getTargetAmount());
+        assertEquals(500000L, result.getTargetAmountCents());
         assertEquals("Vacation savings", result.getDescription());
         verify(saveGoalRepository, times(1)).save(any(SaveGoal.class));
     }
@@ -64,7 +69,7 @@ class SaveGoalServiceTest {
     @Test
     void testSetSaveGoal_UpdateExistingGoal() {
         SaveGoal existingGoal = new SaveGoal();
-        existingGoal.setTargetAmount(1000.0);
+        existingGoal.setTargetAmountCents(100000L);
         existingGoal.setDescription("Old goal");
         existingGoal.setUser(user);
 
@@ -75,21 +80,21 @@ class SaveGoalServiceTest {
         SaveGoal result = saveGoalService.setSaveGoal(1L, request);
 
         assertNotNull(result);
-        assertEquals(5000.0, result.getTargetAmount());
+        assertEquals(500000L, result.getTargetAmountCents());
         assertEquals("Vacation savings", result.getDescription());
     }
 
     @Test
     void testGetSaveGoal_Found() {
         SaveGoal goal = new SaveGoal();
-        goal.setTargetAmount(5000.0);
+        goal.setTargetAmountCents(500000L);
         goal.setDescription("Test goal");
         when(saveGoalRepository.findByUserId(1L)).thenReturn(Optional.of(goal));
 
         SaveGoal result = saveGoalService.getSaveGoal(1L);
 
         assertNotNull(result);
-        assertEquals(5000.0, result.getTargetAmount());
+        assertEquals(500000L, result.getTargetAmountCents());
     }
 
     @Test
@@ -104,7 +109,7 @@ class SaveGoalServiceTest {
     @Test
     void testUpdateSaveGoal_Success() {
         SaveGoal goal = new SaveGoal();
-        goal.setTargetAmount(2000.0);
+        goal.setTargetAmountCents(200000L);
         goal.setDescription("Old goal");
 
         when(saveGoalRepository.findByUserId(1L)).thenReturn(Optional.of(goal));
@@ -112,7 +117,7 @@ class SaveGoalServiceTest {
 
         SaveGoal result = saveGoalService.updateSaveGoal(1L, request);
 
-        assertEquals(5000.0, result.getTargetAmount());
+        assertEquals(500000L, result.getTargetAmountCents());
         assertEquals("Vacation savings", result.getDescription());
     }
 
@@ -134,6 +139,7 @@ class SaveGoalServiceTest {
         saveGoalService.deleteSaveGoal(1L);
 
         verify(saveGoalRepository, times(1)).delete(goal);
+        verify(eventPublisher).publishEvent(new UserDataChangedEvent(1L));
     }
 
     @Test
@@ -144,5 +150,6 @@ class SaveGoalServiceTest {
                 saveGoalService.deleteSaveGoal(1L));
 
         assertEquals("Save goal not found", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any(UserDataChangedEvent.class));
     }
 }
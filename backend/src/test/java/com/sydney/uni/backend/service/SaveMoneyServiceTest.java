@@ -6,12 +6,17 @@ import com.sydney.uni.backend.entity.*;
 import com.sydney.uni.backend.repository.AccountRepository;
 import com.sydney.uni.backend.repository.SavingLogRepository;
 import com.sydney.uni.backend.repository.UserRepository;
+import com.sydney.uni.backend.services.LedgerService;
+import com.sydney.uni.backend.services.MonthlyRollupService;
 import com.sydney.uni.backend.services.SaveMoneyService;
+import com.sydney.uni.backend.services.AccountDeltaEvent;
+import com.sydney.uni.backend.services.UserDataChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +35,15 @@ class SaveMoneyServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MonthlyRollupService monthlyRollupService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SaveMoneyService saveMoneyService;
 
@@ -46,8 +60,8 @@ class SaveMoneyServiceTest {
 
         account = new Account();
         account.setId(1L);
-        account.setBalance(100.0);
-        account.setSaved(20.0);
+        account.setBalanceCents(10000L);
+        account.setSavedCents(2000L);
         account.setUser(user);
     }
 
@@ -55,7 +69,7 @@ class SaveMoneyServiceTest {
     @Test
     void testSaveMoney_Success() {
         SaveMoneyRequest request = new SaveMoneyRequest();
-        request.setAmount(50.0);
+        request.setAmountCents(5000L);
         request.setDescription("Test Save");
 
         when(accountRepository.findByUserId(1L)).thenReturn(List.of(account));
@@ -65,15 +79,19 @@ class SaveMoneyServiceTest {
         Account result = saveMoneyService.saveMoney(1L, request);
 
         assertNotNull(result);
-        assertEquals(70.0, result.getSaved());
+        assertEquals(7000L, result.getSavedCents());
         verify(savingLogRepository, times(1)).save(any(SavingLog.class));
+        verify(monthlyRollupService).recordSaving(argThat(log -> log.getAction() == SavingAction.SAVE && log.getAmountCents() == 5000L));
+        verify(ledgerService).record(1L, LedgerEventType.SAVE, 0L, 5000L, null);
+        verify(eventPublisher).publishEvent(new UserDataChangedEvent(1L));
+        verify(eventPublisher).publishEvent(AccountDeltaEvent.savingsChanged(1L, 5000L));
     }
 
     // Test insufficient balance error
     @Test
     void testSaveMoney_InsufficientBalance() {
         SaveMoneyRequest request = new SaveMoneyRequest();
-        request.setAmount(200.0);
+        request.setAmountCents(20000L);
         when(accountRepository.findByUserId(1L)).thenReturn(List.of(account));
 
         RuntimeException ex = assertThrows(RuntimeException.class, () ->
@@ -81,13 +99,14 @@ class SaveMoneyServiceTest {
 
         assertEquals("Insufficient balance to save", ex.getMessage());
         verify(savingLogRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(UserDataChangedEvent.class));
     }
 
     // Test when no account found
     @Test
     void testSaveMoney_NoAccountFound() {
         SaveMoneyRequest request = new SaveMoneyRequest();
-        request.setAmount(20.0);
+        request.setAmountCents(2000L);
         when(accountRepository.findByUserId(1L)).thenReturn(List.of());
 
         RuntimeException ex = assertThrows(RuntimeException.class, () ->
@@ -100,7 +119,7 @@ class SaveMoneyServiceTest {
     @Test
     void testSaveMoney_UserNotFound() {
         SaveMoneyRequest request = new SaveMoneyRequest();
-        request.setAmount(10.0);
+        request.setAmountCents(1000L);
         when(accountRepository.findByUserId(1L)).thenReturn(List.of(account));
         when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
@@ -114,7 +133,7 @@ class SaveMoneyServiceTest {
     @Test
     void testUnsaveMoney_Success() {
         UnsaveMoneyRequest request = new UnsaveMoneyRequest();
-        request.setAmount(10.0);
+        request.setAmountCents(1000L);
         request.setDescription("Withdraw Save");
 
         when(accountRepository.findByUserId(1L)).thenReturn(List.of(account));
@@ -124,15 +143,17 @@ class SaveMoneyServiceTest {
         Account result = saveMoneyService.unsaveMoney(1L, request);
 
         assertNotNull(result);
-        assertEquals(10.0, result.getSaved());
+        assertEquals(1000L, result.getSavedCents());
         verify(savingLogRepository, times(1)).save(any(SavingLog.class));
+        verify(monthlyRollupService).recordSaving(argThat(log -> log.getAction() == SavingAction.UNSAVE));
+        verify(ledgerService).record(1L, LedgerEventType.UNSAVE, 0L, -1000L, null);
     }
 
     // Test unsave more than saved amount
     @Test
     void testUnsaveMoney_InsufficientSaved() {
         UnsaveMoneyRequest request = new UnsaveMoneyRequest();
-        request.setAmount(50.0);
+        request.setAmountCents(5000L);
 
         when(accountRepository.findByUserId(1L)).thenReturn(List.of(account));
 
@@ -147,7 +168,7 @@ class SaveMoneyServiceTest {
     @Test
     void testUnsaveMoney_NoAccountFound() {
         UnsaveMoneyRequest request = new UnsaveMoneyRequest();
-        request.setAmount(10.0);
+        request.setAmountCents(1000L);
         when(accountRepository.findByUserId(1L)).thenReturn(List.of());
 
         RuntimeException ex = assertThrows(RuntimeException.class, () ->
@@ -160,7 +181,7 @@ class SaveMoneyServiceTest {
     @Test
     void testUnsaveMoney_UserNotFound() {
         UnsaveMoneyRequest request = new UnsaveMoneyRequest();
-        request.setAmount(10.0);
+        request.setAmountCents(1000L);
 
         when(accountRepository.findByUserId(1L)).thenReturn(List.of(account));
         when(userRepository.findById(1L)).thenReturn(Optional.empty());
@@ -175,12 +196,12 @@ class SaveMoneyServiceTest {
     @Test
     void testGetSavingLogs() {
         SavingLog log = new SavingLog();
-        log.setAmount(10.0);
+        log.setAmountCents(1000L);
         when(savingLogRepository.findByUserIdOrderByTimestampDesc(1L)).thenReturn(List.of(log));
 
         List<SavingLog> logs = saveMoneyService.getSavingLogs(1L);
 
         assertEquals(1, logs.size());
-        assertEquals(10.0, logs.get(0).getAmount());
+        assertEquals(1000L, logs.get(0).getAmountCents());
     }
 }
@@ -0,0 +1,231 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.datasource.PrimaryReads;
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.MonthlyRollup;
+import com.sydney.uni.backend.entity.RollupType;
+import com.sydney.uni.backend.repository.MonthlyRollupRepository;
+import com.sydney.uni.backend.services.SpendCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SpendCountersTest {
+
+    private static final YearMonth MAY = YearMonth.of(2024, 5);
+    private static final int MAY_KEY = 202405;
+
+    private MonthlyRollupRepository monthlyRollupRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private PrimaryReads primaryReads;
+    private SpendCounters spendCounters;
+
+    @BeforeEach
+    void setUp() {
+        monthlyRollupRepository = mock(MonthlyRollupRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        primaryReads = spy(new PrimaryReads(TransactionOperations.withoutTransaction(),
+            TransactionOperations.withoutTransaction()));
+        spendCounters = new SpendCounters(monthlyRollupRepository, primaryReads, meterRegistry, 100,
+                Duration.ofMinutes(10), Duration.ofMinutes(30), 10);
+        when(monthlyRollupRepository.findByUserIdAndYearMonthBetween(1L, MAY_KEY, MAY_KEY)).thenReturn(List.of(
+                rollup(RollupType.OUT, ExpenseCategory.TRAVEL, 6000L),
+                rollup(RollupType.OUT, null, 1000L),
+                rollup(RollupType.IN, null, 50000L)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static MonthlyRollup rollup(RollupType type, ExpenseCategory category, long totalCents) {
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setUserId(1L);
+        rollup.setYearMonth(MAY_KEY);
+        rollup.setType(type);
+        rollup.setCategory(category);
+        rollup.setTotalCents(totalCents);
+        return rollup;
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    void testSeedsOnceThenAnswersFromMemory() {
+        assertEquals(7000L, spendCounters.monthTotal(1L, MAY));
+        assertEquals(6000L, spendCounters.categoryTotal(1L, MAY, ExpenseCategory.TRAVEL));
+        assertEquals(0L, spendCounters.categoryTotal(1L, MAY, ExpenseCategory.EDUCATION));
+        assertEquals(1000L, spendCounters.categoryTotal(1L, MAY, null));
+
+        verify(monthlyRollupRepository, times(1)).findByUserIdAndYearMonthBetween(1L, MAY_KEY, MAY_KEY);
+        // Seeded from the primary, never from a replica that may not have the latest commit yet
+        verify(primaryReads, times(1)).read(any());
+    }
+
+    @Test
+    void testMonthsAreCountedSeparately() {
+        when(monthlyRollupRepository.findByUserIdAndYearMonthBetween(1L, 202404, 202404)).thenReturn(List.of());
+
+        spendCounters.monthTotal(1L, MAY);
+        spendCounters.recordAfterCommit(1L, MAY, ExpenseCategory.TRAVEL, 500L);
+
+        assertEquals(7500L, spendCounters.monthTotal(1L, MAY));
+        assertEquals(0L, spendCounters.monthTotal(1L, YearMonth.of(2024, 4)));
+    }
+
+    @Test
+    void testRecordWithoutTransactionAppliesImmediately() {
+        spendCounters.monthTotal(1L, MAY);
+
+        spendCounters.recordAfterCommit(1L, MAY, ExpenseCategory.TRAVEL, 2500L);
+        spendCounters.recordAfterCommit(1L, MAY, null, -1000L);
+
+        assertEquals(8500L, spendCounters.categoryTotal(1L, MAY, ExpenseCategory.TRAVEL));
+        assertEquals(8500L, spendCounters.monthTotal(1L, MAY));
+    }
+
+    @Test
+    void testWritesDoNotPostponeMaxAge() {
+        AtomicLong nanos = new AtomicLong();
+        spendCounters = new SpendCounters(monthlyRollupRepository, primaryReads, meterRegistry, 100,
+                Duration.ofMinutes(10), Duration.ofMinutes(30), 10, nanos::get);
+        spendCounters.monthTotal(1L, MAY);
+
+        // Written every 5 minutes, so it never idles out, but max-age still counts from the seed
+        for (int i = 0; i < 7; i++) {
+            nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+            spendCounters.recordAfterCommit(1L, MAY, ExpenseCategory.TRAVEL, 100L);
+        }
+
+        assertEquals(7000L, spendCounters.monthTotal(1L, MAY));
+        verify(monthlyRollupRepository, times(2)).findByUserIdAndYearMonthBetween(1L, MAY_KEY, MAY_KEY);
+    }
+
+    @Test
+    void testRecordForUncachedMonthIsLeftToTheSeed() {
+        spendCounters.recordAfterCommit(1L, MAY, ExpenseCategory.TRAVEL, 2500L);
+
+        // The rollup the seed reads already contains the increment
+        assertEquals(7000L, spendCounters.monthTotal(1L, MAY));
+    }
+
+    @Test
+    void testRecordAppliesOnlyAfterCommit() {
+        spendCounters.monthTotal(1L, MAY);
+
+        TransactionSynchronizationManager.initSynchronization();
+        spendCounters.recordAfterCommit(1L, MAY, ExpenseCategory.TRAVEL, 2500L);
+        assertEquals(7000L, spendCounters.monthTotal(1L, MAY));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(9500L, spendCounters.monthTotal(1L, MAY));
+    }
+
+    @Test
+    void testRolledBackRecordIsDropped() {
+        spendCounters.monthTotal(1L, MAY);
+
+        TransactionSynchronizationManager.initSynchronization();
+        spendCounters.recordAfterCommit(1L, MAY, ExpenseCategory.TRAVEL, 2500L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(7000L, spendCounters.monthTotal(1L, MAY));
+    }
+
+    @Test
+    void testSeedIsNotKeptWhileAWriteIsInFlight() {
+        TransactionSynchronizationManager.initSynchronization();
+        spendCounters.recordAfterCommit(1L, YearMonth.of(2024, 6), ExpenseCategory.TRAVEL, 2500L);
+
+        // The read may or may not include the pending write, so it isn't cached
+        spendCounters.monthTotal(1L, MAY);
+        spendCounters.monthTotal(1L, MAY);
+        verify(monthlyRollupRepository, times(2)).findByUserIdAndYearMonthBetween(1L, MAY_KEY, MAY_KEY);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        spendCounters.monthTotal(1L, MAY);
+        spendCounters.monthTotal(1L, MAY);
+        verify(monthlyRollupRepository, times(3)).findByUserIdAndYearMonthBetween(1L, MAY_KEY, MAY_KEY);
+    }
+
+    @Test
+    void testInvalidateAfterCommitReseedsTheUser() {
+        spendCounters.monthTotal(1L, MAY);
+
+        spendCounters.invalidateAfterCommit(1L);
+        spendCounters.monthTotal(1L, MAY);
+
+        verify(monthlyRollupRepository, times(2)).findByUserIdAndYearMonthBetween(1L, MAY_KEY, MAY_KEY);
+    }
+
+    @Test
+    void testVerifyKeepsConsistentCounters() {
+        spendCounters.monthTotal(1L, MAY);
+
+        assertTrue(spendCounters.verify(1L, MAY));
+        assertTrue(spendCounters.verify(2L, MAY)); // not cached
+        assertEquals(0.0, meterRegistry.get("spend.counters.drift").counter().count());
+    }
+
+    @Test
+    void testVerifyDropsDriftedCounters() {
+        spendCounters.monthTotal(1L, MAY);
+        // An increment the counters never saw, e.g. written by another instance
+        when(monthlyRollupRepository.findByUserIdAndYearMonthBetween(1L, MAY_KEY, MAY_KEY)).thenReturn(List.of(
+                rollup(RollupType.OUT, ExpenseCategory.TRAVEL, 8000L),
+                rollup(RollupType.OUT, null, 1000L)));
+
+        assertFalse(spendCounters.verify(1L, MAY));
+        assertEquals(1.0, meterRegistry.get("spend.counters.drift").counter().count());
+        assertEquals(9000L, spendCounters.monthTotal(1L, MAY));
+    }
+
+    @Test
+    void testVerifySampleChecksCachedMonths() {
+        spendCounters.monthTotal(1L, MAY);
+        when(monthlyRollupRepository.findByUserIdAndYearMonthBetween(1L, MAY_KEY, MAY_KEY)).thenReturn(List.of());
+
+        spendCounters.verifySample();
+
+        assertEquals(1.0, meterRegistry.get("spend.counters.drift").counter().count());
+        assertEquals(0L, spendCounters.monthTotal(1L, MAY));
+    }
+
+    @Test
+    void testVerifySampleReachesEveryCachedMonth() {
+        spendCounters = new SpendCounters(monthlyRollupRepository, primaryReads, meterRegistry, 100,
+                Duration.ofMinutes(10), Duration.ofMinutes(30), 1);
+        for (long userId = 1; userId <= 5; userId++) {
+            spendCounters.monthTotal(userId, MAY);
+        }
+        clearInvocations(monthlyRollupRepository);
+
+        // One month per run; a fixed first-N sample would check the same one every time
+        for (int run = 0; run < 200; run++) {
+            spendCounters.verifySample();
+        }
+
+        for (long userId = 1; userId <= 5; userId++) {
+            verify(monthlyRollupRepository, atLeastOnce()).findByUserIdAndYearMonthBetween(userId, MAY_KEY, MAY_KEY);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.entity.ExpenseCategory;
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.entity.TransactionType;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import com.sydney.uni.backend.services.TransactionExportService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private TransactionExportService transactionExportService;
+
+    private Transaction transaction(Long id, TransactionType type, String detail, String note) {
+        Transaction transaction = new Transaction();
+        transaction.setId(id);
+        transaction.setType(type);
+        transaction.setDate(LocalDate.of(2024, 3, 15));
+        transaction.setDetail(detail);
+        transaction.setNote(note);
+        transaction.setAmountCents(1250L);
+        return transaction;
+    }
+
+    @Test
+    void testWriteExpensesCsv_WritesHeaderAndRows() throws IOException {
+        Transaction lunch = transaction(1L, TransactionType.OUT, "Lunch", null);
+        lunch.setExpenseCategory(ExpenseCategory.FOOD_DINING);
+        Transaction taxi = transaction(2L, TransactionType.OUT, "Taxi, airport", "said \"thanks\"");
+        when(transactionRepository.streamByUserIdAndType(1L, TransactionType.OUT)).thenReturn(Stream.of(lunch, taxi));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionExportService.writeExpensesCsv(1L, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,date,type,category,description,amount,notes", lines[0]);
+        assertEquals("1,2024-03-15,OUT,FOOD_DINING,Lunch,12.50,", lines[1]);
+        assertEquals("2,2024-03-15,OUT,,\"Taxi, airport\",12.50,\"said \"\"thanks\"\"\"", lines[2]);
+        verify(entityManager).detach(lunch);
+        verify(entityManager).detach(taxi);
+    }
+
+    @Test
+    void testWriteLedgerCsv_UsesAllTransactions() throws IOException {
+        Transaction deposit = transaction(3L, TransactionType.IN, "Salary", null);
+        when(transactionRepository.streamByUserId(1L)).thenReturn(Stream.of(deposit));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionExportService.writeLedgerCsv(1L, out);
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("3,2024-03-15,IN,,Salary,12.50,"));
+        verify(transactionRepository, never()).streamByUserIdAndType(anyLong(), any());
+    }
+
+    @Test
+    void testWriteExpensesCsv_ClosesStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<Transaction> rows = Stream.<Transaction>empty().onClose(() -> closed.set(true));
+        when(transactionRepository.streamByUserIdAndType(1L, TransactionType.OUT)).thenReturn(rows);
+
+        transactionExportService.writeExpensesCsv(1L, new ByteArrayOutputStream());
+
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testWriteExpensesCsv_PropagatesClientDisconnect() {
+        when(transactionRepository.streamByUserIdAndType(1L, TransactionType.OUT))
+                .thenReturn(Stream.of(transaction(1L, TransactionType.OUT, "Lunch", null)));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> transactionExportService.writeExpensesCsv(1L, broken));
+    }
+
+    @Test
+    void testWriteExpensesCsv_NeutralisesFormulas() throws IOException {
+        when(transactionRepository.streamByUserIdAndType(1L, TransactionType.OUT))
+                .thenReturn(Stream.of(transaction(1L, TransactionType.OUT, "=SUM(A1:A2)", "-5")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionExportService.writeExpensesCsv(1L, out);
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains(",'=SUM(A1:A2),12.50,'-5"));
+    }
+}
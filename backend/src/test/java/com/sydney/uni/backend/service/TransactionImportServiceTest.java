@@ -0,0 +1,255 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.dto.ImportResultDto;
+import com.sydney.uni.backend.entity.*;
+import com.sydney.uni.backend.repository.AccountRepository;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import com.sydney.uni.backend.repository.UserRepository;
+import com.sydney.uni.backend.services.AccountDeltaEvent;
+import com.sydney.uni.backend.services.ImportInterruptedException;
+import com.sydney.uni.backend.services.LedgerService;
+import com.sydney.uni.backend.services.MonthlyRollupService;
+import com.sydney.uni.backend.services.TransactionImportService;
+import com.sydney.uni.backend.services.UserDataChangedEvent;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MonthlyRollupService monthlyRollupService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private TransactionImportService transactionImportService;
+
+    private User mockUser;
+    private Account mockAccount;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(mock(TransactionStatus.class)));
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        mockUser = new User();
+        mockUser.setId(1L);
+
+        mockAccount = new Account();
+        mockAccount.setId(10L);
+        mockAccount.setUser(mockUser);
+        mockAccount.setBalanceCents(10000L);
+        mockAccount.setSavedCents(0L);
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testImport_WritesRowsAndSettlesBalanceOnce() throws IOException {
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(mockAccount));
+        List<Transaction> saved = new ArrayList<>();
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        ImportResultDto result = transactionImportService.importTransactions(1L, "bank.csv", csv(
+            "date,description,category,amount\n"
+                + "2024-01-01,Lunch,Food & Dining,-20\n"
+                + "2024-01-02,Pay,,500\n"
+                + "2024-01-03,Train,TRANSPORTATION,-5\n"), 0);
+
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getSkipped());
+        assertEquals(3, saved.size());
+
+        Transaction lunch = saved.get(0);
+        assertEquals(TransactionType.OUT, lunch.getType());
+        assertEquals(ExpenseCategory.FOOD_DINING, lunch.getExpenseCategory());
+        assertSame(mockAccount, lunch.getAccount());
+        assertSame(mockUser, lunch.getUser());
+        assertEquals(ExpenseCategory.TRANSPORTATION, saved.get(2).getExpenseCategory());
+        assertEquals(TransactionType.IN, saved.get(1).getType());
+
+        // One balance update for the whole (single) batch: -20 + 500 - 5
+        verify(accountRepository).adjustBalance(10L, 47500L);
+        verify(ledgerService).record(10L, LedgerEventType.IMPORT, 47500L, 0L, null);
+        verify(entityManager).flush();
+        verify(entityManager).clear();
+        verify(accountRepository, never()).save(any(Account.class));
+        verify(eventPublisher).publishEvent(new UserDataChangedEvent(1L));
+        verify(eventPublisher).publishEvent(AccountDeltaEvent.reload(1L));
+    }
+
+    @Test
+    void testImport_FlushesPerBatch() throws IOException {
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(mockAccount));
+        StringBuilder content = new StringBuilder("date,amount\n");
+        int rows = TransactionImportService.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < rows; i++) {
+            content.append("2024-01-01,-1\n");
+        }
+
+        ImportResultDto result = transactionImportService.importTransactions(1L, "bank.csv", csv(content.toString()), 0);
+
+        assertEquals(rows, result.getImported());
+        verify(transactionRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).clear();
+
+        ArgumentCaptor<Long> deltas = ArgumentCaptor.forClass(Long.class);
+        verify(accountRepository, times(3)).adjustBalance(eq(10L), deltas.capture());
+        verify(monthlyRollupService, times(3)).recordTransactions(anyList());
+        assertEquals(List.of(-50000L, -50000L, -100L), deltas.getAllValues());
+    }
+
+    @Test
+    void testImport_SkipsMalformedRows() throws IOException {
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(mockAccount));
+
+        ImportResultDto result = transactionImportService.importTransactions(1L, "bank.csv", csv(
+            "date,amount\nyesterday,-1\n2024-01-01,-2\n"), 0);
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getSkipped());
+        verify(accountRepository).adjustBalance(10L, -200L);
+    }
+
+    @Test
+    void testImport_EmptyBodyWritesNothing() throws IOException {
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(mockAccount));
+
+        ImportResultDto result = transactionImportService.importTransactions(1L, "bank.csv", csv("date,amount\n"), 0);
+
+        assertEquals(0, result.getImported());
+        verifyNoInteractions(transactionRepository, entityManager);
+        verify(accountRepository, never()).adjustBalance(anyLong(), anyLong());
+        verifyNoInteractions(monthlyRollupService, ledgerService, eventPublisher);
+    }
+
+    @Test
+    void testImport_CreatesAccountWhenMissing() throws IOException {
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(mockUser));
+        when(accountRepository.save(any(Account.class))).thenReturn(mockAccount);
+
+        transactionImportService.importTransactions(1L, "bank.csv", csv("date,amount\n2024-01-01,5\n"), 0);
+
+        verify(accountRepository).save(any(Account.class));
+        verify(accountRepository).adjustBalance(10L, 500L);
+    }
+
+    @Test
+    void testImport_UserNotFound() {
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of());
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class,
+            () -> transactionImportService.importTransactions(1L, "bank.csv", csv("date,amount\n"), 0));
+    }
+
+    @Test
+    void testImport_CommitsEachBatchSeparately() throws IOException {
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(mockAccount));
+        StringBuilder content = new StringBuilder("date,amount\n");
+        for (int i = 0; i < TransactionImportService.BATCH_SIZE + 1; i++) {
+            content.append("2024-01-01,-1\n");
+        }
+
+        transactionImportService.importTransactions(1L, "bank.csv", csv(content.toString()), 0);
+
+        // One transaction for the account lookup, one per batch
+        verify(transactionTemplate).execute(any());
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+    }
+
+    @Test
+    void testImport_FailedBatchReportsWhereToResume() {
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(mockAccount));
+        when(transactionRepository.saveAll(anyList()))
+            .thenAnswer(invocation -> invocation.getArgument(0))
+            .thenThrow(new IllegalStateException("connection lost"));
+        StringBuilder content = new StringBuilder("date,amount\nyesterday,-1\n");
+        for (int i = 0; i < TransactionImportService.BATCH_SIZE * 2; i++) {
+            content.append("2024-01-01,-1\n");
+        }
+
+        ImportInterruptedException e = assertThrows(ImportInterruptedException.class,
+            () -> transactionImportService.importTransactions(1L, "bank.csv", csv(content.toString()), 0));
+
+        assertEquals(TransactionImportService.BATCH_SIZE, e.getImported());
+        // The malformed row and the first batch are behind the resume point
+        assertEquals(TransactionImportService.BATCH_SIZE + 1, e.getResumeFrom());
+        verify(accountRepository).adjustBalance(10L, -50000L);
+        verify(eventPublisher).publishEvent(new UserDataChangedEvent(1L));
+        verify(eventPublisher).publishEvent(AccountDeltaEvent.reload(1L));
+    }
+
+    @Test
+    void testImport_ResumeSkipsRowsAlreadyImported() throws IOException {
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(mockAccount));
+
+        ImportResultDto result = transactionImportService.importTransactions(1L, "bank.csv", csv(
+            "date,amount\nyesterday,-1\n2024-01-01,-2\n2024-01-02,-3\n"), 2);
+
+        assertEquals(1, result.getImported());
+        assertEquals(0, result.getSkipped());
+        verify(accountRepository).adjustBalance(10L, -300L);
+    }
+
+    @Test
+    void testImport_RejectsUnknownFileType() {
+        assertThrows(IllegalArgumentException.class,
+            () -> transactionImportService.importTransactions(1L, "bank.xlsx", csv("date,amount\n"), 0));
+
+        verifyNoInteractions(accountRepository, transactionRepository, transactionTemplate);
+    }
+}
@@ -0,0 +1,81 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.entity.Transaction;
+import com.sydney.uni.backend.migration.DatabasePlatform;
+import com.sydney.uni.backend.repository.TransactionRepository;
+import com.sydney.uni.backend.services.TransactionSearchService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSearchServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private DatabasePlatform databasePlatform;
+
+    @InjectMocks
+    private TransactionSearchService transactionSearchService;
+
+    @Test
+    void testSearch_PostgresUsesRankedFullText() {
+        Slice<Transaction> results = new SliceImpl<>(List.of(new Transaction()));
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(transactionRepository.searchRanked(1L, "uber:* & eats:*", PageRequest.of(2, 20))).thenReturn(results);
+
+        assertSame(results, transactionSearchService.search(1L, "  Uber-EATS ", 2, 20));
+        verify(transactionRepository, never()).searchByPattern(any(), any(), any());
+    }
+
+    @Test
+    void testSearch_H2FallsBackToPattern() {
+        when(databasePlatform.isPostgres()).thenReturn(false);
+        when(transactionRepository.searchByPattern(1L, "%rent%may%", PageRequest.of(0, 1)))
+            .thenReturn(new SliceImpl<>(List.of()));
+
+        transactionSearchService.search(1L, "Rent (May)", -3, 0);
+
+        verify(transactionRepository).searchByPattern(1L, "%rent%may%", PageRequest.of(0, 1));
+    }
+
+    @Test
+    void testSearch_ClampsPageSize() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+
+        transactionSearchService.search(1L, "rent", 0, 5000);
+
+        verify(transactionRepository).searchRanked(1L, "rent:*",
+            PageRequest.of(0, TransactionSearchService.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void testSearch_RejectsQueryWithoutTerms() {
+        assertThrows(RuntimeException.class, () -> transactionSearchService.search(1L, " & | ! ", 0, 20));
+        assertThrows(RuntimeException.class, () -> transactionSearchService.search(1L, null, 0, 20));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void testSearch_StripsOperatorsAndCapsTerms() {
+        when(databasePlatform.isPostgres()).thenReturn(true);
+
+        transactionSearchService.search(1L, "rent & O'Brien:* | !a b c d e f g", 0, 20);
+
+        verify(transactionRepository).searchRanked(1L,
+            "rent:* & o:* & brien:* & a:* & b:* & c:* & d:* & e:*", PageRequest.of(0, 20));
+    }
+}
@@ -0,0 +1,51 @@
+package com.sydney.uni.backend.service;
+
+import com.sydney.uni.backend.services.UserDataChangedEvent;
+import com.sydney.uni.backend.services.UserDataVersions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDataVersionsTest {
+
+    private final UserDataVersions userDataVersions = new UserDataVersions();
+
+    @Test
+    void testUnknownUserStartsAtZero() {
+        assertEquals(0L, userDataVersions.current(1L));
+    }
+
+    @Test
+    void testEachChangeBumpsOnlyThatUser() {
+        userDataVersions.onUserDataChanged(new UserDataChangedEvent(1L));
+        userDataVersions.onUserDataChanged(new UserDataChangedEvent(1L));
+        userDataVersions.onUserDataChanged(new UserDataChangedEvent(2L));
+
+        assertEquals(2L, userDataVersions.current(1L));
+        assertEquals(1L, userDataVersions.current(2L));
+    }
+
+    @Test
+    void testNullUserIsIgnored() {
+        assertDoesNotThrow(() -> userDataVersions.onUserDataChanged(new UserDataChangedEvent(null)));
+    }
+
+    @Test
+    void testETagFollowsVersionUserAndVariant() {
+        String initial = userDataVersions.etag(1L, "stats");
+
+        assertTrue(initial.startsWith("\"") && initial.endsWith("\""));
+        assertEquals(initial, userDataVersions.etag(1L, "stats"));
+        assertNotEquals(initial, userDataVersions.etag(2L, "stats"));
+        assertNotEquals(initial, userDataVersions.etag(1L, "budgets"));
+
+        userDataVersions.onUserDataChanged(new UserDataChangedEvent(1L));
+
+        assertNotEquals(initial, userDataVersions.etag(1L, "stats"));
+    }
+
+    @Test
+    void testETagsDifferAcrossInstances() {
+        assertNotEquals(userDataVersions.etag(1L, "stats"), new UserDataVersions().etag(1L, "stats"));
+    }
+}
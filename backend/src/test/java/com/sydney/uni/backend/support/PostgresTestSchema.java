@@ -0,0 +1,87 @@
+package com.sydney.uni.backend.support;
+
+import org.junit.jupiter.api.Assumptions;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * A throwaway schema on a real Postgres server, for tests whose subject only exists there (partitioning,
+ * Postgres plans). The server comes from -Dtest.postgres.url/user/password and defaults to the local
+ * development database; the test is skipped when it cannot be reached. Everything lives in a fresh
+ * schema that is dropped again on close, so the tables already in that database are never touched.
+ */
+public final class PostgresTestSchema implements AutoCloseable {
+
+    private static final String URL = System.getProperty("test.postgres.url", "jdbc:postgresql://localhost:5432/accounting_db");
+    private static final String USER = System.getProperty("test.postgres.user", "postgres");
+    private static final String PASSWORD = System.getProperty("test.postgres.password", "1997");
+
+    private final SingleConnectionDataSource dataSource;
+    private final String schema;
+
+    private PostgresTestSchema(SingleConnectionDataSource dataSource, String schema) {
+        this.dataSource = dataSource;
+        this.schema = schema;
+    }
+
+    // For @EnabledIf, which has to decide before a Spring context tries to connect
+    public static boolean isAvailable() {
+        try (Connection ignored = DriverManager.getConnection(URL, USER, PASSWORD)) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    public static PostgresTestSchema createOrSkip() {
+        Connection connection;
+        try {
+            connection = DriverManager.getConnection(URL, USER, PASSWORD);
+        } catch (SQLException e) {
+            Assumptions.abort("No Postgres server at " + URL + ": " + e.getMessage());
+            throw new IllegalStateException(e); // not reached
+        }
+
+        String schema = "test_" + UUID.randomUUID().toString().replace("-", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA " + schema);
+            statement.execute("SET search_path TO " + schema);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to create schema " + schema, e);
+        }
+        return new PostgresTestSchema(new SingleConnectionDataSource(connection, true), schema);
+    }
+
+    // One connection, already on the scratch schema
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    // For a Spring datasource of its own; new connections start on the scratch schema
+    public String jdbcUrl() {
+        return URL + (URL.contains("?") ? "&" : "?") + "currentSchema=" + schema;
+    }
+
+    public String username() {
+        return USER;
+    }
+
+    public String password() {
+        return PASSWORD;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (Statement statement = dataSource.getConnection().createStatement()) {
+            statement.execute("DROP SCHEMA " + schema + " CASCADE");
+        } finally {
+            dataSource.destroy();
+        }
+    }
+}
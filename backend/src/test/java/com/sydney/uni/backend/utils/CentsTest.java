@@ -0,0 +1,43 @@
+package com.sydney.uni.backend.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.sydney.uni.backend.dto.DepositRequest;
+import com.sydney.uni.backend.entity.Account;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CentsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testSerialize_WritesDecimalAmount() throws Exception {
+        Account account = new Account();
+        account.setBalanceCents(1234L);
+        account.setSavedCents(50L);
+
+        String json = objectMapper.writeValueAsString(account);
+
+        // Checked on the written text: the scale of the amount is part of the API
+        assertTrue(json.contains("\"balance\":12.34"), json);
+        assertTrue(json.contains("\"saved\":0.50"), json);
+        assertFalse(json.contains("balanceCents"), json);
+    }
+
+    @Test
+    void testDeserialize_ReadsNumbersAndStrings() throws Exception {
+        DepositRequest fromNumber = objectMapper.readValue("{\"amount\":12.34}", DepositRequest.class);
+        DepositRequest fromString = objectMapper.readValue("{\"amount\":\"7\"}", DepositRequest.class);
+
+        assertEquals(1234L, fromNumber.getAmountCents());
+        assertEquals(700L, fromString.getAmountCents());
+    }
+
+    @Test
+    void testDeserialize_RejectsInvalidAmount() {
+        assertThrows(InvalidFormatException.class,
+            () -> objectMapper.readValue("{\"amount\":\"twelve\"}", DepositRequest.class));
+    }
+}
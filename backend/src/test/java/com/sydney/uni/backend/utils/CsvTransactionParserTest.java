@@ -0,0 +1,113 @@
+package com.sydney.uni.backend.utils;
+
+import com.sydney.uni.backend.dto.ImportedTransaction;
+import com.sydney.uni.backend.entity.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTransactionParserTest {
+
+    private TransactionFileParser parser(String csv) throws IOException {
+        return TransactionFileParser.open("statement.csv", new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testOpen_PicksCsvForCsvExtension() throws IOException {
+        assertInstanceOf(CsvTransactionParser.class, parser("date,amount\n"));
+    }
+
+    @Test
+    void testOpen_RejectsUnknownExtension() {
+        assertThrows(IllegalArgumentException.class,
+            () -> TransactionFileParser.open("statement.xlsx", new ByteArrayInputStream(new byte[0])));
+        assertThrows(IllegalArgumentException.class,
+            () -> TransactionFileParser.open(null, new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    void testBankStatement_SignDecidesType() throws IOException {
+        TransactionFileParser parser = parser("Date,Description,Amount\r\n15/03/2024,Coffee,-4.50\r\n16/03/2024,Salary,\"$2,000.00\"\r\n");
+
+        ImportedTransaction coffee = parser.next();
+        assertEquals(LocalDate.of(2024, 3, 15), coffee.date());
+        assertEquals(TransactionType.OUT, coffee.type());
+        assertEquals(450L, coffee.amountCents());
+        assertEquals("Coffee", coffee.description());
+
+        ImportedTransaction salary = parser.next();
+        assertEquals(TransactionType.IN, salary.type());
+        assertEquals(200000L, salary.amountCents());
+
+        assertNull(parser.next());
+    }
+
+    @Test
+    void testDebitCreditColumns() throws IOException {
+        TransactionFileParser parser = parser("date,narrative,debit,credit\n2024-01-02,Rent,800,\n2024-01-03,Refund,,20\n");
+
+        ImportedTransaction rent = parser.next();
+        assertEquals(TransactionType.OUT, rent.type());
+        assertEquals(80000L, rent.amountCents());
+
+        ImportedTransaction refund = parser.next();
+        assertEquals(TransactionType.IN, refund.type());
+        assertEquals(2000L, refund.amountCents());
+    }
+
+    @Test
+    void testExportFormat_RoundTrips() throws IOException {
+        TransactionFileParser parser = parser("id,date,type,category,description,amount,notes\n"
+            + "7,2024-03-15,OUT,FOOD_DINING,\"Taxi, airport\",12.5,\"said \"\"hi\"\"\nlater\"\n"
+            + "8,2024-03-16,OUT,,'=SUM(A1),3.0,\n");
+
+        ImportedTransaction taxi = parser.next();
+        assertEquals(TransactionType.OUT, taxi.type());
+        assertEquals("FOOD_DINING", taxi.category());
+        assertEquals("Taxi, airport", taxi.description());
+        assertEquals("said \"hi\"\nlater", taxi.notes());
+
+        ImportedTransaction formula = parser.next();
+        assertEquals("=SUM(A1)", formula.description());
+        assertNull(formula.category());
+        assertNull(formula.notes());
+    }
+
+    @Test
+    void testMalformedRow_IsSkippable() throws IOException {
+        TransactionFileParser parser = parser("date,amount\nnot-a-date,5\n\n2024-01-01,abc\n2024-01-02,-7\n");
+
+        IllegalArgumentException badDate = assertThrows(IllegalArgumentException.class, parser::next);
+        assertTrue(badDate.getMessage().startsWith("Row 1"));
+        assertThrows(IllegalArgumentException.class, parser::next);
+
+        ImportedTransaction valid = parser.next();
+        assertEquals(LocalDate.of(2024, 1, 2), valid.date());
+        assertEquals(700L, valid.amountCents());
+        assertNull(parser.next());
+    }
+
+    @Test
+    void testHeaderWithoutDate_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> parser("description,amount\nx,1\n"));
+    }
+
+    @Test
+    void testEmptyFile_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> parser(""));
+    }
+
+    @Test
+    void testByteOrderMarkInHeader() throws IOException {
+        TransactionFileParser parser = parser("\uFEFFDate,Amount\n2024-05-01,(12.00)\n");
+
+        ImportedTransaction row = parser.next();
+        assertEquals(TransactionType.OUT, row.type());
+        assertEquals(1200L, row.amountCents());
+    }
+}
@@ -0,0 +1,32 @@
+package com.sydney.uni.backend.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurrentUserHolderTest {
+
+    @Test
+    void testSetGetClear() {
+        CurrentUserHolder.set(7L);
+        assertEquals(7L, CurrentUserHolder.get());
+
+        CurrentUserHolder.clear();
+        assertNull(CurrentUserHolder.get());
+    }
+
+    @Test
+    void testValueIsPerThread() throws InterruptedException {
+        CurrentUserHolder.set(7L);
+        AtomicReference<Long> seen = new AtomicReference<>(-1L);
+
+        Thread other = new Thread(() -> seen.set(CurrentUserHolder.get()));
+        other.start();
+        other.join();
+
+        assertNull(seen.get());
+        CurrentUserHolder.clear();
+    }
+}
@@ -0,0 +1,51 @@
+package com.sydney.uni.backend.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    private static final String ETAG = "\"abc-1-3-stats\"";
+
+    @Test
+    void testMatchesExactTag() {
+        assertTrue(ETags.matches(ETAG, ETAG));
+    }
+
+    @Test
+    void testMatchesWeakTagAndLists() {
+        assertTrue(ETags.matches("W/" + ETAG, ETAG));
+        assertTrue(ETags.matches("\"other\", " + ETAG, ETAG));
+        assertTrue(ETags.matches("*", ETAG));
+    }
+
+    @Test
+    void testNoMatch() {
+        assertFalse(ETags.matches(null, ETAG));
+        assertFalse(ETags.matches("", ETAG));
+        assertFalse(ETags.matches("\"abc-1-2-stats\"", ETAG));
+        assertFalse(ETags.matches("abc-1-3-stats", ETAG)); // unquoted is not the same tag
+    }
+
+    @Test
+    void testNotModifiedHasTagAndNoBody() {
+        ResponseEntity<String> response = ETags.notModified(ETAG);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void testOkCarriesTagAndBody() {
+        ResponseEntity<String> response = ETags.ok(ETAG, "body");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        assertEquals("body", response.getBody());
+    }
+}
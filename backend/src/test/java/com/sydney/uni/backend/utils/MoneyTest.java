@@ -0,0 +1,39 @@
+package com.sydney.uni.backend.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void testToCents_RoundsHalfUp() {
+        assertEquals(1234L, Money.toCents(new BigDecimal("12.34")));
+        assertEquals(1235L, Money.toCents(new BigDecimal("12.345")));
+        assertEquals(-320L, Money.toCents(new BigDecimal("-3.2")));
+        assertEquals(500L, Money.toCents(new BigDecimal("5")));
+    }
+
+    @Test
+    void testParseCents() {
+        assertEquals(1250L, Money.parseCents(" 12.5 "));
+        assertEquals(-300L, Money.parseCents("-3"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("abc"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("1e30"));
+    }
+
+    @Test
+    void testFormatAndToDecimal() {
+        assertEquals("12.50", Money.format(1250L));
+        assertEquals("-0.05", Money.format(-5L));
+        assertEquals(new BigDecimal("0.00"), Money.toDecimal(0L));
+    }
+
+    @Test
+    void testPercent() {
+        assertEquals(25.0, Money.percent(2500L, 10000L));
+        assertEquals(0.0, Money.percent(2500L, 0L));
+    }
+}
@@ -0,0 +1,67 @@
+package com.sydney.uni.backend.utils;
+
+import com.sydney.uni.backend.dto.ImportedTransaction;
+import com.sydney.uni.backend.entity.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OfxTransactionParserTest {
+
+    private TransactionFileParser parser(String filename, String ofx) throws IOException {
+        return TransactionFileParser.open(filename, new ByteArrayInputStream(ofx.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testSgmlStatement() throws IOException {
+        String ofx = "OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>\n"
+            + "<STMTTRN>\n<TRNTYPE>DEBIT\n<DTPOSTED>20240115120000[+10:AEST]\n<TRNAMT>-12.50\n<NAME>Woolworths &amp; Co\n<MEMO>Groceries\n</STMTTRN>\n"
+            + "<STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20240116<TRNAMT>100.00<MEMO>Transfer in</STMTTRN>\n"
+            + "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>";
+        TransactionFileParser parser = parser("statement.OFX", ofx);
+        assertInstanceOf(OfxTransactionParser.class, parser);
+
+        ImportedTransaction debit = parser.next();
+        assertEquals(LocalDate.of(2024, 1, 15), debit.date());
+        assertEquals(TransactionType.OUT, debit.type());
+        assertEquals(1250L, debit.amountCents());
+        assertEquals("Woolworths & Co", debit.description());
+        assertEquals("Groceries", debit.notes());
+
+        ImportedTransaction credit = parser.next();
+        assertEquals(TransactionType.IN, credit.type());
+        assertEquals(10000L, credit.amountCents());
+        assertEquals("Transfer in", credit.description());
+        assertNull(credit.notes());
+
+        assertNull(parser.next());
+    }
+
+    @Test
+    void testXmlStatement() throws IOException {
+        String ofx = "<?xml version=\"1.0\"?><?OFX OFXHEADER=\"200\"?><OFX><STMTTRN>"
+            + "<TRNTYPE>POS</TRNTYPE><DTPOSTED>20231231</DTPOSTED><TRNAMT>-3.20</TRNAMT><NAME>Coffee</NAME>"
+            + "</STMTTRN></OFX>";
+        TransactionFileParser parser = parser("export.qfx", ofx);
+
+        ImportedTransaction row = parser.next();
+        assertEquals(LocalDate.of(2023, 12, 31), row.date());
+        assertEquals("Coffee", row.description());
+        assertNull(parser.next());
+    }
+
+    @Test
+    void testMissingAmount_IsSkippable() throws IOException {
+        String ofx = "<OFX><STMTTRN><DTPOSTED>20240101<NAME>Broken</STMTTRN>"
+            + "<STMTTRN><DTPOSTED>20240102<TRNAMT>-1<NAME>Ok</STMTTRN></OFX>";
+        TransactionFileParser parser = parser("a.ofx", ofx);
+
+        assertThrows(IllegalArgumentException.class, parser::next);
+        assertEquals("Ok", parser.next().description());
+    }
+}
@@ -0,0 +1,48 @@
+package com.sydney.uni.backend.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        LocalDate date = LocalDate.of(2024, 3, 15);
+
+        String cursor = TransactionCursor.encode(date, 123L);
+        TransactionCursor decoded = TransactionCursor.decode(cursor);
+
+        assertEquals(date, decoded.getDate());
+        assertEquals(123L, decoded.getId());
+    }
+
+    @Test
+    void testEncodedCursorIsUrlSafe() {
+        String cursor = TransactionCursor.encode(LocalDate.of(2024, 12, 31), Long.MAX_VALUE);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testDecodeInvalidBase64() {
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode("***"));
+    }
+
+    @Test
+    void testDecodeMissingSeparator() {
+        String cursor = java.util.Base64.getUrlEncoder().encodeToString("2024-01-01".getBytes());
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode(cursor));
+    }
+
+    @Test
+    void testDecodeBadDateOrId() {
+        String badDate = java.util.Base64.getUrlEncoder().encodeToString("2024-13-01|5".getBytes());
+        String badId = java.util.Base64.getUrlEncoder().encodeToString("2024-01-01|abc".getBytes());
+
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode(badDate));
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode(badId));
+    }
+}
@@ -26,7 +26,7 @@ interface DepositModalProps {
 
 export function DepositModal({ isOpen, onClose }: DepositModalProps) {
   const [isLoading, setIsLoading] = useState(false)
-  const { fetchDashboardStats, fetchRecentTransactions } = useDashboardStore()
+  const { fetchDashboardStats, fetchRecentTransactions, streamConnected } = useDashboardStore()
 
   const form = useForm<DepositFormData>({
     resolver: zodResolver(depositSchema),
@@ -47,11 +47,13 @@ export function DepositModal({ isOpen, onClose }: DepositModalProps) {
       
       await depositApi.processDeposit(depositRequest)
       
-      // Refresh dashboard data and recent transactions
-      await Promise.all([
-        fetchDashboardStats(),
-        fetchRecentTransactions()
-      ])
+      // Refresh dashboard data and recent transactions, unless the open stream delivers the change
+      if (!streamConnected) {
+        await Promise.all([
+          fetchDashboardStats(),
+          fetchRecentTransactions()
+        ])
+      }
       
       toast.success('Deposit processed successfully!')
       form.reset()
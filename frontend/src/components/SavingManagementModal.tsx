@@ -41,7 +41,7 @@ export function SavingManagementModal({ isOpen, onClose, availableBalance, saved
   const [savingLogs, setSavingLogs] = useState<SavingLog[]>([])
   const [logsLoading, setLogsLoading] = useState(false)
   const [activeTab, setActiveTab] = useState<'manage' | 'history'>('manage')
-  const { fetchDashboardStats } = useDashboardStore()
+  const { fetchDashboardStats, streamConnected } = useDashboardStore()
 
   const saveForm = useForm<SaveMoneyFormData>({
     resolver: zodResolver(saveMoneySchema),
@@ -94,9 +94,9 @@ export function SavingManagementModal({ isOpen, onClose, availableBalance, saved
       
       await savingApi.saveMoney(saveMoneyRequest)
       
-      // Refresh dashboard data and logs
+      // Refresh dashboard data (unless the open stream delivers the change) and logs
       await Promise.all([
-        fetchDashboardStats(),
+        streamConnected ? Promise.resolve() : fetchDashboardStats(),
         loadSavingLogs()
       ])
       
@@ -125,9 +125,9 @@ export function SavingManagementModal({ isOpen, onClose, availableBalance, saved
       
       await savingApi.unsaveMoney(unsaveMoneyRequest)
       
-      // Refresh dashboard data and logs
+      // Refresh dashboard data (unless the open stream delivers the change) and logs
       await Promise.all([
-        fetchDashboardStats(),
+        streamConnected ? Promise.resolve() : fetchDashboardStats(),
         loadSavingLogs()
       ])
       
@@ -28,25 +28,29 @@ export function Dashboard() {
     stats,
     recentTransactions,
     isLoading,
-    fetchDashboardStats,
-    fetchRecentTransactions
+    fetchDashboardBootstrap,
+    connectStream,
+    disconnectStream
   } = useDashboardStore()
 
-  // Load dashboard data on component mount
+  // Load dashboard data on component mount, in a single request
   useEffect(() => {
     const loadDashboardData = async () => {
       try {
-        await Promise.all([
-          fetchDashboardStats(),
-          fetchRecentTransactions(10)
-        ])
+        await fetchDashboardBootstrap(10)
       } catch (error) {
         console.error('Failed to load dashboard data:', error)
       }
     }
 
     loadDashboardData()
-  }, [fetchDashboardStats, fetchRecentTransactions])
+  }, [fetchDashboardBootstrap])
+
+  // Keep the figures current with deltas pushed by the server while the dashboard is open
+  useEffect(() => {
+    connectStream()
+    return () => disconnectStream()
+  }, [connectStream, disconnectStream])
 
   return (
     <div className="space-y-6 lg:space-y-8">
@@ -2,6 +2,8 @@ import { api } from '@/lib/axios'
 import { handleApiError, logError } from '@/utils/errorHandler'
 import type { ApiResponse } from '@/types/auth'
 import type { Transaction } from '@/types'
+import type { Budget } from '@/services/budgetService'
+import type { SaveGoal } from '@/services/saveGoalService'
 
 export interface DashboardStats {
   totalBalance: number
@@ -21,6 +23,14 @@ export interface DashboardTransaction extends Transaction {
   icon: string
 }
 
+// Everything the dashboard shows after login, from one request
+export interface DashboardBootstrap {
+  stats: DashboardStats
+  transactions: DashboardTransaction[]
+  budgets: Budget[]
+  saveGoal: SaveGoal | null
+}
+
 // Dashboard API service class
 export class DashboardService {
   // Get dashboard statistics
@@ -53,6 +63,21 @@ export class DashboardService {
     }
   }
 
+  // Get stats, recent transactions, budgets and save goal in one call
+  static async getDashboardBootstrap(limit: number = 10): Promise<DashboardBootstrap> {
+    try {
+      const response = await api.get<ApiResponse<DashboardBootstrap>>(`/api/dashboard/bootstrap?limit=${limit}`)
+      
+      if (!response.data.success || !response.data.data) {
+        throw new Error(response.data.message || 'Failed to load dashboard')
+      }
+      
+      return response.data.data
+    } catch (error: any) {
+      throw DashboardService.handleError(error, 'Get dashboard bootstrap')
+    }
+  }
+
   // Unified error handling
   private static handleError(error: any, context: string): Error {
     logError(error, context)
@@ -63,5 +88,6 @@ export class DashboardService {
 // Export convenient API functions
 export const dashboardApi = {
   getDashboardStats: DashboardService.getDashboardStats,
-  getRecentTransactions: DashboardService.getRecentTransactions
+  getRecentTransactions: DashboardService.getRecentTransactions,
+  getDashboardBootstrap: DashboardService.getDashboardBootstrap
 }
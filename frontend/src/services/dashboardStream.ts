@@ -0,0 +1,117 @@
+import { api } from '@/lib/axios'
+import { useAuthStore } from '@/stores/authStore'
+import type { DashboardTransaction } from '@/services/dashboardService'
+
+export type DashboardChange =
+  | 'TRANSACTION_CREATED'
+  | 'TRANSACTION_UPDATED'
+  | 'TRANSACTION_DELETED'
+  | 'SAVINGS_CHANGED'
+  // Bulk change (e.g. an import) sent without deltas; the dashboard reloads instead
+  | 'RELOAD'
+
+// One change pushed by the server; amounts are deltas to apply to the figures already shown
+export interface DashboardDelta {
+  change: DashboardChange
+  balanceDelta: number
+  savedDelta: number
+  monthlySpendingDelta: number
+  transaction: DashboardTransaction | null
+}
+
+export interface DashboardStreamHandlers {
+  onDelta: (delta: DashboardDelta) => void
+  onOpen: () => void
+  onClose: () => void
+}
+
+// Matches EventSource's default reconnection delay
+const RETRY_DELAY_MS = 3000
+
+// Dispatches one Server-Sent Event block ("event: ..." and "data: ..." lines)
+function dispatchEvent(block: string, onDelta: (delta: DashboardDelta) => void) {
+  let event = 'message'
+  const data: string[] = []
+  for (const line of block.split('\n')) {
+    if (line.startsWith('event:')) {
+      event = line.slice(6).trim()
+    } else if (line.startsWith('data:')) {
+      data.push(line.slice(5).replace(/^ /, ''))
+    }
+  }
+  if (event !== 'delta' || data.length === 0) {
+    return
+  }
+  try {
+    onDelta(JSON.parse(data.join('\n')) as DashboardDelta)
+  } catch (error) {
+    console.error('Malformed dashboard delta:', error)
+  }
+}
+
+// Opens the dashboard delta stream. It is read with fetch rather than EventSource so the token goes in the
+// Authorization header like every other request, never in the URL. Reconnects after errors and server
+// timeouts (not after a 401) with the current token. Returns a close function.
+export function openDashboardStream({ onDelta, onOpen, onClose }: DashboardStreamHandlers): () => void {
+  if (!useAuthStore.getState().token) {
+    return () => {}
+  }
+
+  const controller = new AbortController()
+  let retryTimer: ReturnType<typeof setTimeout> | undefined
+
+  const connect = async () => {
+    const token = useAuthStore.getState().token
+    if (!token) {
+      return
+    }
+
+    let unauthorized = false
+    try {
+      const response = await fetch(`${api.defaults.baseURL}/api/dashboard/stream`, {
+        headers: { Accept: 'text/event-stream', Authorization: `Bearer ${token}` },
+        signal: controller.signal,
+      })
+      unauthorized = response.status === 401
+      if (!response.ok || !response.body) {
+        throw new Error(`Dashboard stream failed with status ${response.status}`)
+      }
+      onOpen()
+
+      const reader = response.body.getReader()
+      const decoder = new TextDecoder()
+      let buffer = ''
+      for (;;) {
+        const { value, done } = await reader.read()
+        if (done) {
+          break
+        }
+        buffer += decoder.decode(value, { stream: true }).replace(/\r\n?/g, '\n')
+        let end = buffer.indexOf('\n\n')
+        while (end >= 0) {
+          dispatchEvent(buffer.slice(0, end), onDelta)
+          buffer = buffer.slice(end + 2)
+          end = buffer.indexOf('\n\n')
+        }
+      }
+    } catch (error) {
+      if (controller.signal.aborted) {
+        return
+      }
+      console.error('Dashboard stream error:', error)
+    }
+
+    onClose()
+    if (!controller.signal.aborted && !unauthorized) {
+      retryTimer = setTimeout(connect, RETRY_DELAY_MS)
+    }
+  }
+
+  connect()
+
+  return () => {
+    controller.abort()
+    clearTimeout(retryTimer)
+    onClose()
+  }
+}
@@ -11,6 +11,28 @@ export interface ExpenseRequest {
   notes?: string
 }
 
+export interface ExpensePage {
+  items: Transaction[]
+  nextCursor: string | null
+}
+
+// Every field is optional; amounts are in dollars, dates are YYYY-MM-DD
+export interface ExpenseFilter {
+  type?: 'IN' | 'OUT'
+  from?: string
+  to?: string
+  category?: string
+  minAmount?: number
+  maxAmount?: number
+}
+
+export interface ImportResult {
+  imported: number
+  skipped: number
+  elapsedMillis: number
+  rowsPerSecond: number
+}
+
 export class ExpenseService {
   static async addExpense(expenseData: ExpenseRequest): Promise<Transaction> {
     try {
@@ -27,9 +49,11 @@ export class ExpenseService {
     }
   }
 
-  static async getExpenses(): Promise<Transaction[]> {
+  static async getExpensePage(cursor?: string | null, limit = 100): Promise<ExpensePage> {
     try {
-      const response = await api.get<ApiResponse<Transaction[]>>('/api/expenses')
+      const response = await api.get<ApiResponse<ExpensePage>>('/api/expenses', {
+        params: { cursor: cursor ?? undefined, limit },
+      })
 
       if (!response.data.success || !response.data.data) {
         throw new Error(response.data.message || 'Failed to get expenses')
@@ -37,11 +61,42 @@ export class ExpenseService {
 
       return response.data.data
     } catch (error: any) {
-      logError(error, 'Get expenses')
+      logError(error, 'Get expense page')
+      throw handleApiError(error)
+    }
+  }
+
+  static async filterExpenses(filter: ExpenseFilter, cursor?: string | null, limit = 50): Promise<ExpensePage> {
+    try {
+      const response = await api.get<ApiResponse<ExpensePage>>('/api/expenses/filter', {
+        params: { ...filter, cursor: cursor ?? undefined, limit },
+      })
+
+      if (!response.data.success || !response.data.data) {
+        throw new Error(response.data.message || 'Failed to filter expenses')
+      }
+
+      return response.data.data
+    } catch (error: any) {
+      logError(error, 'Filter expenses')
       throw handleApiError(error)
     }
   }
 
+  static async getExpenses(): Promise<Transaction[]> {
+    // Follow the keyset cursor until the server reports no further pages;
+    // getExpensePage already logs and normalises errors
+    const expenses: Transaction[] = []
+    let cursor: string | null = null
+    do {
+      const page: ExpensePage = await ExpenseService.getExpensePage(cursor)
+      expenses.push(...page.items)
+      cursor = page.nextCursor
+    } while (cursor)
+
+    return expenses
+  }
+
   static async getExpense(id: string): Promise<Transaction> {
     try {
       const response = await api.get<ApiResponse<Transaction>>(`/api/expenses/${id}`)
@@ -72,6 +127,25 @@ export class ExpenseService {
     }
   }
 
+  static async importTransactions(file: File): Promise<ImportResult> {
+    try {
+      const formData = new FormData()
+      formData.append('file', file)
+      const response = await api.post<ApiResponse<ImportResult>>('/api/expenses/import', formData, {
+        headers: { 'Content-Type': 'multipart/form-data' },
+      })
+
+      if (!response.data.success || !response.data.data) {
+        throw new Error(response.data.message || 'Failed to import transactions')
+      }
+
+      return response.data.data
+    } catch (error: any) {
+      logError(error, 'Import transactions')
+      throw handleApiError(error)
+    }
+  }
+
   static async deleteExpense(id: string): Promise<void> {
     try {
       const response = await api.delete<ApiResponse<void>>(`/api/expenses/${id}`)
@@ -89,7 +163,10 @@ export class ExpenseService {
 export const expenseApi = {
   addExpense: ExpenseService.addExpense,
   getExpenses: ExpenseService.getExpenses,
+  getExpensePage: ExpenseService.getExpensePage,
+  filterExpenses: ExpenseService.filterExpenses,
   getExpense: ExpenseService.getExpense,
   updateExpense: ExpenseService.updateExpense,
   deleteExpense: ExpenseService.deleteExpense,
+  importTransactions: ExpenseService.importTransactions,
 }
\ No newline at end of file
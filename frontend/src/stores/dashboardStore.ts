@@ -1,26 +1,95 @@
 import { create } from 'zustand'
 import { dashboardApi, type DashboardStats } from '@/services/dashboardService'
+import { openDashboardStream, type DashboardDelta } from '@/services/dashboardStream'
 import type { Transaction } from '@/types'
+import type { Budget } from '@/services/budgetService'
+import type { SaveGoal } from '@/services/saveGoalService'
 import toast from 'react-hot-toast'
 
 interface DashboardState {
   stats: DashboardStats | null
   recentTransactions: Transaction[]
+  budgets: Budget[]
+  saveGoal: SaveGoal | null
   isLoading: boolean
   error: string | null
+  streamConnected: boolean
   
   // Actions
   fetchDashboardStats: () => Promise<void>
   fetchRecentTransactions: (limit?: number) => Promise<void>
+  fetchDashboardBootstrap: (limit?: number) => Promise<void>
+  applyDelta: (delta: DashboardDelta) => void
+  connectStream: () => void
+  disconnectStream: () => void
   clearError: () => void
   setLoading: (loading: boolean) => void
 }
 
-export const useDashboardStore = create<DashboardState>((set) => ({
+const RECENT_TRANSACTION_LIMIT = 10
+
+const round2 = (value: number) => Math.round(value * 100) / 100
+
+const percent = (part: number, whole: number) => round2((part / whole) * 100)
+
+// Same derivations as the server's dashboard stats, so a delta leaves the figures a reload would show
+function applyToStats(stats: DashboardStats, delta: DashboardDelta, budgets: Budget[]): DashboardStats {
+  const totalBalance = round2(stats.totalBalance + delta.balanceDelta)
+  const saved = round2(stats.saved + delta.savedDelta)
+  const monthlySpending = round2(stats.monthlySpending + delta.monthlySpendingDelta)
+
+  let monthlySpendingChange = 0
+  if (stats.lastMonthSpending > 0) {
+    monthlySpendingChange = percent(monthlySpending - stats.lastMonthSpending, stats.lastMonthSpending)
+  } else if (monthlySpending > 0) {
+    monthlySpendingChange = 100
+  }
+
+  const monthlyBudgets = budgets.filter((budget) => budget.period === 'monthly')
+  const totalBudget = monthlyBudgets.reduce((sum, budget) => sum + budget.amount, 0)
+  const hasBudget = monthlyBudgets.length > 0
+
+  return {
+    ...stats,
+    totalBalance,
+    saved,
+    monthlySpending,
+    monthlySpendingChange,
+    budgetLeft: hasBudget ? Math.max(0, round2(totalBudget - monthlySpending)) : 0,
+    budgetUsedPercentage: hasBudget ? percent(monthlySpending, totalBudget) : stats.budgetUsedPercentage,
+    savingsProgress: stats.hasSavingsGoal && stats.savingsGoal > 0 ? percent(saved, stats.savingsGoal) : 0
+  }
+}
+
+function applyToTransactions(transactions: Transaction[], delta: DashboardDelta): Transaction[] {
+  const changed = delta.transaction
+  if (!changed) {
+    return transactions
+  }
+  const others = transactions.filter((transaction) => transaction.id !== changed.id)
+  switch (delta.change) {
+    case 'TRANSACTION_CREATED':
+      return [changed, ...others].slice(0, RECENT_TRANSACTION_LIMIT)
+    case 'TRANSACTION_UPDATED':
+      return transactions.map((transaction) => (transaction.id === changed.id ? changed : transaction))
+    case 'TRANSACTION_DELETED':
+      return others
+    default:
+      return transactions
+  }
+}
+
+let closeStream: (() => void) | null = null
+let streamOpenedBefore = false
+
+export const useDashboardStore = create<DashboardState>((set, get) => ({
   stats: null,
   recentTransactions: [],
+  budgets: [],
+  saveGoal: null,
   isLoading: false,
   error: null,
+  streamConnected: false,
 
   fetchDashboardStats: async () => {
     set({ isLoading: true, error: null })
@@ -48,6 +117,55 @@ export const useDashboardStore = create<DashboardState>((set) => ({
     }
   },
 
+  fetchDashboardBootstrap: async (limit = 10) => {
+    set({ isLoading: true, error: null })
+    
+    try {
+      const { stats, transactions, budgets, saveGoal } = await dashboardApi.getDashboardBootstrap(limit)
+      set({ stats, recentTransactions: transactions, budgets, saveGoal, isLoading: false, error: null })
+    } catch (error: any) {
+      set({ isLoading: false, error: error.message })
+      toast.error(error.message || 'Failed to load dashboard')
+      throw error
+    }
+  },
+
+  applyDelta: (delta: DashboardDelta) => {
+    if (delta.change === 'RELOAD') {
+      get().fetchDashboardBootstrap(RECENT_TRANSACTION_LIMIT).catch(() => {})
+      return
+    }
+    const { stats, recentTransactions, budgets } = get()
+    set({
+      stats: stats ? applyToStats(stats, delta, budgets) : stats,
+      recentTransactions: applyToTransactions(recentTransactions, delta)
+    })
+  },
+
+  connectStream: () => {
+    if (closeStream) {
+      return
+    }
+    closeStream = openDashboardStream({
+      onDelta: (delta) => get().applyDelta(delta),
+      onOpen: () => {
+        set({ streamConnected: true })
+        // Deltas sent while disconnected are lost, so a reconnect reloads the dashboard once
+        if (streamOpenedBefore) {
+          get().fetchDashboardBootstrap(RECENT_TRANSACTION_LIMIT).catch(() => {})
+        }
+        streamOpenedBefore = true
+      },
+      onClose: () => set({ streamConnected: false })
+    })
+  },
+
+  disconnectStream: () => {
+    closeStream?.()
+    closeStream = null
+    streamOpenedBefore = false
+  },
+
   clearError: () => set({ error: null }),
   
   setLoading: (loading: boolean) => set({ isLoading: loading })